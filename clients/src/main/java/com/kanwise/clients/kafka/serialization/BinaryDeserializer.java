@@ -0,0 +1,46 @@
+package com.kanwise.clients.kafka.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import static com.kanwise.clients.kafka.serialization.BinarySerializer.HEADER_LENGTH;
+import static com.kanwise.clients.kafka.serialization.BinarySerializer.MAGIC_BYTE;
+
+public class BinaryDeserializer<T> implements Deserializer<T> {
+
+    private final BinarySchema<T> schema;
+    private final Deserializer<T> fallbackDeserializer;
+
+    public BinaryDeserializer(BinarySchema<T> schema, Class<T> fallbackType) {
+        this(schema, new JsonDeserializer<>(fallbackType, false));
+    }
+
+    public BinaryDeserializer(BinarySchema<T> schema, Deserializer<T> fallbackDeserializer) {
+        this.schema = schema;
+        this.fallbackDeserializer = fallbackDeserializer;
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length == 0 || data[0] != MAGIC_BYTE) {
+            return fallbackDeserializer.deserialize(topic, data);
+        }
+        if (data.length < HEADER_LENGTH) {
+            throw new SerializationException("Truncated binary payload");
+        }
+        int version = data[1] & 0xFF;
+        if (version < 1 || version > schema.version()) {
+            throw new SerializationException("Unsupported schema version %d, latest is %d".formatted(version, schema.version()));
+        }
+        return schema.read(new BinaryReader(data, HEADER_LENGTH), version);
+    }
+
+    @Override
+    public void close() {
+        fallbackDeserializer.close();
+    }
+}
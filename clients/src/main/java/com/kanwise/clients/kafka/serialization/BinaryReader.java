@@ -0,0 +1,138 @@
+package com.kanwise.clients.kafka.serialization;
+
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class BinaryReader {
+
+    private static final int MIN_LIST_ELEMENT_LENGTH = 1;
+    private static final int MIN_MAP_ENTRY_LENGTH = 2;
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        ensureAvailable(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int current = readByte();
+            value |= (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new SerializationException("Malformed variable length integer");
+    }
+
+    public long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int current = readByte();
+            zigZag |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new SerializationException("Malformed variable length long");
+    }
+
+    public double readDouble() {
+        ensureAvailable(Long.BYTES);
+        long bits = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits = (bits << 8) | (buffer[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        ensureAvailable(length);
+        String value = new String(buffer, position, length, UTF_8);
+        position += length;
+        return value;
+    }
+
+    public <E extends Enum<E>> E readEnum(Class<E> type) {
+        String name = readString();
+        if (name == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Unknown %s constant %s".formatted(type.getSimpleName(), name), e);
+        }
+    }
+
+    public Map<String, Object> readMap() {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        ensureElements(size, MIN_MAP_ENTRY_LENGTH);
+        Map<String, Object> value = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            value.put(readString(), readValue());
+        }
+        return value;
+    }
+
+    public Object readValue() {
+        return switch (ValueTag.of(readByte())) {
+            case NULL -> null;
+            case STRING -> readString();
+            case TRUE -> true;
+            case FALSE -> false;
+            case INT -> (int) readVarLong();
+            case LONG -> readVarLong();
+            case DOUBLE -> readDouble();
+            case MAP -> readMap();
+            case LIST -> readList();
+        };
+    }
+
+    private List<Object> readList() {
+        int size = readVarInt();
+        ensureElements(size, MIN_LIST_ELEMENT_LENGTH);
+        List<Object> value = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            value.add(readValue());
+        }
+        return value;
+    }
+
+    private void ensureElements(int size, int minElementLength) {
+        if (size < 0 || size > (buffer.length - position) / minElementLength) {
+            throw new SerializationException("Declared size %d exceeds remaining binary payload".formatted(size));
+        }
+    }
+
+    private void ensureAvailable(int length) {
+        if (length > buffer.length - position) {
+            throw new SerializationException("Truncated binary payload");
+        }
+    }
+}
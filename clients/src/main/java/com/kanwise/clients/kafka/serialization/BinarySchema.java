@@ -0,0 +1,10 @@
+package com.kanwise.clients.kafka.serialization;
+
+public interface BinarySchema<T> {
+
+    int version();
+
+    void write(T value, BinaryWriter writer);
+
+    T read(BinaryReader reader, int version);
+}
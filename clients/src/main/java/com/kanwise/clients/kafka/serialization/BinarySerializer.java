@@ -0,0 +1,27 @@
+package com.kanwise.clients.kafka.serialization;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Serializer;
+
+@RequiredArgsConstructor
+public class BinarySerializer<T> implements Serializer<T> {
+
+    public static final int MAGIC_BYTE = 0;
+    public static final int HEADER_LENGTH = 2;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final BinarySchema<T> schema;
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        BinaryWriter writer = new BinaryWriter(INITIAL_CAPACITY);
+        writer.writeByte(MAGIC_BYTE);
+        writer.writeByte(schema.version());
+        schema.write(data, writer);
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,134 @@
+package com.kanwise.clients.kafka.serialization;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+import static com.kanwise.clients.kafka.serialization.ValueTag.DOUBLE;
+import static com.kanwise.clients.kafka.serialization.ValueTag.FALSE;
+import static com.kanwise.clients.kafka.serialization.ValueTag.INT;
+import static com.kanwise.clients.kafka.serialization.ValueTag.LIST;
+import static com.kanwise.clients.kafka.serialization.ValueTag.LONG;
+import static com.kanwise.clients.kafka.serialization.ValueTag.MAP;
+import static com.kanwise.clients.kafka.serialization.ValueTag.NULL;
+import static com.kanwise.clients.kafka.serialization.ValueTag.STRING;
+import static com.kanwise.clients.kafka.serialization.ValueTag.TRUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    public void writeVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buffer[position++] = (byte) zigZag;
+    }
+
+    public void writeDouble(double value) {
+        long bits = Double.doubleToLongBits(value);
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[position++] = (byte) (bits >>> shift);
+        }
+    }
+
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    public void writeEnum(Enum<?> value) {
+        writeString(value == null ? null : value.name());
+    }
+
+    public void writeMap(Map<String, ?> value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        writeVarInt(value.size() + 1);
+        value.forEach((key, entry) -> {
+            writeString(key);
+            writeValue(entry);
+        });
+    }
+
+    public void writeValue(Object value) {
+        if (value == null) {
+            writeByte(NULL.getCode());
+        } else if (value instanceof CharSequence || value instanceof Enum<?>) {
+            writeByte(STRING.getCode());
+            writeString(value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+        } else if (value instanceof Boolean booleanValue) {
+            writeByte(booleanValue ? TRUE.getCode() : FALSE.getCode());
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeByte(INT.getCode());
+            writeVarLong(((Number) value).intValue());
+        } else if (value instanceof Long longValue) {
+            writeByte(LONG.getCode());
+            writeVarLong(longValue);
+        } else if (value instanceof Number number) {
+            writeByte(DOUBLE.getCode());
+            writeDouble(number.doubleValue());
+        } else if (value instanceof Map<?, ?> map) {
+            writeByte(MAP.getCode());
+            writeVarInt(map.size() + 1);
+            map.forEach((key, entry) -> {
+                writeString(String.valueOf(key));
+                writeValue(entry);
+            });
+        } else if (value instanceof Collection<?> collection) {
+            writeByte(LIST.getCode());
+            writeVarInt(collection.size());
+            collection.forEach(this::writeValue);
+        } else {
+            writeByte(STRING.getCode());
+            writeString(value.toString());
+        }
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int length) {
+        if (position + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+        }
+    }
+}
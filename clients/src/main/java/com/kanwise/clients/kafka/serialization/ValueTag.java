@@ -0,0 +1,30 @@
+package com.kanwise.clients.kafka.serialization;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+
+@Getter
+@RequiredArgsConstructor
+enum ValueTag {
+    NULL(0),
+    STRING(1),
+    TRUE(2),
+    FALSE(3),
+    INT(4),
+    LONG(5),
+    DOUBLE(6),
+    MAP(7),
+    LIST(8);
+
+    private static final ValueTag[] TAGS = values();
+
+    private final int code;
+
+    static ValueTag of(int code) {
+        if (code < 0 || code >= TAGS.length) {
+            throw new SerializationException("Unknown value tag %d".formatted(code));
+        }
+        return TAGS[code];
+    }
+}
@@ -0,0 +1,13 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import java.util.Map;
+
+public record EmailRequestFields(
+        String messageId,
+        String to,
+        String subject,
+        String type,
+        boolean html,
+        Map<String, Object> data
+) {
+}
@@ -0,0 +1,42 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import com.kanwise.clients.kafka.serialization.BinaryReader;
+import com.kanwise.clients.kafka.serialization.BinarySchema;
+import com.kanwise.clients.kafka.serialization.BinaryWriter;
+
+public abstract class GenericEmailRequestSchema<T> implements BinarySchema<T> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public void write(T value, BinaryWriter writer) {
+        EmailRequestFields fields = toFields(value);
+        writer.writeString(fields.messageId());
+        writer.writeString(fields.to());
+        writer.writeString(fields.subject());
+        writer.writeString(fields.type());
+        writer.writeBoolean(fields.html());
+        writer.writeMap(fields.data());
+    }
+
+    @Override
+    public T read(BinaryReader reader, int version) {
+        return fromFields(new EmailRequestFields(
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readBoolean(),
+                reader.readMap()
+        ));
+    }
+
+    protected abstract EmailRequestFields toFields(T value);
+
+    protected abstract T fromFields(EmailRequestFields fields);
+}
@@ -0,0 +1,38 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import com.kanwise.clients.kafka.serialization.BinaryReader;
+import com.kanwise.clients.kafka.serialization.BinarySchema;
+import com.kanwise.clients.kafka.serialization.BinaryWriter;
+
+public abstract class GenericOtpSmsRequestSchema<T> implements BinarySchema<T> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public void write(T value, BinaryWriter writer) {
+        OtpSmsRequestFields fields = toFields(value);
+        writer.writeString(fields.messageId());
+        writer.writeString(fields.phoneNumber());
+        writer.writeString(fields.content());
+        writer.writeVarLong(fields.otpId());
+    }
+
+    @Override
+    public T read(BinaryReader reader, int version) {
+        return fromFields(new OtpSmsRequestFields(
+                reader.readString(),
+                reader.readString(),
+                reader.readString(),
+                reader.readVarLong()
+        ));
+    }
+
+    protected abstract OtpSmsRequestFields toFields(T value);
+
+    protected abstract T fromFields(OtpSmsRequestFields fields);
+}
@@ -0,0 +1,37 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import com.kanwise.clients.kafka.serialization.BinaryReader;
+import com.kanwise.clients.kafka.serialization.BinarySchema;
+import com.kanwise.clients.kafka.serialization.BinaryWriter;
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+
+public abstract class GenericOtpSmsResponseSchema<T> implements BinarySchema<T> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public void write(T value, BinaryWriter writer) {
+        OtpSmsResponseFields fields = toFields(value);
+        writer.writeEnum(fields.status());
+        writer.writeString(fields.message());
+        writer.writeVarLong(fields.otpId());
+    }
+
+    @Override
+    public T read(BinaryReader reader, int version) {
+        return fromFields(new OtpSmsResponseFields(
+                reader.readEnum(OtpStatus.class),
+                reader.readString(),
+                reader.readVarLong()
+        ));
+    }
+
+    protected abstract OtpSmsResponseFields toFields(T value);
+
+    protected abstract T fromFields(OtpSmsResponseFields fields);
+}
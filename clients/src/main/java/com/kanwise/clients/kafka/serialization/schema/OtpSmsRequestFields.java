@@ -0,0 +1,9 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+public record OtpSmsRequestFields(
+        String messageId,
+        String phoneNumber,
+        String content,
+        long otpId
+) {
+}
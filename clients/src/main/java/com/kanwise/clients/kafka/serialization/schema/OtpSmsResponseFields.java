@@ -0,0 +1,10 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+
+public record OtpSmsResponseFields(
+        OtpStatus status,
+        String message,
+        long otpId
+) {
+}
@@ -0,0 +1,20 @@
+package com.kanwise.clients.kafka.serialization.schema;
+
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+
+public class OtpSmsResponseSchema extends GenericOtpSmsResponseSchema<OtpSmsResponse> {
+
+    @Override
+    protected OtpSmsResponseFields toFields(OtpSmsResponse value) {
+        return new OtpSmsResponseFields(value.getStatus(), value.getMessage(), value.getOtpId());
+    }
+
+    @Override
+    protected OtpSmsResponse fromFields(OtpSmsResponseFields fields) {
+        return OtpSmsResponse.builder()
+                .status(fields.status())
+                .message(fields.message())
+                .otpId(fields.otpId())
+                .build();
+    }
+}
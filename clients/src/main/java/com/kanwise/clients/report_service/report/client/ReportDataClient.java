@@ -1,7 +1,11 @@
 package com.kanwise.clients.report_service.report.client;
 
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataDto;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataRequest;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataDto;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataRequest;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -14,6 +18,12 @@ public interface ReportDataClient {
     @PostMapping("/personal")
     ResponseEntity<PersonalReportDataDto> getPersonalReportData(PersonalReportDataRequest request);
 
+    @PostMapping("/personal/batch")
+    ResponseEntity<PersonalReportDataBatchDto> getPersonalReportDataBatch(PersonalReportDataBatchRequest request);
+
     @PostMapping("/project")
     ResponseEntity<ProjectReportDataDto> getProjectReportData(ProjectReportDataRequest request);
+
+    @PostMapping("/project/batch")
+    ResponseEntity<ProjectReportDataBatchDto> getProjectReportDataBatch(ProjectReportDataBatchRequest request);
 }
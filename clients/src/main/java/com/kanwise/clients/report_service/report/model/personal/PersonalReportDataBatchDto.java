@@ -0,0 +1,10 @@
+package com.kanwise.clients.report_service.report.model.personal;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record PersonalReportDataBatchDto(Map<String, PersonalReportDataDto> data) {
+
+}
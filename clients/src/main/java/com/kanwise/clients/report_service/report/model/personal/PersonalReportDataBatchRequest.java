@@ -0,0 +1,22 @@
+package com.kanwise.clients.report_service.report.model.personal;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Builder
+public record PersonalReportDataBatchRequest(
+        Set<String> usernames,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+
+    public PersonalReportDataRequest toRequest(String username) {
+        return PersonalReportDataRequest.builder()
+                .username(username)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.kanwise.clients.report_service.report.model.project;
+
+import java.util.Map;
+
+public record ProjectReportDataBatchDto(Map<Long, ProjectReportDataDto> data) {
+
+}
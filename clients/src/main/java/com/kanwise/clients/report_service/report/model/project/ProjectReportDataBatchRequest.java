@@ -0,0 +1,22 @@
+package com.kanwise.clients.report_service.report.model.project;
+
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Builder
+public record ProjectReportDataBatchRequest(
+        Set<Long> projectIds,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+
+    public ProjectReportDataRequest toRequest(Long projectId) {
+        return ProjectReportDataRequest.builder()
+                .projectId(projectId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
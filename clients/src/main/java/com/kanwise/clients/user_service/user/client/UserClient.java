@@ -1,14 +1,21 @@
 package com.kanwise.clients.user_service.user.client;
 
+import com.kanwise.clients.user_service.user.model.UserDataBatchDto;
+import com.kanwise.clients.user_service.user.model.UserDataBatchRequest;
 import com.kanwise.clients.user_service.user.model.UserDataDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(value = "user-service", path = "/user")
 public interface UserClient {
 
     @GetMapping("/{username}/data")
     ResponseEntity<UserDataDto> getUserData(@PathVariable("username") String username);
+
+    @PostMapping("/data/batch")
+    ResponseEntity<UserDataBatchDto> getUserDataBatch(@RequestBody UserDataBatchRequest request);
 }
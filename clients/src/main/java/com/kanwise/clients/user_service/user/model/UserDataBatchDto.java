@@ -0,0 +1,9 @@
+package com.kanwise.clients.user_service.user.model;
+
+import lombok.Builder;
+
+import java.util.Map;
+
+@Builder
+public record UserDataBatchDto(Map<String, UserDataDto> data) {
+}
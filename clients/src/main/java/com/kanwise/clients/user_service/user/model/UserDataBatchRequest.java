@@ -0,0 +1,9 @@
+package com.kanwise.clients.user_service.user.model;
+
+import lombok.Builder;
+
+import java.util.Set;
+
+@Builder
+public record UserDataBatchRequest(Set<String> usernames) {
+}
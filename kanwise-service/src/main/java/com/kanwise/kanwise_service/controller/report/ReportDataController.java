@@ -1,11 +1,16 @@
 package com.kanwise.kanwise_service.controller.report;
 
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataDto;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataRequest;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataDto;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataRequest;
 import com.kanwise.kanwise_service.model.report.personal.PersonalReportData;
 import com.kanwise.kanwise_service.model.report.project.ProjectReportData;
+import com.kanwise.kanwise_service.service.report.ReportDataBatchService;
 import com.kanwise.kanwise_service.service.report.ReportDataService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +22,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.util.Map;
 
+import static java.util.stream.Collectors.toMap;
 import static javax.ws.rs.HttpMethod.POST;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -28,6 +35,8 @@ public class ReportDataController {
 
     private final ReportDataService<PersonalReportData, PersonalReportDataRequest> personalReportDataService;
     private final ReportDataService<ProjectReportData, ProjectReportDataRequest> projectReportDataService;
+    private final ReportDataBatchService<String, PersonalReportData, PersonalReportDataBatchRequest> personalReportDataBatchService;
+    private final ReportDataBatchService<Long, ProjectReportData, ProjectReportDataBatchRequest> projectReportDataBatchService;
     private final ModelMapper modelMapper;
 
     @ApiOperation(value = "Get personal report data",
@@ -42,6 +51,20 @@ public class ReportDataController {
         return ResponseEntity.ok(modelMapper.map(data, PersonalReportDataDto.class));
     }
 
+    @ApiOperation(value = "Get personal report data in batch",
+            notes = "This endpoint is used to get personal report data for many users sharing the same report period.",
+            response = PersonalReportDataBatchDto.class,
+            responseReference = "ResponseEntity<PersonalReportDataBatchDto>",
+            httpMethod = POST,
+            produces = APPLICATION_JSON_VALUE)
+    @PostMapping("/personal/batch")
+    public ResponseEntity<PersonalReportDataBatchDto> getPersonalReportDataBatch(@Valid @RequestBody PersonalReportDataBatchRequest request) {
+        return ResponseEntity.ok(new PersonalReportDataBatchDto(personalReportDataBatchService.getReportDataBatch(request)
+                .entrySet()
+                .stream()
+                .collect(toMap(Map.Entry::getKey, entry -> modelMapper.map(entry.getValue(), PersonalReportDataDto.class)))));
+    }
+
     @ApiOperation(value = "Get project report data",
             notes = "This endpoint is used to get project report data.",
             response = ProjectReportDataDto.class,
@@ -53,4 +76,18 @@ public class ReportDataController {
         ProjectReportData data = projectReportDataService.getReportData(request);
         return ResponseEntity.ok(modelMapper.map(data, ProjectReportDataDto.class));
     }
+
+    @ApiOperation(value = "Get project report data in batch",
+            notes = "This endpoint is used to get project report data for many projects sharing the same report period.",
+            response = ProjectReportDataBatchDto.class,
+            responseReference = "ResponseEntity<ProjectReportDataBatchDto>",
+            httpMethod = POST,
+            produces = APPLICATION_JSON_VALUE)
+    @PostMapping("/project/batch")
+    public ResponseEntity<ProjectReportDataBatchDto> getProjectReportDataBatch(@Valid @RequestBody ProjectReportDataBatchRequest request) {
+        return ResponseEntity.ok(new ProjectReportDataBatchDto(projectReportDataBatchService.getReportDataBatch(request)
+                .entrySet()
+                .stream()
+                .collect(toMap(Map.Entry::getKey, entry -> modelMapper.map(entry.getValue(), ProjectReportDataDto.class)))));
+    }
 }
@@ -11,11 +11,14 @@ import com.kanwise.kanwise_service.model.task.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Set;
 
 public interface IProjectService {
     Project findProjectById(long id);
 
+    List<Project> findProjectsByIds(Set<Long> ids);
+
     Page<Project> findProjects(String title, Pageable pageable);
 
     Project saveProject(Project map);
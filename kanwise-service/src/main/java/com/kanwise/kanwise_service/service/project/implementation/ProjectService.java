@@ -22,6 +22,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -43,6 +44,11 @@ public class ProjectService implements IProjectService {
         return projectRepository.findById(id).orElseThrow(ProjectNotFoundException::new);
     }
 
+    @Override
+    public List<Project> findProjectsByIds(Set<Long> ids) {
+        return projectRepository.findAllById(ids);
+    }
+
     @Override
     public Page<Project> findProjects(String title, Pageable pageable) {
         return projectRepository.findByTitleContaining(title, pageable);
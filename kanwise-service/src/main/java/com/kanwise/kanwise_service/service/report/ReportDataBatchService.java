@@ -0,0 +1,10 @@
+package com.kanwise.kanwise_service.service.report;
+
+import com.kanwise.kanwise_service.model.report.ReportData;
+
+import java.util.Map;
+
+public interface ReportDataBatchService<K, T extends ReportData, B> {
+
+    Map<K, T> getReportDataBatch(B request);
+}
@@ -1,11 +1,13 @@
 package com.kanwise.kanwise_service.service.report.implementation.personal;
 
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataRequest;
 import com.kanwise.kanwise_service.model.member.Member;
 import com.kanwise.kanwise_service.model.report.personal.PersonalReportData;
 import com.kanwise.kanwise_service.model.task.Task;
 import com.kanwise.kanwise_service.model.task_statistics.TaskStatistics;
 import com.kanwise.kanwise_service.service.member.implementation.MemberService;
+import com.kanwise.kanwise_service.service.report.ReportDataBatchService;
 import com.kanwise.kanwise_service.service.report.ReportDataService;
 import com.kanwise.kanwise_service.service.statistics.task.implementaion.TaskStatisticsService;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,7 @@ import static java.util.stream.Collectors.toMap;
 
 @RequiredArgsConstructor
 @Service
-public class PersonalReportDataService implements ReportDataService<PersonalReportData, PersonalReportDataRequest> {
+public class PersonalReportDataService implements ReportDataService<PersonalReportData, PersonalReportDataRequest>, ReportDataBatchService<String, PersonalReportData, PersonalReportDataBatchRequest> {
 
     private final MemberService memberService;
     private final TaskStatisticsService taskStatisticsService;
@@ -34,8 +36,17 @@ public class PersonalReportDataService implements ReportDataService<PersonalRepo
     @Override
     public PersonalReportData getReportData(PersonalReportDataRequest request) {
         Member member = memberService.findMemberByUsername(request.username());
-        LocalDateTime startDate = request.startDate();
-        LocalDateTime endDate = request.endDate();
+        return getReportData(member, request.startDate(), request.endDate());
+    }
+
+    @Override
+    public Map<String, PersonalReportData> getReportDataBatch(PersonalReportDataBatchRequest request) {
+        return memberService.findMembersByUsernames(request.usernames())
+                .stream()
+                .collect(toMap(Member::getUsername, member -> getReportData(member, request.startDate(), request.endDate())));
+    }
+
+    private PersonalReportData getReportData(Member member, LocalDateTime startDate, LocalDateTime endDate) {
         List<Task> tasks = getTaskForMemberInTimeRange(member, startDate, endDate);
 
         return PersonalReportData.builder()
@@ -1,11 +1,13 @@
 package com.kanwise.kanwise_service.service.report.implementation.project;
 
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataRequest;
 import com.kanwise.kanwise_service.model.project.Project;
 import com.kanwise.kanwise_service.model.report.project.ProjectReportData;
 import com.kanwise.kanwise_service.model.task.Task;
 import com.kanwise.kanwise_service.model.task_statistics.TaskStatistics;
 import com.kanwise.kanwise_service.service.project.IProjectService;
+import com.kanwise.kanwise_service.service.report.ReportDataBatchService;
 import com.kanwise.kanwise_service.service.report.ReportDataService;
 import com.kanwise.kanwise_service.service.statistics.task.implementaion.TaskStatisticsService;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,7 @@ import static java.util.stream.Collectors.toMap;
 
 @RequiredArgsConstructor
 @Service
-public class ProjectReportDataService implements ReportDataService<ProjectReportData, ProjectReportDataRequest> {
+public class ProjectReportDataService implements ReportDataService<ProjectReportData, ProjectReportDataRequest>, ReportDataBatchService<Long, ProjectReportData, ProjectReportDataBatchRequest> {
 
     private final IProjectService projectService;
     private final TaskStatisticsService taskStatisticsService;
@@ -27,10 +29,18 @@ public class ProjectReportDataService implements ReportDataService<ProjectReport
     @Override
     public ProjectReportData getReportData(ProjectReportDataRequest request) {
         Project project = projectService.findProjectById(request.projectId());
-        LocalDateTime startDate = request.startDate();
-        LocalDateTime endDate = request.endDate();
-        List<Task> tasks = getTasksForProjectInTimeRange(project, startDate, endDate);
+        return getReportData(project, request.startDate(), request.endDate());
+    }
 
+    @Override
+    public Map<Long, ProjectReportData> getReportDataBatch(ProjectReportDataBatchRequest request) {
+        return projectService.findProjectsByIds(request.projectIds())
+                .stream()
+                .collect(toMap(Project::getId, project -> getReportData(project, request.startDate(), request.endDate())));
+    }
+
+    private ProjectReportData getReportData(Project project, LocalDateTime startDate, LocalDateTime endDate) {
+        List<Task> tasks = getTasksForProjectInTimeRange(project, startDate, endDate);
 
         return ProjectReportData.builder()
                 .startDate(startDate)
@@ -41,7 +51,7 @@ public class ProjectReportDataService implements ReportDataService<ProjectReport
     }
 
     private List<Task> getTasksForProjectInTimeRange(Project project, LocalDateTime startDate, LocalDateTime endDate) {
-        return projectService.findProjectTasks(project.getId())
+        return project.getTasks()
                 .stream()
                 .filter(task -> task.getCreatedAt().isAfter(startDate) && task.getCreatedAt().isBefore(endDate))
                 .toList();
@@ -0,0 +1,25 @@
+package com.kanwise.notification_service.configuration.dedup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.dedup")
+public record DeduplicationConfigurationProperties(
+        boolean enabled,
+        @NotNull(message = "DEDUP_WINDOW_NOT_NULL") Duration window,
+        @Min(value = 1, message = "DEDUP_EXPECTED_INSERTIONS_MIN_1") int expectedInsertions,
+        @DecimalMin(value = "0.0", inclusive = false, message = "DEDUP_FALSE_POSITIVE_PROBABILITY_GREATER_THAN_0")
+        @DecimalMax(value = "0.1", message = "DEDUP_FALSE_POSITIVE_PROBABILITY_MAX_0_1") double falsePositiveProbability,
+        @NotNull(message = "DEDUP_RESTORE_TIMEOUT_NOT_NULL") Duration restoreTimeout
+) {
+    public Duration getRetention() {
+        return window.multipliedBy(2);
+    }
+}
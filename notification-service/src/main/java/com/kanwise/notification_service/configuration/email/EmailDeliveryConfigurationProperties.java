@@ -0,0 +1,17 @@
+package com.kanwise.notification_service.configuration.email;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.email.delivery")
+public record EmailDeliveryConfigurationProperties(
+        @Min(value = 1, message = "LISTENER_CONCURRENCY_MIN_1") int listenerConcurrency,
+        @Min(value = 1, message = "MAX_POLL_RECORDS_MIN_1") int maxPollRecords,
+        @Min(value = 1, message = "RENDER_THREADS_MIN_1") int renderThreads,
+        @Min(value = 1, message = "TRANSPORT_POOL_SIZE_MIN_1") int transportPoolSize,
+        @Min(value = 1, message = "MAX_MESSAGES_PER_TRANSPORT_MIN_1") int maxMessagesPerTransport
+) {
+}
@@ -0,0 +1,29 @@
+package com.kanwise.notification_service.configuration.email;
+
+import com.kanwise.notification_service.model.email.EmailMessageType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Set;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.email.digest")
+public record EmailDigestConfigurationProperties(
+        boolean enabled,
+        @NotNull(message = "DIGEST_TYPES_NOT_NULL") Set<EmailMessageType> types,
+        @NotNull(message = "DIGEST_WINDOW_NOT_NULL") Duration window,
+        @Min(value = 2, message = "DIGEST_MAX_ENTRIES_MIN_2") int maxEntries,
+        @NotNull(message = "DIGEST_FLUSH_INTERVAL_NOT_NULL") Duration flushInterval,
+        @Min(value = 1, message = "DIGEST_PARTITIONS_MIN_1") int partitions,
+        @NotBlank(message = "DIGEST_SUBJECT_NOT_BLANK") String subject,
+        @Min(value = 1, message = "DIGEST_MAX_FLUSH_ATTEMPTS_MIN_1") int maxFlushAttempts,
+        @NotNull(message = "DIGEST_RESTORE_TIMEOUT_NOT_NULL") Duration restoreTimeout
+) {
+    public boolean isDigestible(EmailMessageType emailMessageType) {
+        return enabled && types.contains(emailMessageType);
+    }
+}
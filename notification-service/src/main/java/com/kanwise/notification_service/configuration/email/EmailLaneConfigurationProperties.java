@@ -0,0 +1,40 @@
+package com.kanwise.notification_service.configuration.email;
+
+import com.kanwise.notification_service.model.email.EmailLane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.email.lanes")
+public record EmailLaneConfigurationProperties(
+        @Valid @NotNull(message = "PRIORITY_LANE_NOT_NULL") LaneProperties priority,
+        @Valid @NotNull(message = "BULK_LANE_NOT_NULL") LaneProperties bulk
+) {
+    public int getRenderThreads(EmailLane emailLane, int standardRenderThreads) {
+        return switch (emailLane) {
+            case PRIORITY -> priority.renderThreads();
+            case BULK -> bulk.renderThreads();
+            case STANDARD -> standardRenderThreads;
+        };
+    }
+
+    public int getTransportPoolSize(EmailLane emailLane, int standardTransportPoolSize) {
+        return switch (emailLane) {
+            case PRIORITY -> priority.transportPoolSize();
+            case BULK -> bulk.transportPoolSize();
+            case STANDARD -> standardTransportPoolSize;
+        };
+    }
+
+    public record LaneProperties(
+            @Min(value = 1, message = "LISTENER_CONCURRENCY_MIN_1") int listenerConcurrency,
+            @Min(value = 1, message = "MAX_POLL_RECORDS_MIN_1") int maxPollRecords,
+            @Min(value = 1, message = "RENDER_THREADS_MIN_1") int renderThreads,
+            @Min(value = 1, message = "TRANSPORT_POOL_SIZE_MIN_1") int transportPoolSize
+    ) {
+    }
+}
@@ -5,14 +5,37 @@ import com.kanwise.notification_service.validation.annotation.template.TemplateP
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.ACCOUNT_CREATED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_RESET;
 
 @Validated
 @ConfigurationProperties(prefix = "kanwise.email.template")
 public record EmailTemplateNamesConfigurationProperties(
         @TemplatePaths
-        Map<EmailMessageType, String> names
+        Map<EmailMessageType, String> names,
+        @Min(value = 0, message = "RENDER_CACHE_SIZE_MIN_0") int renderCacheSize,
+        @NotNull(message = "CACHEABLE_TYPES_NOT_NULL") Set<EmailMessageType> cacheableTypes
 ) {
-}
+    private static final Set<EmailMessageType> SECRET_BEARING_TYPES = EnumSet.of(ACCOUNT_CREATED, PASSWORD_RESET);
 
+    public String getTemplateName(EmailMessageType emailMessageType) {
+        return names.get(emailMessageType);
+    }
 
+    public boolean isCacheable(EmailMessageType emailMessageType) {
+        return cacheableTypes.contains(emailMessageType);
+    }
+
+    @AssertTrue(message = "SECRET_BEARING_TYPES_NOT_CACHEABLE")
+    public boolean isSecretBearingTypesNotCacheable() {
+        return cacheableTypes == null || Collections.disjoint(cacheableTypes, SECRET_BEARING_TYPES);
+    }
+}
@@ -1,8 +1,13 @@
 package com.kanwise.notification_service.configuration.kafka.consumer;
 
-
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
 import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.serialization.EmailRequestSchema;
+import com.kanwise.notification_service.configuration.kafka.serialization.OtpSmsRequestSchema;
+import com.kanwise.notification_service.listeners.dedup.DeduplicationRebalanceListener;
 import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
 import com.kanwise.notification_service.model.sms.OtpSmsRequest;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.common.serialization.StringDeserializer;
@@ -13,17 +18,23 @@ import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_CONFIG;
 
 @RequiredArgsConstructor
 @Configuration
 public class KafkaConsumerConfiguration {
 
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final EmailDeliveryConfigurationProperties emailDeliveryConfigurationProperties;
+    private final DefaultErrorHandler notificationErrorHandler;
 
     public Map<String, Object> consumerConfiguration() {
         return Map.of(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
@@ -31,25 +42,47 @@ public class KafkaConsumerConfiguration {
 
     @Bean
     public ConsumerFactory<String, EmailRequest> consumerEmailFactory() {
-        return new DefaultKafkaConsumerFactory<>(consumerConfiguration(), new StringDeserializer(), new JsonDeserializer<>(EmailRequest.class, false));
+        Map<String, Object> consumerConfiguration = new HashMap<>(consumerConfiguration());
+        consumerConfiguration.put(MAX_POLL_RECORDS_CONFIG, emailDeliveryConfigurationProperties.maxPollRecords());
+        return new DefaultKafkaConsumerFactory<>(consumerConfiguration, new StringDeserializer(), new ErrorHandlingDeserializer<>(new BinaryDeserializer<>(new EmailRequestSchema(), EmailRequest.class)));
     }
 
     @Bean
-    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailRequest>> emailFactory(ConsumerFactory<String, EmailRequest> consumerEmailFactory) {
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailRequest>> emailFactory(ConsumerFactory<String, EmailRequest> consumerEmailFactory, DeduplicationRebalanceListener deduplicationRebalanceListener) {
         ConcurrentKafkaListenerContainerFactory<String, EmailRequest> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerEmailFactory);
+        factory.setCommonErrorHandler(notificationErrorHandler);
+        factory.setBatchListener(true);
+        factory.setConcurrency(emailDeliveryConfigurationProperties.listenerConcurrency());
+        factory.getContainerProperties().setConsumerRebalanceListener(deduplicationRebalanceListener);
         return factory;
     }
 
     @Bean
     public ConsumerFactory<String, OtpSmsRequest> consumerSmsFactory() {
-        return new DefaultKafkaConsumerFactory<>(consumerConfiguration(), new StringDeserializer(), new JsonDeserializer<>(OtpSmsRequest.class, false));
+        return new DefaultKafkaConsumerFactory<>(consumerConfiguration(), new StringDeserializer(), new ErrorHandlingDeserializer<>(new BinaryDeserializer<>(new OtpSmsRequestSchema(), OtpSmsRequest.class)));
     }
 
     @Bean
-    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsRequest>> smsFactory(ConsumerFactory<String, OtpSmsRequest> consumerSmsFactory) {
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsRequest>> smsFactory(ConsumerFactory<String, OtpSmsRequest> consumerSmsFactory, DeduplicationRebalanceListener deduplicationRebalanceListener) {
         ConcurrentKafkaListenerContainerFactory<String, OtpSmsRequest> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerSmsFactory);
+        factory.setCommonErrorHandler(notificationErrorHandler);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setConsumerRebalanceListener(deduplicationRebalanceListener);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory() {
+        return new DefaultKafkaConsumerFactory<>(consumerConfiguration(), new StringDeserializer(), new ErrorHandlingDeserializer<>(new JsonDeserializer<>(EmailDigest.class, false)));
+    }
+
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailDigest>> emailDigestFactory(ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, EmailDigest> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerEmailDigestFactory);
+        factory.setBatchListener(true);
         return factory;
     }
 }
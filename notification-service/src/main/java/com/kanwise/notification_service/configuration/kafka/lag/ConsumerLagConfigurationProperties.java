@@ -0,0 +1,16 @@
+package com.kanwise.notification_service.configuration.kafka.lag;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.kafka.lag")
+public record ConsumerLagConfigurationProperties(
+        boolean enabled,
+        @NotNull(message = "LAG_REFRESH_INTERVAL_NOT_NULL") Duration refreshInterval,
+        @NotNull(message = "LAG_REQUEST_TIMEOUT_NOT_NULL") Duration requestTimeout
+) {
+}
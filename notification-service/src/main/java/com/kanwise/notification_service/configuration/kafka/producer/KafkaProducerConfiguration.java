@@ -0,0 +1,66 @@
+package com.kanwise.notification_service.configuration.kafka.producer;
+
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.clients.kafka.serialization.schema.OtpSmsResponseSchema;
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+import static org.springframework.kafka.support.serializer.JsonSerializer.ADD_TYPE_INFO_HEADERS;
+
+@RequiredArgsConstructor
+@Configuration
+public class KafkaProducerConfiguration {
+
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
+    public Map<String, Object> producerConfiguration() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
+        props.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(ADD_TYPE_INFO_HEADERS, false);
+        props.put(ACKS_CONFIG, "all");
+        props.put(ENABLE_IDEMPOTENCE_CONFIG, true);
+        return props;
+    }
+
+    @Bean
+    public ProducerFactory<String, OtpSmsResponse> producerSmsStatusFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfiguration(), new StringSerializer(), new BinarySerializer<>(new OtpSmsResponseSchema()));
+    }
+
+    @Bean
+    public KafkaTemplate<String, OtpSmsResponse> kafkaSmsStatusTemplate(ProducerFactory<String, OtpSmsResponse> producerSmsStatusFactory) {
+        return new KafkaTemplate<>(producerSmsStatusFactory, kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_SMS_STATUS));
+    }
+
+    @Bean
+    public ProducerFactory<String, EmailDigest> producerEmailDigestFactory() {
+        return new DefaultKafkaProducerFactory<>(producerConfiguration());
+    }
+
+    @Bean
+    public KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate(ProducerFactory<String, EmailDigest> producerEmailDigestFactory) {
+        return new KafkaTemplate<>(producerEmailDigestFactory, kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL_DIGEST));
+    }
+}
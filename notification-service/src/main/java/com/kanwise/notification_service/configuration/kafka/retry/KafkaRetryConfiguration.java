@@ -0,0 +1,128 @@
+package com.kanwise.notification_service.configuration.kafka.retry;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.listeners.dedup.DeduplicationRebalanceListener;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.service.retry.IRetryTopicResolver;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.apache.kafka.clients.CommonClientConfigs.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+import static org.springframework.kafka.listener.ContainerProperties.AckMode.MANUAL;
+import static org.springframework.kafka.support.serializer.JsonSerializer.ADD_TYPE_INFO_HEADERS;
+
+@RequiredArgsConstructor
+@Configuration
+public class KafkaRetryConfiguration {
+
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final IRetryTopicResolver retryTopicResolver;
+
+    public Map<String, Object> producerRetryConfiguration() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
+        props.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ACKS_CONFIG, "all");
+        props.put(ENABLE_IDEMPOTENCE_CONFIG, true);
+        return props;
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> producerRetryFactory() {
+        Map<String, Object> producerConfiguration = producerRetryConfiguration();
+        producerConfiguration.put(VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new DefaultKafkaProducerFactory<>(producerConfiguration);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kafkaRetryTemplate(ProducerFactory<String, byte[]> producerRetryFactory) {
+        return new KafkaTemplate<>(producerRetryFactory);
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> producerRetryJsonFactory() {
+        Map<String, Object> producerConfiguration = producerRetryConfiguration();
+        producerConfiguration.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        producerConfiguration.put(ADD_TYPE_INFO_HEADERS, false);
+        return new DefaultKafkaProducerFactory<>(producerConfiguration);
+    }
+
+    @Bean
+    public KafkaTemplate<String, Object> kafkaRetryJsonTemplate(ProducerFactory<String, Object> producerRetryJsonFactory) {
+        return new KafkaTemplate<>(producerRetryJsonFactory);
+    }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, byte[]> kafkaRetryTemplate, KafkaTemplate<String, Object> kafkaRetryJsonTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, kafkaRetryTemplate);
+        templates.put(Object.class, kafkaRetryJsonTemplate);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates, retryTopicResolver::resolveDestination);
+        recoverer.setHeadersFunction(retryTopicResolver::createRetryHeaders);
+        return recoverer;
+    }
+
+    @Bean
+    public DefaultErrorHandler notificationErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(deadLetterPublishingRecoverer, new FixedBackOff(0L, 0L));
+        errorHandler.setCommitRecovered(true);
+        return errorHandler;
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> consumerRetryFactory() {
+        Map<String, Object> consumerConfiguration = new HashMap<>();
+        consumerConfiguration.put(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
+        return new DefaultKafkaConsumerFactory<>(consumerConfiguration, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> retryFactory(ConsumerFactory<String, byte[]> consumerRetryFactory, DefaultErrorHandler notificationErrorHandler, DeduplicationRebalanceListener deduplicationRebalanceListener) {
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerRetryFactory);
+        factory.setCommonErrorHandler(notificationErrorHandler);
+        factory.getContainerProperties().setAckMode(MANUAL);
+        factory.getContainerProperties().setConsumerRebalanceListener(deduplicationRebalanceListener);
+        return factory;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics retryTopics() {
+        return new KafkaAdmin.NewTopics(Arrays.stream(TopicType.values())
+                .filter(retryTopicResolver::isRetryable)
+                .map(kafkaConfigurationProperties::getTopicName)
+                .flatMap(topic -> retryTopicResolver.getAllRetryAndDeadLetterTopics(topic).stream())
+                .map(topic -> TopicBuilder.name(topic).build())
+                .toArray(NewTopic[]::new));
+    }
+}
@@ -0,0 +1,19 @@
+package com.kanwise.notification_service.configuration.kafka.retry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.List;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.kafka.retry")
+public record KafkaRetryConfigurationProperties(
+        @NotEmpty(message = "BACKOFFS_NOT_EMPTY") List<Duration> backoffs,
+        @Min(value = 1, message = "REPLAY_BATCH_SIZE_MIN_1") int replayBatchSize,
+        @NotNull(message = "REPLAY_POLL_TIMEOUT_NOT_NULL") Duration replayPollTimeout
+) {
+}
@@ -0,0 +1,63 @@
+package com.kanwise.notification_service.configuration.kafka.retry;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.listeners.retry.IKafkaRetryListener;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.service.retry.IRetryTopicResolver;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.KafkaListenerConfigurer;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistrar;
+import org.springframework.kafka.config.SimpleKafkaListenerEndpoint;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.lang.Math.min;
+
+@RequiredArgsConstructor
+@Configuration
+public class KafkaRetryListenerConfiguration implements KafkaListenerConfigurer {
+
+    private static final Duration MAX_NACK_SLEEP = Duration.ofSeconds(30);
+    private static final String TIER_GROUP_PATTERN = "%s_%d";
+
+    private final List<IKafkaRetryListener> retryListeners;
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final IRetryTopicResolver retryTopicResolver;
+    private final KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, byte[]>> retryFactory;
+
+    @Override
+    public void configureKafkaListeners(KafkaListenerEndpointRegistrar registrar) {
+        retryListeners.forEach(retryListener -> retryListener.getRetryGroups().forEach((topicType, groupId) -> {
+            String[] retryTopics = retryTopicResolver.getRetryTopics(kafkaConfigurationProperties.getTopicName(topicType));
+            for (int tier = 0; tier < retryTopics.length; tier++) {
+                registrar.registerEndpoint(createEndpoint(retryListener, topicType, TIER_GROUP_PATTERN.formatted(groupId, tier), retryTopics[tier]), retryFactory);
+            }
+        }));
+    }
+
+    private SimpleKafkaListenerEndpoint<String, byte[]> createEndpoint(IKafkaRetryListener retryListener, TopicType topicType, String groupId, String retryTopic) {
+        SimpleKafkaListenerEndpoint<String, byte[]> endpoint = new SimpleKafkaListenerEndpoint<>();
+        endpoint.setId(groupId);
+        endpoint.setGroupId(groupId);
+        endpoint.setTopics(retryTopic);
+        endpoint.setMessageListener((AcknowledgingMessageListener<String, byte[]>) (record, acknowledgment) -> retry(retryListener, topicType, record, acknowledgment));
+        return endpoint;
+    }
+
+    private void retry(IKafkaRetryListener retryListener, TopicType topicType, ConsumerRecord<String, byte[]> record, Acknowledgment acknowledgment) {
+        long remainingDelay = retryTopicResolver.getRemainingDelay(record);
+        if (remainingDelay > 0) {
+            acknowledgment.nack(min(remainingDelay, MAX_NACK_SLEEP.toMillis()));
+            return;
+        }
+        retryListener.retry(topicType, record);
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kanwise.notification_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.schema.GenericOtpSmsRequestSchema;
+import com.kanwise.clients.kafka.serialization.schema.OtpSmsRequestFields;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+
+public class OtpSmsRequestSchema extends GenericOtpSmsRequestSchema<OtpSmsRequest> {
+
+    @Override
+    protected OtpSmsRequestFields toFields(OtpSmsRequest value) {
+        return new OtpSmsRequestFields(value.getMessageId(), value.getPhoneNumber(), value.getContent(), value.getOtpId());
+    }
+
+    @Override
+    protected OtpSmsRequest fromFields(OtpSmsRequestFields fields) {
+        return OtpSmsRequest.builder()
+                .messageId(fields.messageId())
+                .phoneNumber(fields.phoneNumber())
+                .content(fields.content())
+                .otpId(fields.otpId())
+                .build();
+    }
+}
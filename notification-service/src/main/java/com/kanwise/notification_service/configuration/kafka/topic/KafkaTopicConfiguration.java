@@ -1,5 +1,7 @@
 package com.kanwise.notification_service.configuration.kafka.topic;
 
+import com.kanwise.notification_service.configuration.dedup.DeduplicationConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailDigestConfigurationProperties;
 import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -7,14 +9,26 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
 
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_DEDUP;
 import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST_STATE;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
 import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_COMPACT;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_CONFIG;
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_DELETE;
+import static org.apache.kafka.common.config.TopicConfig.RETENTION_MS_CONFIG;
 
 @RequiredArgsConstructor
 @Configuration
 public class KafkaTopicConfiguration {
 
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final EmailDigestConfigurationProperties emailDigestConfigurationProperties;
+    private final DeduplicationConfigurationProperties deduplicationConfigurationProperties;
 
     @Bean
     public NewTopic notificationEmailTopic() {
@@ -27,4 +41,45 @@ public class KafkaTopicConfiguration {
         return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS))
                 .build();
     }
+
+    @Bean
+    public NewTopic notificationSmsStatusTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS))
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationEmailDigestTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST))
+                .partitions(emailDigestConfigurationProperties.partitions())
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationEmailDigestStateTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST_STATE))
+                .partitions(emailDigestConfigurationProperties.partitions())
+                .compact()
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationEmailPriorityTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_PRIORITY))
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationEmailBulkTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_BULK))
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationDedupTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_DEDUP))
+                .config(CLEANUP_POLICY_CONFIG, CLEANUP_POLICY_COMPACT + "," + CLEANUP_POLICY_DELETE)
+                .config(RETENTION_MS_CONFIG, String.valueOf(deduplicationConfigurationProperties.getRetention().toMillis()))
+                .build();
+    }
 }
@@ -0,0 +1,33 @@
+package com.kanwise.notification_service.configuration.security.common;
+
+import com.kanwise.notification_service.configuration.security.filter.CustomAuthenticationProcessingFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
+
+@Configuration
+@EnableWebSecurity
+@EnableGlobalMethodSecurity(prePostEnabled = true)
+@RequiredArgsConstructor
+public class ApplicationSecurityConfiguration {
+    private final CustomAuthenticationProcessingFilter customAuthenticationProcessingFilter;
+
+    @Bean
+    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        http
+                .csrf().disable()
+                .sessionManagement().sessionCreationPolicy(STATELESS)
+                .and()
+                .authorizeRequests().anyRequest().permitAll()
+                .and()
+                .addFilterBefore(customAuthenticationProcessingFilter, UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+}
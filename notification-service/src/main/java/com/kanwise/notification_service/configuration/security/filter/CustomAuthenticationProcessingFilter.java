@@ -0,0 +1,42 @@
+package com.kanwise.notification_service.configuration.security.filter;
+
+import com.kanwise.notification_service.model.security.UserRole;
+import lombok.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static com.kanwise.notification_service.model.http.HttpHeader.ROLE;
+import static com.kanwise.notification_service.model.http.HttpHeader.USERNAME;
+import static org.springframework.security.core.context.SecurityContextHolder.getContext;
+
+@Component
+public class CustomAuthenticationProcessingFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String username = request.getHeader(USERNAME);
+        Optional<UserRole> userRole = getUserRole(request.getHeader(ROLE));
+        if (username != null && !username.isEmpty() && userRole.isPresent()) {
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(username, null, userRole.get().getGrantedAuthorities());
+            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            getContext().setAuthentication(authentication);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Optional<UserRole> getUserRole(String role) {
+        return Arrays.stream(UserRole.values())
+                .filter(userRole -> userRole.name().equals(role))
+                .findFirst();
+    }
+}
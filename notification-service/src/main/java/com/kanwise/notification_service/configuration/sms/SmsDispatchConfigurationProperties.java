@@ -0,0 +1,22 @@
+package com.kanwise.notification_service.configuration.sms;
+
+import com.kanwise.notification_service.model.sms.SmsProviderType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.sms.dispatch")
+public record SmsDispatchConfigurationProperties(
+        @NotNull(message = "PROVIDER_NOT_NULL") SmsProviderType provider,
+        @Min(value = 1, message = "RATE_PER_SECOND_MIN_1") int ratePerSecond,
+        @Min(value = 1, message = "BURST_CAPACITY_MIN_1") int burstCapacity,
+        @Min(value = 1, message = "MAX_IN_FLIGHT_MIN_1") int maxInFlight,
+        @NotNull(message = "PROVIDER_TIMEOUT_NOT_NULL") Duration providerTimeout,
+        @NotNull(message = "STUB_LATENCY_NOT_NULL") Duration stubLatency,
+        @NotNull(message = "DRAIN_TIMEOUT_NOT_NULL") Duration drainTimeout
+) {
+}
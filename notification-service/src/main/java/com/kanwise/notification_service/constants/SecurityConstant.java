@@ -0,0 +1,10 @@
+package com.kanwise.notification_service.constants;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class SecurityConstant {
+
+    public static final String ROLE_PREFIX = "ROLE_";
+
+}
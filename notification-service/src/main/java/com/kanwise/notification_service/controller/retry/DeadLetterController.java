@@ -0,0 +1,38 @@
+package com.kanwise.notification_service.controller.retry;
+
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.model.retry.DeadLetterReplayResponse;
+import com.kanwise.notification_service.service.retry.IDeadLetterReplayService;
+import com.kanwise.notification_service.service.retry.IRetryTopicResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Optional;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.OK;
+
+@RequiredArgsConstructor
+@RequestMapping("/notification/dead-letters")
+@RestController
+public class DeadLetterController {
+
+    private final IDeadLetterReplayService deadLetterReplayService;
+    private final IRetryTopicResolver retryTopicResolver;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{topicType}/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replayDeadLetters(@PathVariable TopicType topicType, @RequestParam Optional<Integer> limit) {
+        if (!retryTopicResolver.isRetryable(topicType)) {
+            throw new ResponseStatusException(BAD_REQUEST, "TOPIC_HAS_NO_DEAD_LETTERS");
+        }
+        return new ResponseEntity<>(deadLetterReplayService.replay(topicType, limit), OK);
+    }
+}
@@ -0,0 +1,7 @@
+package com.kanwise.notification_service.error;
+
+public class DeadLetterReplayException extends RuntimeException {
+    public DeadLetterReplayException(String topic, Throwable cause) {
+        super("FAILED TO REPLAY DEAD LETTERS FROM " + topic, cause);
+    }
+}
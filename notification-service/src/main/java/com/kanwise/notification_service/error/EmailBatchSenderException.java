@@ -0,0 +1,14 @@
+package com.kanwise.notification_service.error;
+
+import lombok.Getter;
+
+@Getter
+public class EmailBatchSenderException extends RuntimeException {
+
+    private final int index;
+
+    public EmailBatchSenderException(int index, Throwable cause) {
+        super("FAILED TO SEND EMAIL AT INDEX %s OF BATCH".formatted(index), cause);
+        this.index = index;
+    }
+}
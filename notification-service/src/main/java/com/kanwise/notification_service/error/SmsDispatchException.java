@@ -0,0 +1,7 @@
+package com.kanwise.notification_service.error;
+
+public class SmsDispatchException extends RuntimeException {
+    public SmsDispatchException(String message) {
+        super("FAILED TO DISPATCH SMS: " + message);
+    }
+}
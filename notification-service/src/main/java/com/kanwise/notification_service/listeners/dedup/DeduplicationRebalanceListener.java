@@ -0,0 +1,24 @@
+package com.kanwise.notification_service.listeners.dedup;
+
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+@RequiredArgsConstructor
+@Component
+public class DeduplicationRebalanceListener implements ConsumerAwareRebalanceListener {
+
+    private final IDeduplicationService deduplicationService;
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            deduplicationService.restore();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.kanwise.notification_service.listeners.email;
+
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
+
+public interface IKafkaEmailDigestListener {
+    void listener(List<ConsumerRecord<String, EmailDigest>> records);
+}
@@ -2,6 +2,12 @@ package com.kanwise.notification_service.listeners.email;
 
 import com.kanwise.notification_service.model.email.EmailRequest;
 
+import java.util.List;
+
 public interface IKafkaEmailListener<T extends EmailRequest> {
-    void listener(T request);
+    void listener(List<T> requests);
+
+    void priorityListener(List<T> requests);
+
+    void bulkListener(List<T> requests);
 }
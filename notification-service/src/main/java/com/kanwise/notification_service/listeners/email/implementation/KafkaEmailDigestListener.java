@@ -0,0 +1,40 @@
+package com.kanwise.notification_service.listeners.email.implementation;
+
+import com.kanwise.notification_service.listeners.email.IKafkaEmailDigestListener;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import com.kanwise.notification_service.service.email.digest.IEmailDigestService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.AbstractConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+@Component
+public class KafkaEmailDigestListener extends AbstractConsumerSeekAware implements IKafkaEmailDigestListener {
+
+    private final IEmailDigestService emailDigestService;
+
+    @Override
+    @KafkaListener(topics = "notification-email-digest", groupId = "mail_digesters", containerFactory = "emailDigestFactory", autoStartup = "${kanwise.email.digest.enabled}")
+    public void listener(List<ConsumerRecord<String, EmailDigest>> records) {
+        emailDigestService.buffer(records);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        super.onPartitionsAssigned(assignments, callback);
+        emailDigestService.restore(assignments.keySet().stream().map(TopicPartition::partition).toList());
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        super.onPartitionsRevoked(partitions);
+        emailDigestService.release(partitions.stream().map(TopicPartition::partition).toList());
+    }
+}
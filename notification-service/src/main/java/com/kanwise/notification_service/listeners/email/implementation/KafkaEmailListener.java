@@ -1,21 +1,60 @@
 package com.kanwise.notification_service.listeners.email.implementation;
 
+import com.kanwise.notification_service.error.EmailBatchSenderException;
 import com.kanwise.notification_service.listeners.email.IKafkaEmailListener;
+import com.kanwise.notification_service.model.email.EmailLane;
 import com.kanwise.notification_service.model.email.EmailRequest;
 import com.kanwise.notification_service.service.email.IEmailService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+import static com.kanwise.notification_service.model.email.EmailLane.BULK;
+import static com.kanwise.notification_service.model.email.EmailLane.PRIORITY;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+
 @RequiredArgsConstructor
 @Component
 public class KafkaEmailListener implements IKafkaEmailListener<EmailRequest> {
 
+    private static final String INVALID_EMAIL_REQUEST_MESSAGE = "FAILED TO DESERIALIZE EMAIL REQUEST";
+
     private final IEmailService emailService;
 
     @Override
     @KafkaListener(topics = "notification-email", groupId = "mail_senders", containerFactory = "emailFactory")
-    public void listener(EmailRequest emailRequest) {
-        emailService.sendEmail(emailRequest);
+    public void listener(List<EmailRequest> emailRequests) {
+        deliver(emailRequests, STANDARD);
+    }
+
+    @Override
+    @KafkaListener(topics = "notification-email-priority", groupId = "mail_senders_priority", containerFactory = "emailFactory",
+            concurrency = "${kanwise.email.lanes.priority.listener-concurrency}",
+            properties = "max.poll.records=${kanwise.email.lanes.priority.max-poll-records}")
+    public void priorityListener(List<EmailRequest> emailRequests) {
+        deliver(emailRequests, PRIORITY);
+    }
+
+    @Override
+    @KafkaListener(topics = "notification-email-bulk", groupId = "mail_senders_bulk", containerFactory = "emailFactory",
+            concurrency = "${kanwise.email.lanes.bulk.listener-concurrency}",
+            properties = "max.poll.records=${kanwise.email.lanes.bulk.max-poll-records}")
+    public void bulkListener(List<EmailRequest> emailRequests) {
+        deliver(emailRequests, BULK);
+    }
+
+    private void deliver(List<EmailRequest> emailRequests, EmailLane emailLane) {
+        int invalidIndex = emailRequests.indexOf(null);
+        try {
+            emailService.sendEmails(invalidIndex < 0 ? emailRequests : emailRequests.subList(0, invalidIndex), emailLane);
+        } catch (EmailBatchSenderException e) {
+            throw new BatchListenerFailedException(e.getMessage(), e.getCause(), e.getIndex());
+        }
+        if (invalidIndex >= 0) {
+            throw new BatchListenerFailedException(INVALID_EMAIL_REQUEST_MESSAGE, invalidIndex);
+        }
     }
 }
@@ -0,0 +1,60 @@
+package com.kanwise.notification_service.listeners.email.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanwise.notification_service.listeners.retry.IKafkaRetryListener;
+import com.kanwise.notification_service.model.email.EmailLane;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.service.email.IEmailService;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.notification_service.model.email.EmailLane.BULK;
+import static com.kanwise.notification_service.model.email.EmailLane.PRIORITY;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+
+@RequiredArgsConstructor
+@Component
+public class KafkaEmailRetryListener implements IKafkaRetryListener {
+
+    private static final Map<TopicType, String> RETRY_GROUPS = Map.of(
+            NOTIFICATION_EMAIL, "mail_senders_retry",
+            NOTIFICATION_EMAIL_PRIORITY, "mail_senders_priority_retry",
+            NOTIFICATION_EMAIL_BULK, "mail_senders_bulk_retry"
+    );
+    private static final Map<TopicType, EmailLane> LANES = Map.of(
+            NOTIFICATION_EMAIL, STANDARD,
+            NOTIFICATION_EMAIL_PRIORITY, PRIORITY,
+            NOTIFICATION_EMAIL_BULK, BULK
+    );
+
+    private final IEmailService emailService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Map<TopicType, String> getRetryGroups() {
+        return RETRY_GROUPS;
+    }
+
+    @Override
+    public void retry(TopicType topicType, ConsumerRecord<String, byte[]> record) {
+        emailService.sendEmails(List.of(readEmailRequest(record.value())), LANES.get(topicType));
+    }
+
+    private EmailRequest readEmailRequest(byte[] value) {
+        try {
+            return objectMapper.readValue(value, EmailRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.kanwise.notification_service.listeners.retry;
+
+import com.kanwise.notification_service.model.kafka.TopicType;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.Map;
+
+public interface IKafkaRetryListener {
+    Map<TopicType, String> getRetryGroups();
+
+    void retry(TopicType topicType, ConsumerRecord<String, byte[]> record);
+}
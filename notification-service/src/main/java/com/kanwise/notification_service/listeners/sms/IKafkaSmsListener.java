@@ -1,7 +1,10 @@
 package com.kanwise.notification_service.listeners.sms;
 
 import com.kanwise.notification_service.model.sms.SmsRequest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.List;
 
 public interface IKafkaSmsListener<T extends SmsRequest> {
-    void listener(T request);
+    void listener(List<ConsumerRecord<String, T>> records);
 }
@@ -1,24 +1,36 @@
 package com.kanwise.notification_service.listeners.sms.implementation;
 
-import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
 import com.kanwise.notification_service.listeners.sms.IKafkaSmsListener;
 import com.kanwise.notification_service.model.sms.OtpSmsRequest;
-import com.kanwise.notification_service.service.sms.ISmsResponseService;
-import com.kanwise.notification_service.service.sms.ISmsSender;
+import com.kanwise.notification_service.service.sms.ISmsDispatcher;
 import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @RequiredArgsConstructor
 @Component
 public class KafkaSmsListener implements IKafkaSmsListener<OtpSmsRequest> {
 
-    private final ISmsSender<OtpSmsRequest, OtpSmsResponse> otpSmsService;
-    private final ISmsResponseService<OtpSmsResponse> otpSmsResponseService;
+    private static final String INVALID_SMS_REQUEST_MESSAGE = "FAILED TO DESERIALIZE SMS REQUEST";
+
+    private final ISmsDispatcher<OtpSmsRequest> otpSmsDispatcher;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
 
     @Override
     @KafkaListener(topics = "notification-sms", groupId = "sms_senders", containerFactory = "smsFactory")
-    public void listener(OtpSmsRequest request) {
-        otpSmsService.sendSms(request).subscribe(otpSmsResponseService::sendSmsResponse);
+    public void listener(List<ConsumerRecord<String, OtpSmsRequest>> records) {
+        int invalidIndex = records.stream().map(ConsumerRecord::value).toList().indexOf(null);
+        CompletableFuture.allOf((invalidIndex < 0 ? records : records.subList(0, invalidIndex)).stream()
+                .map(record -> otpSmsDispatcher.dispatch(record.value(), exception -> deadLetterPublishingRecoverer.accept(record, exception)))
+                .toArray(CompletableFuture[]::new)).join();
+        if (invalidIndex >= 0) {
+            throw new BatchListenerFailedException(INVALID_SMS_REQUEST_MESSAGE, invalidIndex);
+        }
     }
 }
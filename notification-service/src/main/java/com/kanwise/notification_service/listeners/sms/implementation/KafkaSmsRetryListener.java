@@ -0,0 +1,46 @@
+package com.kanwise.notification_service.listeners.sms.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kanwise.notification_service.listeners.retry.IKafkaRetryListener;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import com.kanwise.notification_service.service.sms.ISmsDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+
+@RequiredArgsConstructor
+@Component
+public class KafkaSmsRetryListener implements IKafkaRetryListener {
+
+    private static final Map<TopicType, String> RETRY_GROUPS = Map.of(NOTIFICATION_SMS, "sms_senders_retry");
+
+    private final ISmsDispatcher<OtpSmsRequest> otpSmsDispatcher;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Map<TopicType, String> getRetryGroups() {
+        return RETRY_GROUPS;
+    }
+
+    @Override
+    public void retry(TopicType topicType, ConsumerRecord<String, byte[]> record) {
+        otpSmsDispatcher.dispatch(readOtpSmsRequest(record.value()), exception -> deadLetterPublishingRecoverer.accept(record, exception)).join();
+    }
+
+    private OtpSmsRequest readOtpSmsRequest(byte[] value) {
+        try {
+            return objectMapper.readValue(value, OtpSmsRequest.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
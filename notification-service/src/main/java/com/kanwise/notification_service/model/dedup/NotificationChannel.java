@@ -0,0 +1,6 @@
+package com.kanwise.notification_service.model.dedup;
+
+public enum NotificationChannel {
+    EMAIL,
+    SMS
+}
@@ -0,0 +1,7 @@
+package com.kanwise.notification_service.model.email;
+
+public enum EmailLane {
+    PRIORITY,
+    STANDARD,
+    BULK
+}
@@ -10,5 +10,6 @@ public enum EmailMessageType {
     PASSWORD_CHANGED,
     USER_INFORMATION_CHANGED,
     PERSONAL_REPORT,
-    PROJECT_REPORT
+    PROJECT_REPORT,
+    DIGEST
 }
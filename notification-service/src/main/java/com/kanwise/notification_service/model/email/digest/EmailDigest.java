@@ -0,0 +1,34 @@
+package com.kanwise.notification_service.model.email.digest;
+
+import com.kanwise.notification_service.model.email.EmailRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public record EmailDigest(
+        String to,
+        Instant openedAt,
+        List<EmailRequest> requests
+) {
+    public static EmailDigest of(EmailRequest emailRequest, Instant openedAt) {
+        return new EmailDigest(emailRequest.getTo(), openedAt, List.of(emailRequest));
+    }
+
+    public EmailDigest merge(EmailDigest other) {
+        List<EmailRequest> merged = new ArrayList<>(requests);
+        other.requests().stream()
+                .filter(request -> request.getMessageId() == null || requests.stream().noneMatch(buffered -> request.getMessageId().equals(buffered.getMessageId())))
+                .forEach(merged::add);
+        return new EmailDigest(to, openedAt, List.copyOf(merged));
+    }
+
+    public EmailDigest without(EmailDigest flushed, Instant openedAt) {
+        return new EmailDigest(to, openedAt, List.copyOf(requests.subList(flushed.requests().size(), requests.size())));
+    }
+
+    public boolean isDue(Instant now, Duration window, int maxEntries) {
+        return requests.size() >= maxEntries || !openedAt.plus(window).isAfter(now);
+    }
+}
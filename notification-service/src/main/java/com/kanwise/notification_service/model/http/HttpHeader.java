@@ -0,0 +1,8 @@
+package com.kanwise.notification_service.model.http;
+
+public @interface HttpHeader {
+    String USERNAME = "username";
+    String ROLE = "role";
+
+    String value();
+}
@@ -0,0 +1,21 @@
+package com.kanwise.notification_service.model.kafka;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+
+@Getter
+@RequiredArgsConstructor
+public enum NotificationLane {
+    PRIORITY_EMAIL(NOTIFICATION_EMAIL_PRIORITY, "mail_senders_priority"),
+    STANDARD_EMAIL(NOTIFICATION_EMAIL, "mail_senders"),
+    BULK_EMAIL(NOTIFICATION_EMAIL_BULK, "mail_senders_bulk"),
+    OTP_SMS(NOTIFICATION_SMS, "sms_senders");
+
+    private final TopicType topicType;
+    private final String groupId;
+}
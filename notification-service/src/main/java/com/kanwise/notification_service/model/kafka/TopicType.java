@@ -2,5 +2,11 @@ package com.kanwise.notification_service.model.kafka;
 
 public enum TopicType {
     NOTIFICATION_EMAIL,
-    NOTIFICATION_SMS
+    NOTIFICATION_SMS,
+    NOTIFICATION_SMS_STATUS,
+    NOTIFICATION_EMAIL_DIGEST,
+    NOTIFICATION_EMAIL_DIGEST_STATE,
+    NOTIFICATION_EMAIL_PRIORITY,
+    NOTIFICATION_EMAIL_BULK,
+    NOTIFICATION_DEDUP
 }
@@ -0,0 +1,8 @@
+package com.kanwise.notification_service.model.retry;
+
+public record DeadLetterReplayResponse(
+        String deadLetterTopic,
+        String targetTopic,
+        int replayed
+) {
+}
@@ -0,0 +1,16 @@
+package com.kanwise.notification_service.model.security;
+
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+
+import static com.kanwise.notification_service.constants.SecurityConstant.ROLE_PREFIX;
+
+public enum UserRole {
+    USER,
+    ADMIN;
+
+    public Set<SimpleGrantedAuthority> getGrantedAuthorities() {
+        return Set.of(new SimpleGrantedAuthority(ROLE_PREFIX + this.name()));
+    }
+}
@@ -0,0 +1,6 @@
+package com.kanwise.notification_service.model.sms;
+
+public enum SmsProviderType {
+    TWILIO,
+    STUB
+}
@@ -14,4 +14,5 @@ import lombok.experimental.SuperBuilder;
 public class SmsRequest {
     private String phoneNumber;
     private String content;
+    private String messageId;
 }
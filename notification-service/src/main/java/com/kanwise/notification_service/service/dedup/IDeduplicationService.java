@@ -0,0 +1,13 @@
+package com.kanwise.notification_service.service.dedup;
+
+import com.kanwise.notification_service.model.dedup.NotificationChannel;
+
+public interface IDeduplicationService {
+    boolean tryAcquire(NotificationChannel channel, String messageId);
+
+    void markDelivered(String messageId);
+
+    void release(String messageId);
+
+    void restore();
+}
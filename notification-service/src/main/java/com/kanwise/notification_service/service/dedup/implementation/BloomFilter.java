@@ -0,0 +1,73 @@
+package com.kanwise.notification_service.service.dedup.implementation;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import static java.lang.Math.toIntExact;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+final class BloomFilter {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long SECOND_HASH_SEED = 0x9e3779b97f4a7c15L;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private int insertions;
+
+    BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        long optimalBits = (long) ceil(-expectedInsertions * log(falsePositiveProbability) / (log(2) * log(2)));
+        this.words = new long[toIntExact((optimalBits + Long.SIZE - 1) / Long.SIZE)];
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashFunctions = max(1, (int) round((double) optimalBits / expectedInsertions * log(2)));
+    }
+
+    boolean mightContain(String value) {
+        long hash = fnv1a(value);
+        long first = mix(hash);
+        long second = mix(hash ^ SECOND_HASH_SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void put(String value) {
+        long hash = fnv1a(value);
+        long first = mix(hash);
+        long second = mix(hash ^ SECOND_HASH_SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Long.remainderUnsigned(first + i * second, bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        insertions++;
+    }
+
+    int getInsertions() {
+        return insertions;
+    }
+
+    private static long fnv1a(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
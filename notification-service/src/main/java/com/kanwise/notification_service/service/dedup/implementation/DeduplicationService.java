@@ -0,0 +1,195 @@
+package com.kanwise.notification_service.service.dedup.implementation;
+
+import com.kanwise.notification_service.configuration.dedup.DeduplicationConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.model.dedup.NotificationChannel;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_DEDUP;
+import static java.util.Comparator.naturalOrder;
+import static java.util.function.BinaryOperator.maxBy;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+
+@Slf4j
+@Service
+public class DeduplicationService implements IDeduplicationService {
+
+    private static final String RESTORE_GROUP_ID = "notification_dedup_restore";
+    private static final Duration RESTORE_POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final String SUPPRESSED_METRIC = "kanwise.notification.duplicates.suppressed";
+    private static final String CHANNEL_TAG = "channel";
+    private static final byte[] EMPTY_VALUE = new byte[0];
+
+    private final DeduplicationConfigurationProperties deduplicationConfigurationProperties;
+    private final KafkaTemplate<String, byte[]> kafkaRetryTemplate;
+    private final ConsumerFactory<String, byte[]> consumerRetryFactory;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final String dedupTopic;
+    private final Set<String> inFlight = new HashSet<>();
+    private final Map<String, Instant> delivered = new HashMap<>();
+    private final Map<Integer, Long> restoredOffsets = new HashMap<>();
+    private BloomFilter current;
+    private BloomFilter previous;
+    private Instant rotatedAt;
+
+    @Autowired
+    public DeduplicationService(DeduplicationConfigurationProperties deduplicationConfigurationProperties, KafkaConfigurationProperties kafkaConfigurationProperties, KafkaTemplate<String, byte[]> kafkaRetryTemplate, ConsumerFactory<String, byte[]> consumerRetryFactory, MeterRegistry meterRegistry) {
+        this(deduplicationConfigurationProperties, kafkaConfigurationProperties, kafkaRetryTemplate, consumerRetryFactory, meterRegistry, Clock.systemUTC());
+    }
+
+    DeduplicationService(DeduplicationConfigurationProperties deduplicationConfigurationProperties, KafkaConfigurationProperties kafkaConfigurationProperties, KafkaTemplate<String, byte[]> kafkaRetryTemplate, ConsumerFactory<String, byte[]> consumerRetryFactory, MeterRegistry meterRegistry, Clock clock) {
+        this.deduplicationConfigurationProperties = deduplicationConfigurationProperties;
+        this.kafkaRetryTemplate = kafkaRetryTemplate;
+        this.consumerRetryFactory = consumerRetryFactory;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.dedupTopic = kafkaConfigurationProperties.getTopicName(NOTIFICATION_DEDUP);
+        this.current = newFilter();
+        this.previous = newFilter();
+        this.rotatedAt = clock.instant();
+    }
+
+    @Override
+    public void restore() {
+        if (!deduplicationConfigurationProperties.enabled()) {
+            return;
+        }
+        synchronized (restoredOffsets) {
+            Properties properties = new Properties();
+            properties.put(ENABLE_AUTO_COMMIT_CONFIG, false);
+            try (Consumer<String, byte[]> consumer = consumerRetryFactory.createConsumer(RESTORE_GROUP_ID, null, null, properties)) {
+                List<TopicPartition> topicPartitions = Optional.ofNullable(consumer.partitionsFor(dedupTopic)).orElse(List.of()).stream()
+                        .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                        .toList();
+                consumer.assign(topicPartitions);
+                topicPartitions.forEach(topicPartition -> seekToRestoredOffset(consumer, topicPartition));
+                Map<TopicPartition, Long> endOffsets = consumer.endOffsets(topicPartitions);
+                long windowStart = clock.instant().minus(deduplicationConfigurationProperties.window()).toEpochMilli();
+                Instant deadline = clock.instant().plus(deduplicationConfigurationProperties.restoreTimeout());
+                int restored = 0;
+                List<TopicPartition> pending = getPendingPartitions(consumer, topicPartitions, endOffsets);
+                while (!pending.isEmpty() && clock.instant().isBefore(deadline)) {
+                    for (ConsumerRecord<String, byte[]> record : consumer.poll(RESTORE_POLL_TIMEOUT)) {
+                        if (record.offset() < endOffsets.get(new TopicPartition(record.topic(), record.partition()))
+                                && record.key() != null && record.timestamp() >= windowStart) {
+                            remember(record.key(), Instant.ofEpochMilli(record.timestamp()));
+                            restored++;
+                        }
+                    }
+                    pending = getPendingPartitions(consumer, topicPartitions, endOffsets);
+                }
+                if (!pending.isEmpty()) {
+                    log.warn("Deduplication restore of {} did not reach end offsets within {}", pending, deduplicationConfigurationProperties.restoreTimeout());
+                }
+                topicPartitions.forEach(topicPartition -> restoredOffsets.put(topicPartition.partition(), Math.min(consumer.position(topicPartition), endOffsets.get(topicPartition))));
+                log.info("Restored {} delivered message ids from {}", restored, dedupTopic);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAcquire(NotificationChannel channel, String messageId) {
+        if (!deduplicationConfigurationProperties.enabled() || messageId == null) {
+            return true;
+        }
+        boolean acquired;
+        synchronized (this) {
+            rotateIfDue();
+            acquired = !isDelivered(messageId) && inFlight.add(messageId);
+        }
+        if (!acquired) {
+            meterRegistry.counter(SUPPRESSED_METRIC, CHANNEL_TAG, channel.name().toLowerCase()).increment();
+        }
+        return acquired;
+    }
+
+    @Override
+    public void markDelivered(String messageId) {
+        if (!deduplicationConfigurationProperties.enabled() || messageId == null) {
+            return;
+        }
+        synchronized (this) {
+            inFlight.remove(messageId);
+            remember(messageId, clock.instant());
+        }
+        kafkaRetryTemplate.send(dedupTopic, messageId, EMPTY_VALUE)
+                .completable()
+                .exceptionally(throwable -> {
+                    log.warn("Failed to persist delivered message id {}", messageId, throwable);
+                    return null;
+                });
+    }
+
+    @Override
+    public synchronized void release(String messageId) {
+        if (messageId != null) {
+            inFlight.remove(messageId);
+        }
+    }
+
+    private synchronized void remember(String messageId, Instant deliveredAt) {
+        rotateIfDue();
+        current.put(messageId);
+        delivered.merge(messageId, deliveredAt, maxBy(naturalOrder()));
+    }
+
+    private boolean isDelivered(String messageId) {
+        if (!current.mightContain(messageId) && !previous.mightContain(messageId)) {
+            return false;
+        }
+        Instant deliveredAt = delivered.get(messageId);
+        return deliveredAt != null && deliveredAt.isAfter(clock.instant().minus(deduplicationConfigurationProperties.getRetention()));
+    }
+
+    private void rotateIfDue() {
+        Instant now = clock.instant();
+        if (!now.isBefore(rotatedAt.plus(deduplicationConfigurationProperties.window()))
+                || current.getInsertions() >= deduplicationConfigurationProperties.expectedInsertions()) {
+            previous = current;
+            current = newFilter();
+            rotatedAt = now;
+            Instant retainedFrom = now.minus(deduplicationConfigurationProperties.getRetention());
+            delivered.values().removeIf(deliveredAt -> !deliveredAt.isAfter(retainedFrom));
+        }
+    }
+
+    private void seekToRestoredOffset(Consumer<String, byte[]> consumer, TopicPartition topicPartition) {
+        Long restoredOffset = restoredOffsets.get(topicPartition.partition());
+        if (restoredOffset == null) {
+            consumer.seekToBeginning(List.of(topicPartition));
+        } else {
+            consumer.seek(topicPartition, restoredOffset);
+        }
+    }
+
+    private List<TopicPartition> getPendingPartitions(Consumer<String, byte[]> consumer, List<TopicPartition> topicPartitions, Map<TopicPartition, Long> endOffsets) {
+        return topicPartitions.stream()
+                .filter(topicPartition -> consumer.position(topicPartition) < endOffsets.get(topicPartition))
+                .toList();
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(deduplicationConfigurationProperties.expectedInsertions(), deduplicationConfigurationProperties.falsePositiveProbability());
+    }
+}
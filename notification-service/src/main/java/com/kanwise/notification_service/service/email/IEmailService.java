@@ -1,7 +1,14 @@
 package com.kanwise.notification_service.service.email;
 
+import com.kanwise.notification_service.model.email.EmailLane;
 import com.kanwise.notification_service.model.email.EmailRequest;
 
+import java.util.List;
+
 public interface IEmailService {
     void sendEmail(EmailRequest emailRequest);
+
+    void sendEmails(List<EmailRequest> emailRequests);
+
+    void sendEmails(List<EmailRequest> emailRequests, EmailLane emailLane);
 }
@@ -0,0 +1,23 @@
+package com.kanwise.notification_service.service.email.digest;
+
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface IEmailDigestService {
+    boolean isDigestible(EmailRequest emailRequest);
+
+    CompletableFuture<Void> enqueue(EmailRequest emailRequest);
+
+    void buffer(List<ConsumerRecord<String, EmailDigest>> records);
+
+    void restore(Collection<Integer> partitions);
+
+    void release(Collection<Integer> partitions);
+
+    void flushDueDigests();
+}
@@ -0,0 +1,284 @@
+package com.kanwise.notification_service.service.email.digest.implementation;
+
+import com.kanwise.notification_service.configuration.email.EmailDigestConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import com.kanwise.notification_service.service.email.digest.IEmailDigestService;
+import com.kanwise.notification_service.service.email.sender.IEmailSender;
+import com.kanwise.notification_service.service.retry.IRetryTopicResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST_STATE;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+
+@Slf4j
+@Service
+public class EmailDigestService implements IEmailDigestService {
+
+    private static final String RESTORE_GROUP_ID = "notification_email_digest_restore";
+    private static final Duration RESTORE_POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final String ENTRIES_VARIABLE = "entries";
+    private static final String FIRST_NAME_VARIABLE = "firstName";
+    private static final String SUBJECT_VARIABLE = "subject";
+    private static final String TYPE_VARIABLE = "type";
+
+    private final EmailDigestConfigurationProperties emailDigestConfigurationProperties;
+    private final KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate;
+    private final KafkaTemplate<String, Object> kafkaRetryJsonTemplate;
+    private final ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory;
+    private final IEmailSender emailSender;
+    private final IDeduplicationService deduplicationService;
+    private final ModelMapper modelMapper;
+    private final Clock clock;
+    private final String digestTopic;
+    private final String stateTopic;
+    private final String deadLetterTopic;
+    private final Map<String, BufferedDigest> digests = new ConcurrentHashMap<>();
+    private ScheduledExecutorService flushScheduler;
+
+    @Autowired
+    public EmailDigestService(EmailDigestConfigurationProperties emailDigestConfigurationProperties, KafkaConfigurationProperties kafkaConfigurationProperties, IRetryTopicResolver retryTopicResolver, KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate, KafkaTemplate<String, Object> kafkaRetryJsonTemplate, ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory, IEmailSender emailSender, IDeduplicationService deduplicationService, ModelMapper modelMapper) {
+        this(emailDigestConfigurationProperties, kafkaConfigurationProperties, retryTopicResolver, kafkaEmailDigestTemplate, kafkaRetryJsonTemplate, consumerEmailDigestFactory, emailSender, deduplicationService, modelMapper, Clock.systemUTC());
+    }
+
+    EmailDigestService(EmailDigestConfigurationProperties emailDigestConfigurationProperties, KafkaConfigurationProperties kafkaConfigurationProperties, IRetryTopicResolver retryTopicResolver, KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate, KafkaTemplate<String, Object> kafkaRetryJsonTemplate, ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory, IEmailSender emailSender, IDeduplicationService deduplicationService, ModelMapper modelMapper, Clock clock) {
+        this.emailDigestConfigurationProperties = emailDigestConfigurationProperties;
+        this.kafkaEmailDigestTemplate = kafkaEmailDigestTemplate;
+        this.kafkaRetryJsonTemplate = kafkaRetryJsonTemplate;
+        this.consumerEmailDigestFactory = consumerEmailDigestFactory;
+        this.emailSender = emailSender;
+        this.deduplicationService = deduplicationService;
+        this.modelMapper = modelMapper;
+        this.clock = clock;
+        this.digestTopic = kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST);
+        this.stateTopic = kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST_STATE);
+        this.deadLetterTopic = retryTopicResolver.getDeadLetterTopic(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL));
+    }
+
+    @PostConstruct
+    public void startFlushing() {
+        if (emailDigestConfigurationProperties.enabled()) {
+            long flushInterval = emailDigestConfigurationProperties.flushInterval().toMillis();
+            flushScheduler = newSingleThreadScheduledExecutor(new CustomizableThreadFactory("email-digest-"));
+            flushScheduler.scheduleWithFixedDelay(this::flushDueDigests, flushInterval, flushInterval, MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isDigestible(EmailRequest emailRequest) {
+        return emailDigestConfigurationProperties.isDigestible(emailRequest.getType());
+    }
+
+    @Override
+    public CompletableFuture<Void> enqueue(EmailRequest emailRequest) {
+        return kafkaEmailDigestTemplate.send(digestTopic, emailRequest.getTo(), EmailDigest.of(emailRequest, clock.instant()))
+                .completable()
+                .thenAccept(result -> {
+                });
+    }
+
+    @Override
+    public void buffer(List<ConsumerRecord<String, EmailDigest>> records) {
+        List<CompletableFuture<?>> stateWrites = new ArrayList<>();
+        records.stream()
+                .filter(record -> record.value() != null)
+                .forEach(record -> digests.compute(record.value().to(), (recipient, buffered) -> {
+                    BufferedDigest updated = buffered == null
+                            ? new BufferedDigest(record.partition(), record.value(), 0)
+                            : buffered.merge(record.value());
+                    stateWrites.add(writeState(recipient, updated));
+                    return updated;
+                }));
+        CompletableFuture.allOf(stateWrites.toArray(CompletableFuture[]::new)).join();
+    }
+
+    @Override
+    public void restore(Collection<Integer> partitions) {
+        if (partitions.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        properties.put(ENABLE_AUTO_COMMIT_CONFIG, false);
+        try (Consumer<String, EmailDigest> consumer = consumerEmailDigestFactory.createConsumer(RESTORE_GROUP_ID, null, null, properties)) {
+            List<TopicPartition> topicPartitions = partitions.stream()
+                    .map(partition -> new TopicPartition(stateTopic, partition))
+                    .toList();
+            consumer.assign(topicPartitions);
+            consumer.seekToBeginning(topicPartitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(topicPartitions);
+            Map<String, BufferedDigest> restored = new HashMap<>();
+            Instant deadline = clock.instant().plus(emailDigestConfigurationProperties.restoreTimeout());
+            List<TopicPartition> pending = getPendingPartitions(consumer, topicPartitions, endOffsets);
+            while (!pending.isEmpty() && clock.instant().isBefore(deadline)) {
+                consumer.poll(RESTORE_POLL_TIMEOUT).forEach(record -> {
+                    if (record.offset() >= endOffsets.get(new TopicPartition(record.topic(), record.partition()))) {
+                        return;
+                    }
+                    if (record.value() == null) {
+                        restored.remove(record.key());
+                    } else {
+                        restored.put(record.key(), new BufferedDigest(record.partition(), record.value(), 0));
+                    }
+                });
+                pending = getPendingPartitions(consumer, topicPartitions, endOffsets);
+            }
+            if (!pending.isEmpty()) {
+                log.warn("Email digest restore of {} did not reach end offsets within {}", pending, emailDigestConfigurationProperties.restoreTimeout());
+            }
+            restored.forEach(digests::putIfAbsent);
+            log.info("Restored {} email digests from partitions {}", restored.size(), partitions);
+        }
+    }
+
+    @Override
+    public void release(Collection<Integer> partitions) {
+        digests.values().removeIf(buffered -> partitions.contains(buffered.partition()));
+    }
+
+    @Override
+    public void flushDueDigests() {
+        Instant now = clock.instant();
+        digests.forEach((recipient, buffered) -> {
+            if (buffered.digest().isDue(now, emailDigestConfigurationProperties.window(), emailDigestConfigurationProperties.maxEntries())) {
+                flush(recipient, buffered);
+            }
+        });
+    }
+
+    int getBufferedCount(String recipient) {
+        BufferedDigest buffered = digests.get(recipient);
+        return buffered == null ? 0 : buffered.digest().requests().size();
+    }
+
+    private void flush(String recipient, BufferedDigest buffered) {
+        try {
+            emailSender.send(toEmail(buffered.digest()));
+        } catch (RuntimeException e) {
+            log.error("Failed to send email digest to {}", recipient, e);
+            registerFailedFlush(recipient);
+            return;
+        }
+        buffered.digest().requests().forEach(request -> deduplicationService.markDelivered(request.getMessageId()));
+        digests.computeIfPresent(recipient, (key, current) -> {
+            if (current == buffered) {
+                kafkaEmailDigestTemplate.send(new ProducerRecord<>(stateTopic, current.partition(), key, null));
+                return null;
+            }
+            BufferedDigest remaining = new BufferedDigest(current.partition(), current.digest().without(buffered.digest(), clock.instant()), 0);
+            writeState(key, remaining);
+            return remaining;
+        });
+    }
+
+    private void registerFailedFlush(String recipient) {
+        digests.computeIfPresent(recipient, (key, current) -> {
+            int failedAttempts = current.failedAttempts() + 1;
+            if (failedAttempts < emailDigestConfigurationProperties.maxFlushAttempts()) {
+                return current.withFailedAttempts(failedAttempts);
+            }
+            log.error("Dead-lettering email digest to {} after {} failed attempts", key, failedAttempts);
+            current.digest().requests().forEach(request -> {
+                deduplicationService.release(request.getMessageId());
+                kafkaRetryJsonTemplate.send(deadLetterTopic, key, request);
+            });
+            kafkaEmailDigestTemplate.send(new ProducerRecord<>(stateTopic, current.partition(), key, null));
+            return null;
+        });
+    }
+
+    private List<TopicPartition> getPendingPartitions(Consumer<String, EmailDigest> consumer, List<TopicPartition> topicPartitions, Map<TopicPartition, Long> endOffsets) {
+        return topicPartitions.stream()
+                .filter(topicPartition -> consumer.position(topicPartition) < endOffsets.get(topicPartition))
+                .toList();
+    }
+
+    private CompletableFuture<?> writeState(String recipient, BufferedDigest buffered) {
+        return kafkaEmailDigestTemplate.send(new ProducerRecord<>(stateTopic, buffered.partition(), recipient, buffered.digest())).completable();
+    }
+
+    private Email toEmail(EmailDigest digest) {
+        if (digest.requests().size() == 1) {
+            return modelMapper.map(digest.requests().get(0), Email.class);
+        }
+        EmailRequest digestRequest = EmailRequest.builder()
+                .to(digest.to())
+                .subject(emailDigestConfigurationProperties.subject())
+                .type(DIGEST)
+                .data(getDigestData(digest))
+                .isHtml(true)
+                .build();
+        return modelMapper.map(digestRequest, Email.class);
+    }
+
+    private Map<String, Object> getDigestData(EmailDigest digest) {
+        List<Map<String, Object>> entries = digest.requests().stream()
+                .map(request -> {
+                    Map<String, Object> entry = request.getData() == null ? new HashMap<>() : new HashMap<>(request.getData());
+                    entry.put(SUBJECT_VARIABLE, request.getSubject());
+                    entry.put(TYPE_VARIABLE, request.getType());
+                    return entry;
+                })
+                .toList();
+        Map<String, Object> data = new HashMap<>();
+        data.put(ENTRIES_VARIABLE, entries);
+        data.put(FIRST_NAME_VARIABLE, digest.requests().stream()
+                .map(EmailRequest::getData)
+                .filter(Objects::nonNull)
+                .map(requestData -> requestData.get(FIRST_NAME_VARIABLE))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null));
+        return data;
+    }
+
+    private record BufferedDigest(int partition, EmailDigest digest, int failedAttempts) {
+        BufferedDigest merge(EmailDigest other) {
+            return new BufferedDigest(partition, digest.merge(other), failedAttempts);
+        }
+
+        BufferedDigest withFailedAttempts(int failedAttempts) {
+            return new BufferedDigest(partition, digest, failedAttempts);
+        }
+    }
+}
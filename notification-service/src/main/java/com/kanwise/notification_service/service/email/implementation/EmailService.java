@@ -1,22 +1,104 @@
 package com.kanwise.notification_service.service.email.implementation;
 
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties;
+import com.kanwise.notification_service.error.EmailBatchSenderException;
 import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailLane;
 import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
 import com.kanwise.notification_service.service.email.IEmailService;
+import com.kanwise.notification_service.service.email.digest.IEmailDigestService;
 import com.kanwise.notification_service.service.email.sender.IEmailSender;
-import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.EMAIL;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 @Service
 public class EmailService implements IEmailService {
     private final IEmailSender emailSender;
     private final ModelMapper modelMapper;
+    private final IEmailDigestService emailDigestService;
+    private final IDeduplicationService deduplicationService;
+    private final Map<EmailLane, ExecutorService> renderExecutors = new EnumMap<>(EmailLane.class);
+
+    public EmailService(IEmailSender emailSender, ModelMapper modelMapper, IEmailDigestService emailDigestService, IDeduplicationService deduplicationService, EmailDeliveryConfigurationProperties emailDeliveryConfigurationProperties, EmailLaneConfigurationProperties emailLaneConfigurationProperties) {
+        this.emailSender = emailSender;
+        this.modelMapper = modelMapper;
+        this.emailDigestService = emailDigestService;
+        this.deduplicationService = deduplicationService;
+        for (EmailLane emailLane : EmailLane.values()) {
+            int renderThreads = emailLaneConfigurationProperties.getRenderThreads(emailLane, emailDeliveryConfigurationProperties.renderThreads());
+            renderExecutors.put(emailLane, newFixedThreadPool(renderThreads, new CustomizableThreadFactory("email-delivery-%s-".formatted(emailLane.name().toLowerCase()))));
+        }
+    }
 
     @Override
     public void sendEmail(EmailRequest emailRequest) {
+        sendEmail(emailRequest, STANDARD);
+    }
+
+    @Override
+    public void sendEmails(List<EmailRequest> emailRequests) {
+        sendEmails(emailRequests, STANDARD);
+    }
+
+    @Override
+    public void sendEmails(List<EmailRequest> emailRequests, EmailLane emailLane) {
+        List<CompletableFuture<Void>> deliveries = emailRequests.stream()
+                .map(emailRequest -> deduplicationService.tryAcquire(EMAIL, emailRequest.getMessageId())
+                        ? deliver(emailRequest, emailLane)
+                        : CompletableFuture.<Void>completedFuture(null))
+                .toList();
+        allOf(deliveries.toArray(CompletableFuture[]::new)).exceptionally(throwable -> null).join();
+        for (int i = 0; i < deliveries.size(); i++) {
+            try {
+                deliveries.get(i).join();
+            } catch (CompletionException e) {
+                throw new EmailBatchSenderException(i, e.getCause());
+            }
+        }
+    }
+
+    private CompletableFuture<Void> deliver(EmailRequest emailRequest, EmailLane emailLane) {
+        if (emailDigestService.isDigestible(emailRequest)) {
+            return emailDigestService.enqueue(emailRequest)
+                    .whenComplete((result, throwable) -> deduplicationService.release(emailRequest.getMessageId()));
+        }
+        return track(emailRequest.getMessageId(), runAsync(() -> sendEmail(emailRequest, emailLane), renderExecutors.get(emailLane)));
+    }
+
+    private void sendEmail(EmailRequest emailRequest, EmailLane emailLane) {
         Email email = modelMapper.map(emailRequest, Email.class);
-        emailSender.send(email);
+        emailSender.send(email, emailLane);
+    }
+
+    private CompletableFuture<Void> track(String messageId, CompletableFuture<Void> delivery) {
+        return delivery.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                deduplicationService.markDelivered(messageId);
+            } else {
+                deduplicationService.release(messageId);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutors.values().forEach(ExecutorService::shutdownNow);
     }
 }
@@ -1,7 +1,10 @@
 package com.kanwise.notification_service.service.email.sender;
 
 import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailLane;
 
 public interface IEmailSender {
     void send(Email email);
+
+    void send(Email email, EmailLane emailLane);
 }
@@ -0,0 +1,10 @@
+package com.kanwise.notification_service.service.email.sender;
+
+import com.kanwise.notification_service.model.email.EmailLane;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+
+public interface ISmtpTransportPool {
+    void send(MimeMessage mimeMessage, EmailLane emailLane) throws MessagingException;
+}
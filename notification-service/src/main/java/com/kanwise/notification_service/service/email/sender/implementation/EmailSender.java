@@ -2,15 +2,17 @@ package com.kanwise.notification_service.service.email.sender.implementation;
 
 import com.kanwise.notification_service.error.EmailSenderException;
 import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailLane;
 import com.kanwise.notification_service.service.email.sender.IEmailSender;
+import com.kanwise.notification_service.service.email.sender.ISmtpTransportPool;
 import lombok.RequiredArgsConstructor;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import javax.mail.internet.MimeMessage;
 
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
 import static org.apache.commons.codec.CharEncoding.UTF_8;
 
 
@@ -19,17 +21,22 @@ import static org.apache.commons.codec.CharEncoding.UTF_8;
 public class EmailSender implements IEmailSender {
 
     private final JavaMailSender mailSender;
+    private final ISmtpTransportPool smtpTransportPool;
 
-    @Async
     @Override
     public void send(Email email) {
+        send(email, STANDARD);
+    }
+
+    @Override
+    public void send(Email email, EmailLane emailLane) {
         try {
             MimeMessage mimeMessage = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, UTF_8);
             helper.setText(email.content(), email.isHtml());
             helper.setTo(email.to());
             helper.setSubject(email.subject());
-            mailSender.send(mimeMessage);
+            smtpTransportPool.send(mimeMessage, emailLane);
         } catch (Exception exception) {
             throw new EmailSenderException(exception.getMessage());
         }
@@ -0,0 +1,125 @@
+package com.kanwise.notification_service.service.email.sender.implementation;
+
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties;
+import com.kanwise.notification_service.model.email.EmailLane;
+import com.kanwise.notification_service.service.email.sender.ISmtpTransportPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static java.util.Optional.ofNullable;
+
+@Slf4j
+@Service
+public class SmtpTransportPool implements ISmtpTransportPool {
+
+    private static final String DEFAULT_PROTOCOL = "smtp";
+
+    private final JavaMailSenderImpl mailSender;
+    private final int maxMessagesPerTransport;
+    private final Map<EmailLane, BlockingQueue<PooledTransport>> transports = new EnumMap<>(EmailLane.class);
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, EmailDeliveryConfigurationProperties emailDeliveryConfigurationProperties, EmailLaneConfigurationProperties emailLaneConfigurationProperties) {
+        this.mailSender = mailSender;
+        this.maxMessagesPerTransport = emailDeliveryConfigurationProperties.maxMessagesPerTransport();
+        for (EmailLane emailLane : EmailLane.values()) {
+            int transportPoolSize = emailLaneConfigurationProperties.getTransportPoolSize(emailLane, emailDeliveryConfigurationProperties.transportPoolSize());
+            BlockingQueue<PooledTransport> laneTransports = new ArrayBlockingQueue<>(transportPoolSize);
+            for (int i = 0; i < transportPoolSize; i++) {
+                laneTransports.add(new PooledTransport());
+            }
+            transports.put(emailLane, laneTransports);
+        }
+    }
+
+    @Override
+    public void send(MimeMessage mimeMessage, EmailLane emailLane) throws MessagingException {
+        BlockingQueue<PooledTransport> laneTransports = transports.get(emailLane);
+        PooledTransport transport = borrow(laneTransports);
+        try {
+            sendWithReconnect(transport, mimeMessage);
+        } finally {
+            laneTransports.add(transport);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transports.values().forEach(laneTransports -> laneTransports.forEach(PooledTransport::close));
+    }
+
+    private PooledTransport borrow(BlockingQueue<PooledTransport> transports) throws MessagingException {
+        try {
+            return transports.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for SMTP transport", e);
+        }
+    }
+
+    private void sendWithReconnect(PooledTransport transport, MimeMessage mimeMessage) throws MessagingException {
+        try {
+            transport.send(mimeMessage);
+        } catch (SendFailedException e) {
+            throw e;
+        } catch (MessagingException e) {
+            log.warn("SMTP transport failed, reconnecting", e);
+            transport.close();
+            transport.send(mimeMessage);
+        }
+    }
+
+    private final class PooledTransport {
+
+        private Transport transport;
+        private int sentMessages;
+
+        private void send(MimeMessage mimeMessage) throws MessagingException {
+            if (transport == null || sentMessages >= maxMessagesPerTransport) {
+                close();
+                connect();
+            }
+            prepare(mimeMessage);
+            transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+            sentMessages++;
+        }
+
+        private void connect() throws MessagingException {
+            Transport newTransport = mailSender.getSession().getTransport(ofNullable(mailSender.getProtocol()).orElse(DEFAULT_PROTOCOL));
+            newTransport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            transport = newTransport;
+            sentMessages = 0;
+        }
+
+        private void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("Failed to close SMTP transport", e);
+            }
+            transport = null;
+        }
+
+        private void prepare(MimeMessage mimeMessage) throws MessagingException {
+            if (mimeMessage.getSentDate() == null) {
+                mimeMessage.setSentDate(new Date());
+            }
+            mimeMessage.saveChanges();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kanwise.notification_service.service.email.template.implementation;
+
+import com.kanwise.notification_service.model.email.EmailMessageType;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.Map;
+
+@UtilityClass
+class EmailTemplateSamples {
+
+    private static final String FIRST_NAME = "Jan";
+    private static final String URL = "https://kanwise.com";
+    private static final List<Integer> DATE = List.of(2022, 12, 1, 10, 0);
+
+    static Map<String, Object> getSample(EmailMessageType emailMessageType) {
+        return switch (emailMessageType) {
+            case ACCOUNT_CREATED -> Map.of("firstName", FIRST_NAME, "password", "sample-password");
+            case ACCOUNT_BLOCKED -> Map.of("contactAdministratorUrl", URL);
+            case PROJECT_JOIN_REQUEST_REJECTED, PROJECT_JOIN_REQUEST_ACCEPTED -> Map.of("firstName", FIRST_NAME, "projectTitle", "Kanwise");
+            case NEW_TASK_ASSIGNED -> Map.of("firstName", FIRST_NAME, "projectTitle", "Kanwise", "taskTitle", "Release", "taskType", "TODO", "estimatedTime", 3600L, "assignedAt", DATE);
+            case PASSWORD_RESET -> Map.of("firstName", FIRST_NAME, "resetPasswordUrl", URL);
+            case PASSWORD_CHANGED -> Map.of("firstName", FIRST_NAME, "contactAdministratorUrl", URL);
+            case USER_INFORMATION_CHANGED -> Map.of("firstName", FIRST_NAME);
+            case PERSONAL_REPORT -> Map.of("firstName", FIRST_NAME, "href", URL, "reportType", "WEEKLY", "reportStartDate", DATE, "reportEndDate", DATE);
+            case PROJECT_REPORT -> Map.of("firstName", FIRST_NAME, "href", URL, "projectTitle", "Kanwise", "reportType", "WEEKLY", "reportStartDate", DATE, "reportEndDate", DATE);
+            case DIGEST -> Map.of("firstName", FIRST_NAME, "entries", List.of(
+                    Map.of("subject", "New task assigned", "type", EmailMessageType.NEW_TASK_ASSIGNED, "projectTitle", "Kanwise", "taskTitle", "Release", "taskType", "TODO", "estimatedTime", 3600L, "assignedAt", DATE),
+                    Map.of("subject", "Project join request accepted", "type", EmailMessageType.PROJECT_JOIN_REQUEST_ACCEPTED, "projectTitle", "Kanwise")
+            ));
+        };
+    }
+}
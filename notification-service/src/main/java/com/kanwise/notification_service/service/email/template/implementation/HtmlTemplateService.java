@@ -3,25 +3,91 @@ package com.kanwise.notification_service.service.email.template.implementation;
 import com.kanwise.notification_service.configuration.email.EmailTemplateNamesConfigurationProperties;
 import com.kanwise.notification_service.model.email.EmailMessageType;
 import com.kanwise.notification_service.service.email.template.IHtmlTemplateService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateEngineException;
 
+import javax.annotation.PostConstruct;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
-@RequiredArgsConstructor
+import static java.util.Collections.synchronizedMap;
+
+@Slf4j
 @Service
 public class HtmlTemplateService implements IHtmlTemplateService {
 
     private final EmailTemplateNamesConfigurationProperties emailTemplateConfigurationProperties;
     private final TemplateEngine templateEngine;
+    private final ThreadLocal<Context> contexts = ThreadLocal.withInitial(Context::new);
+    private final Map<RenderKey, String> renderCache;
+
+    public HtmlTemplateService(EmailTemplateNamesConfigurationProperties emailTemplateConfigurationProperties, TemplateEngine templateEngine) {
+        this.emailTemplateConfigurationProperties = emailTemplateConfigurationProperties;
+        this.templateEngine = templateEngine;
+        this.renderCache = createRenderCache(emailTemplateConfigurationProperties.renderCacheSize());
+    }
+
+    @PostConstruct
+    public void preloadTemplates() {
+        for (EmailMessageType emailMessageType : EmailMessageType.values()) {
+            String templateName = emailTemplateConfigurationProperties.getTemplateName(emailMessageType);
+            Context context = new Context();
+            context.setVariables(EmailTemplateSamples.getSample(emailMessageType));
+            try {
+                templateEngine.process(templateName, context, Writer.nullWriter());
+            } catch (TemplateEngineException e) {
+                throw new IllegalStateException("FAILED TO RENDER EMAIL TEMPLATE " + templateName, e);
+            }
+        }
+        log.info("Preloaded email templates {}", emailTemplateConfigurationProperties.names().values());
+    }
 
     @Override
     public String generateHtmlTemplate(Map<String, Object> valuesMap, EmailMessageType emailMessageType) {
-        String templateName = emailTemplateConfigurationProperties.names().get(emailMessageType);
-        Context context = new Context();
+        if (renderCache == null || !emailTemplateConfigurationProperties.isCacheable(emailMessageType)) {
+            return render(valuesMap, emailMessageType);
+        }
+        RenderKey renderKey = new RenderKey(emailMessageType, new HashMap<>(valuesMap));
+        String cached = renderCache.get(renderKey);
+        if (cached != null) {
+            return cached;
+        }
+        String html = render(valuesMap, emailMessageType);
+        renderCache.put(renderKey, html);
+        return html;
+    }
+
+    int getRenderCacheSize() {
+        return renderCache == null ? 0 : renderCache.size();
+    }
+
+    private String render(Map<String, Object> valuesMap, EmailMessageType emailMessageType) {
+        Context context = contexts.get();
         context.setVariables(valuesMap);
-        return templateEngine.process(templateName, context);
+        try {
+            return templateEngine.process(emailTemplateConfigurationProperties.getTemplateName(emailMessageType), context);
+        } finally {
+            context.clearVariables();
+        }
+    }
+
+    private Map<RenderKey, String> createRenderCache(int maximumSize) {
+        if (maximumSize == 0) {
+            return null;
+        }
+        return synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<RenderKey, String> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+
+    private record RenderKey(EmailMessageType emailMessageType, Map<String, Object> valuesMap) {
     }
 }
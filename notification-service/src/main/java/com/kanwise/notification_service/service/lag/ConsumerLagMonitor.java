@@ -0,0 +1,119 @@
+package com.kanwise.notification_service.service.lag;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.lag.ConsumerLagConfigurationProperties;
+import com.kanwise.notification_service.model.kafka.NotificationLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.Math.max;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.apache.kafka.clients.admin.AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG;
+
+@Slf4j
+@Service
+public class ConsumerLagMonitor implements IConsumerLagMonitor {
+
+    private static final String LAG_METRIC = "kanwise.notification.consumer.lag";
+    private static final String LANE_TAG = "lane";
+
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final ConsumerLagConfigurationProperties consumerLagConfigurationProperties;
+    private final Admin admin;
+    private final Map<NotificationLane, AtomicLong> lags = new EnumMap<>(NotificationLane.class);
+    private ScheduledExecutorService refreshScheduler;
+
+    @Autowired
+    public ConsumerLagMonitor(KafkaConfigurationProperties kafkaConfigurationProperties, ConsumerLagConfigurationProperties consumerLagConfigurationProperties, MeterRegistry meterRegistry) {
+        this(kafkaConfigurationProperties, consumerLagConfigurationProperties, meterRegistry,
+                consumerLagConfigurationProperties.enabled() ? Admin.create(Map.of(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers())) : null);
+    }
+
+    ConsumerLagMonitor(KafkaConfigurationProperties kafkaConfigurationProperties, ConsumerLagConfigurationProperties consumerLagConfigurationProperties, MeterRegistry meterRegistry, Admin admin) {
+        this.kafkaConfigurationProperties = kafkaConfigurationProperties;
+        this.consumerLagConfigurationProperties = consumerLagConfigurationProperties;
+        this.admin = admin;
+        for (NotificationLane notificationLane : NotificationLane.values()) {
+            lags.put(notificationLane, meterRegistry.gauge(LAG_METRIC, Tags.of(LANE_TAG, notificationLane.name().toLowerCase()), new AtomicLong()));
+        }
+    }
+
+    @PostConstruct
+    public void startRefreshing() {
+        if (admin != null) {
+            long refreshInterval = consumerLagConfigurationProperties.refreshInterval().toMillis();
+            refreshScheduler = newSingleThreadScheduledExecutor(new CustomizableThreadFactory("consumer-lag-"));
+            refreshScheduler.scheduleWithFixedDelay(this::refreshLags, refreshInterval, refreshInterval, MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refreshScheduler != null) {
+            refreshScheduler.shutdownNow();
+        }
+        if (admin != null) {
+            admin.close(consumerLagConfigurationProperties.requestTimeout());
+        }
+    }
+
+    @Override
+    public void refreshLags() {
+        for (NotificationLane notificationLane : NotificationLane.values()) {
+            try {
+                lags.get(notificationLane).set(fetchLag(notificationLane));
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("Failed to refresh consumer lag of {} lane", notificationLane, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public long getLag(NotificationLane notificationLane) {
+        return lags.get(notificationLane).get();
+    }
+
+    private long fetchLag(NotificationLane notificationLane) throws ExecutionException, InterruptedException, TimeoutException {
+        long timeout = consumerLagConfigurationProperties.requestTimeout().toMillis();
+        String topic = kafkaConfigurationProperties.getTopicName(notificationLane.getTopicType());
+        Map<TopicPartition, OffsetAndMetadata> committedOffsets = admin.listConsumerGroupOffsets(notificationLane.getGroupId())
+                .partitionsToOffsetAndMetadata()
+                .get(timeout, MILLISECONDS)
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() != null && topic.equals(entry.getKey().topic()))
+                .collect(toMap(Map.Entry::getKey, Map.Entry::getValue));
+        if (committedOffsets.isEmpty()) {
+            return 0;
+        }
+        Map<TopicPartition, ListOffsetsResultInfo> endOffsets = admin.listOffsets(committedOffsets.keySet().stream().collect(toMap(identity(), partition -> OffsetSpec.latest())))
+                .all()
+                .get(timeout, MILLISECONDS);
+        return committedOffsets.entrySet().stream()
+                .mapToLong(entry -> max(0, endOffsets.get(entry.getKey()).offset() - entry.getValue().offset()))
+                .sum();
+    }
+}
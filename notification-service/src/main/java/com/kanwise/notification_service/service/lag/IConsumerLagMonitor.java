@@ -0,0 +1,9 @@
+package com.kanwise.notification_service.service.lag;
+
+import com.kanwise.notification_service.model.kafka.NotificationLane;
+
+public interface IConsumerLagMonitor {
+    void refreshLags();
+
+    long getLag(NotificationLane notificationLane);
+}
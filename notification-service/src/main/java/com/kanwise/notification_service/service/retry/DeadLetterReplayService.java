@@ -0,0 +1,92 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.retry.KafkaRetryConfigurationProperties;
+import com.kanwise.notification_service.error.DeadLetterReplayException;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.model.retry.DeadLetterReplayResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.StreamSupport;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_CONFIG;
+
+@RequiredArgsConstructor
+@Service
+public class DeadLetterReplayService implements IDeadLetterReplayService {
+
+    private static final String REPLAY_GROUP_ID = "notification_dead_letter_replay";
+
+    private final ConsumerFactory<String, byte[]> consumerRetryFactory;
+    private final KafkaTemplate<String, byte[]> kafkaRetryTemplate;
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final KafkaRetryConfigurationProperties kafkaRetryConfigurationProperties;
+    private final IRetryTopicResolver retryTopicResolver;
+
+    @Override
+    public synchronized DeadLetterReplayResponse replay(TopicType topicType, Optional<Integer> limit) {
+        String targetTopic = kafkaConfigurationProperties.getTopicName(topicType);
+        String deadLetterTopic = retryTopicResolver.getDeadLetterTopic(targetTopic);
+        try (Consumer<String, byte[]> consumer = consumerRetryFactory.createConsumer(REPLAY_GROUP_ID, null, null, getReplayProperties(getBatchSize(limit)))) {
+            consumer.assign(consumer.partitionsFor(deadLetterTopic).stream()
+                    .map(partitionInfo -> new TopicPartition(partitionInfo.topic(), partitionInfo.partition()))
+                    .toList());
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            StreamSupport.stream(consumer.poll(kafkaRetryConfigurationProperties.replayPollTimeout()).spliterator(), false)
+                    .forEach(record -> {
+                        sends.add(kafkaRetryTemplate.send(toReplayRecord(targetTopic, record)).completable());
+                        offsets.put(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1));
+                    });
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            consumer.commitSync(offsets);
+            return new DeadLetterReplayResponse(deadLetterTopic, targetTopic, sends.size());
+        } catch (CompletionException e) {
+            throw new DeadLetterReplayException(deadLetterTopic, e.getCause());
+        }
+    }
+
+    private ProducerRecord<String, byte[]> toReplayRecord(String targetTopic, ConsumerRecord<String, byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        record.headers().forEach(header -> {
+            if (!retryTopicResolver.isRetryHeader(header.key())) {
+                headers.add(header);
+            }
+        });
+        return new ProducerRecord<>(targetTopic, null, record.key(), record.value(), headers);
+    }
+
+    private int getBatchSize(Optional<Integer> limit) {
+        int replayBatchSize = kafkaRetryConfigurationProperties.replayBatchSize();
+        return limit.map(value -> max(1, min(value, replayBatchSize))).orElse(replayBatchSize);
+    }
+
+    private Properties getReplayProperties(int batchSize) {
+        Properties properties = new Properties();
+        properties.put(MAX_POLL_RECORDS_CONFIG, batchSize);
+        properties.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
+        properties.put(ENABLE_AUTO_COMMIT_CONFIG, false);
+        return properties;
+    }
+}
@@ -0,0 +1,10 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.kanwise.notification_service.model.kafka.TopicType;
+import com.kanwise.notification_service.model.retry.DeadLetterReplayResponse;
+
+import java.util.Optional;
+
+public interface IDeadLetterReplayService {
+    DeadLetterReplayResponse replay(TopicType topicType, Optional<Integer> limit);
+}
@@ -0,0 +1,27 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.kanwise.notification_service.model.kafka.TopicType;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+
+import java.util.List;
+
+public interface IRetryTopicResolver {
+
+    boolean isRetryable(TopicType topicType);
+
+    String[] getRetryTopics(String baseTopic);
+
+    String getDeadLetterTopic(String baseTopic);
+
+    List<String> getAllRetryAndDeadLetterTopics(String baseTopic);
+
+    TopicPartition resolveDestination(ConsumerRecord<?, ?> record, Exception exception);
+
+    Headers createRetryHeaders(ConsumerRecord<?, ?> record, Exception exception);
+
+    long getRemainingDelay(ConsumerRecord<?, ?> record);
+
+    boolean isRetryHeader(String key);
+}
@@ -0,0 +1,137 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.kanwise.notification_service.configuration.kafka.retry.KafkaRetryConfigurationProperties;
+import com.kanwise.notification_service.model.kafka.TopicType;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static java.lang.Math.max;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.core.NestedExceptionUtils.getMostSpecificCause;
+
+@Service
+public class RetryTopicResolver implements IRetryTopicResolver {
+
+    public static final String ATTEMPT_HEADER = "kanwise_retry_attempt";
+    public static final String DUE_AT_HEADER = "kanwise_retry_due_at";
+
+    private static final String RETRY_HEADER_PREFIX = "kanwise_retry";
+    private static final String DEAD_LETTER_HEADER_PREFIX = KafkaHeaders.PREFIX + "dlt-";
+    private static final String DESERIALIZER_EXCEPTION_HEADER_PREFIX = "springDeserializerException";
+    private static final String RETRY_TOPIC_SUFFIX = "-retry-";
+    private static final String DEAD_LETTER_TOPIC_SUFFIX = "-dlt";
+    private static final String RETRY_TOPIC_PATTERN = RETRY_TOPIC_SUFFIX + "\\d+$";
+    private static final int UNSPECIFIED_PARTITION = -1;
+    private static final Set<TopicType> RETRYABLE_TOPICS = EnumSet.of(NOTIFICATION_EMAIL, NOTIFICATION_EMAIL_PRIORITY, NOTIFICATION_EMAIL_BULK, NOTIFICATION_SMS);
+
+    private final List<Duration> backoffs;
+    private final Clock clock;
+
+    @Autowired
+    public RetryTopicResolver(KafkaRetryConfigurationProperties kafkaRetryConfigurationProperties) {
+        this(kafkaRetryConfigurationProperties, Clock.systemUTC());
+    }
+
+    RetryTopicResolver(KafkaRetryConfigurationProperties kafkaRetryConfigurationProperties, Clock clock) {
+        this.backoffs = List.copyOf(kafkaRetryConfigurationProperties.backoffs());
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean isRetryable(TopicType topicType) {
+        return RETRYABLE_TOPICS.contains(topicType);
+    }
+
+    @Override
+    public String[] getRetryTopics(String baseTopic) {
+        return IntStream.range(0, backoffs.size())
+                .mapToObj(attempt -> baseTopic + RETRY_TOPIC_SUFFIX + attempt)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public String getDeadLetterTopic(String baseTopic) {
+        return baseTopic + DEAD_LETTER_TOPIC_SUFFIX;
+    }
+
+    @Override
+    public List<String> getAllRetryAndDeadLetterTopics(String baseTopic) {
+        List<String> topics = new ArrayList<>(List.of(getRetryTopics(baseTopic)));
+        topics.add(getDeadLetterTopic(baseTopic));
+        return topics;
+    }
+
+    @Override
+    public TopicPartition resolveDestination(ConsumerRecord<?, ?> record, Exception exception) {
+        String baseTopic = getBaseTopic(record.topic());
+        int attempt = getAttempt(record);
+        String destination = isRetryable(record, exception) && attempt < backoffs.size()
+                ? baseTopic + RETRY_TOPIC_SUFFIX + attempt
+                : getDeadLetterTopic(baseTopic);
+        return new TopicPartition(destination, UNSPECIFIED_PARTITION);
+    }
+
+    @Override
+    public Headers createRetryHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+        int attempt = getAttempt(record);
+        Headers headers = new RecordHeaders();
+        headers.add(ATTEMPT_HEADER, String.valueOf(attempt + 1).getBytes(UTF_8));
+        if (isRetryable(record, exception) && attempt < backoffs.size()) {
+            long dueAt = clock.millis() + backoffs.get(attempt).toMillis();
+            headers.add(DUE_AT_HEADER, String.valueOf(dueAt).getBytes(UTF_8));
+        }
+        return headers;
+    }
+
+    @Override
+    public long getRemainingDelay(ConsumerRecord<?, ?> record) {
+        Header dueAt = record.headers().lastHeader(DUE_AT_HEADER);
+        return dueAt == null ? 0 : max(0, Long.parseLong(new String(dueAt.value(), UTF_8)) - clock.millis());
+    }
+
+    @Override
+    public boolean isRetryHeader(String key) {
+        return key.startsWith(RETRY_HEADER_PREFIX)
+                || key.startsWith(DEAD_LETTER_HEADER_PREFIX)
+                || key.startsWith(DESERIALIZER_EXCEPTION_HEADER_PREFIX);
+    }
+
+    private boolean isRetryable(ConsumerRecord<?, ?> record, Exception exception) {
+        Throwable cause = getMostSpecificCause(exception);
+        return record.value() != null
+                && !(cause instanceof DeserializationException)
+                && !(cause instanceof JsonProcessingException);
+    }
+
+    private int getAttempt(ConsumerRecord<?, ?> record) {
+        Header attempt = record.headers().lastHeader(ATTEMPT_HEADER);
+        return attempt == null ? 0 : Integer.parseInt(new String(attempt.value(), UTF_8));
+    }
+
+    private String getBaseTopic(String topic) {
+        if (topic.endsWith(DEAD_LETTER_TOPIC_SUFFIX)) {
+            return topic.substring(0, topic.length() - DEAD_LETTER_TOPIC_SUFFIX.length());
+        }
+        return topic.replaceFirst(RETRY_TOPIC_PATTERN, "");
+    }
+}
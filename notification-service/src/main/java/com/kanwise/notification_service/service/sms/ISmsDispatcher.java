@@ -0,0 +1,10 @@
+package com.kanwise.notification_service.service.sms;
+
+import com.kanwise.notification_service.model.sms.SmsRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+public interface ISmsDispatcher<T extends SmsRequest> {
+    CompletableFuture<Void> dispatch(T request, Consumer<Exception> failureHandler);
+}
@@ -0,0 +1,110 @@
+package com.kanwise.notification_service.service.sms.otp;
+
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import com.kanwise.notification_service.error.SmsDispatchException;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import com.kanwise.notification_service.service.sms.ISmsDispatcher;
+import com.kanwise.notification_service.service.sms.ISmsResponseService;
+import com.kanwise.notification_service.service.sms.ISmsSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.SMS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static reactor.core.scheduler.Schedulers.newBoundedElastic;
+
+@Slf4j
+@Service
+public class OtpSmsDispatcher implements ISmsDispatcher<OtpSmsRequest> {
+
+    private final ISmsSender<OtpSmsRequest, OtpSmsResponse> otpSmsService;
+    private final ISmsResponseService<OtpSmsResponse> otpSmsResponseService;
+    private final IDeduplicationService deduplicationService;
+    private final SmsDispatchConfigurationProperties smsDispatchConfigurationProperties;
+    private final Semaphore inFlight;
+    private final Scheduler responseScheduler;
+
+    public OtpSmsDispatcher(ISmsSender<OtpSmsRequest, OtpSmsResponse> otpSmsService, ISmsResponseService<OtpSmsResponse> otpSmsResponseService, IDeduplicationService deduplicationService, SmsDispatchConfigurationProperties smsDispatchConfigurationProperties) {
+        this.otpSmsService = otpSmsService;
+        this.otpSmsResponseService = otpSmsResponseService;
+        this.deduplicationService = deduplicationService;
+        this.smsDispatchConfigurationProperties = smsDispatchConfigurationProperties;
+        this.inFlight = new Semaphore(smsDispatchConfigurationProperties.maxInFlight());
+        this.responseScheduler = newBoundedElastic(smsDispatchConfigurationProperties.maxInFlight(), smsDispatchConfigurationProperties.maxInFlight(), "sms-response");
+    }
+
+    @Override
+    public CompletableFuture<Void> dispatch(OtpSmsRequest request, Consumer<Exception> failureHandler) {
+        if (!deduplicationService.tryAcquire(SMS, request.getMessageId())) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            acquirePermit();
+        } catch (SmsDispatchException e) {
+            deduplicationService.release(request.getMessageId());
+            throw e;
+        }
+        return otpSmsService.sendSms(request)
+                .doOnSuccess(response -> settleDeduplication(request, response))
+                .doOnError(exception -> deduplicationService.release(request.getMessageId()))
+                .flatMap(response -> Mono.fromRunnable(() -> complete(response, failureHandler)).subscribeOn(responseScheduler))
+                .doFinally(signal -> inFlight.release())
+                .onErrorResume(exception -> {
+                    log.error("Failed to send sms response for otp {}", request.getOtpId(), exception);
+                    return Mono.empty();
+                })
+                .then()
+                .toFuture();
+    }
+
+    public int getAvailablePermits() {
+        return inFlight.availablePermits();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        try {
+            if (!inFlight.tryAcquire(smsDispatchConfigurationProperties.maxInFlight(), smsDispatchConfigurationProperties.drainTimeout().toMillis(), MILLISECONDS)) {
+                log.warn("Sms dispatcher did not drain {} in-flight sends within {}", smsDispatchConfigurationProperties.maxInFlight() - inFlight.availablePermits(), smsDispatchConfigurationProperties.drainTimeout());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            responseScheduler.dispose();
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SmsDispatchException(e.getMessage());
+        }
+    }
+
+    private void settleDeduplication(OtpSmsRequest request, OtpSmsResponse response) {
+        if (response.getStatus() == FAILED) {
+            deduplicationService.release(request.getMessageId());
+        } else {
+            deduplicationService.markDelivered(request.getMessageId());
+        }
+    }
+
+    private void complete(OtpSmsResponse response, Consumer<Exception> failureHandler) {
+        if (response.getStatus() == FAILED) {
+            failureHandler.accept(new SmsDispatchException(response.getMessage()));
+        }
+        otpSmsResponseService.sendSmsResponse(response);
+    }
+}
@@ -1,19 +1,27 @@
 package com.kanwise.notification_service.service.sms.otp;
 
-import com.kanwise.clients.user_service.authentication.client.AuthenticationClient;
 import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
 import com.kanwise.notification_service.service.sms.ISmsResponseService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class OtpSmsResponseService implements ISmsResponseService<OtpSmsResponse> {
 
-    private final AuthenticationClient authenticationClient;
+    private final KafkaTemplate<String, OtpSmsResponse> kafkaSmsStatusTemplate;
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
 
     @Override
     public void sendSmsResponse(OtpSmsResponse otpSmsResponse) {
-        authenticationClient.sendOtpSmsResponse(otpSmsResponse);
+        kafkaSmsStatusTemplate.send(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS), String.valueOf(otpSmsResponse.getOtpId()), otpSmsResponse)
+                .addCallback(result -> {
+                }, exception -> log.error("Failed to publish sms status for otp {}", otpSmsResponse.getOtpId(), exception));
     }
 }
@@ -1,12 +1,11 @@
 package com.kanwise.notification_service.service.sms.otp;
 
 import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
-import com.kanwise.notification_service.configuration.twillio.TwilioConfigurationProperties;
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
 import com.kanwise.notification_service.model.sms.OtpSmsRequest;
 import com.kanwise.notification_service.service.sms.ISmsSender;
-import com.twilio.rest.api.v2010.account.Message;
-import com.twilio.rest.api.v2010.account.MessageCreator;
-import com.twilio.type.PhoneNumber;
+import com.kanwise.notification_service.service.sms.provider.ISmsProvider;
+import com.kanwise.notification_service.service.sms.rate_limit.ISmsRateLimiter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -20,18 +19,16 @@ import static reactor.core.publisher.Mono.just;
 @Service
 public class OtpSmsService implements ISmsSender<OtpSmsRequest, OtpSmsResponse> {
 
-    private final TwilioConfigurationProperties twilioConfigurationProperties;
+    private final ISmsProvider smsProvider;
+    private final ISmsRateLimiter smsRateLimiter;
+    private final SmsDispatchConfigurationProperties smsDispatchConfigurationProperties;
 
     @Override
     public Mono<OtpSmsResponse> sendSms(OtpSmsRequest request) {
-        OtpSmsResponse response;
-        try {
-            getMessage(request).create();
-            response = generateSuccessOtpSmsResponse(request);
-        } catch (Exception exception) {
-            response = generateFailureOtpSmsResponse(request, exception.getMessage());
-        }
-        return just(response);
+        return smsRateLimiter.acquire()
+                .then(Mono.defer(() -> smsProvider.send(request.getPhoneNumber(), request.getContent()).timeout(smsDispatchConfigurationProperties.providerTimeout())))
+                .then(Mono.fromSupplier(() -> generateSuccessOtpSmsResponse(request)))
+                .onErrorResume(exception -> just(generateFailureOtpSmsResponse(request, exception.getMessage())));
     }
 
     private OtpSmsResponse generateSuccessOtpSmsResponse(OtpSmsRequest request) {
@@ -49,11 +46,4 @@ public class OtpSmsService implements ISmsSender<OtpSmsRequest, OtpSmsResponse>
                 .message(exceptionMessage)
                 .build();
     }
-
-    private MessageCreator getMessage(OtpSmsRequest request) {
-        PhoneNumber recipient = new PhoneNumber(request.getPhoneNumber());
-        PhoneNumber sender = new PhoneNumber(twilioConfigurationProperties.number());
-        String content = request.getContent();
-        return Message.creator(recipient, sender, content);
-    }
 }
@@ -0,0 +1,7 @@
+package com.kanwise.notification_service.service.sms.provider;
+
+import reactor.core.publisher.Mono;
+
+public interface ISmsProvider {
+    Mono<Void> send(String phoneNumber, String content);
+}
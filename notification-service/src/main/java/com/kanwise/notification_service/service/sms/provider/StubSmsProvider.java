@@ -0,0 +1,37 @@
+package com.kanwise.notification_service.service.sms.provider;
+
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@ConditionalOnProperty(name = "kanwise.sms.dispatch.provider", havingValue = "stub")
+@Service
+public class StubSmsProvider implements ISmsProvider {
+
+    private final Duration latency;
+    private final AtomicLong sentMessages = new AtomicLong();
+
+    public StubSmsProvider(SmsDispatchConfigurationProperties smsDispatchConfigurationProperties) {
+        this.latency = smsDispatchConfigurationProperties.stubLatency();
+    }
+
+    @Override
+    public Mono<Void> send(String phoneNumber, String content) {
+        return Mono.delay(latency)
+                .doOnNext(ignored -> {
+                    sentMessages.incrementAndGet();
+                    log.debug("Stub SMS sent to {}", phoneNumber);
+                })
+                .then();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+}
@@ -0,0 +1,39 @@
+package com.kanwise.notification_service.service.sms.provider;
+
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import com.kanwise.notification_service.configuration.twillio.TwilioConfigurationProperties;
+import com.twilio.rest.api.v2010.account.Message;
+import com.twilio.type.PhoneNumber;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.annotation.PreDestroy;
+
+import static reactor.core.scheduler.Schedulers.newBoundedElastic;
+
+@ConditionalOnProperty(name = "kanwise.sms.dispatch.provider", havingValue = "twilio", matchIfMissing = true)
+@Service
+public class TwilioSmsProvider implements ISmsProvider {
+
+    private final TwilioConfigurationProperties twilioConfigurationProperties;
+    private final Scheduler scheduler;
+
+    public TwilioSmsProvider(TwilioConfigurationProperties twilioConfigurationProperties, SmsDispatchConfigurationProperties smsDispatchConfigurationProperties) {
+        this.twilioConfigurationProperties = twilioConfigurationProperties;
+        this.scheduler = newBoundedElastic(smsDispatchConfigurationProperties.maxInFlight(), smsDispatchConfigurationProperties.maxInFlight(), "sms-twilio");
+    }
+
+    @Override
+    public Mono<Void> send(String phoneNumber, String content) {
+        return Mono.fromCallable(() -> Message.creator(new PhoneNumber(phoneNumber), new PhoneNumber(twilioConfigurationProperties.number()), content).create())
+                .subscribeOn(scheduler)
+                .then();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,7 @@
+package com.kanwise.notification_service.service.sms.rate_limit;
+
+import reactor.core.publisher.Mono;
+
+public interface ISmsRateLimiter {
+    Mono<Void> acquire();
+}
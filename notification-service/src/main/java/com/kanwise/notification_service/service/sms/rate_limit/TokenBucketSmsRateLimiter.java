@@ -0,0 +1,52 @@
+package com.kanwise.notification_service.service.sms.rate_limit;
+
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+@Service
+public class TokenBucketSmsRateLimiter implements ISmsRateLimiter {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final LongSupplier nanoTime;
+    private double tokens;
+    private long lastRefill;
+
+    @Autowired
+    public TokenBucketSmsRateLimiter(SmsDispatchConfigurationProperties smsDispatchConfigurationProperties) {
+        this(smsDispatchConfigurationProperties.burstCapacity(), smsDispatchConfigurationProperties.ratePerSecond(), System::nanoTime);
+    }
+
+    TokenBucketSmsRateLimiter(int capacity, int ratePerSecond, LongSupplier nanoTime) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) ratePerSecond / SECONDS.toNanos(1);
+        this.nanoTime = nanoTime;
+        this.tokens = capacity;
+        this.lastRefill = nanoTime.getAsLong();
+    }
+
+    @Override
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    synchronized long reserve() {
+        long now = nanoTime.getAsLong();
+        tokens = min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) ceil(-tokens / tokensPerNano);
+    }
+}
@@ -12,6 +12,7 @@ import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
 import java.io.File;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -32,6 +33,9 @@ public class TemplatePathsValidator implements ConstraintValidator<TemplatePaths
 
     @Override
     public boolean isValid(Map<EmailMessageType, String> emailMessageTypeStringMap, ConstraintValidatorContext constraintValidatorContext) {
+        if (emailMessageTypeStringMap == null || !emailMessageTypeStringMap.keySet().containsAll(EnumSet.allOf(EmailMessageType.class))) {
+            return false;
+        }
         return Optional.ofNullable(new File(templatesDirectory).listFiles())
                 .map(files -> validateFilesPresence(emailMessageTypeStringMap, files))
                 .orElse(false);
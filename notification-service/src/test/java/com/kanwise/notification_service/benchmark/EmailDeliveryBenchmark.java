@@ -0,0 +1,130 @@
+package com.kanwise.notification_service.benchmark;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties.LaneProperties;
+import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.service.email.sender.implementation.EmailSender;
+import com.kanwise.notification_service.service.email.sender.implementation.SmtpTransportPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import static com.icegreen.greenmail.util.ServerSetupTest.SMTP;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.codec.CharEncoding.UTF_8;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailDeliveryBenchmark {
+
+    private static final String USERNAME = "kanwise@gmail.com";
+    private static final String PASSWORD = "kanwise";
+    private static final int THREADS = 4;
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool smtpTransportPool;
+    private EmailSender emailSender;
+    private ExecutorService executor;
+    private List<Email> emails;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailDeliveryBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        greenMail = new GreenMail(SMTP);
+        greenMail.setUser(USERNAME, PASSWORD);
+        greenMail.start();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost(SMTP.getBindAddress());
+        mailSender.setPort(SMTP.getPort());
+        mailSender.setUsername(USERNAME);
+        mailSender.setPassword(PASSWORD);
+        smtpTransportPool = new SmtpTransportPool(mailSender, new EmailDeliveryConfigurationProperties(1, batchSize, THREADS, THREADS, 100), new EmailLaneConfigurationProperties(new LaneProperties(1, batchSize, THREADS, THREADS), new LaneProperties(1, batchSize, THREADS, THREADS)));
+        emailSender = new EmailSender(mailSender, smtpTransportPool);
+        executor = newFixedThreadPool(THREADS);
+        emails = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            emails.add(Email.builder()
+                    .to("john.kanwise+%s@gmail.com".formatted(i))
+                    .subject("Benchmark " + i)
+                    .content("<p>Benchmark message " + i + "</p>")
+                    .isHtml(true)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void purgeMailboxes() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        smtpTransportPool.shutdown();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public void transportPerMessage() throws MessagingException {
+        for (Email email : emails) {
+            mailSender.send(createMimeMessage(email));
+        }
+    }
+
+    @Benchmark
+    public void pooledTransports() {
+        CompletableFuture.allOf(emails.stream()
+                        .map(email -> runAsync(() -> emailSender.send(email), executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private MimeMessage createMimeMessage(Email email) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, UTF_8);
+        helper.setText(email.content(), email.isHtml());
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        return mimeMessage;
+    }
+}
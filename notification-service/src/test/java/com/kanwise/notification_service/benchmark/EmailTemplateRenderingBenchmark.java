@@ -0,0 +1,137 @@
+package com.kanwise.notification_service.benchmark;
+
+import com.kanwise.notification_service.configuration.email.EmailTemplateNamesConfigurationProperties;
+import com.kanwise.notification_service.model.email.EmailMessageType;
+import com.kanwise.notification_service.service.email.template.implementation.HtmlTemplateService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.stream.Collectors.toMap;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailTemplateRenderingBenchmark {
+
+    private static final int RENDER_CACHE_SIZE = 256;
+
+    @Param({
+            "ACCOUNT_CREATED",
+            "ACCOUNT_BLOCKED",
+            "PROJECT_JOIN_REQUEST_REJECTED",
+            "PROJECT_JOIN_REQUEST_ACCEPTED",
+            "NEW_TASK_ASSIGNED",
+            "PASSWORD_RESET",
+            "PASSWORD_CHANGED",
+            "USER_INFORMATION_CHANGED",
+            "PERSONAL_REPORT",
+            "PROJECT_REPORT",
+            "DIGEST"
+    })
+    private EmailMessageType emailMessageType;
+
+    private Map<EmailMessageType, String> names;
+    private TemplateEngine parsingTemplateEngine;
+    private HtmlTemplateService precompiledTemplateService;
+    private HtmlTemplateService cachingTemplateService;
+    private Map<String, Object> data;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateRenderingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        names = Arrays.stream(EmailMessageType.values())
+                .collect(toMap(Function.identity(), type -> type.name().toLowerCase().replace('_', '-') + ".html"));
+        parsingTemplateEngine = createTemplateEngine(false);
+        TemplateEngine cachingTemplateEngine = createTemplateEngine(true);
+        precompiledTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(names, 0, Set.of()), cachingTemplateEngine);
+        precompiledTemplateService.preloadTemplates();
+        cachingTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(names, RENDER_CACHE_SIZE, Set.of(emailMessageType)), cachingTemplateEngine);
+        data = constructData();
+    }
+
+    @Benchmark
+    public String parsePerMessage() {
+        Context context = new Context();
+        context.setVariables(data);
+        return parsingTemplateEngine.process(names.get(emailMessageType), context);
+    }
+
+    @Benchmark
+    public String precompiledTemplate() {
+        return precompiledTemplateService.generateHtmlTemplate(data, emailMessageType);
+    }
+
+    @Benchmark
+    public String cachedRender() {
+        return cachingTemplateService.generateHtmlTemplate(data, emailMessageType);
+    }
+
+    private TemplateEngine createTemplateEngine(boolean cacheable) {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(cacheable);
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        return templateEngine;
+    }
+
+    private Map<String, Object> constructData() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("firstName", "John");
+        result.put("password", "Kanwise123!");
+        result.put("contactAdministratorUrl", "https://kanwise.com/contact");
+        result.put("resetPasswordUrl", "https://kanwise.com/reset-password?token=benchmark");
+        result.put("href", "https://kanwise.com/reports/benchmark.pdf");
+        result.put("projectTitle", "Kanwise");
+        result.put("taskTitle", "Benchmark templates");
+        result.put("taskType", "FEATURE");
+        result.put("estimatedTime", 5400L);
+        result.put("assignedAt", new Integer[]{2022, 12, 1, 10, 0, 0});
+        result.put("reportType", "PERSONAL");
+        result.put("reportStartDate", new Integer[]{2022, 11, 1, 0, 0, 0});
+        result.put("reportEndDate", new Integer[]{2022, 12, 1, 0, 0, 0});
+        result.put("entries", List.of(
+                Map.of("subject", "New task assigned", "type", "NEW_TASK_ASSIGNED"),
+                Map.of("subject", "Project join request accepted", "type", "PROJECT_JOIN_REQUEST_ACCEPTED")
+        ));
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+package com.kanwise.notification_service.benchmark;
+
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.notification_service.configuration.kafka.serialization.EmailRequestSchema;
+import com.kanwise.notification_service.configuration.kafka.serialization.OtpSmsRequestSchema;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.PROJECT_REPORT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.openjdk.jmh.annotations.Mode.Throughput;
+
+@BenchmarkMode(Throughput)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KafkaSerializationBenchmark {
+
+    private static final String EMAIL_TOPIC = "notification-email";
+    private static final String SMS_TOPIC = "notification-sms";
+
+    private BinarySerializer<EmailRequest> binaryEmailSerializer;
+    private BinaryDeserializer<EmailRequest> binaryEmailDeserializer;
+    private JsonSerializer<EmailRequest> jsonEmailSerializer;
+    private JsonDeserializer<EmailRequest> jsonEmailDeserializer;
+    private BinarySerializer<OtpSmsRequest> binarySmsSerializer;
+    private BinaryDeserializer<OtpSmsRequest> binarySmsDeserializer;
+    private JsonSerializer<OtpSmsRequest> jsonSmsSerializer;
+    private JsonDeserializer<OtpSmsRequest> jsonSmsDeserializer;
+    private EmailRequest emailRequest;
+    private OtpSmsRequest otpSmsRequest;
+    private byte[] binaryEmail;
+    private byte[] jsonEmail;
+    private byte[] binarySms;
+    private byte[] jsonSms;
+
+    public static void main(String[] args) throws RunnerException {
+        KafkaSerializationBenchmark benchmark = new KafkaSerializationBenchmark();
+        benchmark.setUp();
+        System.out.printf("EmailRequest: binary=%d bytes, json=%d bytes%n", benchmark.binaryEmail.length, benchmark.jsonEmail.length);
+        System.out.printf("OtpSmsRequest: binary=%d bytes, json=%d bytes%n", benchmark.binarySms.length, benchmark.jsonSms.length);
+        benchmark.tearDown();
+        new Runner(new OptionsBuilder()
+                .include(KafkaSerializationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        binaryEmailSerializer = new BinarySerializer<>(new EmailRequestSchema());
+        binaryEmailDeserializer = new BinaryDeserializer<>(new EmailRequestSchema(), EmailRequest.class);
+        jsonEmailSerializer = new JsonSerializer<>();
+        jsonEmailDeserializer = new JsonDeserializer<>(EmailRequest.class, false);
+        binarySmsSerializer = new BinarySerializer<>(new OtpSmsRequestSchema());
+        binarySmsDeserializer = new BinaryDeserializer<>(new OtpSmsRequestSchema(), OtpSmsRequest.class);
+        jsonSmsSerializer = new JsonSerializer<>();
+        jsonSmsDeserializer = new JsonDeserializer<>(OtpSmsRequest.class, false);
+        emailRequest = constructEmailRequest();
+        otpSmsRequest = OtpSmsRequest.builder()
+                .messageId("4f0a6d32-7b8e-4f38-a0a4-3c2f5b2c1d9e")
+                .phoneNumber("+48123456789")
+                .content("Your OTP is 123456")
+                .otpId(1024L)
+                .build();
+        binaryEmail = binaryEmailSerializer.serialize(EMAIL_TOPIC, emailRequest);
+        jsonEmail = jsonEmailSerializer.serialize(EMAIL_TOPIC, emailRequest);
+        binarySms = binarySmsSerializer.serialize(SMS_TOPIC, otpSmsRequest);
+        jsonSms = jsonSmsSerializer.serialize(SMS_TOPIC, otpSmsRequest);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jsonEmailSerializer.close();
+        jsonEmailDeserializer.close();
+        jsonSmsSerializer.close();
+        jsonSmsDeserializer.close();
+    }
+
+    @Benchmark
+    public byte[] binaryEmailSerialization() {
+        return binaryEmailSerializer.serialize(EMAIL_TOPIC, emailRequest);
+    }
+
+    @Benchmark
+    public byte[] jsonEmailSerialization() {
+        return jsonEmailSerializer.serialize(EMAIL_TOPIC, emailRequest);
+    }
+
+    @Benchmark
+    public EmailRequest binaryEmailDeserialization() {
+        return binaryEmailDeserializer.deserialize(EMAIL_TOPIC, binaryEmail);
+    }
+
+    @Benchmark
+    public EmailRequest jsonEmailDeserialization() {
+        return jsonEmailDeserializer.deserialize(EMAIL_TOPIC, jsonEmail);
+    }
+
+    @Benchmark
+    public byte[] binarySmsSerialization() {
+        return binarySmsSerializer.serialize(SMS_TOPIC, otpSmsRequest);
+    }
+
+    @Benchmark
+    public byte[] jsonSmsSerialization() {
+        return jsonSmsSerializer.serialize(SMS_TOPIC, otpSmsRequest);
+    }
+
+    @Benchmark
+    public OtpSmsRequest binarySmsDeserialization() {
+        return binarySmsDeserializer.deserialize(SMS_TOPIC, binarySms);
+    }
+
+    @Benchmark
+    public OtpSmsRequest jsonSmsDeserialization() {
+        return jsonSmsDeserializer.deserialize(SMS_TOPIC, jsonSms);
+    }
+
+    private EmailRequest constructEmailRequest() {
+        List<Map<String, Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            tasks.add(Map.of(
+                    "title", "Task " + i,
+                    "estimatedTime", 3600L + i,
+                    "actualTime", 5400L + i,
+                    "performance", "66%"
+            ));
+        }
+        return EmailRequest.builder()
+                .messageId("1d7b2c9e-4c7e-4b43-9d84-0f3c8c7a2f10")
+                .to("jolettatiger.kanwise@gmail.com")
+                .subject("Project Report")
+                .type(PROJECT_REPORT)
+                .isHtml(true)
+                .data(Map.of(
+                        "firstName", "Joletta",
+                        "reportStartDate", "2022-01-01T00:00:00",
+                        "reportEndDate", "2022-12-31T00:00:00",
+                        "reportType", "project",
+                        "href", "https://kanwise.fra1.digitaloceanspaces.com/reports/project/report.pdf",
+                        "tasks", tasks))
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.kanwise.notification_service.benchmark;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+final class LatencyRecorder {
+
+    private static final double NANOS_PER_MILLISECOND = 1_000_000d;
+
+    private final String channel;
+    private final int warmupCount;
+    private final long[] scheduledTimes;
+    private final AtomicLongArray completionTimes;
+    private final CountDownLatch pending;
+
+    LatencyRecorder(String channel, int expected, int warmupCount) {
+        this.channel = channel;
+        this.warmupCount = warmupCount;
+        this.scheduledTimes = new long[expected];
+        this.completionTimes = new AtomicLongArray(expected);
+        this.pending = new CountDownLatch(expected);
+    }
+
+    int expected() {
+        return scheduledTimes.length;
+    }
+
+    void scheduled(int sequence, long scheduledNanos) {
+        scheduledTimes[sequence] = scheduledNanos;
+    }
+
+    void completed(int sequence, long completedNanos) {
+        if (sequence >= 0 && sequence < expected() && completionTimes.compareAndSet(sequence, 0, completedNanos)) {
+            pending.countDown();
+        }
+    }
+
+    boolean await(Duration timeout) throws InterruptedException {
+        return pending.await(timeout.toNanos(), NANOSECONDS);
+    }
+
+    void report(PrintStream out) {
+        long[] latencies = measuredSequences()
+                .mapToLong(sequence -> completionTimes.get(sequence) - scheduledTimes[sequence])
+                .sorted()
+                .toArray();
+        if (latencies.length == 0) {
+            out.printf("%s: no measured deliveries%n", channel);
+            return;
+        }
+        long measurementStart = scheduledTimes[warmupCount];
+        long lastCompletion = measuredSequences().mapToLong(completionTimes::get).max().orElseThrow();
+        double throughput = latencies.length * (double) SECONDS.toNanos(1) / (lastCompletion - measurementStart);
+        out.printf("%s: delivered %d/%d, sustained %.1f msg/s, latency ms p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                channel, latencies.length, expected() - warmupCount, throughput,
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99), percentile(latencies, 99.9),
+                latencies[latencies.length - 1] / NANOS_PER_MILLISECOND);
+    }
+
+    private IntStream measuredSequences() {
+        return IntStream.range(warmupCount, expected()).filter(sequence -> completionTimes.get(sequence) != 0);
+    }
+
+    private double percentile(long[] sortedLatencies, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / NANOS_PER_MILLISECOND;
+    }
+}
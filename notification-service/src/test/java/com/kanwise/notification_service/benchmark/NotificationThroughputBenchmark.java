@@ -0,0 +1,299 @@
+package com.kanwise.notification_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.store.FolderException;
+import com.icegreen.greenmail.store.FolderListener;
+import com.icegreen.greenmail.store.MailFolder;
+import com.icegreen.greenmail.user.GreenMailUser;
+import com.icegreen.greenmail.util.GreenMail;
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.notification_service.NotificationServiceApplication;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.serialization.EmailRequestSchema;
+import com.kanwise.notification_service.configuration.kafka.serialization.OtpSmsRequestSchema;
+import com.kanwise.notification_service.configuration.twillio.TwilioConfigurationProperties;
+import com.kanwise.notification_service.listeners.JsonTestingUtils;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import com.twilio.Twilio;
+import com.twilio.http.Request;
+import com.twilio.http.Response;
+import com.twilio.http.TwilioRestClient;
+import lombok.RequiredArgsConstructor;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import javax.mail.Flags;
+import javax.mail.MessagingException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.IntConsumer;
+
+import static com.icegreen.greenmail.util.ServerSetupTest.SMTP;
+import static com.kanwise.notification_service.model.email.EmailMessageType.ACCOUNT_CREATED;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.springframework.boot.convert.DurationStyle.detectAndParse;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+@RequiredArgsConstructor
+public class NotificationThroughputBenchmark implements JsonTestingUtils {
+
+    private static final String SENDER_USERNAME = "kanwise@gmail.com";
+    private static final String SENDER_PASSWORD = "kanwise";
+    private static final String RECIPIENT = "benchmark@kanwise.com";
+    private static final String PHONE_NUMBER = "15305431221";
+    private static final String EMAIL_PREFIX = "benchmark-email-";
+    private static final String SMS_PREFIX = "benchmark-sms-";
+    private static final String TWILIO_RESPONSE = "twilio_response/message-response.json";
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    private final int emailRate;
+    private final int smsRate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int partitions;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        new NotificationThroughputBenchmark(
+                Integer.getInteger("benchmark.email-rate", 100),
+                Integer.getInteger("benchmark.sms-rate", 40),
+                detectAndParse(System.getProperty("benchmark.warmup", "5s")),
+                detectAndParse(System.getProperty("benchmark.duration", "30s")),
+                Integer.getInteger("benchmark.partitions", 4)
+        ).run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        LatencyRecorder emailRecorder = new LatencyRecorder("email", messageCount(emailRate, warmup.plus(duration)), messageCount(emailRate, warmup));
+        LatencyRecorder smsRecorder = new LatencyRecorder("sms", messageCount(smsRate, warmup.plus(duration)), messageCount(smsRate, warmup));
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaBroker(1).brokerProperty("num.partitions", partitions);
+        GreenMail greenMail = new GreenMail(SMTP);
+        MockWebServer twilioServer = new MockWebServer();
+        try {
+            broker.afterPropertiesSet();
+            startSmtpServer(greenMail, emailRecorder);
+            twilioServer.setDispatcher(new TwilioDispatcher(smsRecorder, objectMapper, readJsonFileAsString(TWILIO_RESPONSE, getClass().getClassLoader())));
+            twilioServer.start();
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(NotificationServiceApplication.class)
+                    .profiles("test")
+                    .run(applicationArguments(broker, args))) {
+                KafkaConfigurationProperties kafkaConfigurationProperties = context.getBean(KafkaConfigurationProperties.class);
+                String emailTopic = kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL);
+                String smsTopic = kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS);
+                Twilio.setRestClient(twilioRestClient(context.getBean(TwilioConfigurationProperties.class), twilioServer));
+                waitForAssignment(context.getBean(KafkaListenerEndpointRegistry.class), List.of(emailTopic, smsTopic));
+                System.out.printf("Driving email at %d msg/s and sms at %d msg/s for %s after %s warmup over %d partitions%n",
+                        emailRate, smsRate, duration, warmup, partitions);
+                drive(broker, emailTopic, emailRecorder, smsTopic, smsRecorder);
+                boolean drained = emailRecorder.await(DRAIN_TIMEOUT) & smsRecorder.await(DRAIN_TIMEOUT);
+                if (!drained) {
+                    System.out.printf("Not all notifications were delivered within %s%n", DRAIN_TIMEOUT);
+                }
+                emailRecorder.report(System.out);
+                smsRecorder.report(System.out);
+            }
+        } finally {
+            twilioServer.shutdown();
+            greenMail.stop();
+            broker.destroy();
+        }
+    }
+
+    private void drive(EmbeddedKafkaBroker broker, String emailTopic, LatencyRecorder emailRecorder, String smsTopic, LatencyRecorder smsRecorder) {
+        Map<String, Object> producerProperties = Map.of(BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        ExecutorService drivers = newFixedThreadPool(2);
+        try (KafkaProducer<String, EmailRequest> emailProducer = new KafkaProducer<>(producerProperties, new StringSerializer(), new BinarySerializer<>(new EmailRequestSchema()));
+             KafkaProducer<String, OtpSmsRequest> smsProducer = new KafkaProducer<>(producerProperties, new StringSerializer(), new BinarySerializer<>(new OtpSmsRequestSchema()))) {
+            long startNanos = System.nanoTime();
+            allOf(
+                    runAsync(() -> drive(emailRecorder, emailRate, startNanos, sequence -> emailProducer.send(new ProducerRecord<>(emailTopic, emailRequest(sequence)))), drivers),
+                    runAsync(() -> drive(smsRecorder, smsRate, startNanos, sequence -> smsProducer.send(new ProducerRecord<>(smsTopic, otpSmsRequest(sequence)))), drivers)
+            ).join();
+        } finally {
+            drivers.shutdownNow();
+        }
+    }
+
+    private void drive(LatencyRecorder recorder, int rate, long startNanos, IntConsumer sender) {
+        if (recorder.expected() == 0) {
+            return;
+        }
+        long intervalNanos = SECONDS.toNanos(1) / rate;
+        for (int sequence = 0; sequence < recorder.expected(); sequence++) {
+            long scheduledNanos = startNanos + sequence * intervalNanos;
+            for (long delay = scheduledNanos - System.nanoTime(); delay > 0; delay = scheduledNanos - System.nanoTime()) {
+                parkNanos(delay);
+            }
+            recorder.scheduled(sequence, scheduledNanos);
+            sender.accept(sequence);
+        }
+    }
+
+    private void startSmtpServer(GreenMail greenMail, LatencyRecorder emailRecorder) throws FolderException {
+        greenMail.setUser(SENDER_USERNAME, SENDER_PASSWORD);
+        GreenMailUser recipient = greenMail.setUser(RECIPIENT, RECIPIENT, RECIPIENT);
+        MailFolder inbox = greenMail.getManagers().getImapHostManager().getInbox(recipient);
+        inbox.addListener(new InboxListener(inbox, emailRecorder));
+        greenMail.start();
+    }
+
+    private String[] applicationArguments(EmbeddedKafkaBroker broker, String[] args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                "--spring.mail.host=" + SMTP.getBindAddress(),
+                "--spring.mail.port=" + SMTP.getPort(),
+                "--server.port=0",
+                "--eureka.client.register-with-eureka=false",
+                "--eureka.client.fetch-registry=false",
+                "--kanwise.sms.dispatch.provider=twilio"
+        ));
+        arguments.addAll(Arrays.asList(args));
+        return arguments.toArray(String[]::new);
+    }
+
+    private void waitForAssignment(KafkaListenerEndpointRegistry registry, List<String> topics) {
+        registry.getListenerContainers().stream()
+                .filter(container -> listensTo(container, topics))
+                .forEach(container -> ContainerTestUtils.waitForAssignment(container, partitions));
+    }
+
+    private boolean listensTo(MessageListenerContainer container, List<String> topics) {
+        String[] containerTopics = container.getContainerProperties().getTopics();
+        return containerTopics != null && Arrays.stream(containerTopics).anyMatch(topics::contains);
+    }
+
+    private TwilioRestClient twilioRestClient(TwilioConfigurationProperties twilioConfigurationProperties, MockWebServer twilioServer) {
+        return new TwilioRestClient.Builder(twilioConfigurationProperties.accountSid(), twilioConfigurationProperties.authToken()).httpClient(
+                new com.twilio.http.HttpClient() {
+                    @Override
+                    public Response makeRequest(Request request) {
+                        try {
+                            HttpResponse<String> httpResponse = httpClient.send(HttpRequest.newBuilder()
+                                    .setHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                                    .uri(URI.create(twilioServer.url("/").toString()))
+                                    .method(request.getMethod().name(), HttpRequest.BodyPublishers.ofString(generateJsonStringFromPostParams(request.getPostParams()), UTF_8))
+                                    .build(), HttpResponse.BodyHandlers.ofString());
+                            return new Response(httpResponse.body(), httpResponse.statusCode());
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                }
+        ).build();
+    }
+
+    private EmailRequest emailRequest(int sequence) {
+        return EmailRequest.builder()
+                .messageId(randomUUID().toString())
+                .to(RECIPIENT)
+                .subject(EMAIL_PREFIX + sequence)
+                .type(ACCOUNT_CREATED)
+                .data(Map.of("firstName", "User " + sequence, "password", "benchmark"))
+                .isHtml(true)
+                .build();
+    }
+
+    private OtpSmsRequest otpSmsRequest(int sequence) {
+        return OtpSmsRequest.builder()
+                .messageId(randomUUID().toString())
+                .otpId(sequence)
+                .phoneNumber(PHONE_NUMBER)
+                .content(SMS_PREFIX + sequence)
+                .build();
+    }
+
+    private static int messageCount(int rate, Duration period) {
+        return (int) (rate * period.toMillis() / SECONDS.toMillis(1));
+    }
+
+    private static int sequence(String value, String prefix) {
+        return value != null && value.startsWith(prefix) ? Integer.parseInt(value.substring(prefix.length())) : -1;
+    }
+
+    @RequiredArgsConstructor
+    private static final class InboxListener implements FolderListener {
+
+        private final MailFolder inbox;
+        private final LatencyRecorder recorder;
+
+        @Override
+        public void added(int msn) {
+            long completedNanos = System.nanoTime();
+            try {
+                recorder.completed(sequence(inbox.getMessages().get(msn - 1).getMimeMessage().getSubject(), EMAIL_PREFIX), completedNanos);
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void expunged(int msn) {
+        }
+
+        @Override
+        public void flagsUpdated(int msn, Flags flags, Long uid) {
+        }
+
+        @Override
+        public void mailboxDeleted() {
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class TwilioDispatcher extends Dispatcher {
+
+        private final LatencyRecorder recorder;
+        private final ObjectMapper objectMapper;
+        private final String response;
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            long completedNanos = System.nanoTime();
+            try {
+                recorder.completed(sequence(objectMapper.readTree(request.getBody().readUtf8()).path("Body").asText(), SMS_PREFIX), completedNanos);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            return new MockResponse().setResponseCode(200)
+                    .setHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
+                    .setBody(response);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.kanwise.notification_service.configuration.dedup;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class DeduplicationConfigurationPropertiesTest {
+
+    @Autowired
+    private DeduplicationConfigurationProperties deduplicationConfigurationProperties;
+
+    @Test
+    void shouldPopulateDeduplicationConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertFalse(deduplicationConfigurationProperties.enabled());
+        assertEquals(Duration.ofSeconds(10), deduplicationConfigurationProperties.window());
+        assertEquals(1000, deduplicationConfigurationProperties.expectedInsertions());
+        assertEquals(0.0001, deduplicationConfigurationProperties.falsePositiveProbability());
+        assertEquals(Duration.ofSeconds(20), deduplicationConfigurationProperties.getRetention());
+        assertEquals(Duration.ofSeconds(10), deduplicationConfigurationProperties.restoreTimeout());
+    }
+}
@@ -0,0 +1,29 @@
+package com.kanwise.notification_service.configuration.email;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class EmailDeliveryConfigurationPropertiesTest {
+
+    @Autowired
+    private EmailDeliveryConfigurationProperties emailDeliveryConfigurationProperties;
+
+    @Test
+    void shouldPopulateEmailDeliveryConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(1, emailDeliveryConfigurationProperties.listenerConcurrency());
+        assertEquals(10, emailDeliveryConfigurationProperties.maxPollRecords());
+        assertEquals(2, emailDeliveryConfigurationProperties.renderThreads());
+        assertEquals(2, emailDeliveryConfigurationProperties.transportPoolSize());
+        assertEquals(5, emailDeliveryConfigurationProperties.maxMessagesPerTransport());
+    }
+}
@@ -0,0 +1,40 @@
+package com.kanwise.notification_service.configuration.email;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.NEW_TASK_ASSIGNED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PROJECT_JOIN_REQUEST_ACCEPTED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PROJECT_JOIN_REQUEST_REJECTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class EmailDigestConfigurationPropertiesTest {
+
+    @Autowired
+    private EmailDigestConfigurationProperties emailDigestConfigurationProperties;
+
+    @Test
+    void shouldPopulateEmailDigestConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertFalse(emailDigestConfigurationProperties.enabled());
+        assertEquals(Set.of(NEW_TASK_ASSIGNED, PROJECT_JOIN_REQUEST_ACCEPTED, PROJECT_JOIN_REQUEST_REJECTED), emailDigestConfigurationProperties.types());
+        assertEquals(Duration.ofSeconds(2), emailDigestConfigurationProperties.window());
+        assertEquals(5, emailDigestConfigurationProperties.maxEntries());
+        assertEquals(Duration.ofMillis(500), emailDigestConfigurationProperties.flushInterval());
+        assertEquals(1, emailDigestConfigurationProperties.partitions());
+        assertEquals("Your Kanwise notifications", emailDigestConfigurationProperties.subject());
+        assertEquals(3, emailDigestConfigurationProperties.maxFlushAttempts());
+        assertEquals(Duration.ofSeconds(10), emailDigestConfigurationProperties.restoreTimeout());
+    }
+}
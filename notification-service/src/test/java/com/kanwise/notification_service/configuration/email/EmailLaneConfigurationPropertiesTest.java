@@ -0,0 +1,57 @@
+package com.kanwise.notification_service.configuration.email;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.kanwise.notification_service.model.email.EmailLane.BULK;
+import static com.kanwise.notification_service.model.email.EmailLane.PRIORITY;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class EmailLaneConfigurationPropertiesTest {
+
+    @Autowired
+    private EmailLaneConfigurationProperties emailLaneConfigurationProperties;
+
+    @Test
+    void shouldPopulateEmailLaneConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(1, emailLaneConfigurationProperties.priority().listenerConcurrency());
+        assertEquals(5, emailLaneConfigurationProperties.priority().maxPollRecords());
+        assertEquals(1, emailLaneConfigurationProperties.priority().renderThreads());
+        assertEquals(1, emailLaneConfigurationProperties.bulk().listenerConcurrency());
+        assertEquals(10, emailLaneConfigurationProperties.bulk().maxPollRecords());
+        assertEquals(1, emailLaneConfigurationProperties.bulk().renderThreads());
+        assertEquals(1, emailLaneConfigurationProperties.priority().transportPoolSize());
+        assertEquals(1, emailLaneConfigurationProperties.bulk().transportPoolSize());
+    }
+
+    @Test
+    void shouldResolveRenderThreadsPerLane() {
+        // Given
+        int standardRenderThreads = 4;
+        // When
+        // Then
+        assertEquals(1, emailLaneConfigurationProperties.getRenderThreads(PRIORITY, standardRenderThreads));
+        assertEquals(1, emailLaneConfigurationProperties.getRenderThreads(BULK, standardRenderThreads));
+        assertEquals(standardRenderThreads, emailLaneConfigurationProperties.getRenderThreads(STANDARD, standardRenderThreads));
+    }
+
+    @Test
+    void shouldResolveTransportPoolSizePerLane() {
+        // Given
+        int standardTransportPoolSize = 2;
+        // When
+        // Then
+        assertEquals(1, emailLaneConfigurationProperties.getTransportPoolSize(PRIORITY, standardTransportPoolSize));
+        assertEquals(1, emailLaneConfigurationProperties.getTransportPoolSize(BULK, standardTransportPoolSize));
+        assertEquals(standardTransportPoolSize, emailLaneConfigurationProperties.getTransportPoolSize(STANDARD, standardTransportPoolSize));
+    }
+}
@@ -6,8 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.util.Set;
+
 import static com.kanwise.notification_service.model.email.EmailMessageType.ACCOUNT_BLOCKED;
 import static com.kanwise.notification_service.model.email.EmailMessageType.ACCOUNT_CREATED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.DIGEST;
 import static com.kanwise.notification_service.model.email.EmailMessageType.NEW_TASK_ASSIGNED;
 import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_CHANGED;
 import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_RESET;
@@ -40,5 +46,34 @@ class EmailTemplateNamesConfigurationPropertiesTest {
         assertEquals("user-information-changed.html", emailTemplateNamesConfigurationProperties.names().get(USER_INFORMATION_CHANGED));
         assertEquals("personal-report.html", emailTemplateNamesConfigurationProperties.names().get(PERSONAL_REPORT));
         assertEquals("project-report.html", emailTemplateNamesConfigurationProperties.names().get(PROJECT_REPORT));
+        assertEquals("digest.html", emailTemplateNamesConfigurationProperties.names().get(DIGEST));
+    }
+
+    @Test
+    void shouldRenderCacheSize() {
+        // Given
+        // When
+        // Then
+        assertEquals(16, emailTemplateNamesConfigurationProperties.renderCacheSize());
+    }
+
+    @Test
+    void shouldCacheableTypes() {
+        // Given
+        // When
+        // Then
+        assertEquals(Set.of(ACCOUNT_BLOCKED, PASSWORD_CHANGED, USER_INFORMATION_CHANGED), emailTemplateNamesConfigurationProperties.cacheableTypes());
+    }
+
+    @Test
+    void shouldRejectCachingOfSecretBearingTypes() {
+        // Given
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        EmailTemplateNamesConfigurationProperties properties = new EmailTemplateNamesConfigurationProperties(emailTemplateNamesConfigurationProperties.names(), 16, Set.of(ACCOUNT_BLOCKED, PASSWORD_RESET));
+        // When
+        Set<ConstraintViolation<EmailTemplateNamesConfigurationProperties>> violations = validator.validateProperty(properties, "secretBearingTypesNotCacheable");
+        // Then
+        assertEquals(1, violations.size());
+        assertEquals("SECRET_BEARING_TYPES_NOT_CACHEABLE", violations.iterator().next().getMessage());
     }
-}
\ No newline at end of file
+}
@@ -6,8 +6,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_DEDUP;
 import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST_STATE;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
 import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 
@@ -26,5 +32,11 @@ class KafkaConfigurationPropertiesTest {
         assertEquals("localhost:29092", kafkaConfigurationProperties.bootstrapServers());
         assertEquals("notification-email", kafkaConfigurationProperties.topicNames().get(NOTIFICATION_EMAIL));
         assertEquals("notification-sms", kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS));
+        assertEquals("notification-sms-status", kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS));
+        assertEquals("notification-email-digest", kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST));
+        assertEquals("notification-email-digest-state", kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_DIGEST_STATE));
+        assertEquals("notification-email-priority", kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_PRIORITY));
+        assertEquals("notification-email-bulk", kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_BULK));
+        assertEquals("notification-dedup", kafkaConfigurationProperties.getTopicName(NOTIFICATION_DEDUP));
     }
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.kanwise.notification_service.configuration.kafka.consumer;
 
 import com.kanwise.notification_service.NotificationServiceApplication;
+import com.kanwise.notification_service.listeners.dedup.DeduplicationRebalanceListener;
 import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
 import com.kanwise.notification_service.model.sms.OtpSmsRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,12 +30,14 @@ class KafkaConsumerConfigurationTest {
 
     private final ApplicationContext applicationContext;
     private final KafkaConsumerConfiguration kafkaConsumerConfiguration;
+    private final DeduplicationRebalanceListener deduplicationRebalanceListener;
 
 
     @Autowired
-    public KafkaConsumerConfigurationTest(ApplicationContext applicationContext, KafkaConsumerConfiguration kafkaConsumerConfiguration) {
+    public KafkaConsumerConfigurationTest(ApplicationContext applicationContext, KafkaConsumerConfiguration kafkaConsumerConfiguration, DeduplicationRebalanceListener deduplicationRebalanceListener) {
         this.applicationContext = applicationContext;
         this.kafkaConsumerConfiguration = kafkaConsumerConfiguration;
+        this.deduplicationRebalanceListener = deduplicationRebalanceListener;
     }
 
     @Test
@@ -66,7 +70,7 @@ class KafkaConsumerConfigurationTest {
     void shouldPopulateEmailFactory() {
         // Given
         // When
-        KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailRequest>> emailFactory = kafkaConsumerConfiguration.emailFactory(kafkaConsumerConfiguration.consumerEmailFactory());
+        KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailRequest>> emailFactory = kafkaConsumerConfiguration.emailFactory(kafkaConsumerConfiguration.consumerEmailFactory(), deduplicationRebalanceListener);
         String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailRequest>>>() {
         }));
         Object emailFactoryBean = applicationContext.getBean(beanNames[0]);
@@ -75,6 +79,7 @@ class KafkaConsumerConfigurationTest {
         assertEquals(1, beanNames.length);
         assertEquals(emailFactory, emailFactoryBean);
         assertEquals(ConcurrentKafkaListenerContainerFactory.class, emailFactory.getClass());
+        assertEquals(deduplicationRebalanceListener, ((ConcurrentKafkaListenerContainerFactory<?, ?>) emailFactory).getContainerProperties().getConsumerRebalanceListener());
     }
 
     @Test
@@ -96,7 +101,7 @@ class KafkaConsumerConfigurationTest {
     void shouldPopulateSmsFactory() {
         // Given
         // When
-        KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsRequest>> smsFactory = kafkaConsumerConfiguration.smsFactory(kafkaConsumerConfiguration.consumerSmsFactory());
+        KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsRequest>> smsFactory = kafkaConsumerConfiguration.smsFactory(kafkaConsumerConfiguration.consumerSmsFactory(), deduplicationRebalanceListener);
         String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsRequest>>>() {
         }));
         Object smsFactoryBean = applicationContext.getBean(beanNames[0]);
@@ -105,5 +110,35 @@ class KafkaConsumerConfigurationTest {
         assertEquals(1, beanNames.length);
         assertEquals(smsFactory, smsFactoryBean);
         assertEquals(ConcurrentKafkaListenerContainerFactory.class, smsFactory.getClass());
+        assertEquals(deduplicationRebalanceListener, ((ConcurrentKafkaListenerContainerFactory<?, ?>) smsFactory).getContainerProperties().getConsumerRebalanceListener());
+        assertEquals(true, ((ConcurrentKafkaListenerContainerFactory<?, ?>) smsFactory).isBatchListener());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPopulateConsumerEmailDigestFactory() {
+        // Given
+        // When
+        ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory = kafkaConsumerConfiguration.consumerEmailDigestFactory();
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<ConsumerFactory<String, EmailDigest>>() {
+        }));
+        Object consumerEmailDigestFactoryBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(consumerEmailDigestFactory);
+        assertEquals(1, beanNames.length);
+        assertEquals(DefaultKafkaConsumerFactory.class, consumerEmailDigestFactoryBean.getClass());
+    }
+
+    @Test
+    void shouldPopulateEmailDigestFactory() {
+        // Given
+        // When
+        KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailDigest>> emailDigestFactory = kafkaConsumerConfiguration.emailDigestFactory(kafkaConsumerConfiguration.consumerEmailDigestFactory());
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, EmailDigest>>>() {
+        }));
+        Object emailDigestFactoryBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(emailDigestFactory);
+        assertEquals(1, beanNames.length);
+        assertEquals(ConcurrentKafkaListenerContainerFactory.class, emailDigestFactoryBean.getClass());
+    }
+}
@@ -0,0 +1,30 @@
+package com.kanwise.notification_service.configuration.kafka.lag;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class ConsumerLagConfigurationPropertiesTest {
+
+    @Autowired
+    private ConsumerLagConfigurationProperties consumerLagConfigurationProperties;
+
+    @Test
+    void shouldPopulateConsumerLagConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertFalse(consumerLagConfigurationProperties.enabled());
+        assertEquals(Duration.ofSeconds(1), consumerLagConfigurationProperties.refreshInterval());
+        assertEquals(Duration.ofSeconds(2), consumerLagConfigurationProperties.requestTimeout());
+    }
+}
@@ -0,0 +1,43 @@
+package com.kanwise.notification_service.configuration.kafka.producer;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import com.kanwise.notification_service.configuration.kafka.producer.KafkaProducerConfigurationProperties.TopicProducerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+import static org.apache.kafka.common.record.CompressionType.LZ4;
+import static org.apache.kafka.common.record.CompressionType.NONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class KafkaProducerConfigurationPropertiesTest {
+
+    @Autowired
+    private KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
+    @Test
+    void shouldPopulateKafkaProducerConfigurationProperties() {
+        // Given
+        // When
+        TopicProducerProperties smsStatus = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_SMS_STATUS);
+        TopicProducerProperties emailDigest = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_EMAIL_DIGEST);
+        // Then
+        assertEquals(Duration.ZERO, smsStatus.linger());
+        assertEquals(DataSize.ofKilobytes(16), smsStatus.batchSize());
+        assertEquals(NONE, smsStatus.compressionType());
+        assertEquals(Duration.ofMillis(5), emailDigest.linger());
+        assertEquals(DataSize.ofKilobytes(32), emailDigest.batchSize());
+        assertEquals(LZ4, emailDigest.compressionType());
+        assertTrue(kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL).isEmpty());
+    }
+}
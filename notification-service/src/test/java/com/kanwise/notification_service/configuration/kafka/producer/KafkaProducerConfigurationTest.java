@@ -0,0 +1,127 @@
+package com.kanwise.notification_service.configuration.kafka.producer;
+
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.apache.kafka.clients.producer.ProducerConfig.ACKS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.core.ResolvableType.forType;
+import static org.springframework.kafka.support.serializer.JsonSerializer.ADD_TYPE_INFO_HEADERS;
+
+@SpringBootTest(classes = KafkaProducerConfiguration.class)
+@ActiveProfiles("test-kafka-disabled")
+class KafkaProducerConfigurationTest {
+
+    private final ApplicationContext applicationContext;
+
+    private final KafkaProducerConfiguration kafkaProducerConfiguration;
+
+    @MockBean
+    private KafkaConfigurationProperties kafkaConfigurationProperties;
+
+    @MockBean
+    private KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
+    @Autowired
+    public KafkaProducerConfigurationTest(ApplicationContext applicationContext, KafkaProducerConfiguration kafkaProducerConfiguration) {
+        this.applicationContext = applicationContext;
+        this.kafkaProducerConfiguration = kafkaProducerConfiguration;
+    }
+
+    @Test
+    void shouldPopulateProducerSmsStatusFactory() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        // When
+        ProducerFactory<String, OtpSmsResponse> producerSmsStatusFactory = kafkaProducerConfiguration.producerSmsStatusFactory();
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<ProducerFactory<String, OtpSmsResponse>>() {
+        }));
+        Object producerSmsStatusFactoryBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(producerSmsStatusFactory);
+        assertEquals(1, beanNames.length);
+        assertEquals(DefaultKafkaProducerFactory.class, producerSmsStatusFactoryBean.getClass());
+    }
+
+    @Test
+    void shouldPopulateKafkaSmsStatusTemplate() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        // When
+        KafkaTemplate<String, OtpSmsResponse> kafkaSmsStatusTemplate = kafkaProducerConfiguration.kafkaSmsStatusTemplate(kafkaProducerConfiguration.producerSmsStatusFactory());
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaTemplate<String, OtpSmsResponse>>() {
+        }));
+        Object kafkaSmsStatusTemplateBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(kafkaSmsStatusTemplate);
+        assertEquals(1, beanNames.length);
+        assertEquals(KafkaTemplate.class, kafkaSmsStatusTemplateBean.getClass());
+    }
+
+    @Test
+    void shouldPopulateProducerEmailDigestFactory() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        // When
+        ProducerFactory<String, EmailDigest> producerEmailDigestFactory = kafkaProducerConfiguration.producerEmailDigestFactory();
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<ProducerFactory<String, EmailDigest>>() {
+        }));
+        Object producerEmailDigestFactoryBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(producerEmailDigestFactory);
+        assertEquals(1, beanNames.length);
+        assertEquals(DefaultKafkaProducerFactory.class, producerEmailDigestFactoryBean.getClass());
+    }
+
+    @Test
+    void shouldPopulateKafkaEmailDigestTemplate() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        // When
+        KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate = kafkaProducerConfiguration.kafkaEmailDigestTemplate(kafkaProducerConfiguration.producerEmailDigestFactory());
+        String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaTemplate<String, EmailDigest>>() {
+        }));
+        Object kafkaEmailDigestTemplateBean = applicationContext.getBean(beanNames[0]);
+        // Then
+        assertNotNull(kafkaEmailDigestTemplate);
+        assertEquals(1, beanNames.length);
+        assertEquals(KafkaTemplate.class, kafkaEmailDigestTemplateBean.getClass());
+    }
+
+    @Test
+    void shouldPopulateProducerConfiguration() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        // When
+        Map<String, Object> producerConfiguration = kafkaProducerConfiguration.producerConfiguration();
+        // Then
+        assertEquals(6, producerConfiguration.size());
+        assertEquals("localhost:29092", producerConfiguration.get(BOOTSTRAP_SERVERS_CONFIG));
+        assertEquals(StringSerializer.class, producerConfiguration.get(KEY_SERIALIZER_CLASS_CONFIG));
+        assertEquals(JsonSerializer.class, producerConfiguration.get(VALUE_SERIALIZER_CLASS_CONFIG));
+        assertEquals(false, producerConfiguration.get(ADD_TYPE_INFO_HEADERS));
+        assertEquals("all", producerConfiguration.get(ACKS_CONFIG));
+        assertEquals(true, producerConfiguration.get(ENABLE_IDEMPOTENCE_CONFIG));
+    }
+}
@@ -0,0 +1,30 @@
+package com.kanwise.notification_service.configuration.kafka.retry;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class KafkaRetryConfigurationPropertiesTest {
+
+    @Autowired
+    private KafkaRetryConfigurationProperties kafkaRetryConfigurationProperties;
+
+    @Test
+    void shouldPopulateKafkaRetryConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(List.of(Duration.ofSeconds(1), Duration.ofSeconds(2)), kafkaRetryConfigurationProperties.backoffs());
+        assertEquals(10, kafkaRetryConfigurationProperties.replayBatchSize());
+        assertEquals(Duration.ofSeconds(2), kafkaRetryConfigurationProperties.replayPollTimeout());
+    }
+}
@@ -0,0 +1,146 @@
+package com.kanwise.notification_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.PERSONAL_REPORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailRequestSchemaTest {
+
+    private static final String TOPIC = "notification-email";
+
+    private final BinarySerializer<EmailRequest> serializer = new BinarySerializer<>(new EmailRequestSchema());
+    private final BinaryDeserializer<EmailRequest> deserializer = new BinaryDeserializer<>(new EmailRequestSchema(), EmailRequest.class);
+
+    @Test
+    void shouldRoundTripEmailRequest() {
+        // Given
+        EmailRequest emailRequest = constructEmailRequest();
+        // When
+        EmailRequest result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, emailRequest));
+        // Then
+        assertEquals(emailRequest.getMessageId(), result.getMessageId());
+        assertEquals(emailRequest.getTo(), result.getTo());
+        assertEquals(emailRequest.getSubject(), result.getSubject());
+        assertEquals(PERSONAL_REPORT, result.getType());
+        assertTrue(result.isHtml());
+        assertEquals(emailRequest.getData(), result.getData());
+    }
+
+    @Test
+    void shouldProduceSmallerPayloadThanJson() {
+        // Given
+        EmailRequest emailRequest = constructEmailRequest();
+        // When
+        byte[] binary = serializer.serialize(TOPIC, emailRequest);
+        byte[] json;
+        try (JsonSerializer<EmailRequest> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, emailRequest);
+        }
+        // Then
+        assertTrue(binary.length < json.length);
+    }
+
+    @Test
+    void shouldFallBackToJsonForLegacyPayloads() {
+        // Given
+        EmailRequest emailRequest = constructEmailRequest();
+        byte[] json;
+        try (JsonSerializer<EmailRequest> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, emailRequest);
+        }
+        // When
+        EmailRequest result = deserializer.deserialize(TOPIC, json);
+        // Then
+        assertEquals(emailRequest.getMessageId(), result.getMessageId());
+        assertEquals(PERSONAL_REPORT, result.getType());
+        assertEquals(emailRequest.getData(), result.getData());
+    }
+
+    @Test
+    void shouldRoundTripMissingFields() {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder().to("jolettatiger.kanwise@gmail.com").build();
+        // When
+        EmailRequest result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, emailRequest));
+        // Then
+        assertEquals("jolettatiger.kanwise@gmail.com", result.getTo());
+        assertNull(result.getType());
+        assertNull(result.getData());
+        assertNull(result.getMessageId());
+    }
+
+    @Test
+    void shouldRejectUnsupportedSchemaVersion() {
+        // Given
+        byte[] payload = serializer.serialize(TOPIC, constructEmailRequest());
+        payload[1] = 2;
+        // When
+        // Then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, payload));
+    }
+
+    @Test
+    void shouldRejectTruncatedPayload() {
+        // Given
+        byte[] payload = serializer.serialize(TOPIC, constructEmailRequest());
+        // When
+        // Then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, Arrays.copyOf(payload, payload.length / 2)));
+    }
+
+    @Test
+    void shouldRejectListSizeBeyondRemainingPayload() {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder().data(Map.of("projects", List.of())).build();
+        byte[] payload = withOversizedTrailingSize(serializer.serialize(TOPIC, emailRequest));
+        // When
+        // Then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, payload));
+    }
+
+    @Test
+    void shouldRejectMapSizeBeyondRemainingPayload() {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder().data(Map.of()).build();
+        byte[] payload = withOversizedTrailingSize(serializer.serialize(TOPIC, emailRequest));
+        // When
+        // Then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, payload));
+    }
+
+    private byte[] withOversizedTrailingSize(byte[] payload) {
+        byte[] malformed = Arrays.copyOf(payload, payload.length + 4);
+        System.arraycopy(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07}, 0, malformed, payload.length - 1, 5);
+        return malformed;
+    }
+
+    private EmailRequest constructEmailRequest() {
+        return EmailRequest.builder()
+                .messageId("1d7b2c9e-4c7e-4b43-9d84-0f3c8c7a2f10")
+                .to("jolettatiger.kanwise@gmail.com")
+                .subject("Personal Report")
+                .type(PERSONAL_REPORT)
+                .isHtml(true)
+                .data(Map.of(
+                        "firstName", "Joletta",
+                        "tasks", 12,
+                        "estimatedTime", 5_400_000_000L,
+                        "performance", 0.66,
+                        "active", true,
+                        "projects", List.of("Kanwise", Map.of("title", "Reports", "members", 4))))
+                .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.kanwise.notification_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OtpSmsRequestSchemaTest {
+
+    private static final String TOPIC = "notification-sms";
+
+    private final BinarySerializer<OtpSmsRequest> serializer = new BinarySerializer<>(new OtpSmsRequestSchema());
+    private final BinaryDeserializer<OtpSmsRequest> deserializer = new BinaryDeserializer<>(new OtpSmsRequestSchema(), OtpSmsRequest.class);
+
+    @Test
+    void shouldRoundTripOtpSmsRequest() {
+        // Given
+        OtpSmsRequest otpSmsRequest = OtpSmsRequest.builder()
+                .messageId("4f0a6d32-7b8e-4f38-a0a4-3c2f5b2c1d9e")
+                .phoneNumber("+48123456789")
+                .content("Your OTP is 123456")
+                .otpId(Long.MAX_VALUE)
+                .build();
+        // When
+        OtpSmsRequest result = deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, otpSmsRequest));
+        // Then
+        assertEquals(otpSmsRequest.getMessageId(), result.getMessageId());
+        assertEquals(otpSmsRequest.getPhoneNumber(), result.getPhoneNumber());
+        assertEquals(otpSmsRequest.getContent(), result.getContent());
+        assertEquals(Long.MAX_VALUE, result.getOtpId());
+    }
+}
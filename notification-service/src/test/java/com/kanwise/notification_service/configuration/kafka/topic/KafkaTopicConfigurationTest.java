@@ -8,6 +8,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.apache.kafka.common.config.TopicConfig.CLEANUP_POLICY_CONFIG;
+import static org.apache.kafka.common.config.TopicConfig.RETENTION_MS_CONFIG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -53,4 +55,93 @@ class KafkaTopicConfigurationTest {
         assertEquals(topicName, notificationSmsTopic.name());
         assertEquals(notificationSmsTopicBean, notificationSmsTopic);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPopulateNotificationSmsStatusTopic() {
+        // Given
+        String topicName = "notification-sms-status";
+        // When
+        NewTopic notificationSmsStatusTopic = kafkaTopicConfiguration.notificationSmsStatusTopic();
+        Object notificationSmsStatusTopicBean = applicationContext.getBean("notificationSmsStatusTopic");
+        // Then
+        assertNotNull(notificationSmsStatusTopicBean);
+        assertNotNull(notificationSmsStatusTopic);
+        assertEquals(topicName, notificationSmsStatusTopic.name());
+        assertEquals(notificationSmsStatusTopicBean, notificationSmsStatusTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationEmailDigestTopic() {
+        // Given
+        String topicName = "notification-email-digest";
+        // When
+        NewTopic notificationEmailDigestTopic = kafkaTopicConfiguration.notificationEmailDigestTopic();
+        Object notificationEmailDigestTopicBean = applicationContext.getBean("notificationEmailDigestTopic");
+        // Then
+        assertNotNull(notificationEmailDigestTopicBean);
+        assertNotNull(notificationEmailDigestTopic);
+        assertEquals(topicName, notificationEmailDigestTopic.name());
+        assertEquals(1, notificationEmailDigestTopic.numPartitions());
+        assertEquals(notificationEmailDigestTopicBean, notificationEmailDigestTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationEmailDigestStateTopic() {
+        // Given
+        String topicName = "notification-email-digest-state";
+        // When
+        NewTopic notificationEmailDigestStateTopic = kafkaTopicConfiguration.notificationEmailDigestStateTopic();
+        Object notificationEmailDigestStateTopicBean = applicationContext.getBean("notificationEmailDigestStateTopic");
+        // Then
+        assertNotNull(notificationEmailDigestStateTopicBean);
+        assertNotNull(notificationEmailDigestStateTopic);
+        assertEquals(topicName, notificationEmailDigestStateTopic.name());
+        assertEquals(1, notificationEmailDigestStateTopic.numPartitions());
+        assertEquals("compact", notificationEmailDigestStateTopic.configs().get(CLEANUP_POLICY_CONFIG));
+        assertEquals(notificationEmailDigestStateTopicBean, notificationEmailDigestStateTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationEmailPriorityTopic() {
+        // Given
+        String topicName = "notification-email-priority";
+        // When
+        NewTopic notificationEmailPriorityTopic = kafkaTopicConfiguration.notificationEmailPriorityTopic();
+        Object notificationEmailPriorityTopicBean = applicationContext.getBean("notificationEmailPriorityTopic");
+        // Then
+        assertNotNull(notificationEmailPriorityTopicBean);
+        assertNotNull(notificationEmailPriorityTopic);
+        assertEquals(topicName, notificationEmailPriorityTopic.name());
+        assertEquals(notificationEmailPriorityTopicBean, notificationEmailPriorityTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationEmailBulkTopic() {
+        // Given
+        String topicName = "notification-email-bulk";
+        // When
+        NewTopic notificationEmailBulkTopic = kafkaTopicConfiguration.notificationEmailBulkTopic();
+        Object notificationEmailBulkTopicBean = applicationContext.getBean("notificationEmailBulkTopic");
+        // Then
+        assertNotNull(notificationEmailBulkTopicBean);
+        assertNotNull(notificationEmailBulkTopic);
+        assertEquals(topicName, notificationEmailBulkTopic.name());
+        assertEquals(notificationEmailBulkTopicBean, notificationEmailBulkTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationDedupTopic() {
+        // Given
+        String topicName = "notification-dedup";
+        // When
+        NewTopic notificationDedupTopic = kafkaTopicConfiguration.notificationDedupTopic();
+        Object notificationDedupTopicBean = applicationContext.getBean("notificationDedupTopic");
+        // Then
+        assertNotNull(notificationDedupTopicBean);
+        assertNotNull(notificationDedupTopic);
+        assertEquals(topicName, notificationDedupTopic.name());
+        assertEquals("compact,delete", notificationDedupTopic.configs().get(CLEANUP_POLICY_CONFIG));
+        assertEquals("20000", notificationDedupTopic.configs().get(RETENTION_MS_CONFIG));
+        assertEquals(notificationDedupTopicBean, notificationDedupTopic);
+    }
+}
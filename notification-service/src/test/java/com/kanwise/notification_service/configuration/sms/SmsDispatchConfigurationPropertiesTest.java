@@ -0,0 +1,34 @@
+package com.kanwise.notification_service.configuration.sms;
+
+import com.kanwise.notification_service.NotificationServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static com.kanwise.notification_service.model.sms.SmsProviderType.STUB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = NotificationServiceApplication.class)
+@ActiveProfiles("test-kafka-disabled")
+class SmsDispatchConfigurationPropertiesTest {
+
+    @Autowired
+    private SmsDispatchConfigurationProperties smsDispatchConfigurationProperties;
+
+    @Test
+    void shouldPopulateSmsDispatchConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(STUB, smsDispatchConfigurationProperties.provider());
+        assertEquals(50, smsDispatchConfigurationProperties.ratePerSecond());
+        assertEquals(50, smsDispatchConfigurationProperties.burstCapacity());
+        assertEquals(4, smsDispatchConfigurationProperties.maxInFlight());
+        assertEquals(Duration.ofSeconds(2), smsDispatchConfigurationProperties.providerTimeout());
+        assertEquals(Duration.ofMillis(10), smsDispatchConfigurationProperties.stubLatency());
+        assertEquals(Duration.ofSeconds(5), smsDispatchConfigurationProperties.drainTimeout());
+    }
+}
@@ -1,13 +1,12 @@
 package com.kanwise.notification_service.listeners;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.tomakehurst.wiremock.WireMockServer;
-import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.clients.kafka.serialization.schema.OtpSmsResponseSchema;
 import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
 import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
 import com.kanwise.notification_service.configuration.twillio.TwilioConfigurationProperties;
 import com.kanwise.notification_service.model.sms.OtpSmsRequest;
-import com.kanwise.notification_service.test.TestServiceInstanceListSupplier;
 import com.twilio.Twilio;
 import com.twilio.http.Request;
 import com.twilio.http.Response;
@@ -16,8 +15,11 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,22 +44,22 @@ import org.testcontainers.utility.DockerImageName;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
-import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
-import static com.github.tomakehurst.wiremock.client.WireMock.ok;
-import static com.github.tomakehurst.wiremock.client.WireMock.post;
-import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
-import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
-import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
 import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static com.kanwise.notification_service.listeners.KafkaTestingUtils.getKafkaConsumerProperties;
 import static com.kanwise.notification_service.listeners.KafkaTestingUtils.getKafkaProducerProperties;
 import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.apache.kafka.clients.admin.AdminClient.create;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.kafka.config.TopicBuilder.name;
@@ -79,18 +81,18 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
     private final BasicJsonTester json;
     private final TwilioConfigurationProperties twilioConfigurationProperties;
     private final java.net.http.HttpClient client;
-    private final WireMockServer wireMockServer;
     private final ObjectMapper objectMapper;
+    private final List<ConsumerRecord<String, OtpSmsResponse>> smsStatusRecords = new ArrayList<>();
     private MockWebServer mockWebServer;
+    private KafkaConsumer<String, OtpSmsResponse> smsStatusConsumer;
 
 
     @Autowired
-    public KafkaSmsListenersIT(KafkaAdmin kafkaAdmin, KafkaConfigurationProperties kafkaConfigurationProperties, KafkaProducer<String, OtpSmsRequest> kafkaOtpRequestProducer, TwilioConfigurationProperties twilioConfigurationProperties, WireMockServer wireMockServer, ObjectMapper objectMapper) {
+    public KafkaSmsListenersIT(KafkaAdmin kafkaAdmin, KafkaConfigurationProperties kafkaConfigurationProperties, KafkaProducer<String, OtpSmsRequest> kafkaOtpRequestProducer, TwilioConfigurationProperties twilioConfigurationProperties, ObjectMapper objectMapper) {
         this.kafkaAdminClient = create(kafkaAdmin.getConfigurationProperties());
         this.kafkaConfigurationProperties = kafkaConfigurationProperties;
         this.kafkaOtpRequestProducer = kafkaOtpRequestProducer;
         this.twilioConfigurationProperties = twilioConfigurationProperties;
-        this.wireMockServer = wireMockServer;
         this.objectMapper = objectMapper;
         this.client = HttpClient.newBuilder().build();
         this.json = new BasicJsonTester(this.getClass());
@@ -106,11 +108,14 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
         kafkaAdminClient.createTopics(List.of(name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS)).build()));
         mockWebServer = new MockWebServer();
         Twilio.setRestClient(getTestTwilioRestClient());
+        smsStatusConsumer = new KafkaConsumer<>(getKafkaConsumerProperties(kafkaContainer, "sms-status-" + System.nanoTime()), new StringDeserializer(), new BinaryDeserializer<>(new OtpSmsResponseSchema(), OtpSmsResponse.class));
+        smsStatusConsumer.subscribe(List.of(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS)));
     }
 
     @AfterEach
     void afterEach() {
-        wireMockServer.resetAll();
+        smsStatusConsumer.close();
+        smsStatusRecords.clear();
     }
 
     private TwilioRestClient getTestTwilioRestClient() {
@@ -157,9 +162,6 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
                 .setHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
                 .setBody(getJson("twilio_response/message-response.json")));
 
-        wireMockServer.stubFor(post("/auth/otp/sms/response")
-                .willReturn(ok()));
-
         kafkaOtpRequestProducer.send(new ProducerRecord<>(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS), otpSmsRequest));
         // Then
         await().atMost(2, SECONDS).untilAsserted(() -> {
@@ -170,8 +172,13 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
             assertThat(body).extractingJsonPathStringValue("$.Body").isEqualTo(otpSmsRequest.getContent());
         });
 
-        await().atMost(2, SECONDS).untilAsserted(() -> wireMockServer.verify(1, postRequestedFor(
-                urlEqualTo("/auth/otp/sms/response")).withRequestBody(equalToJson(objectMapper.writeValueAsString(otpSmsResponse)))));
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            smsStatusConsumer.poll(Duration.ofMillis(100)).forEach(smsStatusRecords::add);
+            assertFalse(smsStatusRecords.isEmpty());
+            ConsumerRecord<String, OtpSmsResponse> smsStatusRecord = smsStatusRecords.get(smsStatusRecords.size() - 1);
+            assertEquals(String.valueOf(otpSmsResponse.getOtpId()), smsStatusRecord.key());
+            assertEquals(objectMapper.valueToTree(otpSmsResponse), objectMapper.valueToTree(smsStatusRecord.value()));
+        });
     }
 
     @Test
@@ -194,11 +201,6 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
                 .setHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
                 .setBody(getJson("twilio_response/message-response-error.json")));
 
-        wireMockServer.stubFor(post("/auth/otp/sms/response")
-                .willReturn(ok()
-                        .withHeader(CONTENT_TYPE, APPLICATION_JSON_VALUE)
-                        .withBody(objectMapper.writeValueAsString(otpSmsResponse))));
-
         kafkaOtpRequestProducer.send(new ProducerRecord<>(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS), otpSmsRequest));
 
         // Then
@@ -210,8 +212,13 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
             assertThat(body).extractingJsonPathStringValue("$.Body").isEqualTo(otpSmsRequest.getContent());
         });
 
-        await().atMost(2, SECONDS).untilAsserted(() -> wireMockServer.verify(1, postRequestedFor(
-                urlEqualTo("/auth/otp/sms/response")).withRequestBody(equalToJson(objectMapper.writeValueAsString(otpSmsResponse)))));
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            smsStatusConsumer.poll(Duration.ofMillis(100)).forEach(smsStatusRecords::add);
+            assertFalse(smsStatusRecords.isEmpty());
+            ConsumerRecord<String, OtpSmsResponse> smsStatusRecord = smsStatusRecords.get(smsStatusRecords.size() - 1);
+            assertEquals(String.valueOf(otpSmsResponse.getOtpId()), smsStatusRecord.key());
+            assertEquals(objectMapper.valueToTree(otpSmsResponse), objectMapper.valueToTree(smsStatusRecord.value()));
+        });
     }
 
     private String getJson(String fileName) {
@@ -224,18 +231,5 @@ class KafkaSmsListenersIT implements JsonTestingUtils {
         public KafkaProducer<String, OtpSmsRequest> kafkaOtpSmsRequestProducer() {
             return new KafkaProducer<>(getKafkaProducerProperties(kafkaContainer));
         }
-
-        @Bean(destroyMethod = "stop")
-        WireMockServer wireMockServer() {
-            WireMockConfiguration options = wireMockConfig().dynamicPort();
-            WireMockServer wireMock = new WireMockServer(options);
-            wireMock.start();
-            return wireMock;
-        }
-
-        @Bean
-        TestServiceInstanceListSupplier testServiceInstanceListSupplier(WireMockServer wireMockServer) {
-            return new TestServiceInstanceListSupplier("user-service", wireMockServer.port());
-        }
     }
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package com.kanwise.notification_service.listeners;
 
 import lombok.experimental.UtilityClass;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.testcontainers.containers.KafkaContainer;
 
 import java.util.Map;
 
+import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
@@ -20,4 +25,13 @@ public class KafkaTestingUtils {
                 KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
                 VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
     }
+
+    public static Map<String, Object> getKafkaConsumerProperties(KafkaContainer kafkaContainer, String groupId) {
+        return Map.of(
+                BOOTSTRAP_SERVERS_CONFIG, kafkaContainer.getBootstrapServers(),
+                GROUP_ID_CONFIG, groupId,
+                AUTO_OFFSET_RESET_CONFIG, "earliest",
+                KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    }
 }
@@ -0,0 +1,45 @@
+package com.kanwise.notification_service.service.dedup.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void shouldContainEveryInsertedValue() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.001);
+        // When
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("message-" + i));
+        // Then
+        assertTrue(IntStream.range(0, 10_000).allMatch(i -> bloomFilter.mightContain("message-" + i)));
+        assertEquals(10_000, bloomFilter.getInsertions());
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearConfiguredProbability() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.001);
+        IntStream.range(0, 10_000).forEach(i -> bloomFilter.put("message-" + i));
+        // When
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> bloomFilter.mightContain("other-" + i))
+                .count();
+        // Then
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void shouldNotContainValueOfEmptyFilter() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(100, 0.01);
+        // When
+        // Then
+        assertFalse(bloomFilter.mightContain("message"));
+    }
+}
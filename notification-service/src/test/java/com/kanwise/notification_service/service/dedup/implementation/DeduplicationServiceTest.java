@@ -0,0 +1,226 @@
+package com.kanwise.notification_service.service.dedup.implementation;
+
+import com.kanwise.notification_service.configuration.dedup.DeduplicationConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.IntStream;
+
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.EMAIL;
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.SMS;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_DEDUP;
+import static org.apache.kafka.clients.consumer.OffsetResetStrategy.EARLIEST;
+import static org.apache.kafka.common.record.TimestampType.CREATE_TIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeduplicationServiceTest {
+
+    private static final Instant NOW = Instant.parse("2022-12-01T10:00:00Z");
+    private static final String DEDUP_TOPIC = "notification-dedup";
+    private static final String SUPPRESSED_METRIC = "kanwise.notification.duplicates.suppressed";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaRetryTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, byte[]> consumerRetryFactory = mock(ConsumerFactory.class);
+    private final Clock clock = mock(Clock.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaRetryTemplate.send(anyString(), anyString(), any(byte[].class))).thenReturn(future);
+        when(clock.instant()).thenReturn(NOW);
+    }
+
+    @Test
+    void shouldSuppressDeliveredMessage() {
+        // Given
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        // When
+        boolean firstAcquired = deduplicationService.tryAcquire(EMAIL, "message-id");
+        deduplicationService.markDelivered("message-id");
+        boolean secondAcquired = deduplicationService.tryAcquire(EMAIL, "message-id");
+        // Then
+        assertTrue(firstAcquired);
+        assertFalse(secondAcquired);
+        assertEquals(1.0, meterRegistry.get(SUPPRESSED_METRIC).tag("channel", "email").counter().count());
+        verify(kafkaRetryTemplate).send(eq(DEDUP_TOPIC), eq("message-id"), any(byte[].class));
+    }
+
+    @Test
+    void shouldSuppressMessageWhileInFlight() {
+        // Given
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        // When
+        boolean firstAcquired = deduplicationService.tryAcquire(SMS, "message-id");
+        boolean secondAcquired = deduplicationService.tryAcquire(SMS, "message-id");
+        // Then
+        assertTrue(firstAcquired);
+        assertFalse(secondAcquired);
+        assertEquals(1.0, meterRegistry.get(SUPPRESSED_METRIC).tag("channel", "sms").counter().count());
+    }
+
+    @Test
+    void shouldAcceptMessageAgainAfterFailedDelivery() {
+        // Given
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        deduplicationService.tryAcquire(EMAIL, "message-id");
+        // When
+        deduplicationService.release("message-id");
+        // Then
+        assertTrue(deduplicationService.tryAcquire(EMAIL, "message-id"));
+        verify(kafkaRetryTemplate, never()).send(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    void shouldForgetMessageAfterTwoWindows() {
+        // Given
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        deduplicationService.tryAcquire(EMAIL, "message-id");
+        deduplicationService.markDelivered("message-id");
+        // When
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(15)));
+        boolean acquiredAfterOneWindow = deduplicationService.tryAcquire(EMAIL, "message-id");
+        when(clock.instant()).thenReturn(NOW.plus(Duration.ofMinutes(30)));
+        boolean acquiredAfterTwoWindows = deduplicationService.tryAcquire(EMAIL, "message-id");
+        // Then
+        assertFalse(acquiredAfterOneWindow);
+        assertTrue(acquiredAfterTwoWindows);
+    }
+
+    @Test
+    void shouldAcceptEveryMessageWhenDisabledOrWithoutMessageId() {
+        // Given
+        DeduplicationService disabledDeduplicationService = createDeduplicationService(false);
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        // When
+        disabledDeduplicationService.markDelivered("message-id");
+        deduplicationService.markDelivered(null);
+        // Then
+        assertTrue(disabledDeduplicationService.tryAcquire(EMAIL, "message-id"));
+        assertTrue(deduplicationService.tryAcquire(EMAIL, null));
+        assertTrue(deduplicationService.tryAcquire(EMAIL, null));
+        verify(kafkaRetryTemplate, never()).send(anyString(), anyString(), any(byte[].class));
+    }
+
+    @Test
+    void shouldNotSuppressMessageOnBloomFilterFalsePositive() {
+        // Given
+        BloomFilter bloomFilter = new BloomFilter(1, 0.1);
+        bloomFilter.put("delivered-id");
+        String falsePositiveId = IntStream.range(0, 1_000_000)
+                .mapToObj("message-%d"::formatted)
+                .filter(bloomFilter::mightContain)
+                .findFirst()
+                .orElseThrow();
+        DeduplicationService deduplicationService = createDeduplicationService(new DeduplicationConfigurationProperties(true, Duration.ofMinutes(15), 1, 0.1, Duration.ofSeconds(10)));
+        deduplicationService.tryAcquire(SMS, "delivered-id");
+        deduplicationService.markDelivered("delivered-id");
+        // When
+        boolean falsePositiveAcquired = deduplicationService.tryAcquire(SMS, falsePositiveId);
+        boolean deliveredAcquired = deduplicationService.tryAcquire(SMS, "delivered-id");
+        // Then
+        assertTrue(falsePositiveAcquired);
+        assertFalse(deliveredAcquired);
+        assertEquals(1.0, meterRegistry.get(SUPPRESSED_METRIC).tag("channel", "sms").counter().count());
+    }
+
+    @Test
+    void shouldRestoreMessageIdsDeliveredWithinWindow() {
+        // Given
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(EARLIEST);
+        TopicPartition partition = new TopicPartition(DEDUP_TOPIC, 0);
+        consumer.updatePartitions(DEDUP_TOPIC, List.of(new PartitionInfo(DEDUP_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.updateEndOffsets(Map.of(partition, 2L));
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(createRecord(0L, NOW.minus(Duration.ofHours(1)), "expired-id"));
+            consumer.addRecord(createRecord(1L, NOW.minus(Duration.ofMinutes(1)), "recent-id"));
+        });
+        when(consumerRetryFactory.createConsumer(eq("notification_dedup_restore"), any(), any(), any(Properties.class))).thenReturn(consumer);
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        // When
+        deduplicationService.restore();
+        // Then
+        assertFalse(deduplicationService.tryAcquire(EMAIL, "recent-id"));
+        assertTrue(deduplicationService.tryAcquire(EMAIL, "expired-id"));
+    }
+
+    @Test
+    void shouldRestoreOnlyNewMessageIdsAfterRebalance() {
+        // Given
+        TopicPartition partition = new TopicPartition(DEDUP_TOPIC, 0);
+        MockConsumer<String, byte[]> startupConsumer = createRestoreConsumer(partition, 1L);
+        startupConsumer.schedulePollTask(() -> startupConsumer.addRecord(createRecord(0L, NOW.minus(Duration.ofMinutes(1)), "startup-id")));
+        MockConsumer<String, byte[]> rebalanceConsumer = createRestoreConsumer(partition, 2L);
+        rebalanceConsumer.schedulePollTask(() -> {
+            rebalanceConsumer.addRecord(createRecord(0L, NOW.minus(Duration.ofMinutes(1)), "already-restored-id"));
+            rebalanceConsumer.addRecord(createRecord(1L, NOW.minus(Duration.ofMinutes(1)), "rebalanced-id"));
+        });
+        when(consumerRetryFactory.createConsumer(eq("notification_dedup_restore"), any(), any(), any(Properties.class))).thenReturn(startupConsumer, rebalanceConsumer);
+        DeduplicationService deduplicationService = createDeduplicationService(true);
+        deduplicationService.restore();
+        // When
+        deduplicationService.restore();
+        // Then
+        assertFalse(deduplicationService.tryAcquire(SMS, "startup-id"));
+        assertFalse(deduplicationService.tryAcquire(SMS, "rebalanced-id"));
+        assertTrue(deduplicationService.tryAcquire(SMS, "already-restored-id"));
+    }
+
+    private MockConsumer<String, byte[]> createRestoreConsumer(TopicPartition partition, long endOffset) {
+        MockConsumer<String, byte[]> consumer = new MockConsumer<>(EARLIEST);
+        consumer.updatePartitions(DEDUP_TOPIC, List.of(new PartitionInfo(DEDUP_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.updateEndOffsets(Map.of(partition, endOffset));
+        return consumer;
+    }
+
+    private ConsumerRecord<String, byte[]> createRecord(long offset, Instant timestamp, String messageId) {
+        return new ConsumerRecord<>(DEDUP_TOPIC, 0, offset, timestamp.toEpochMilli(), CREATE_TIME, 0, 0, messageId, new byte[0], new RecordHeaders(), Optional.empty());
+    }
+
+    private DeduplicationService createDeduplicationService(boolean enabled) {
+        return createDeduplicationService(new DeduplicationConfigurationProperties(enabled, Duration.ofMinutes(15), 1000, 0.0001, Duration.ofSeconds(10)));
+    }
+
+    private DeduplicationService createDeduplicationService(DeduplicationConfigurationProperties deduplicationConfigurationProperties) {
+        return new DeduplicationService(
+                deduplicationConfigurationProperties,
+                new KafkaConfigurationProperties("localhost:29092", Map.of(NOTIFICATION_DEDUP, DEDUP_TOPIC)),
+                kafkaRetryTemplate,
+                consumerRetryFactory,
+                meterRegistry,
+                clock
+        );
+    }
+}
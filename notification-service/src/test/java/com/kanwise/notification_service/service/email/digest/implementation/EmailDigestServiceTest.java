@@ -0,0 +1,325 @@
+package com.kanwise.notification_service.service.email.digest.implementation;
+
+import com.kanwise.notification_service.configuration.dedup.DeduplicationConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailDigestConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.retry.KafkaRetryConfigurationProperties;
+import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailMessageType;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.model.email.digest.EmailDigest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import com.kanwise.notification_service.service.dedup.implementation.DeduplicationService;
+import com.kanwise.notification_service.service.email.sender.IEmailSender;
+import com.kanwise.notification_service.service.retry.RetryTopicResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.modelmapper.ModelMapper;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.EMAIL;
+import static com.kanwise.notification_service.model.email.EmailMessageType.DIGEST;
+import static com.kanwise.notification_service.model.email.EmailMessageType.NEW_TASK_ASSIGNED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_RESET;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PROJECT_JOIN_REQUEST_ACCEPTED;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_DEDUP;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_DIGEST_STATE;
+import static java.time.ZoneOffset.UTC;
+import static org.apache.kafka.clients.consumer.OffsetResetStrategy.EARLIEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailDigestServiceTest {
+
+    private static final Instant NOW = Instant.parse("2022-12-01T10:00:00Z");
+    private static final String RECIPIENT = "john.kanwise@gmail.com";
+    private static final String STATE_TOPIC = "notification-email-digest-state";
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, EmailDigest> kafkaEmailDigestTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, EmailDigest> consumerEmailDigestFactory = mock(ConsumerFactory.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaRetryJsonTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaRetryTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, byte[]> consumerRetryFactory = mock(ConsumerFactory.class);
+    private final IEmailSender emailSender = mock(IEmailSender.class);
+    private final IDeduplicationService deduplicationService = mock(IDeduplicationService.class);
+    private final ModelMapper modelMapper = mock(ModelMapper.class);
+    private final EmailDigestService emailDigestService = createEmailDigestService(Clock.fixed(NOW, UTC));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        SettableListenableFuture<SendResult<String, EmailDigest>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaEmailDigestTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+        when(modelMapper.map(any(EmailRequest.class), eq(Email.class))).thenAnswer(invocation -> {
+            EmailRequest emailRequest = invocation.getArgument(0);
+            return Email.builder()
+                    .to(emailRequest.getTo())
+                    .subject(emailRequest.getSubject())
+                    .content(String.valueOf(emailRequest.getData()))
+                    .isHtml(emailRequest.isHtml())
+                    .build();
+        });
+    }
+
+    @Test
+    void shouldBypassDigestForUrgentTypes() {
+        // Given
+        // When
+        // Then
+        assertTrue(emailDigestService.isDigestible(createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned")));
+        assertFalse(emailDigestService.isDigestible(createEmailRequest(PASSWORD_RESET, "Password reset")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMergeBufferedRequestsIntoSingleDigestWhenWindowElapses() {
+        // Given
+        Instant openedAt = NOW.minus(Duration.ofMinutes(20));
+        emailDigestService.buffer(List.of(
+                createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), openedAt),
+                createRecord(1L, createEmailRequest(PROJECT_JOIN_REQUEST_ACCEPTED, "Project join request accepted"), NOW)
+        ));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
+        verify(emailSender).send(emailCaptor.capture());
+        assertEquals(RECIPIENT, emailCaptor.getValue().to());
+        assertEquals("Your Kanwise notifications", emailCaptor.getValue().subject());
+        ArgumentCaptor<EmailRequest> requestCaptor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(modelMapper).map(requestCaptor.capture(), eq(Email.class));
+        assertEquals(DIGEST, requestCaptor.getValue().getType());
+        assertEquals(2, ((List<?>) requestCaptor.getValue().getData().get("entries")).size());
+        ArgumentCaptor<ProducerRecord<String, EmailDigest>> stateCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaEmailDigestTemplate, times(3)).send(stateCaptor.capture());
+        assertEquals(STATE_TOPIC, stateCaptor.getValue().topic());
+        assertEquals(RECIPIENT, stateCaptor.getValue().key());
+        assertNull(stateCaptor.getValue().value());
+        assertEquals(0, emailDigestService.getBufferedCount(RECIPIENT));
+    }
+
+    @Test
+    void shouldKeepDigestOpenUntilWindowElapses() {
+        // Given
+        emailDigestService.buffer(List.of(createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), NOW)));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        verify(emailSender, never()).send(any(Email.class));
+        assertEquals(1, emailDigestService.getBufferedCount(RECIPIENT));
+    }
+
+    @Test
+    void shouldFlushDigestWhenMaxEntriesIsReached() {
+        // Given
+        emailDigestService.buffer(List.of(
+                createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "First task"), NOW),
+                createRecord(1L, createEmailRequest(NEW_TASK_ASSIGNED, "Second task"), NOW),
+                createRecord(2L, createEmailRequest(NEW_TASK_ASSIGNED, "Third task"), NOW)
+        ));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        verify(emailSender).send(any(Email.class));
+        assertEquals(0, emailDigestService.getBufferedCount(RECIPIENT));
+    }
+
+    @Test
+    void shouldSendSingleBufferedRequestWithoutDigestTemplate() {
+        // Given
+        emailDigestService.buffer(List.of(createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), NOW.minus(Duration.ofHours(1)))));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        ArgumentCaptor<Email> emailCaptor = ArgumentCaptor.forClass(Email.class);
+        verify(emailSender).send(emailCaptor.capture());
+        assertEquals("New task assigned", emailCaptor.getValue().subject());
+        verify(deduplicationService).markDelivered("New task assigned");
+    }
+
+    @Test
+    void shouldKeepDigestWhenSendingFails() {
+        // Given
+        emailDigestService.buffer(List.of(createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), NOW.minus(Duration.ofHours(1)))));
+        doThrow(new IllegalStateException("SMTP unavailable")).when(emailSender).send(any(Email.class));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        assertEquals(1, emailDigestService.getBufferedCount(RECIPIENT));
+    }
+
+    @Test
+    void shouldReleaseDigestsOfRevokedPartitions() {
+        // Given
+        emailDigestService.buffer(List.of(createRecord(0L, createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), NOW)));
+        // When
+        emailDigestService.release(List.of(0));
+        // Then
+        assertEquals(0, emailDigestService.getBufferedCount(RECIPIENT));
+    }
+
+    @Test
+    void shouldRenderKeyFieldsOfEveryDigestEntry() {
+        // Given
+        Instant openedAt = NOW.minus(Duration.ofMinutes(20));
+        EmailRequest taskAssigned = createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned", Map.of("firstName", "John", "projectTitle", "Kanwise", "taskTitle", "Release"));
+        EmailRequest joinAccepted = createEmailRequest(PROJECT_JOIN_REQUEST_ACCEPTED, "Project join request accepted", Map.of("firstName", "John", "projectTitle", "Backlog"));
+        emailDigestService.buffer(List.of(createRecord(0L, taskAssigned, openedAt), createRecord(1L, joinAccepted, NOW)));
+        // When
+        emailDigestService.flushDueDigests();
+        // Then
+        ArgumentCaptor<EmailRequest> requestCaptor = ArgumentCaptor.forClass(EmailRequest.class);
+        verify(modelMapper).map(requestCaptor.capture(), eq(Email.class));
+        List<?> entries = (List<?>) requestCaptor.getValue().getData().get("entries");
+        assertEquals(Map.of("firstName", "John", "projectTitle", "Kanwise", "taskTitle", "Release", "subject", "New task assigned", "type", NEW_TASK_ASSIGNED), entries.get(0));
+        assertEquals(Map.of("firstName", "John", "projectTitle", "Backlog", "subject", "Project join request accepted", "type", PROJECT_JOIN_REQUEST_ACCEPTED), entries.get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeadLetterDigestAfterMaxFlushAttempts() {
+        // Given
+        EmailRequest emailRequest = createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned");
+        emailDigestService.buffer(List.of(createRecord(0L, emailRequest, NOW.minus(Duration.ofHours(1)))));
+        doThrow(new IllegalStateException("SMTP unavailable")).when(emailSender).send(any(Email.class));
+        // When
+        emailDigestService.flushDueDigests();
+        emailDigestService.flushDueDigests();
+        int bufferedBeforeLastAttempt = emailDigestService.getBufferedCount(RECIPIENT);
+        emailDigestService.flushDueDigests();
+        // Then
+        assertEquals(1, bufferedBeforeLastAttempt);
+        assertEquals(0, emailDigestService.getBufferedCount(RECIPIENT));
+        verify(emailSender, times(3)).send(any(Email.class));
+        ArgumentCaptor<Object> deadLetterCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaRetryJsonTemplate).send(eq("notification-email-dlt"), eq(RECIPIENT), deadLetterCaptor.capture());
+        assertEquals("New task assigned", ((EmailRequest) deadLetterCaptor.getValue()).getSubject());
+        ArgumentCaptor<ProducerRecord<String, EmailDigest>> stateCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaEmailDigestTemplate, times(2)).send(stateCaptor.capture());
+        assertNull(stateCaptor.getValue().value());
+        verify(deduplicationService).release("New task assigned");
+        verify(deduplicationService, never()).markDelivered(any());
+    }
+
+    @Test
+    void shouldAcceptReplayOfDeadLetteredDigestRequest() {
+        // Given
+        DeduplicationService replayDeduplicationService = new DeduplicationService(
+                new DeduplicationConfigurationProperties(true, Duration.ofMinutes(15), 1000, 0.0001, Duration.ofSeconds(10)),
+                new KafkaConfigurationProperties("localhost:29092", Map.of(NOTIFICATION_DEDUP, "notification-dedup")),
+                kafkaRetryTemplate,
+                consumerRetryFactory,
+                new SimpleMeterRegistry()
+        );
+        EmailDigestService replayEmailDigestService = createEmailDigestService(Clock.fixed(NOW, UTC), replayDeduplicationService);
+        EmailRequest emailRequest = createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned");
+        replayDeduplicationService.tryAcquire(EMAIL, emailRequest.getMessageId());
+        replayDeduplicationService.release(emailRequest.getMessageId());
+        replayEmailDigestService.buffer(List.of(createRecord(0L, emailRequest, NOW.minus(Duration.ofHours(1)))));
+        doThrow(new IllegalStateException("SMTP unavailable")).when(emailSender).send(any(Email.class));
+        // When
+        replayEmailDigestService.flushDueDigests();
+        replayEmailDigestService.flushDueDigests();
+        replayEmailDigestService.flushDueDigests();
+        // Then
+        verify(kafkaRetryJsonTemplate).send(eq("notification-email-dlt"), eq(RECIPIENT), eq(emailRequest));
+        assertTrue(replayDeduplicationService.tryAcquire(EMAIL, emailRequest.getMessageId()));
+        verify(kafkaRetryTemplate, never()).send(any(), any(), any());
+    }
+
+    @Test
+    void shouldStopRestoringAtDeadlineWhenEndOffsetsAreNotReached() {
+        // Given
+        Clock clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(NOW, NOW, NOW.plus(Duration.ofMinutes(2)));
+        EmailDigestService restoringEmailDigestService = createEmailDigestService(clock);
+        TopicPartition partition = new TopicPartition(STATE_TOPIC, 0);
+        MockConsumer<String, EmailDigest> consumer = new MockConsumer<>(EARLIEST);
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.updateEndOffsets(Map.of(partition, 5L));
+        consumer.schedulePollTask(() -> consumer.addRecord(new ConsumerRecord<>(STATE_TOPIC, 0, 0L, RECIPIENT, EmailDigest.of(createEmailRequest(NEW_TASK_ASSIGNED, "New task assigned"), NOW))));
+        when(consumerEmailDigestFactory.createConsumer(eq("notification_email_digest_restore"), any(), any(), any(Properties.class))).thenReturn(consumer);
+        // When
+        restoringEmailDigestService.restore(List.of(0));
+        // Then
+        assertEquals(1, restoringEmailDigestService.getBufferedCount(RECIPIENT));
+        assertTrue(consumer.closed());
+    }
+
+    private EmailDigestService createEmailDigestService(Clock clock) {
+        return createEmailDigestService(clock, deduplicationService);
+    }
+
+    private EmailDigestService createEmailDigestService(Clock clock, IDeduplicationService deduplicationService) {
+        return new EmailDigestService(
+                new EmailDigestConfigurationProperties(true, Set.of(NEW_TASK_ASSIGNED, PROJECT_JOIN_REQUEST_ACCEPTED), Duration.ofMinutes(15), 3, Duration.ofSeconds(30), 1, "Your Kanwise notifications", 3, Duration.ofMinutes(1)),
+                new KafkaConfigurationProperties("localhost:29092", Map.of(
+                        NOTIFICATION_EMAIL, "notification-email",
+                        NOTIFICATION_EMAIL_DIGEST, "notification-email-digest",
+                        NOTIFICATION_EMAIL_DIGEST_STATE, STATE_TOPIC
+                )),
+                new RetryTopicResolver(new KafkaRetryConfigurationProperties(List.of(Duration.ofSeconds(1)), 10, Duration.ofSeconds(1))),
+                kafkaEmailDigestTemplate,
+                kafkaRetryJsonTemplate,
+                consumerEmailDigestFactory,
+                emailSender,
+                deduplicationService,
+                modelMapper,
+                clock
+        );
+    }
+
+    private ConsumerRecord<String, EmailDigest> createRecord(long offset, EmailRequest emailRequest, Instant openedAt) {
+        return new ConsumerRecord<>("notification-email-digest", 0, offset, RECIPIENT, EmailDigest.of(emailRequest, openedAt));
+    }
+
+    private EmailRequest createEmailRequest(EmailMessageType emailMessageType, String subject) {
+        return createEmailRequest(emailMessageType, subject, Map.of("firstName", "John"));
+    }
+
+    private EmailRequest createEmailRequest(EmailMessageType emailMessageType, String subject, Map<String, Object> data) {
+        return EmailRequest.builder()
+                .to(RECIPIENT)
+                .messageId(subject)
+                .subject(subject)
+                .type(emailMessageType)
+                .data(data)
+                .isHtml(true)
+                .build();
+    }
+}
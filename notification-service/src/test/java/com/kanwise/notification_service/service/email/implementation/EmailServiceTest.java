@@ -0,0 +1,112 @@
+package com.kanwise.notification_service.service.email.implementation;
+
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties.LaneProperties;
+import com.kanwise.notification_service.error.EmailBatchSenderException;
+import com.kanwise.notification_service.error.EmailSenderException;
+import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.model.email.EmailRequest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import com.kanwise.notification_service.service.email.digest.IEmailDigestService;
+import com.kanwise.notification_service.service.email.sender.IEmailSender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.EMAIL;
+import static com.kanwise.notification_service.model.email.EmailLane.PRIORITY;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EmailServiceTest {
+
+    private final IEmailSender emailSender = mock(IEmailSender.class);
+    private final ModelMapper modelMapper = mock(ModelMapper.class);
+    private final IEmailDigestService emailDigestService = mock(IEmailDigestService.class);
+    private final IDeduplicationService deduplicationService = mock(IDeduplicationService.class);
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailService = new EmailService(emailSender, modelMapper, emailDigestService, deduplicationService,
+                new EmailDeliveryConfigurationProperties(1, 10, 3, 1, 5),
+                new EmailLaneConfigurationProperties(new LaneProperties(1, 5, 1, 1), new LaneProperties(1, 10, 1, 1)));
+        when(deduplicationService.tryAcquire(eq(EMAIL), anyString())).thenReturn(true);
+        when(modelMapper.map(any(EmailRequest.class), eq(Email.class))).thenAnswer(invocation -> Email.builder()
+                .to(invocation.<EmailRequest>getArgument(0).getTo())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailService.shutdown();
+    }
+
+    @Test
+    void shouldReportFirstFailedRecordOnlyAfterWholeBatchSettled() {
+        // Given
+        doAnswer(invocation -> {
+            String to = invocation.<Email>getArgument(0).getTo();
+            if (to.equals("second@kanwise.com")) {
+                throw new EmailSenderException(to);
+            }
+            if (to.equals("third@kanwise.com")) {
+                Thread.sleep(200);
+            }
+            return null;
+        }).when(emailSender).send(any(Email.class), eq(STANDARD));
+        List<EmailRequest> emailRequests = List.of(emailRequest("first"), emailRequest("second"), emailRequest("third"));
+        // When
+        EmailBatchSenderException exception = assertThrows(EmailBatchSenderException.class, () -> emailService.sendEmails(emailRequests));
+        // Then
+        assertEquals(1, exception.getIndex());
+        verify(deduplicationService).markDelivered("first");
+        verify(deduplicationService).release("second");
+        verify(deduplicationService).markDelivered("third");
+    }
+
+    @Test
+    void shouldSendEmailsThroughTransportsOfRequestedLane() {
+        // Given
+        List<EmailRequest> emailRequests = List.of(emailRequest("first"));
+        // When
+        emailService.sendEmails(emailRequests, PRIORITY);
+        // Then
+        verify(emailSender).send(any(Email.class), eq(PRIORITY));
+    }
+
+    @Test
+    void shouldReleaseDigestibleRequestOnceEnqueuedWithoutMarkingItDelivered() {
+        // Given
+        EmailRequest emailRequest = emailRequest("first");
+        when(emailDigestService.isDigestible(emailRequest)).thenReturn(true);
+        when(emailDigestService.enqueue(emailRequest)).thenReturn(CompletableFuture.completedFuture(null));
+        // When
+        emailService.sendEmails(List.of(emailRequest));
+        // Then
+        verify(emailDigestService).enqueue(emailRequest);
+        verify(deduplicationService).release("first");
+        verify(deduplicationService, never()).markDelivered(anyString());
+    }
+
+    private EmailRequest emailRequest(String id) {
+        return EmailRequest.builder()
+                .to("%s@kanwise.com".formatted(id))
+                .messageId(id)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.kanwise.notification_service.service.email.sender.implementation;
 
 import com.kanwise.notification_service.error.EmailSenderException;
 import com.kanwise.notification_service.model.email.Email;
+import com.kanwise.notification_service.service.email.sender.ISmtpTransportPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,9 +22,12 @@ class EmailSenderTest {
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private ISmtpTransportPool smtpTransportPool;
+
     @BeforeEach
     void setUp() {
-        emailSender = new EmailSender(mailSender);
+        emailSender = new EmailSender(mailSender, smtpTransportPool);
     }
 
     @Test
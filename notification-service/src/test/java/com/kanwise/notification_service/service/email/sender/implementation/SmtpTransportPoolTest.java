@@ -0,0 +1,155 @@
+package com.kanwise.notification_service.service.email.sender.implementation;
+
+import com.kanwise.notification_service.configuration.email.EmailDeliveryConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties;
+import com.kanwise.notification_service.configuration.email.EmailLaneConfigurationProperties.LaneProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.MessagingException;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+import static com.kanwise.notification_service.model.email.EmailLane.BULK;
+import static com.kanwise.notification_service.model.email.EmailLane.PRIORITY;
+import static com.kanwise.notification_service.model.email.EmailLane.STANDARD;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static javax.mail.Message.RecipientType.TO;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SmtpTransportPoolTest {
+
+    private static final String BULK_SUBJECT = "Bulk";
+
+    private final Session session = Session.getInstance(new Properties());
+
+    @Mock
+    private JavaMailSenderImpl mailSender;
+
+    @Mock
+    private Session mailSession;
+
+    @Mock
+    private Transport transport;
+
+    private SmtpTransportPool smtpTransportPool;
+
+    @BeforeEach
+    void setUp() throws MessagingException {
+        when(mailSender.getSession()).thenReturn(mailSession);
+        when(mailSession.getTransport(anyString())).thenReturn(transport);
+        smtpTransportPool = new SmtpTransportPool(mailSender, new EmailDeliveryConfigurationProperties(1, 10, 1, 1, 2), new EmailLaneConfigurationProperties(new LaneProperties(1, 5, 1, 1), new LaneProperties(1, 10, 1, 1)));
+    }
+
+    @Test
+    void shouldReuseConnectedTransport() throws MessagingException {
+        // Given
+        // When
+        smtpTransportPool.send(message(), STANDARD);
+        smtpTransportPool.send(message(), STANDARD);
+        // Then
+        verify(transport, times(1)).connect(any(), anyInt(), any(), any());
+        verify(transport, times(2)).sendMessage(any(), any());
+    }
+
+    @Test
+    void shouldReconnectWhenMessageCapIsReached() throws MessagingException {
+        // Given
+        // When
+        smtpTransportPool.send(message(), STANDARD);
+        smtpTransportPool.send(message(), STANDARD);
+        smtpTransportPool.send(message(), STANDARD);
+        // Then
+        verify(transport, times(2)).connect(any(), anyInt(), any(), any());
+        verify(transport, times(1)).close();
+    }
+
+    @Test
+    void shouldReconnectAndRetryWhenConnectionIsLost() throws MessagingException {
+        // Given
+        doThrow(new MessagingException("Connection dropped")).doNothing().when(transport).sendMessage(any(), any());
+        // When
+        smtpTransportPool.send(message(), STANDARD);
+        // Then
+        verify(transport, times(2)).connect(any(), anyInt(), any(), any());
+        verify(transport, times(2)).sendMessage(any(), any());
+    }
+
+    @Test
+    void shouldNotRetryWhenRecipientsAreRejected() throws MessagingException {
+        // Given
+        doThrow(new SendFailedException("Invalid address")).when(transport).sendMessage(any(), any());
+        MimeMessage message = message();
+        // When
+        // Then
+        assertThrows(SendFailedException.class, () -> smtpTransportPool.send(message, STANDARD));
+        verify(transport, times(1)).sendMessage(any(), any());
+    }
+
+    @Test
+    void shouldSendPriorityMessageWhileBulkTransportsAreSaturated() throws Exception {
+        // Given
+        CountDownLatch bulkReleased = new CountDownLatch(1);
+        CountDownLatch bulkSending = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (BULK_SUBJECT.equals(invocation.<MimeMessage>getArgument(0).getSubject())) {
+                bulkSending.countDown();
+                bulkReleased.await();
+            }
+            return null;
+        }).when(transport).sendMessage(any(), any());
+        ExecutorService bulkExecutor = newFixedThreadPool(3);
+        try {
+            for (int i = 0; i < 3; i++) {
+                bulkExecutor.submit(() -> {
+                    smtpTransportPool.send(message(BULK_SUBJECT), BULK);
+                    return null;
+                });
+            }
+            assertTrue(bulkSending.await(1, SECONDS));
+            // When
+            // Then
+            assertTimeoutPreemptively(Duration.ofMillis(500), () -> smtpTransportPool.send(message(), PRIORITY));
+        } finally {
+            bulkReleased.countDown();
+            bulkExecutor.shutdown();
+        }
+        assertTrue(bulkExecutor.awaitTermination(1, SECONDS));
+        verify(transport, times(4)).sendMessage(any(), any());
+    }
+
+    private MimeMessage message() throws MessagingException {
+        return message("Test");
+    }
+
+    private MimeMessage message(String subject) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setRecipient(TO, new InternetAddress("john.kanwise@gmail.com"));
+        message.setSubject(subject);
+        message.setText("Test");
+        return message;
+    }
+}
@@ -0,0 +1,122 @@
+package com.kanwise.notification_service.service.email.template.implementation;
+
+import com.kanwise.notification_service.configuration.email.EmailTemplateNamesConfigurationProperties;
+import com.kanwise.notification_service.model.email.EmailMessageType;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.exceptions.TemplateInputException;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.kanwise.notification_service.model.email.EmailMessageType.ACCOUNT_BLOCKED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_CHANGED;
+import static com.kanwise.notification_service.model.email.EmailMessageType.PASSWORD_RESET;
+import static java.util.stream.Collectors.toMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HtmlTemplateServiceTest {
+
+    private static final Map<EmailMessageType, String> NAMES = Arrays.stream(EmailMessageType.values())
+            .collect(toMap(Function.identity(), emailMessageType -> emailMessageType.name().toLowerCase() + ".html"));
+
+    private static final Set<EmailMessageType> CACHEABLE_TYPES = Set.of(ACCOUNT_BLOCKED, PASSWORD_CHANGED);
+
+    private final TemplateEngine templateEngine = mock(TemplateEngine.class);
+
+    @Test
+    void shouldRenderIdenticalDataOnce() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 2, CACHEABLE_TYPES), templateEngine);
+        when(templateEngine.process(eq("account_blocked.html"), any(IContext.class))).thenReturn("<html>blocked</html>");
+        // When
+        String first = htmlTemplateService.generateHtmlTemplate(Map.of("contactAdministratorUrl", "https://kanwise.com"), ACCOUNT_BLOCKED);
+        String second = htmlTemplateService.generateHtmlTemplate(Map.of("contactAdministratorUrl", "https://kanwise.com"), ACCOUNT_BLOCKED);
+        // Then
+        assertEquals("<html>blocked</html>", first);
+        assertEquals(first, second);
+        assertEquals(1, htmlTemplateService.getRenderCacheSize());
+        verify(templateEngine, times(1)).process(eq("account_blocked.html"), any(IContext.class));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedRender() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 1, CACHEABLE_TYPES), templateEngine);
+        // When
+        htmlTemplateService.generateHtmlTemplate(Map.of("firstName", "Jan"), PASSWORD_CHANGED);
+        htmlTemplateService.generateHtmlTemplate(Map.of("firstName", "Anna"), PASSWORD_CHANGED);
+        htmlTemplateService.generateHtmlTemplate(Map.of("firstName", "Jan"), PASSWORD_CHANGED);
+        // Then
+        assertEquals(1, htmlTemplateService.getRenderCacheSize());
+        verify(templateEngine, times(3)).process(eq("password_changed.html"), any(IContext.class));
+    }
+
+    @Test
+    void shouldRenderEveryMessageWhenRenderCacheIsDisabled() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 0, CACHEABLE_TYPES), templateEngine);
+        // When
+        htmlTemplateService.generateHtmlTemplate(Map.of("firstName", "Jan"), PASSWORD_CHANGED);
+        htmlTemplateService.generateHtmlTemplate(Map.of("firstName", "Jan"), PASSWORD_CHANGED);
+        // Then
+        assertEquals(0, htmlTemplateService.getRenderCacheSize());
+        verify(templateEngine, times(2)).process(eq("password_changed.html"), any(IContext.class));
+    }
+
+    @Test
+    void shouldFailPreloadWhenTemplateCannotBeParsed() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 0, CACHEABLE_TYPES), templateEngine);
+        doThrow(new TemplateInputException("Unclosed element")).when(templateEngine).process(eq("account_blocked.html"), any(IContext.class), any(Writer.class));
+        // When
+        // Then
+        assertThrows(IllegalStateException.class, htmlTemplateService::preloadTemplates);
+    }
+
+    @Test
+    void shouldRenderEveryMessageOfTypeOutsideCacheableTypes() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 2, CACHEABLE_TYPES), templateEngine);
+        // When
+        htmlTemplateService.generateHtmlTemplate(Map.of("resetPasswordUrl", "https://kanwise.com/reset/secret"), PASSWORD_RESET);
+        htmlTemplateService.generateHtmlTemplate(Map.of("resetPasswordUrl", "https://kanwise.com/reset/secret"), PASSWORD_RESET);
+        // Then
+        assertEquals(0, htmlTemplateService.getRenderCacheSize());
+        verify(templateEngine, times(2)).process(eq("password_reset.html"), any(IContext.class));
+    }
+
+    @Test
+    void shouldFailPreloadWhenTemplateCannotRenderSampleData() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 0, CACHEABLE_TYPES), templateEngine);
+        doThrow(new TemplateProcessingException("Exception evaluating SpringEL expression")).when(templateEngine).process(eq("new_task_assigned.html"), any(IContext.class), any(Writer.class));
+        // When
+        // Then
+        assertThrows(IllegalStateException.class, htmlTemplateService::preloadTemplates);
+    }
+
+    @Test
+    void shouldPreloadTemplatesWithSampleData() {
+        // Given
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(new EmailTemplateNamesConfigurationProperties(NAMES, 0, CACHEABLE_TYPES), templateEngine);
+        // When
+        htmlTemplateService.preloadTemplates();
+        // Then
+        verify(templateEngine).process(eq("digest.html"), argThat(context -> context.containsVariable("entries") && context.containsVariable("firstName")), any(Writer.class));
+    }
+}
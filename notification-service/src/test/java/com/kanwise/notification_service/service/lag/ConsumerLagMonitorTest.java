@@ -0,0 +1,97 @@
+package com.kanwise.notification_service.service.lag;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.lag.ConsumerLagConfigurationProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.ListOffsetsResult.ListOffsetsResultInfo;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.kanwise.notification_service.model.kafka.NotificationLane.BULK_EMAIL;
+import static com.kanwise.notification_service.model.kafka.NotificationLane.OTP_SMS;
+import static com.kanwise.notification_service.model.kafka.NotificationLane.PRIORITY_EMAIL;
+import static com.kanwise.notification_service.model.kafka.NotificationLane.STANDARD_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConsumerLagMonitorTest {
+
+    private final Admin admin = mock(Admin.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<String, Map<TopicPartition, OffsetAndMetadata>> committedOffsets = new HashMap<>();
+    private final Map<TopicPartition, ListOffsetsResultInfo> endOffsets = new HashMap<>();
+    private ConsumerLagMonitor consumerLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        KafkaConfigurationProperties kafkaConfigurationProperties = new KafkaConfigurationProperties("localhost:29092", Map.of(
+                NOTIFICATION_EMAIL, "notification-email",
+                NOTIFICATION_EMAIL_PRIORITY, "notification-email-priority",
+                NOTIFICATION_EMAIL_BULK, "notification-email-bulk",
+                NOTIFICATION_SMS, "notification-sms"));
+        consumerLagMonitor = new ConsumerLagMonitor(kafkaConfigurationProperties, new ConsumerLagConfigurationProperties(true, Duration.ofSeconds(1), Duration.ofSeconds(1)), meterRegistry, admin);
+        when(admin.listConsumerGroupOffsets(anyString())).thenAnswer(invocation -> {
+            ListConsumerGroupOffsetsResult result = mock(ListConsumerGroupOffsetsResult.class);
+            when(result.partitionsToOffsetAndMetadata()).thenReturn(KafkaFuture.completedFuture(committedOffsets.getOrDefault(invocation.<String>getArgument(0), Map.of())));
+            return result;
+        });
+        when(admin.listOffsets(anyMap())).thenAnswer(invocation -> {
+            Map<TopicPartition, KafkaFuture<ListOffsetsResultInfo>> futures = new HashMap<>();
+            invocation.<Map<TopicPartition, ?>>getArgument(0).keySet().forEach(partition -> futures.put(partition, KafkaFuture.completedFuture(endOffsets.get(partition))));
+            return new ListOffsetsResult(futures);
+        });
+    }
+
+    @Test
+    void shouldMeasureLagPerLane() {
+        // Given
+        commit("mail_senders_priority", "notification-email-priority", 0, 8L, 10L);
+        commit("mail_senders_bulk", "notification-email-bulk", 0, 100L, 4100L);
+        commit("mail_senders_bulk", "notification-email-bulk", 1, 200L, 1200L);
+        commit("mail_senders", "notification-email", 0, 5L, 5L);
+        // When
+        consumerLagMonitor.refreshLags();
+        // Then
+        assertEquals(2L, consumerLagMonitor.getLag(PRIORITY_EMAIL));
+        assertEquals(0L, consumerLagMonitor.getLag(STANDARD_EMAIL));
+        assertEquals(5000L, consumerLagMonitor.getLag(BULK_EMAIL));
+        assertEquals(0L, consumerLagMonitor.getLag(OTP_SMS));
+        assertEquals(5000.0, meterRegistry.get("kanwise.notification.consumer.lag").tag("lane", "bulk_email").gauge().value());
+        assertEquals(2.0, meterRegistry.get("kanwise.notification.consumer.lag").tag("lane", "priority_email").gauge().value());
+    }
+
+    @Test
+    void shouldIgnoreOffsetsOfOtherTopicsCommittedByLaneGroup() {
+        // Given
+        commit("mail_senders_priority", "notification-email-priority", 0, 3L, 3L);
+        commit("mail_senders_priority", "notification-email-priority-retry-0", 0, 0L, 50L);
+        // When
+        consumerLagMonitor.refreshLags();
+        // Then
+        assertEquals(0L, consumerLagMonitor.getLag(PRIORITY_EMAIL));
+    }
+
+    private void commit(String groupId, String topic, int partition, long committedOffset, long endOffset) {
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        committedOffsets.computeIfAbsent(groupId, key -> new HashMap<>()).put(topicPartition, new OffsetAndMetadata(committedOffset));
+        endOffsets.put(topicPartition, new ListOffsetsResultInfo(endOffset, -1L, Optional.empty()));
+    }
+}
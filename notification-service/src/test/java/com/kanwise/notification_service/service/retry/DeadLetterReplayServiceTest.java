@@ -0,0 +1,88 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.kanwise.notification_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.notification_service.configuration.kafka.retry.KafkaRetryConfigurationProperties;
+import com.kanwise.notification_service.model.retry.DeadLetterReplayResponse;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.service.retry.RetryTopicResolver.ATTEMPT_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.kafka.clients.consumer.OffsetResetStrategy.EARLIEST;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeadLetterReplayServiceTest {
+
+    private static final String DEAD_LETTER_TOPIC = "notification-email-dlt";
+
+    private final MockConsumer<String, byte[]> consumer = spy(new MockConsumer<>(EARLIEST));
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, byte[]> consumerFactory = mock(ConsumerFactory.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, byte[]> kafkaTemplate = mock(KafkaTemplate.class);
+    private final KafkaRetryConfigurationProperties kafkaRetryConfigurationProperties = new KafkaRetryConfigurationProperties(List.of(Duration.ofSeconds(1)), 2, Duration.ofMillis(100));
+    private final DeadLetterReplayService deadLetterReplayService = new DeadLetterReplayService(
+            consumerFactory,
+            kafkaTemplate,
+            new KafkaConfigurationProperties("localhost:29092", Map.of(NOTIFICATION_EMAIL, "notification-email")),
+            kafkaRetryConfigurationProperties,
+            new RetryTopicResolver(kafkaRetryConfigurationProperties)
+    );
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReplayDeadLettersToOriginalTopicWithoutRetryHeaders() {
+        // Given
+        TopicPartition partition = new TopicPartition(DEAD_LETTER_TOPIC, 0);
+        consumer.updatePartitions(DEAD_LETTER_TOPIC, List.of(new PartitionInfo(DEAD_LETTER_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(partition, 0L));
+        consumer.schedulePollTask(() -> {
+            ConsumerRecord<String, byte[]> record = new ConsumerRecord<>(DEAD_LETTER_TOPIC, 0, 0L, "key", "{}".getBytes(UTF_8));
+            record.headers().add(ATTEMPT_HEADER, "2".getBytes(UTF_8));
+            consumer.addRecord(record);
+            consumer.addRecord(new ConsumerRecord<>(DEAD_LETTER_TOPIC, 0, 1L, "other", "{}".getBytes(UTF_8)));
+        });
+        when(consumerFactory.createConsumer(eq("notification_dead_letter_replay"), any(), any(), any(Properties.class))).thenReturn(consumer);
+        SettableListenableFuture<SendResult<String, byte[]>> future = new SettableListenableFuture<>();
+        future.set(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(future);
+        // When
+        DeadLetterReplayResponse response = deadLetterReplayService.replay(NOTIFICATION_EMAIL, Optional.of(5));
+        // Then
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        assertEquals(2, response.replayed());
+        assertEquals("notification-email", response.targetTopic());
+        assertEquals("notification-email", captor.getAllValues().get(0).topic());
+        assertEquals("key", captor.getAllValues().get(0).key());
+        assertArrayEquals("{}".getBytes(UTF_8), captor.getAllValues().get(0).value());
+        assertNull(captor.getAllValues().get(0).headers().lastHeader(ATTEMPT_HEADER));
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(2L)));
+    }
+}
@@ -0,0 +1,111 @@
+package com.kanwise.notification_service.service.retry;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.kanwise.notification_service.configuration.kafka.retry.KafkaRetryConfigurationProperties;
+import com.kanwise.notification_service.error.EmailSenderException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.notification_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+import static com.kanwise.notification_service.service.retry.RetryTopicResolver.ATTEMPT_HEADER;
+import static com.kanwise.notification_service.service.retry.RetryTopicResolver.DUE_AT_HEADER;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryTopicResolverTest {
+
+    private static final Instant NOW = Instant.parse("2022-12-01T10:00:00Z");
+
+    private final RetryTopicResolver retryTopicResolver = new RetryTopicResolver(
+            new KafkaRetryConfigurationProperties(List.of(Duration.ofSeconds(10), Duration.ofMinutes(1), Duration.ofMinutes(10)), 100, Duration.ofSeconds(5)),
+            Clock.fixed(NOW, UTC)
+    );
+
+    @Test
+    void shouldNameRetryAndDeadLetterTopics() {
+        // Given
+        // When
+        // Then
+        assertArrayEquals(new String[]{"notification-email-retry-0", "notification-email-retry-1", "notification-email-retry-2"}, retryTopicResolver.getRetryTopics("notification-email"));
+        assertEquals("notification-email-dlt", retryTopicResolver.getDeadLetterTopic("notification-email"));
+        assertTrue(retryTopicResolver.isRetryable(NOTIFICATION_EMAIL));
+        assertTrue(retryTopicResolver.isRetryable(NOTIFICATION_EMAIL_PRIORITY));
+        assertTrue(retryTopicResolver.isRetryable(NOTIFICATION_EMAIL_BULK));
+        assertFalse(retryTopicResolver.isRetryable(NOTIFICATION_SMS_STATUS));
+    }
+
+    @Test
+    void shouldRouteFailedRecordThroughRetryTopicsWithBackoff() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("notification-email", 0, 0L, "key", "value");
+        EmailSenderException exception = new EmailSenderException("SMTP unavailable");
+        // When
+        String firstDestination = retryTopicResolver.resolveDestination(record, exception).topic();
+        Headers firstHeaders = retryTopicResolver.createRetryHeaders(record, exception);
+        ConsumerRecord<String, Object> retried = new ConsumerRecord<>(firstDestination, 0, 0L, "key", "value");
+        firstHeaders.forEach(header -> retried.headers().add(header));
+        String secondDestination = retryTopicResolver.resolveDestination(retried, exception).topic();
+        Headers secondHeaders = retryTopicResolver.createRetryHeaders(retried, exception);
+        // Then
+        assertEquals("notification-email-retry-0", firstDestination);
+        assertEquals("1", readHeader(firstHeaders, ATTEMPT_HEADER));
+        assertEquals(String.valueOf(NOW.plusSeconds(10).toEpochMilli()), readHeader(firstHeaders, DUE_AT_HEADER));
+        assertEquals(Duration.ofSeconds(10).toMillis(), retryTopicResolver.getRemainingDelay(retried));
+        assertEquals("notification-email-retry-1", secondDestination);
+        assertEquals(String.valueOf(NOW.plusSeconds(60).toEpochMilli()), readHeader(secondHeaders, DUE_AT_HEADER));
+    }
+
+    @Test
+    void shouldRouteRecordToDeadLetterTopicWhenRetriesAreExhausted() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("notification-email-retry-2", 0, 0L, "key", "value");
+        record.headers().add(ATTEMPT_HEADER, "3".getBytes(UTF_8));
+        EmailSenderException exception = new EmailSenderException("SMTP unavailable");
+        // When
+        String destination = retryTopicResolver.resolveDestination(record, exception).topic();
+        Headers headers = retryTopicResolver.createRetryHeaders(record, exception);
+        // Then
+        assertEquals("notification-email-dlt", destination);
+        assertNull(headers.lastHeader(DUE_AT_HEADER));
+    }
+
+    @Test
+    void shouldRoutePoisonRecordStraightToDeadLetterTopic() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("notification-sms", 0, 0L, "key", "{".getBytes(UTF_8));
+        UncheckedIOException exception = new UncheckedIOException(new JsonParseException(null, "Unexpected end-of-input"));
+        // When
+        String destination = retryTopicResolver.resolveDestination(record, exception).topic();
+        // Then
+        assertEquals("notification-sms-dlt", destination);
+    }
+
+    @Test
+    void shouldRecogniseRetryHeaders() {
+        // Given
+        // When
+        // Then
+        assertTrue(retryTopicResolver.isRetryHeader(ATTEMPT_HEADER));
+        assertTrue(retryTopicResolver.isRetryHeader("kafka_dlt-original-topic"));
+        assertFalse(retryTopicResolver.isRetryHeader("traceparent"));
+    }
+
+    private String readHeader(Headers headers, String key) {
+        return new String(headers.lastHeader(key).value(), UTF_8);
+    }
+}
@@ -0,0 +1,145 @@
+package com.kanwise.notification_service.service.sms.otp;
+
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import com.kanwise.notification_service.error.SmsDispatchException;
+import com.kanwise.notification_service.listeners.sms.implementation.KafkaSmsListener;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import com.kanwise.notification_service.service.dedup.IDeduplicationService;
+import com.kanwise.notification_service.service.sms.ISmsResponseService;
+import com.kanwise.notification_service.service.sms.provider.ISmsProvider;
+import com.kanwise.notification_service.service.sms.provider.StubSmsProvider;
+import com.kanwise.notification_service.service.sms.rate_limit.TokenBucketSmsRateLimiter;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static com.kanwise.notification_service.model.dedup.NotificationChannel.SMS;
+import static com.kanwise.notification_service.model.sms.SmsProviderType.STUB;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OtpSmsDispatcherTest {
+
+    private static final String SMS_TOPIC = "notification-sms";
+    private static final String MESSAGE_ID = "message-1";
+
+    private final SmsDispatchConfigurationProperties smsDispatchConfigurationProperties = new SmsDispatchConfigurationProperties(STUB, 100, 100, 4, Duration.ofMillis(200), Duration.ofMillis(10), Duration.ofSeconds(1));
+    @SuppressWarnings("unchecked")
+    private final ISmsResponseService<OtpSmsResponse> otpSmsResponseService = mock(ISmsResponseService.class);
+    private final IDeduplicationService deduplicationService = mock(IDeduplicationService.class);
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer = mock(DeadLetterPublishingRecoverer.class);
+    private OtpSmsDispatcher otpSmsDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(deduplicationService.tryAcquire(eq(SMS), anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (otpSmsDispatcher != null) {
+            otpSmsDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void shouldPublishRecordToRetryWhenProviderFails() {
+        // Given
+        KafkaSmsListener kafkaSmsListener = createKafkaSmsListener((phoneNumber, content) -> Mono.error(new IllegalStateException("Provider unavailable")));
+        ConsumerRecord<String, OtpSmsRequest> record = new ConsumerRecord<>(SMS_TOPIC, 0, 0L, "1", constructOtpSmsRequest());
+        // When
+        kafkaSmsListener.listener(List.of(record));
+        // Then
+        verify(deadLetterPublishingRecoverer, timeout(1000)).accept(eq(record), argThat(exception -> exception instanceof SmsDispatchException && "Provider unavailable".equals(exception.getMessage())));
+        verify(otpSmsResponseService, timeout(1000)).sendSmsResponse(argThat(response -> response.getStatus() == FAILED));
+        verify(deduplicationService, timeout(1000)).release(MESSAGE_ID);
+        verify(deduplicationService, never()).markDelivered(anyString());
+    }
+
+    @Test
+    void shouldNotPublishRecordToRetryWhenProviderSucceeds() {
+        // Given
+        KafkaSmsListener kafkaSmsListener = createKafkaSmsListener(new StubSmsProvider(smsDispatchConfigurationProperties));
+        ConsumerRecord<String, OtpSmsRequest> record = new ConsumerRecord<>(SMS_TOPIC, 0, 0L, "1", constructOtpSmsRequest());
+        // When
+        kafkaSmsListener.listener(List.of(record));
+        // Then
+        verify(otpSmsResponseService, timeout(1000)).sendSmsResponse(argThat(response -> response.getStatus() == DELIVERED));
+        verify(deduplicationService).markDelivered(MESSAGE_ID);
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    void shouldNotReturnFromListenerBeforeSendCompletes() throws Exception {
+        // Given
+        Sinks.Empty<Void> providerResponse = Sinks.empty();
+        KafkaSmsListener kafkaSmsListener = createKafkaSmsListener((phoneNumber, content) -> providerResponse.asMono());
+        ConsumerRecord<String, OtpSmsRequest> record = new ConsumerRecord<>(SMS_TOPIC, 0, 0L, "1", constructOtpSmsRequest());
+        // When
+        CompletableFuture<Void> listenerCall = CompletableFuture.runAsync(() -> kafkaSmsListener.listener(List.of(record)));
+        // Then
+        assertThrows(TimeoutException.class, () -> listenerCall.get(200, MILLISECONDS));
+        verify(otpSmsResponseService, never()).sendSmsResponse(any());
+        providerResponse.tryEmitEmpty();
+        listenerCall.get(1, SECONDS);
+        verify(otpSmsResponseService).sendSmsResponse(argThat(response -> response.getStatus() == DELIVERED));
+        verify(deduplicationService).markDelivered(MESSAGE_ID);
+    }
+
+    @Test
+    void shouldDrainInFlightSendsBeforeShutdown() throws Exception {
+        // Given
+        Sinks.Empty<Void> providerResponse = Sinks.empty();
+        OtpSmsDispatcher drainingOtpSmsDispatcher = createOtpSmsDispatcher((phoneNumber, content) -> providerResponse.asMono());
+        drainingOtpSmsDispatcher.dispatch(constructOtpSmsRequest(), exception -> {
+        });
+        // When
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(drainingOtpSmsDispatcher::shutdown);
+        // Then
+        assertThrows(TimeoutException.class, () -> shutdown.get(200, MILLISECONDS));
+        providerResponse.tryEmitEmpty();
+        shutdown.get(1, SECONDS);
+        verify(otpSmsResponseService).sendSmsResponse(argThat(response -> response.getStatus() == DELIVERED));
+    }
+
+    private KafkaSmsListener createKafkaSmsListener(ISmsProvider smsProvider) {
+        otpSmsDispatcher = createOtpSmsDispatcher(smsProvider);
+        return new KafkaSmsListener(otpSmsDispatcher, deadLetterPublishingRecoverer);
+    }
+
+    private OtpSmsDispatcher createOtpSmsDispatcher(ISmsProvider smsProvider) {
+        OtpSmsService otpSmsService = new OtpSmsService(smsProvider, new TokenBucketSmsRateLimiter(smsDispatchConfigurationProperties), smsDispatchConfigurationProperties);
+        return new OtpSmsDispatcher(otpSmsService, otpSmsResponseService, deduplicationService, smsDispatchConfigurationProperties);
+    }
+
+    private OtpSmsRequest constructOtpSmsRequest() {
+        return OtpSmsRequest.builder()
+                .otpId(1L)
+                .messageId(MESSAGE_ID)
+                .phoneNumber("+48123456789")
+                .content("Your code is 123456")
+                .build();
+    }
+}
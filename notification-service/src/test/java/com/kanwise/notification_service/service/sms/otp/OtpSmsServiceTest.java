@@ -0,0 +1,70 @@
+package com.kanwise.notification_service.service.sms.otp;
+
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.notification_service.configuration.sms.SmsDispatchConfigurationProperties;
+import com.kanwise.notification_service.model.sms.OtpSmsRequest;
+import com.kanwise.notification_service.service.sms.provider.ISmsProvider;
+import com.kanwise.notification_service.service.sms.provider.StubSmsProvider;
+import com.kanwise.notification_service.service.sms.rate_limit.TokenBucketSmsRateLimiter;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static com.kanwise.notification_service.constants.SmsConstant.SMS_DELIVERED_SUCCESSFULLY_MESSAGE;
+import static com.kanwise.notification_service.model.sms.SmsProviderType.STUB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OtpSmsServiceTest {
+
+    private final SmsDispatchConfigurationProperties smsDispatchConfigurationProperties = new SmsDispatchConfigurationProperties(STUB, 100, 100, 4, Duration.ofMillis(200), Duration.ofMillis(10), Duration.ofSeconds(1));
+
+    @Test
+    void shouldSendSmsThroughProvider() {
+        // Given
+        StubSmsProvider smsProvider = new StubSmsProvider(smsDispatchConfigurationProperties);
+        OtpSmsService otpSmsService = createOtpSmsService(smsProvider);
+        // When
+        OtpSmsResponse response = otpSmsService.sendSms(constructOtpSmsRequest()).block();
+        // Then
+        assertEquals(1L, response.getOtpId());
+        assertEquals(DELIVERED, response.getStatus());
+        assertEquals(SMS_DELIVERED_SUCCESSFULLY_MESSAGE, response.getMessage());
+        assertEquals(1, smsProvider.getSentMessages());
+    }
+
+    @Test
+    void shouldReturnFailureResponseWhenProviderFails() {
+        // Given
+        OtpSmsService otpSmsService = createOtpSmsService((phoneNumber, content) -> Mono.error(new IllegalStateException("Provider unavailable")));
+        // When
+        OtpSmsResponse response = otpSmsService.sendSms(constructOtpSmsRequest()).block();
+        // Then
+        assertEquals(FAILED, response.getStatus());
+        assertEquals("Provider unavailable", response.getMessage());
+    }
+
+    @Test
+    void shouldReturnFailureResponseWhenProviderTimesOut() {
+        // Given
+        OtpSmsService otpSmsService = createOtpSmsService((phoneNumber, content) -> Mono.never());
+        // When
+        OtpSmsResponse response = otpSmsService.sendSms(constructOtpSmsRequest()).block();
+        // Then
+        assertEquals(FAILED, response.getStatus());
+    }
+
+    private OtpSmsService createOtpSmsService(ISmsProvider smsProvider) {
+        return new OtpSmsService(smsProvider, new TokenBucketSmsRateLimiter(smsDispatchConfigurationProperties), smsDispatchConfigurationProperties);
+    }
+
+    private OtpSmsRequest constructOtpSmsRequest() {
+        return OtpSmsRequest.builder()
+                .otpId(1L)
+                .phoneNumber("+48123456789")
+                .content("Your code is 123456")
+                .build();
+    }
+}
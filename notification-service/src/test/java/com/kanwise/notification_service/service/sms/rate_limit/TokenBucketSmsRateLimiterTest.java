@@ -0,0 +1,52 @@
+package com.kanwise.notification_service.service.sms.rate_limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketSmsRateLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void shouldAllowBurstWithoutWaiting() {
+        // Given
+        TokenBucketSmsRateLimiter rateLimiter = new TokenBucketSmsRateLimiter(3, 1, nanoTime::get);
+        // When
+        // Then
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+    }
+
+    @Test
+    void shouldQueueReservationsAtConfiguredRateWhenBucketIsEmpty() {
+        // Given
+        TokenBucketSmsRateLimiter rateLimiter = new TokenBucketSmsRateLimiter(1, 2, nanoTime::get);
+        rateLimiter.reserve();
+        // When
+        long firstWait = rateLimiter.reserve();
+        long secondWait = rateLimiter.reserve();
+        // Then
+        assertEquals(MILLISECONDS.toNanos(500), firstWait);
+        assertEquals(SECONDS.toNanos(1), secondWait);
+    }
+
+    @Test
+    void shouldRefillTokensUpToCapacity() {
+        // Given
+        TokenBucketSmsRateLimiter rateLimiter = new TokenBucketSmsRateLimiter(2, 1, nanoTime::get);
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+        // When
+        nanoTime.addAndGet(SECONDS.toNanos(10));
+        // Then
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(0, rateLimiter.reserve());
+        assertEquals(SECONDS.toNanos(1), rateLimiter.reserve());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kanwise.report_service.configuration.job_batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.job-batch")
+public record JobBatchConfigurationProperties(
+        @NotNull(message = "WINDOW_NOT_NULL") Duration window,
+        @Min(value = 1, message = "MAX_BATCH_SIZE_MIN_1") int maxBatchSize,
+        @Min(value = 1, message = "DISPATCHERS_MIN_1") int dispatchers
+) {
+}
@@ -0,0 +1,28 @@
+package com.kanwise.report_service.configuration.job_log;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Optional;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.job-log")
+public record JobLogConfigurationProperties(
+        @Min(value = 1, message = "BATCH_SIZE_MIN_1") int batchSize,
+        @NotNull(message = "FLUSH_INTERVAL_NOT_NULL") Duration flushInterval,
+        @NotNull(message = "RETENTION_NOT_NULL") Duration retention,
+        @NotNull(message = "PURGE_INTERVAL_NOT_NULL") Duration purgeInterval,
+        @Min(value = 1, message = "DEFAULT_PAGE_SIZE_MIN_1") int defaultPageSize,
+        @Min(value = 1, message = "MAX_PAGE_SIZE_MIN_1") int maxPageSize
+) {
+
+    public int getPageSize(Optional<Integer> requestedPageSize) {
+        return requestedPageSize.map(size -> max(1, min(size, maxPageSize))).orElse(defaultPageSize);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kanwise.report_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.schema.EmailRequestFields;
+import com.kanwise.clients.kafka.serialization.schema.GenericEmailRequestSchema;
+import com.kanwise.report_service.model.notification.email.EmailMessageType;
+import com.kanwise.report_service.model.notification.email.EmailRequest;
+
+public class EmailRequestSchema extends GenericEmailRequestSchema<EmailRequest> {
+
+    @Override
+    protected EmailRequestFields toFields(EmailRequest value) {
+        return new EmailRequestFields(
+                value.getMessageId(),
+                value.getTo(),
+                value.getSubject(),
+                value.getType() == null ? null : value.getType().name(),
+                value.isHtml(),
+                value.getData()
+        );
+    }
+
+    @Override
+    protected EmailRequest fromFields(EmailRequestFields fields) {
+        return EmailRequest.builder()
+                .messageId(fields.messageId())
+                .to(fields.to())
+                .subject(fields.subject())
+                .type(fields.type() == null ? null : EmailMessageType.valueOf(fields.type()))
+                .isHtml(fields.html())
+                .data(fields.data())
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
 
 import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
 
 @RequiredArgsConstructor
 @Configuration
@@ -20,4 +21,10 @@ public class KafkaTopicConfiguration {
         return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL))
                 .build();
     }
+
+    @Bean
+    public NewTopic notificationEmailBulkTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_BULK))
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.kanwise.report_service.configuration.pdf;
+
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.resource.DefaultResourceRetriever;
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+import com.kanwise.report_service.service.pdf.implementation.CachingResourceRetriever;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@RequiredArgsConstructor
+@Configuration
+public class PdfRenderingConfiguration {
+
+    private final PdfRenderingConfigurationProperties pdfRenderingConfigurationProperties;
+
+    @Bean
+    public FontSet pdfFontSet() {
+        return new DefaultFontProvider(true, true, false).getFontSet();
+    }
+
+    @Bean
+    public IResourceRetriever pdfResourceRetriever() {
+        return new CachingResourceRetriever(new DefaultResourceRetriever(), pdfRenderingConfigurationProperties.resourceCacheSize());
+    }
+}
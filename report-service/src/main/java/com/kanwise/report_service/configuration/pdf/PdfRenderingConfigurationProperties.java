@@ -0,0 +1,18 @@
+package com.kanwise.report_service.configuration.pdf;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "pdf.rendering")
+public record PdfRenderingConfigurationProperties(
+        @Min(value = 1, message = "WORKERS_MIN_1") int workers,
+        @Min(value = 1, message = "QUEUE_CAPACITY_MIN_1") int queueCapacity,
+        @NotNull(message = "QUEUE_TIMEOUT_NOT_NULL") Duration queueTimeout,
+        @Min(value = 1, message = "RESOURCE_CACHE_SIZE_MIN_1") int resourceCacheSize
+) {
+}
@@ -11,7 +11,8 @@ import java.util.Map;
 @ConfigurationProperties(prefix = "pdf.template")
 public record ReportTemplateConfigurationProperties(
         @TemplatePaths
-        Map<ReportType, String> names
+        Map<ReportType, String> names,
+        boolean fragmentCache
 ) {
     public String getTemplateName(ReportType reportType) {
         return names.get(reportType);
@@ -0,0 +1,23 @@
+package com.kanwise.report_service.configuration.report_cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.AssertTrue;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.report-cache")
+public record ReportCacheConfigurationProperties(
+        @NotNull(message = "TTL_NOT_NULL") Duration ttl,
+        @NotNull(message = "RETENTION_NOT_NULL") Duration retention,
+        @Min(value = 1, message = "MAXIMUM_SIZE_MIN_1") int maximumSize
+) {
+
+    @AssertTrue(message = "RETENTION_NOT_SHORTER_THAN_TTL")
+    public boolean isRetentionNotShorterThanTtl() {
+        return ttl == null || retention == null || retention.compareTo(ttl) >= 0;
+    }
+}
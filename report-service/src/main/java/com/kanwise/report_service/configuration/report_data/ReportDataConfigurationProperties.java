@@ -0,0 +1,35 @@
+package com.kanwise.report_service.configuration.report_data;
+
+import com.kanwise.report_service.error.report_data.ReportDataSourceNotConfiguredException;
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Map;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.report-data")
+public record ReportDataConfigurationProperties(
+        @NotEmpty(message = "SOURCES_NOT_EMPTY") Map<ReportDataSource, @Valid SourceProperties> sources
+) {
+
+    public SourceProperties getSourceProperties(ReportDataSource source) {
+        SourceProperties sourceProperties = sources.get(source);
+        if (sourceProperties == null) {
+            throw new ReportDataSourceNotConfiguredException(source);
+        }
+        return sourceProperties;
+    }
+
+    public record SourceProperties(
+            @NotNull(message = "TIMEOUT_NOT_NULL") Duration timeout,
+            @Min(value = 1, message = "MAX_CONCURRENT_CALLS_MIN_1") int maxConcurrentCalls,
+            @Min(value = 1, message = "QUEUE_CAPACITY_MIN_1") int queueCapacity
+    ) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.kanwise.report_service.configuration.report_data;
+
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.FeignClientProperties.FeignClientConfiguration;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ReportDataFeignTimeoutPostProcessor implements BeanPostProcessor {
+
+    private final ReportDataConfigurationProperties reportDataConfigurationProperties;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof FeignClientProperties feignClientProperties) {
+            for (ReportDataSource source : ReportDataSource.values()) {
+                FeignClientConfiguration configuration = feignClientProperties.getConfig().computeIfAbsent(source.getServiceName(), name -> new FeignClientConfiguration());
+                configuration.setReadTimeout((int) reportDataConfigurationProperties.getSourceProperties(source).timeout().toMillis());
+            }
+        }
+        return bean;
+    }
+}
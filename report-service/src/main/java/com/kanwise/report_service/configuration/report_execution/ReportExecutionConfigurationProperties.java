@@ -0,0 +1,29 @@
+package com.kanwise.report_service.configuration.report_execution;
+
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import java.util.Map;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.report-execution")
+public record ReportExecutionConfigurationProperties(
+        @Min(value = 1, message = "WORKERS_MIN_1") int workers,
+        @NotEmpty(message = "LANES_NOT_EMPTY") Map<ExecutionLane, @Valid LaneProperties> lanes
+) {
+
+    public LaneProperties getLaneProperties(ExecutionLane lane) {
+        return lanes.get(lane);
+    }
+
+    public record LaneProperties(
+            @Min(value = 1, message = "MAX_CONCURRENCY_MIN_1") int maxConcurrency,
+            @Min(value = 1, message = "QUEUE_CAPACITY_MIN_1") int queueCapacity,
+            @Min(value = 1, message = "WEIGHT_MIN_1") int weight
+    ) {
+    }
+}
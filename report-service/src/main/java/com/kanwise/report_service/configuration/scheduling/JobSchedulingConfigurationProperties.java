@@ -0,0 +1,26 @@
+package com.kanwise.report_service.configuration.scheduling;
+
+import com.kanwise.report_service.model.report.JobGroup;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Map;
+
+import static java.lang.Integer.MAX_VALUE;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.job-scheduling")
+public record JobSchedulingConfigurationProperties(
+        @NotNull(message = "JITTER_WINDOW_NOT_NULL") Duration jitterWindow,
+        @NotNull(message = "DEFERRAL_DELAY_NOT_NULL") Duration deferralDelay,
+        @NotEmpty(message = "MAX_CONCURRENT_EXECUTIONS_NOT_EMPTY") Map<JobGroup, @Min(value = 1, message = "MAX_CONCURRENT_EXECUTIONS_MIN_1") Integer> maxConcurrentExecutions
+) {
+
+    public int getMaxConcurrentExecutions(JobGroup jobGroup) {
+        return maxConcurrentExecutions.getOrDefault(jobGroup, MAX_VALUE);
+    }
+}
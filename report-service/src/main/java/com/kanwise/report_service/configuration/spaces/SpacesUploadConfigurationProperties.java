@@ -0,0 +1,15 @@
+package com.kanwise.report_service.configuration.spaces;
+
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.NotNull;
+
+
+@Validated
+@ConfigurationProperties("kanwise.digitalocean.spaces.upload")
+public record SpacesUploadConfigurationProperties(
+        @NotNull(message = "PART_SIZE_NOT_NULL") DataSize partSize) {
+}
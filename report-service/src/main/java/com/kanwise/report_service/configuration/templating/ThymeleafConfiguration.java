@@ -3,6 +3,7 @@ package com.kanwise.report_service.configuration.templating;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.StandardCacheManager;
 import org.thymeleaf.extras.java8time.dialect.Java8TimeDialect;
 import org.thymeleaf.spring5.SpringTemplateEngine;
 import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
@@ -11,6 +12,8 @@ import org.thymeleaf.templateresolver.ITemplateResolver;
 @Configuration
 public class ThymeleafConfiguration {
 
+    private static final int TEMPLATE_CACHE_MAX_SIZE = 32;
+
     @Bean
     public ClassLoaderTemplateResolver classLoaderTemplateResolver() {
         ClassLoaderTemplateResolver classLoaderTemplateResolver = new ClassLoaderTemplateResolver();
@@ -19,6 +22,8 @@ public class ThymeleafConfiguration {
         classLoaderTemplateResolver.setTemplateMode("HTML5");
         classLoaderTemplateResolver.setCharacterEncoding("UTF-8");
         classLoaderTemplateResolver.setOrder(1);
+        classLoaderTemplateResolver.setCacheable(true);
+        classLoaderTemplateResolver.setCacheTTLMs(null);
         return classLoaderTemplateResolver;
     }
 
@@ -27,6 +32,13 @@ public class ThymeleafConfiguration {
         SpringTemplateEngine engine = new SpringTemplateEngine();
         engine.addDialect(new Java8TimeDialect());
         engine.setTemplateResolver(templateResolver);
+        engine.setCacheManager(templateCacheManager());
         return engine;
     }
+
+    private StandardCacheManager templateCacheManager() {
+        StandardCacheManager cacheManager = new StandardCacheManager();
+        cacheManager.setTemplateCacheMaxSize(TEMPLATE_CACHE_MAX_SIZE);
+        return cacheManager;
+    }
 }
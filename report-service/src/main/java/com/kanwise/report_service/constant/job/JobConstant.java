@@ -6,4 +6,8 @@ import lombok.experimental.UtilityClass;
 public class JobConstant {
 
     public static final String ID = "id";
+    public static final String CATCH_UP = "catchUp";
+    public static final String LANE = "lane";
+    public static final String DEFERRED_TRIGGER_PATTERN = "%s-deferred";
+    public static final String ON_DEMAND_TRIGGER_PATTERN = "%s-on-demand-%s";
 }
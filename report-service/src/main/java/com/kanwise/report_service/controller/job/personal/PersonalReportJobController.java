@@ -2,14 +2,19 @@ package com.kanwise.report_service.controller.job.personal;
 
 
 import com.kanwise.report_service.error.handling.ExceptionHandling;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
+import com.kanwise.report_service.model.job_information.common.request.JobInformationPageRequest;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
 import com.kanwise.report_service.model.job_information.personal.dto.PersonalReportJobInformationDto;
 import com.kanwise.report_service.model.job_information.personal.request.PersonalReportJobRequest;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import com.kanwise.report_service.service.job.common.JobService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -19,14 +24,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
 import static javax.ws.rs.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -66,6 +74,18 @@ public class PersonalReportJobController extends ExceptionHandling {
         return new ResponseEntity<>(personalReportJobService.getAllJobs().stream().map(job -> modelMapper.map(job, PersonalReportJobInformationDto.class)).toList(), OK);
     }
 
+    @ApiOperation(value = "Get running personal report jobs",
+            notes = "Get page of personal report jobs scheduled in Quartz, optionally filtered by status",
+            response = PersonalReportJobInformationDto.class,
+            responseReference = "ResponseEntity<Page<PersonalReportJobInformationDto>>",
+            httpMethod = GET,
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    @GetMapping("/running")
+    public ResponseEntity<Page<PersonalReportJobInformationDto>> getRunningJobs(@RequestParam("status") Optional<JobStatus> status, @Valid JobInformationPageRequest pageRequest) {
+        Page<PersonalReportJobInformation> jobs = personalReportJobService.getRunningJobs(status, modelMapper.map(pageRequest, Pageable.class));
+        return new ResponseEntity<>(jobs.map(job -> modelMapper.map(job, PersonalReportJobInformationDto.class)), OK);
+    }
 
     @ApiOperation(value = "Get personal report job by id",
             notes = "Get personal report job by id",
@@ -117,4 +137,17 @@ public class PersonalReportJobController extends ExceptionHandling {
         PersonalReportJobInformation personalReportJobInformation = personalReportJobService.restartJob(id);
         return new ResponseEntity<>(modelMapper.map(personalReportJobInformation, PersonalReportJobInformationDto.class), OK);
     }
+
+    @ApiOperation(value = "Trigger personal report job by id",
+            notes = "Trigger an immediate personal report job execution in the given execution lane",
+            response = PersonalReportJobInformationDto.class,
+            responseReference = "ResponseEntity<PersonalReportJobInformationDto>",
+            httpMethod = POST,
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    @PostMapping("/{id}/trigger")
+    public ResponseEntity<PersonalReportJobInformationDto> triggerJob(@PathVariable String id, @RequestParam(defaultValue = "INTERACTIVE") ExecutionLane lane) {
+        PersonalReportJobInformation jobInfo = personalReportJobService.triggerJob(id, lane);
+        return new ResponseEntity<>(modelMapper.map(jobInfo, PersonalReportJobInformationDto.class), ACCEPTED);
+    }
 }
@@ -1,5 +1,6 @@
 package com.kanwise.report_service.controller.job.personal.monitoring;
 
+import com.kanwise.report_service.configuration.job_log.JobLogConfigurationProperties;
 import com.kanwise.report_service.error.handling.ExceptionHandling;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
 import com.kanwise.report_service.model.monitoring.personal.PersonalReportJobLog;
@@ -8,18 +9,21 @@ import com.kanwise.report_service.service.job_information.monitoring.common.Moni
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
 
-import static java.util.stream.Collectors.toSet;
 import static javax.ws.rs.HttpMethod.GET;
-import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @RequiredArgsConstructor
@@ -29,17 +33,24 @@ public class PersonalReportJobMonitoringController extends ExceptionHandling {
 
     private final MonitoringService<PersonalReportJobLog, PersonalReportJobInformation> personalReportJobMonitoringService;
     private final ModelMapper modelMapper;
+    private final JobLogConfigurationProperties jobLogConfigurationProperties;
 
     @ApiOperation(value = "Get logs for personal report job",
             notes = "Get logs for personal report job",
             response = PersonalReportJobLogDto.class,
-            responseReference = "ResponseEntity<Set<PersonalReportJobLogDto>>",
+            responseReference = "ResponseEntity<List<PersonalReportJobLogDto>>",
             httpMethod = GET,
             produces = APPLICATION_JSON_VALUE)
     @PreAuthorize("permitAll()")
     @GetMapping("{id}/logs")
-    public ResponseEntity<Set<PersonalReportJobLogDto>> getJobLogs(@PathVariable String id) {
-        Set<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id);
-        return new ResponseEntity<>(logs.stream().map(log -> modelMapper.map(log, PersonalReportJobLogDto.class)).collect(toSet()), OK);
+    public ResponseEntity<List<PersonalReportJobLogDto>> getJobLogs(@PathVariable String id, @RequestParam("before") Optional<Long> before, @RequestParam("size") Optional<Integer> size) {
+        int pageSize = jobLogConfigurationProperties.getPageSize(size);
+        List<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id, before.orElse(Long.MAX_VALUE), pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        if (logs.size() == pageSize) {
+            Long lastId = logs.get(logs.size() - 1).getId();
+            headers.add(HttpHeaders.LINK, linkTo(methodOn(PersonalReportJobMonitoringController.class).getJobLogs(id, Optional.of(lastId), Optional.of(pageSize))).withRel("next").toString());
+        }
+        return ResponseEntity.ok().headers(headers).body(logs.stream().map(log -> modelMapper.map(log, PersonalReportJobLogDto.class)).toList());
     }
 }
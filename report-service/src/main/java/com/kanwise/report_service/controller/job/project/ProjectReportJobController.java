@@ -1,13 +1,18 @@
 package com.kanwise.report_service.controller.job.project;
 
 import com.kanwise.report_service.model.job_information.personal.dto.PersonalReportJobInformationDto;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
+import com.kanwise.report_service.model.job_information.common.request.JobInformationPageRequest;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.model.job_information.project.dto.ProjectReportJobInformationDto;
 import com.kanwise.report_service.model.job_information.project.request.ProjectReportJobRequest;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import com.kanwise.report_service.service.job.common.JobService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -17,14 +22,17 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 import static javax.ws.rs.HttpMethod.DELETE;
 import static javax.ws.rs.HttpMethod.GET;
 import static javax.ws.rs.HttpMethod.POST;
+import static org.springframework.http.HttpStatus.ACCEPTED;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -78,6 +86,19 @@ public class ProjectReportJobController {
         return new ResponseEntity<>(jobs.stream().map(job -> modelMapper.map(job, ProjectReportJobInformationDto.class)).toList(), OK);
     }
 
+    @ApiOperation(value = "Get running project report jobs",
+            notes = "Get page of project report jobs scheduled in Quartz, optionally filtered by status",
+            response = ProjectReportJobInformationDto.class,
+            responseReference = "ResponseEntity<Page<ProjectReportJobInformationDto>>",
+            httpMethod = GET,
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    @GetMapping("/running")
+    public ResponseEntity<Page<ProjectReportJobInformationDto>> getRunningJobs(@RequestParam("status") Optional<JobStatus> status, @Valid JobInformationPageRequest pageRequest) {
+        Page<ProjectReportJobInformation> jobs = projectReportJobService.getRunningJobs(status, modelMapper.map(pageRequest, Pageable.class));
+        return new ResponseEntity<>(jobs.map(job -> modelMapper.map(job, ProjectReportJobInformationDto.class)), OK);
+    }
+
     @ApiOperation(value = "DELETE project report job by id",
             notes = "DELETE project report job by id",
             response = HttpStatus.class,
@@ -116,4 +137,17 @@ public class ProjectReportJobController {
         ProjectReportJobInformation jobInfo = projectReportJobService.restartJob(id);
         return new ResponseEntity<>(modelMapper.map(jobInfo, ProjectReportJobInformationDto.class), OK);
     }
+
+    @ApiOperation(value = "Trigger project report job by id",
+            notes = "Trigger an immediate project report job execution in the given execution lane",
+            response = ProjectReportJobInformationDto.class,
+            responseReference = "ResponseEntity<ProjectReportJobInformationDto>",
+            httpMethod = POST,
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    @PostMapping("/{id}/trigger")
+    public ResponseEntity<ProjectReportJobInformationDto> triggerJob(@PathVariable String id, @RequestParam(defaultValue = "INTERACTIVE") ExecutionLane lane) {
+        ProjectReportJobInformation jobInfo = projectReportJobService.triggerJob(id, lane);
+        return new ResponseEntity<>(modelMapper.map(jobInfo, ProjectReportJobInformationDto.class), ACCEPTED);
+    }
 }
@@ -1,5 +1,6 @@
 package com.kanwise.report_service.controller.job.project.monitoring;
 
+import com.kanwise.report_service.configuration.job_log.JobLogConfigurationProperties;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.model.monitoring.project.ProjectReportJobLog;
 import com.kanwise.report_service.model.monitoring.project.dto.ProjectReportJobLogDto;
@@ -8,17 +9,21 @@ import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.Set;
+import java.util.List;
+import java.util.Optional;
 
-import static java.util.stream.Collectors.toSet;
 import static javax.ws.rs.HttpMethod.GET;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
 @Slf4j
@@ -30,17 +35,24 @@ public class ProjectReportJobMonitoringController {
     private final MonitoringService<ProjectReportJobLog, ProjectReportJobInformation> projectReportJobMonitoringService;
 
     private final ModelMapper modelMapper;
+    private final JobLogConfigurationProperties jobLogConfigurationProperties;
 
     @ApiOperation(value = "Get logs for project report job",
             notes = "Get logs for project report job",
             response = ProjectReportJobLogDto.class,
-            responseReference = "ResponseEntity<Set<ProjectReportJobLogDto>>",
+            responseReference = "ResponseEntity<List<ProjectReportJobLogDto>>",
             httpMethod = GET,
             produces = APPLICATION_JSON_VALUE)
     @PreAuthorize("permitAll()")
     @GetMapping("{id}/logs")
-    public ResponseEntity<Set<ProjectReportJobLogDto>> getJobLogs(@PathVariable String id) {
-        Set<ProjectReportJobLog> logs = projectReportJobMonitoringService.getLogs(id);
-        return ResponseEntity.ok(logs.stream().map(log -> modelMapper.map(log, ProjectReportJobLogDto.class)).collect(toSet()));
+    public ResponseEntity<List<ProjectReportJobLogDto>> getJobLogs(@PathVariable String id, @RequestParam("before") Optional<Long> before, @RequestParam("size") Optional<Integer> size) {
+        int pageSize = jobLogConfigurationProperties.getPageSize(size);
+        List<ProjectReportJobLog> logs = projectReportJobMonitoringService.getLogs(id, before.orElse(Long.MAX_VALUE), pageSize);
+        HttpHeaders headers = new HttpHeaders();
+        if (logs.size() == pageSize) {
+            Long lastId = logs.get(logs.size() - 1).getId();
+            headers.add(HttpHeaders.LINK, linkTo(methodOn(ProjectReportJobMonitoringController.class).getJobLogs(id, Optional.of(lastId), Optional.of(pageSize))).withRel("next").toString());
+        }
+        return ResponseEntity.ok().headers(headers).body(logs.stream().map(log -> modelMapper.map(log, ProjectReportJobLogDto.class)).toList());
     }
 }
@@ -0,0 +1,7 @@
+package com.kanwise.report_service.error.job.common;
+
+public class JobTriggeringException extends RuntimeException {
+    public JobTriggeringException(String id) {
+        super("JOB_WITH_ID_%s_TRIGGERING_FAILED".formatted(id));
+    }
+}
@@ -0,0 +1,9 @@
+package com.kanwise.report_service.error.report_data;
+
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+
+public class ReportDataFetchException extends RuntimeException {
+    public ReportDataFetchException(ReportDataSource source, Throwable cause) {
+        super("REPORT_DATA_FETCH_FAILED_FROM_%s".formatted(source), cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.kanwise.report_service.error.report_data;
+
+public class ReportDataNotFoundException extends RuntimeException {
+    public ReportDataNotFoundException(String jobId) {
+        super("REPORT_DATA_NOT_FOUND_FOR_JOB_%s".formatted(jobId));
+    }
+}
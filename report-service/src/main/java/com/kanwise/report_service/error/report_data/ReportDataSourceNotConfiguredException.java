@@ -0,0 +1,9 @@
+package com.kanwise.report_service.error.report_data;
+
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+
+public class ReportDataSourceNotConfiguredException extends IllegalStateException {
+    public ReportDataSourceNotConfiguredException(ReportDataSource source) {
+        super("REPORT_DATA_SOURCE_%s_NOT_CONFIGURED".formatted(source));
+    }
+}
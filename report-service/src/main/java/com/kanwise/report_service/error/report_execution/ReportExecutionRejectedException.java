@@ -0,0 +1,9 @@
+package com.kanwise.report_service.error.report_execution;
+
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+
+public class ReportExecutionRejectedException extends RuntimeException {
+    public ReportExecutionRejectedException(ExecutionLane lane) {
+        super("REPORT_EXECUTION_REJECTED_BY_LANE_%s".formatted(lane));
+    }
+}
@@ -1,12 +1,25 @@
 package com.kanwise.report_service.job.common;
 
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 
 import static com.kanwise.report_service.constant.job.JobConstant.ID;
+import static com.kanwise.report_service.constant.job.JobConstant.LANE;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.BACKFILL;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.SCHEDULED;
 
 public interface JobIdentityResolver {
 
     default String resolveJobId(JobExecutionContext jobExecutionContext) {
         return (String) jobExecutionContext.getJobDetail().getJobDataMap().get(ID);
     }
+
+    default ExecutionLane resolveExecutionLane(JobExecutionContext jobExecutionContext) {
+        JobDataMap jobDataMap = jobExecutionContext.getMergedJobDataMap();
+        if (jobDataMap != null && jobDataMap.containsKey(LANE)) {
+            return ExecutionLane.valueOf(jobDataMap.getString(LANE));
+        }
+        return jobExecutionContext.isRecovering() ? BACKFILL : SCHEDULED;
+    }
 }
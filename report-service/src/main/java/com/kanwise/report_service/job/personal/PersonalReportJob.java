@@ -16,6 +16,6 @@ public class PersonalReportJob implements Job, JobIdentityResolver {
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
-        personalReportJobService.executeJob(resolveJobId(jobExecutionContext));
+        personalReportJobService.executeJob(resolveJobId(jobExecutionContext), resolveExecutionLane(jobExecutionContext));
     }
 }
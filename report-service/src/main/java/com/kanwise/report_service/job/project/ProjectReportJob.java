@@ -16,6 +16,6 @@ public class ProjectReportJob implements Job, JobIdentityResolver {
 
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
-        projectReportJobService.executeJob(resolveJobId(jobExecutionContext));
+        projectReportJobService.executeJob(resolveJobId(jobExecutionContext), resolveExecutionLane(jobExecutionContext));
     }
 }
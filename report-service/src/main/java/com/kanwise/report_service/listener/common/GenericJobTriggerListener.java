@@ -1,25 +1,52 @@
 package com.kanwise.report_service.listener.common;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.job.common.JobIdentityResolver;
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.report.JobGroup;
+import com.kanwise.report_service.service.job.common.JobUtil;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
 import org.quartz.Trigger;
+import org.quartz.TriggerKey;
 import org.quartz.TriggerListener;
 
+import static com.kanwise.report_service.constant.job.JobConstant.CATCH_UP;
+import static com.kanwise.report_service.constant.job.JobConstant.LANE;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
+
+@Slf4j
 @RequiredArgsConstructor
-public abstract class GenericJobTriggerListener<T extends JobInformation> implements TriggerListener, JobIdentityResolver {
+public abstract class GenericJobTriggerListener<T extends JobInformation> implements TriggerListener, JobIdentityResolver, JobUtil<T> {
+
+    private static final String MISFIRES_METRIC = "kanwise.job.misfires";
+    private static final String DEFERRED_METRIC = "kanwise.job.executions.deferred";
+    private static final String GROUP_TAG = "group";
 
+    private final JobGroup jobGroup;
     private final JobInformationService<T> jobInformationService;
+    private final IJobConcurrencyLimiter jobConcurrencyLimiter;
+    private final JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public String getName() {
-        return GenericJobTriggerListener.class.getSimpleName();
+        return "%s-%s".formatted(GenericJobTriggerListener.class.getSimpleName(), jobGroup.name());
     }
 
     @Override
     public void triggerFired(Trigger trigger, JobExecutionContext jobExecutionContext) {
+        if (isCatchUp(trigger) || isOnDemand(trigger)) {
+            return;
+        }
         T jobInformation = getJobInfo(jobExecutionContext);
         if (jobInformation.isFireCountBased() && jobInformation.getRemainingFireCount() > 0) {
             jobInformation.decreaseRemainingFireCount();
@@ -29,17 +56,57 @@ public abstract class GenericJobTriggerListener<T extends JobInformation> implem
 
     @Override
     public boolean vetoJobExecution(Trigger trigger, JobExecutionContext jobExecutionContext) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        if (isInteractive(trigger) || jobConcurrencyLimiter.hasCapacity(jobGroup)) {
+            return false;
+        }
+        deferExecution(trigger, jobExecutionContext);
+        return true;
     }
 
     @Override
     public void triggerMisfired(Trigger trigger) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        log.warn("Trigger {} misfired, next fire time {}", trigger.getKey(), trigger.getNextFireTime());
+        meterRegistry.counter(MISFIRES_METRIC, GROUP_TAG, jobGroup.name()).increment();
     }
 
     @Override
     public void triggerComplete(Trigger trigger, JobExecutionContext jobExecutionContext, Trigger.CompletedExecutionInstruction completedExecutionInstruction) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        log.debug("Trigger {} completed with instruction {}", trigger.getKey(), completedExecutionInstruction);
+    }
+
+    private void deferExecution(Trigger trigger, JobExecutionContext jobExecutionContext) {
+        String jobId = resolveJobId(jobExecutionContext);
+        String group = jobGroup.name();
+        TriggerKey deferredTriggerKey = buildDeferredTriggerKey(jobId, group);
+        Trigger deferredTrigger = buildDeferredTrigger(jobId, group, jobSchedulingConfigurationProperties.deferralDelay());
+        Scheduler scheduler = jobExecutionContext.getScheduler();
+        try {
+            if (deferredTriggerKey.equals(trigger.getKey())) {
+                scheduler.rescheduleJob(deferredTriggerKey, deferredTrigger);
+            } else if (!scheduler.checkExists(deferredTriggerKey)) {
+                scheduler.scheduleJob(deferredTrigger);
+                meterRegistry.counter(DEFERRED_METRIC, GROUP_TAG, group).increment();
+            }
+            log.info("Deferred execution of job {} in group {} until {}", jobId, jobGroup, deferredTrigger.getStartTime());
+        } catch (ObjectAlreadyExistsException e) {
+            log.debug("Execution of job {} in group {} is already deferred", jobId, jobGroup);
+        } catch (SchedulerException e) {
+            log.error("Failed to defer execution of job {} in group {}", jobId, jobGroup, e);
+        }
+    }
+
+    private boolean isCatchUp(Trigger trigger) {
+        JobDataMap jobDataMap = trigger.getJobDataMap();
+        return jobDataMap != null && Boolean.TRUE.equals(jobDataMap.get(CATCH_UP));
+    }
+
+    private boolean isOnDemand(Trigger trigger) {
+        JobDataMap jobDataMap = trigger.getJobDataMap();
+        return jobDataMap != null && jobDataMap.containsKey(LANE);
+    }
+
+    private boolean isInteractive(Trigger trigger) {
+        return isOnDemand(trigger) && INTERACTIVE.name().equals(trigger.getJobDataMap().getString(LANE));
     }
 
     private T getJobInfo(JobExecutionContext jobExecutionContext) {
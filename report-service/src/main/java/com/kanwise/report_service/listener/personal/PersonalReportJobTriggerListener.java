@@ -1,14 +1,19 @@
 package com.kanwise.report_service.listener.personal;
 
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.listener.common.GenericJobTriggerListener;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+
 @Service
 public class PersonalReportJobTriggerListener extends GenericJobTriggerListener<PersonalReportJobInformation> {
-    public PersonalReportJobTriggerListener(JobInformationService<PersonalReportJobInformation> jobInformationService) {
-        super(jobInformationService);
+    public PersonalReportJobTriggerListener(JobInformationService<PersonalReportJobInformation> jobInformationService, IJobConcurrencyLimiter jobConcurrencyLimiter, JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties, MeterRegistry meterRegistry) {
+        super(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry);
     }
 }
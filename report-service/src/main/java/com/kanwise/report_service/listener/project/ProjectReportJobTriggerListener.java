@@ -1,13 +1,18 @@
 package com.kanwise.report_service.listener.project;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.listener.common.GenericJobTriggerListener;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
 
+import static com.kanwise.report_service.model.report.JobGroup.PROJECT_REPORT;
+
 @Service
 public class ProjectReportJobTriggerListener extends GenericJobTriggerListener<ProjectReportJobInformation> {
-    public ProjectReportJobTriggerListener(JobInformationService<ProjectReportJobInformation> jobInformationService) {
-        super(jobInformationService);
+    public ProjectReportJobTriggerListener(JobInformationService<ProjectReportJobInformation> jobInformationService, IJobConcurrencyLimiter jobConcurrencyLimiter, JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties, MeterRegistry meterRegistry) {
+        super(PROJECT_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry);
     }
 }
@@ -0,0 +1,6 @@
+package com.kanwise.report_service.model.job_batch;
+
+import java.time.LocalDateTime;
+
+public record ReportPeriod(LocalDateTime startDate, LocalDateTime endDate) {
+}
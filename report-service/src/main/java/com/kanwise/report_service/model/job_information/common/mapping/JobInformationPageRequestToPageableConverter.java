@@ -0,0 +1,17 @@
+package com.kanwise.report_service.model.job_information.common.mapping;
+
+import com.kanwise.report_service.model.job_information.common.request.JobInformationPageRequest;
+import org.modelmapper.Converter;
+import org.modelmapper.spi.MappingContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+@Service
+public class JobInformationPageRequestToPageableConverter implements Converter<JobInformationPageRequest, Pageable> {
+    @Override
+    public Pageable convert(MappingContext<JobInformationPageRequest, Pageable> mappingContext) {
+        JobInformationPageRequest pageRequest = mappingContext.getSource();
+        return PageRequest.of(pageRequest.getPageNumber(), pageRequest.getPageSize());
+    }
+}
@@ -0,0 +1,17 @@
+package com.kanwise.report_service.model.job_information.common.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+@Getter
+@Setter
+public class JobInformationPageRequest {
+    @Min(value = 0, message = "PAGE_NUMBER_NOT_NEGATIVE")
+    private int pageNumber = 0;
+    @Min(value = 1, message = "PAGE_SIZE_NOT_LESS_THAN_ONE")
+    @Max(value = 200, message = "PAGE_SIZE_NOT_GREATER_THAN_200")
+    private int pageSize = 20;
+}
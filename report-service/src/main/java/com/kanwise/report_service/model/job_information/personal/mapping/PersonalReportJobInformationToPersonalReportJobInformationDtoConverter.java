@@ -31,7 +31,7 @@ public class PersonalReportJobInformationToPersonalReportJobInformationDtoConver
 
     private void addHateoasLinks(PersonalReportJobInformation personalReportJobInformation, PersonalReportJobInformationDto personalReportJobInformationDto) {
         personalReportJobInformationDto.add(linkTo(methodOn(SubscriberController.class).getSubscriber(personalReportJobInformation.getSubscriber().getUsername())).withRel("subscriber"));
-        personalReportJobInformationDto.add(linkTo(methodOn(PersonalReportJobMonitoringController.class).getJobLogs(personalReportJobInformation.getId())).withRel("job-logs"));
+        personalReportJobInformationDto.add(linkTo(methodOn(PersonalReportJobMonitoringController.class).getJobLogs(personalReportJobInformation.getId(), empty(), empty())).withRel("job-logs"));
         personalReportJobInformationDto.add(linkTo(methodOn(SubscriberController.class).getPersonalReports(personalReportJobInformation.getSubscriber().getUsername(), empty())).withRel("personal-reports"));
         personalReportJobInformationDto.add(linkTo(methodOn(SubscriberController.class).getProjectReports(personalReportJobInformation.getSubscriber().getUsername(), empty())).withRel("project-reports"));
     }
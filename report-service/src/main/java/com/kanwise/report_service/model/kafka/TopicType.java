@@ -1,5 +1,6 @@
 package com.kanwise.report_service.model.kafka;
 
 public enum TopicType {
-    NOTIFICATION_EMAIL
+    NOTIFICATION_EMAIL,
+    NOTIFICATION_EMAIL_BULK
 }
@@ -13,7 +13,6 @@ import javax.persistence.MappedSuperclass;
 import java.time.LocalDateTime;
 import java.util.Map;
 
-import static javax.persistence.FetchType.EAGER;
 import static javax.persistence.GenerationType.IDENTITY;
 
 @MappedSuperclass
@@ -30,6 +29,6 @@ public abstract class JobLog {
     private String message;
     private LocalDateTime timestamp;
     private String level;
-    @ElementCollection(fetch = EAGER)
+    @ElementCollection
     private Map<String, String> data;
 }
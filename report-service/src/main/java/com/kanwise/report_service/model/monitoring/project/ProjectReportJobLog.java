@@ -9,20 +9,23 @@ import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
 import java.time.LocalDateTime;
 
 import static javax.persistence.CascadeType.MERGE;
-import static javax.persistence.FetchType.EAGER;
+import static javax.persistence.FetchType.LAZY;
 
 @Entity
 @Getter
 @Setter
 @RequiredArgsConstructor
 @SuperBuilder
+@Table(indexes = @Index(name = "idx_project_report_job_log_job_information_id", columnList = "job_information_id, id"))
 public class ProjectReportJobLog extends JobLog {
 
-    @ManyToOne(cascade = {MERGE}, fetch = EAGER)
+    @ManyToOne(cascade = {MERGE}, fetch = LAZY)
     private ProjectReportJobInformation jobInformation;
     private LogStatus status;
     private LocalDateTime timestamp;
@@ -0,0 +1,8 @@
+package com.kanwise.report_service.model.report_cache;
+
+import com.kanwise.report_service.model.file.FileUploadStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+public record CachedReport(String reportUrl, CompletableFuture<FileUploadStatus> uploadStatus) {
+}
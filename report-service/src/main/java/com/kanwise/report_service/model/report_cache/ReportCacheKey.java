@@ -0,0 +1,7 @@
+package com.kanwise.report_service.model.report_cache;
+
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.report.ReportType;
+
+public record ReportCacheKey(ReportType reportType, String subject, ReportPeriod reportPeriod) {
+}
@@ -0,0 +1,13 @@
+package com.kanwise.report_service.model.report_data;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ReportDataSource {
+    KANWISE_SERVICE("kanwise-service"),
+    USER_SERVICE("user-service");
+
+    private final String serviceName;
+}
@@ -0,0 +1,7 @@
+package com.kanwise.report_service.model.report_execution;
+
+public enum ExecutionLane {
+    INTERACTIVE,
+    SCHEDULED,
+    BACKFILL
+}
@@ -1,11 +1,19 @@
 package com.kanwise.report_service.repository.job.common;
 
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
 import org.springframework.context.annotation.Scope;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @Scope("prototype")
 public interface JobRepository<T extends JobInformation> extends JpaRepository<T, String> {
+
+    @Query("select j.id from #{#entityName} j where j.status = :status")
+    List<String> findIdsByStatus(@Param("status") JobStatus status);
 }
@@ -2,10 +2,41 @@ package com.kanwise.report_service.repository.monitoring.common;
 
 import com.kanwise.report_service.model.monitoring.common.JobLog;
 import org.springframework.context.annotation.Scope;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@NoRepositoryBean
 @Repository
 @Scope("prototype")
 public interface JobLogRepository<T extends JobLog> extends JpaRepository<T, Long> {
+
+    @Query("select l.id from #{#entityName} l where l.jobInformation.id = :jobId and l.id < :before order by l.id desc")
+    List<Long> findIdsByJobInformationIdBefore(@Param("jobId") String jobId, @Param("before") long before, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"jobInformation", "data"})
+    List<T> findDistinctByIdInOrderByIdDesc(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("delete from #{#entityName} l where l.timestamp < :cutoff")
+    int deleteByTimestampBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    int deleteDataByTimestampBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Transactional
+    default int purgeByTimestampBefore(LocalDateTime cutoff) {
+        deleteDataByTimestampBefore(cutoff);
+        return deleteByTimestampBefore(cutoff);
+    }
 }
@@ -2,9 +2,18 @@ package com.kanwise.report_service.repository.monitoring.personal;
 
 import com.kanwise.report_service.model.monitoring.personal.PersonalReportJobLog;
 import com.kanwise.report_service.repository.monitoring.common.JobLogRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface PersonalReportJobLogRepository extends JobLogRepository<PersonalReportJobLog> {
 
+    @Override
+    @Modifying
+    @Query(value = "delete from personal_report_job_log_data d where d.personal_report_job_log_id in (select l.id from personal_report_job_log l where l.timestamp < :cutoff)", nativeQuery = true)
+    int deleteDataByTimestampBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -2,8 +2,18 @@ package com.kanwise.report_service.repository.monitoring.project;
 
 import com.kanwise.report_service.model.monitoring.project.ProjectReportJobLog;
 import com.kanwise.report_service.repository.monitoring.common.JobLogRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+
 @Repository
 public interface ProjectReportJobLogRepository extends JobLogRepository<ProjectReportJobLog> {
+
+    @Override
+    @Modifying
+    @Query(value = "delete from project_report_job_log_data d where d.project_report_job_log_id in (select l.id from project_report_job_log l where l.timestamp < :cutoff)", nativeQuery = true)
+    int deleteDataByTimestampBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -1,14 +1,21 @@
 package com.kanwise.report_service.service.job.common;
 
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface JobService<T extends JobInformation> {
     T runJob(T jobInfo);
 
     List<T> getAllJobs();
 
+    Page<T> getRunningJobs(Optional<JobStatus> status, Pageable pageable);
+
     T getJob(String id);
 
     T stopJob(String id);
@@ -17,5 +24,7 @@ public interface JobService<T extends JobInformation> {
 
     void deleteJob(String id);
 
-    void executeJob(String id);
+    T triggerJob(String id, ExecutionLane lane);
+
+    void executeJob(String id, ExecutionLane lane);
 }
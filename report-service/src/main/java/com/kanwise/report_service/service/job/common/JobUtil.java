@@ -1,6 +1,7 @@
 package com.kanwise.report_service.service.job.common;
 
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import org.quartz.Job;
 import org.quartz.JobBuilder;
 import org.quartz.JobDataMap;
@@ -9,13 +10,23 @@ import org.quartz.ScheduleBuilder;
 import org.quartz.SimpleScheduleBuilder;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
 
+import java.time.Duration;
 import java.util.Date;
 
+import static com.kanwise.report_service.constant.job.JobConstant.CATCH_UP;
+import static com.kanwise.report_service.constant.job.JobConstant.DEFERRED_TRIGGER_PATTERN;
 import static com.kanwise.report_service.constant.job.JobConstant.ID;
+import static com.kanwise.report_service.constant.job.JobConstant.LANE;
+import static com.kanwise.report_service.constant.job.JobConstant.ON_DEMAND_TRIGGER_PATTERN;
+import static com.kanwise.report_service.util.JitterUtils.applyJitter;
+import static com.kanwise.report_service.util.JitterUtils.jitterMillis;
 import static java.lang.System.currentTimeMillis;
+import static java.util.UUID.randomUUID;
 import static org.quartz.CronScheduleBuilder.cronSchedule;
 import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
+import static org.quartz.TriggerKey.triggerKey;
 
 
 public interface JobUtil<T extends JobInformation> {
@@ -33,17 +44,49 @@ public interface JobUtil<T extends JobInformation> {
                 .build();
     }
 
-    default Trigger buildTrigger(T jobInformation) {
-        ScheduleBuilder<? extends Trigger> scheduleBuilder = jobInformation.isCronBased() ? cronSchedule(jobInformation.getCron()) : getSimpleScheduleBuilder(jobInformation);
+    default Trigger buildTrigger(T jobInformation, String group, Duration jitterWindow) {
+        long jitterMillis = jitterMillis(jobInformation.getId(), jitterWindow);
+        long startDelay = jobInformation.getInitialOffsetMs() + (jobInformation.isCronBased() ? 0 : jitterMillis);
 
         return TriggerBuilder
                 .newTrigger()
-                .withIdentity(jobInformation.getId())
-                .withSchedule(scheduleBuilder)
-                .startAt(new Date(currentTimeMillis() + jobInformation.getInitialOffsetMs()))
+                .withIdentity(jobInformation.getId(), group)
+                .withSchedule(getScheduleBuilder(jobInformation, jitterMillis))
+                .startAt(new Date(currentTimeMillis() + startDelay))
                 .build();
     }
 
+    default TriggerKey buildDeferredTriggerKey(String id, String group) {
+        return triggerKey(DEFERRED_TRIGGER_PATTERN.formatted(id), group);
+    }
+
+    default Trigger buildDeferredTrigger(String id, String group, Duration deferralDelay) {
+        return TriggerBuilder
+                .newTrigger()
+                .withIdentity(buildDeferredTriggerKey(id, group))
+                .forJob(id, group)
+                .usingJobData(CATCH_UP, true)
+                .startAt(new Date(currentTimeMillis() + deferralDelay.toMillis()))
+                .build();
+    }
+
+    default Trigger buildOnDemandTrigger(String id, String group, ExecutionLane lane) {
+        return TriggerBuilder
+                .newTrigger()
+                .withIdentity(ON_DEMAND_TRIGGER_PATTERN.formatted(id, randomUUID()), group)
+                .forJob(id, group)
+                .usingJobData(LANE, lane.name())
+                .startNow()
+                .build();
+    }
+
+    default ScheduleBuilder<? extends Trigger> getScheduleBuilder(T jobInformation, long jitterMillis) {
+        if (jobInformation.isCronBased()) {
+            return cronSchedule(applyJitter(jobInformation.getCron(), jitterMillis)).withMisfireHandlingInstructionFireAndProceed();
+        }
+        return getSimpleScheduleBuilder(jobInformation).withMisfireHandlingInstructionNowWithExistingCount();
+    }
+
     default SimpleScheduleBuilder getSimpleScheduleBuilder(JobInformation jobInformation) {
         SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule().withIntervalInMilliseconds(jobInformation.getRepeatInterval());
         if (jobInformation.isRunForever()) {
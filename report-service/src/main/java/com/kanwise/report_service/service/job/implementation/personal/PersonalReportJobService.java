@@ -6,15 +6,19 @@ import com.kanwise.report_service.model.job_execution_details.personal.PersonalR
 import com.kanwise.report_service.model.job_information.common.JobStatus;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
 import com.kanwise.report_service.model.monitoring.personal.PersonalReportJobLog;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import com.kanwise.report_service.service.job.common.JobService;
-import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.job_batch.common.JobBatchService;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
 import com.kanwise.report_service.service.job_information.monitoring.common.MonitoringService;
 import com.kanwise.report_service.service.scheduler.implementation.GenericJobSchedulerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -42,7 +46,7 @@ public class PersonalReportJobService implements JobService<PersonalReportJobInf
 
 
     private final GenericJobSchedulerService<PersonalReportJobInformation> schedulerService;
-    private final JobExecutorService<PersonalReportJobExecutionDetails, PersonalReportJobInformation> jobExecutorService;
+    private final JobBatchService<PersonalReportJobExecutionDetails, PersonalReportJobInformation> jobBatchService;
     private final JobInformationService<PersonalReportJobInformation> jobInformationService;
     private final MonitoringService<PersonalReportJobLog, PersonalReportJobInformation> personalReportJobMonitoringService;
 
@@ -85,15 +89,25 @@ public class PersonalReportJobService implements JobService<PersonalReportJobInf
         return jobInformationService.getAllJobInformation();
     }
 
+    @Override
+    public Page<PersonalReportJobInformation> getRunningJobs(Optional<JobStatus> status, Pageable pageable) {
+        return schedulerService.getRunningJobsInGroup(PERSONAL_REPORT.name(), status, pageable);
+    }
+
     @Override
     public PersonalReportJobInformation getJob(String id) {
         return jobInformationService.getJobInformation(id);
     }
 
     @Override
-    public void executeJob(String id) {
+    public PersonalReportJobInformation triggerJob(String id, ExecutionLane lane) {
+        return schedulerService.triggerJob(getJob(id), PERSONAL_REPORT.name(), lane);
+    }
+
+    @Override
+    public void executeJob(String id, ExecutionLane lane) {
         PersonalReportJobInformation personalReportJobInformation = jobInformationService.getJobInformation(id);
-        jobExecutorService.execute(personalReportJobInformation)
+        jobBatchService.submit(personalReportJobInformation, lane)
                 .thenAccept(handleJobExecutionSuccess(personalReportJobInformation))
                 .exceptionally(handleJobExecutionException(personalReportJobInformation));
     }
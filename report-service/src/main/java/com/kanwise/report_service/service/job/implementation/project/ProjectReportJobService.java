@@ -6,16 +6,20 @@ import com.kanwise.report_service.model.job_execution_details.project.ProjectRep
 import com.kanwise.report_service.model.job_information.common.JobStatus;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.model.monitoring.project.ProjectReportJobLog;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import com.kanwise.report_service.service.job.common.JobService;
-import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.job_batch.common.JobBatchService;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
 import com.kanwise.report_service.service.job_information.monitoring.common.MonitoringService;
 import com.kanwise.report_service.service.scheduler.implementation.GenericJobSchedulerService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -42,7 +46,7 @@ public class ProjectReportJobService implements JobService<ProjectReportJobInfor
 
     private final GenericJobSchedulerService<ProjectReportJobInformation> schedulerService;
     private final JobInformationService<ProjectReportJobInformation> jobInformationService;
-    private final JobExecutorService<ProjectReportJobExecutionDetails, ProjectReportJobInformation> jobExecutorService;
+    private final JobBatchService<ProjectReportJobExecutionDetails, ProjectReportJobInformation> jobBatchService;
     private final MonitoringService<ProjectReportJobLog, ProjectReportJobInformation> projectReportJobMonitoringService;
 
     @Override
@@ -83,15 +87,25 @@ public class ProjectReportJobService implements JobService<ProjectReportJobInfor
         return new ArrayList<>();
     }
 
+    @Override
+    public Page<ProjectReportJobInformation> getRunningJobs(Optional<JobStatus> status, Pageable pageable) {
+        return schedulerService.getRunningJobsInGroup(PROJECT_REPORT.name(), status, pageable);
+    }
+
     @Override
     public ProjectReportJobInformation getJob(String id) {
         return schedulerService.getRunningJob(id, PROJECT_REPORT.name());
     }
 
     @Override
-    public void executeJob(String id) {
+    public ProjectReportJobInformation triggerJob(String id, ExecutionLane lane) {
+        return schedulerService.triggerJob(getJob(id), PROJECT_REPORT.name(), lane);
+    }
+
+    @Override
+    public void executeJob(String id, ExecutionLane lane) {
         ProjectReportJobInformation projectReportJobInformation = jobInformationService.getJobInformation(id);
-        jobExecutorService.execute(projectReportJobInformation)
+        jobBatchService.submit(projectReportJobInformation, lane)
                 .thenAccept(handleJobExecutionSuccess(projectReportJobInformation))
                 .exceptionally(handleJobExecutionException(projectReportJobInformation));
     }
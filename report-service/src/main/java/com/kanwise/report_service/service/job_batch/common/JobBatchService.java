@@ -0,0 +1,12 @@
+package com.kanwise.report_service.service.job_batch.common;
+
+import com.kanwise.report_service.model.job_execution_details.common.JobExecutionDetails;
+import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface JobBatchService<R extends JobExecutionDetails<T>, T extends JobInformation> {
+
+    CompletableFuture<R> submit(T jobInformation, ExecutionLane lane);
+}
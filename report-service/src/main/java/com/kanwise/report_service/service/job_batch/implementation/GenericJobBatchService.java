@@ -0,0 +1,152 @@
+package com.kanwise.report_service.service.job_batch.implementation;
+
+import com.kanwise.report_service.configuration.job_batch.JobBatchConfigurationProperties;
+import com.kanwise.report_service.error.report_data.ReportDataNotFoundException;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.job_execution_details.common.JobExecutionDetails;
+import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.report.JobGroup;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import com.kanwise.report_service.service.job_batch.common.JobBatchService;
+import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.report_data.common.ReportDataService;
+import com.kanwise.report_service.service.report_execution.common.IReportExecutionService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Slf4j
+public abstract class GenericJobBatchService<R extends JobExecutionDetails<T>, T extends JobInformation> implements JobBatchService<R, T> {
+
+    private static final String BATCH_SIZE_METRIC = "kanwise.job.batch.size";
+    private static final String GROUP_TAG = "group";
+
+    private final JobGroup jobGroup;
+    private final ReportDataService<T> reportDataService;
+    private final JobExecutorService<R, T> jobExecutorService;
+    private final IReportExecutionService reportExecutionService;
+    private final IJobConcurrencyLimiter jobConcurrencyLimiter;
+    private final JobBatchConfigurationProperties jobBatchConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor dispatcher;
+    private final Map<ReportPeriod, PendingBatch<R, T>> pendingBatches = new HashMap<>();
+    private long batchGeneration;
+
+    protected GenericJobBatchService(JobGroup jobGroup, ReportDataService<T> reportDataService, JobExecutorService<R, T> jobExecutorService, IReportExecutionService reportExecutionService, IJobConcurrencyLimiter jobConcurrencyLimiter, JobBatchConfigurationProperties jobBatchConfigurationProperties, MeterRegistry meterRegistry) {
+        this.jobGroup = jobGroup;
+        this.reportDataService = reportDataService;
+        this.jobExecutorService = jobExecutorService;
+        this.reportExecutionService = reportExecutionService;
+        this.jobConcurrencyLimiter = jobConcurrencyLimiter;
+        this.jobBatchConfigurationProperties = jobBatchConfigurationProperties;
+        this.meterRegistry = meterRegistry;
+        this.dispatcher = new ScheduledThreadPoolExecutor(jobBatchConfigurationProperties.dispatchers(), new CustomizableThreadFactory("job-batch-%s-".formatted(jobGroup.name().toLowerCase())));
+    }
+
+    protected abstract ReportPeriod getReportPeriod(T jobInformation);
+
+    @Override
+    public CompletableFuture<R> submit(T jobInformation, ExecutionLane lane) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        ReportPeriod reportPeriod = getReportPeriod(jobInformation);
+        PendingJob<R, T> pendingJob = new PendingJob<>(jobInformation, lane, result);
+        if (lane == INTERACTIVE) {
+            dispatcher.execute(() -> executeBatch(reportPeriod, List.of(pendingJob)));
+            return result;
+        }
+        List<PendingJob<R, T>> fullBatch = null;
+        synchronized (pendingBatches) {
+            PendingBatch<R, T> batch = pendingBatches.computeIfAbsent(reportPeriod, this::openBatch);
+            batch.jobs().add(pendingJob);
+            if (batch.jobs().size() >= jobBatchConfigurationProperties.maxBatchSize()) {
+                fullBatch = pendingBatches.remove(reportPeriod).jobs();
+            }
+        }
+        if (fullBatch != null) {
+            List<PendingJob<R, T>> batch = fullBatch;
+            dispatcher.execute(() -> executeBatch(reportPeriod, batch));
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private PendingBatch<R, T> openBatch(ReportPeriod reportPeriod) {
+        long generation = ++batchGeneration;
+        dispatcher.schedule(() -> flush(reportPeriod, generation), jobBatchConfigurationProperties.window().toMillis(), MILLISECONDS);
+        return new PendingBatch<>(generation, new ArrayList<>());
+    }
+
+    private void flush(ReportPeriod reportPeriod, long generation) {
+        PendingBatch<R, T> batch;
+        synchronized (pendingBatches) {
+            batch = pendingBatches.get(reportPeriod);
+            if (batch == null || batch.generation() != generation) {
+                return;
+            }
+            pendingBatches.remove(reportPeriod);
+        }
+        executeBatch(reportPeriod, batch.jobs());
+    }
+
+    private void executeBatch(ReportPeriod reportPeriod, List<PendingJob<R, T>> batch) {
+        meterRegistry.summary(BATCH_SIZE_METRIC, GROUP_TAG, jobGroup.name()).record(batch.size());
+        Map<String, Map<String, Object>> data;
+        try {
+            data = reportDataService.getReportData(reportPeriod, batch.stream().map(PendingJob::jobInformation).toList());
+        } catch (RuntimeException e) {
+            log.error("Failed to fetch report data for batch of {} {} jobs", batch.size(), jobGroup, e);
+            batch.forEach(pendingJob -> pendingJob.result().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(pendingJob -> executeJob(pendingJob, data.get(pendingJob.jobInformation().getId())));
+    }
+
+    private void executeJob(PendingJob<R, T> pendingJob, Map<String, Object> data) {
+        if (data == null) {
+            pendingJob.result().completeExceptionally(new ReportDataNotFoundException(pendingJob.jobInformation().getId()));
+            return;
+        }
+        try {
+            submitExecution(pendingJob, data).whenComplete((executionDetails, throwable) -> {
+                if (throwable != null) {
+                    pendingJob.result().completeExceptionally(throwable);
+                } else {
+                    pendingJob.result().complete(executionDetails);
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingJob.result().completeExceptionally(e);
+        }
+    }
+
+    private CompletableFuture<R> submitExecution(PendingJob<R, T> pendingJob, Map<String, Object> data) {
+        Supplier<CompletableFuture<R>> execution = () -> reportExecutionService.submit(pendingJob.lane(), () -> jobExecutorService.execute(pendingJob.jobInformation(), data));
+        if (pendingJob.lane() == INTERACTIVE) {
+            return execution.get();
+        }
+        return jobConcurrencyLimiter.execute(jobGroup, execution);
+    }
+
+    private record PendingBatch<R, T>(long generation, List<PendingJob<R, T>> jobs) {
+    }
+
+    private record PendingJob<R, T>(T jobInformation, ExecutionLane lane, CompletableFuture<R> result) {
+    }
+}
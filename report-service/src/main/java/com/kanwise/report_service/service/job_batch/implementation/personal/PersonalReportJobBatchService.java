@@ -0,0 +1,28 @@
+package com.kanwise.report_service.service.job_batch.implementation.personal;
+
+import com.kanwise.report_service.configuration.job_batch.JobBatchConfigurationProperties;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.job_execution_details.personal.PersonalReportJobExecutionDetails;
+import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
+import com.kanwise.report_service.service.job_batch.implementation.GenericJobBatchService;
+import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.report_data.common.ReportDataService;
+import com.kanwise.report_service.service.report_execution.common.IReportExecutionService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+
+@Service
+public class PersonalReportJobBatchService extends GenericJobBatchService<PersonalReportJobExecutionDetails, PersonalReportJobInformation> {
+
+    public PersonalReportJobBatchService(ReportDataService<PersonalReportJobInformation> personalReportDataService, JobExecutorService<PersonalReportJobExecutionDetails, PersonalReportJobInformation> jobExecutorService, IReportExecutionService reportExecutionService, IJobConcurrencyLimiter jobConcurrencyLimiter, JobBatchConfigurationProperties jobBatchConfigurationProperties, MeterRegistry meterRegistry) {
+        super(PERSONAL_REPORT, personalReportDataService, jobExecutorService, reportExecutionService, jobConcurrencyLimiter, jobBatchConfigurationProperties, meterRegistry);
+    }
+
+    @Override
+    protected ReportPeriod getReportPeriod(PersonalReportJobInformation jobInformation) {
+        return new ReportPeriod(jobInformation.getStartDate(), jobInformation.getEndDate());
+    }
+}
@@ -0,0 +1,28 @@
+package com.kanwise.report_service.service.job_batch.implementation.project;
+
+import com.kanwise.report_service.configuration.job_batch.JobBatchConfigurationProperties;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.job_execution_details.project.ProjectReportJobExecutionDetails;
+import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
+import com.kanwise.report_service.service.job_batch.implementation.GenericJobBatchService;
+import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.report_data.common.ReportDataService;
+import com.kanwise.report_service.service.report_execution.common.IReportExecutionService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import static com.kanwise.report_service.model.report.JobGroup.PROJECT_REPORT;
+
+@Service
+public class ProjectReportJobBatchService extends GenericJobBatchService<ProjectReportJobExecutionDetails, ProjectReportJobInformation> {
+
+    public ProjectReportJobBatchService(ReportDataService<ProjectReportJobInformation> projectReportDataService, JobExecutorService<ProjectReportJobExecutionDetails, ProjectReportJobInformation> jobExecutorService, IReportExecutionService reportExecutionService, IJobConcurrencyLimiter jobConcurrencyLimiter, JobBatchConfigurationProperties jobBatchConfigurationProperties, MeterRegistry meterRegistry) {
+        super(PROJECT_REPORT, projectReportDataService, jobExecutorService, reportExecutionService, jobConcurrencyLimiter, jobBatchConfigurationProperties, meterRegistry);
+    }
+
+    @Override
+    protected ReportPeriod getReportPeriod(ProjectReportJobInformation jobInformation) {
+        return new ReportPeriod(jobInformation.getStartDate(), jobInformation.getEndDate());
+    }
+}
@@ -11,11 +11,8 @@ import com.kanwise.report_service.service.report.common.ReportService;
 import com.kanwise.report_service.service.report_data.common.ReportDataService;
 import com.kanwise.report_service.service.spaces.common.ISpacesService;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
 import java.net.URL;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -26,7 +23,7 @@ import static com.kanwise.report_service.model.job_execution_details.common.Exec
 import static com.kanwise.report_service.model.notification.email.EmailMessageType.PERSONAL_REPORT;
 import static java.time.LocalDateTime.now;
 import static java.util.Map.of;
-import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
 
 @Slf4j
 @Service
@@ -49,47 +46,40 @@ public class PersonalReportJobExecutorService implements JobExecutorService<Pers
     }
 
 
-    @Async
     @Override
     public CompletableFuture<PersonalReportJobExecutionDetails> execute(PersonalReportJobInformation jobInformation) {
-        Map<String, Object> data = personalReportDataService.getReportData(jobInformation);
+        return execute(jobInformation, personalReportDataService.getReportData(jobInformation));
+    }
+
+    @Override
+    public CompletableFuture<PersonalReportJobExecutionDetails> execute(PersonalReportJobInformation jobInformation, Map<String, Object> data) {
         String fileName = constructFileName(jobInformation);
         String directoryPath = DIRECTORY_PATTERN.formatted(jobInformation.getUsername());
         String reportUrl = constructReportUrl(fileName, directoryPath);
 
-        MultipartFile generatedReport = generateReport(data, fileName);
-        uploadFile(generatedReport, directoryPath).thenAccept(handleFileUploadResult(data, fileName, reportUrl));
-
-        return completedFuture(constructJobExecutionDetails(jobInformation, reportUrl));
+        return uploadReport(data, directoryPath + fileName)
+                .thenAccept(handleFileUploadResult(data, reportUrl))
+                .thenApply(ignored -> constructJobExecutionDetails(jobInformation, reportUrl));
     }
 
     private String constructReportUrl(String fileName, String directoryPath) {
         return checkIfDirectoryExists(spaceName, directoryPath) + fileName;
     }
 
-    private Consumer<FileUploadStatus> handleFileUploadResult(Map<String, Object> data, String fileName, String reportUrl) {
+    private Consumer<FileUploadStatus> handleFileUploadResult(Map<String, Object> data, String reportUrl) {
         return uploadStatus -> {
             if (uploadStatus.isSuccessful()) {
                 sendEmail(reportUrl, data);
-                try {
-                    personalReportService.removeReport(fileName);
-                } catch (IOException e) {
-                    log.error("Failed to remove report file: {}", e.getMessage());
-                }
             }
         };
     }
 
-    private MultipartFile generateReport(Map<String, Object> data, String fileName) {
-        return personalReportService.generateReport(data, fileName);
-    }
-
     private URL checkIfDirectoryExists(String spaceName, String formatted) {
         return spacesService.checkIfDirectoryExists(spaceName, formatted, true);
     }
 
-    private CompletableFuture<FileUploadStatus> uploadFile(MultipartFile report, String formatted) {
-        return spacesService.uploadFile(report, formatted, spaceName);
+    private CompletableFuture<FileUploadStatus> uploadReport(Map<String, Object> data, String key) {
+        return spacesService.uploadFile(outputStream -> personalReportService.generateReport(data, outputStream), key, APPLICATION_PDF_VALUE, spaceName);
     }
 
     private void sendEmail(String reportUrl, Map<String, Object> data) {
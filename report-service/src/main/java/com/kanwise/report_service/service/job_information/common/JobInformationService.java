@@ -1,7 +1,9 @@
 package com.kanwise.report_service.service.job_information.common;
 
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
 
+import java.util.Collection;
 import java.util.List;
 
 
@@ -11,6 +13,10 @@ public interface JobInformationService<T extends JobInformation> {
 
     T getJobInformation(String id);
 
+    List<T> getJobInformation(Collection<String> ids);
+
+    List<String> getJobInformationIds(JobStatus status);
+
     List<T> getAllJobInformation();
 
     void deleteJobInformation(String id);
@@ -1,6 +1,7 @@
 package com.kanwise.report_service.service.job_information.implementaion.project;
 
 import com.kanwise.report_service.error.job.common.JobNotFoundException;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.repository.job.common.JobRepository;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 
 @Transactional
@@ -28,6 +30,18 @@ public class ProjectReportJobInformationService implements JobInformationService
         return jobRepository.findById(id).orElseThrow(() -> new JobNotFoundException(id));
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<ProjectReportJobInformation> getJobInformation(Collection<String> ids) {
+        return jobRepository.findAllById(ids);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> getJobInformationIds(JobStatus status) {
+        return jobRepository.findIdsByStatus(status);
+    }
+
     @Transactional(readOnly = true)
     @Override
     public List<ProjectReportJobInformation> getAllJobInformation() {
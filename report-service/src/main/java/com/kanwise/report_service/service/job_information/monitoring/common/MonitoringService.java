@@ -4,13 +4,13 @@ import com.kanwise.report_service.model.job_information.common.JobInformation;
 import com.kanwise.report_service.model.monitoring.common.JobLog;
 import com.kanwise.report_service.model.monitoring.common.LogStatus;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 public interface MonitoringService<T extends JobLog, I extends JobInformation> {
-    T log(LogStatus status, String message, I jobInformation);
+    void log(LogStatus status, String message, I jobInformation);
 
-    T log(LogStatus status, String message, I jobInformation, Map<String, String> data);
+    void log(LogStatus status, String message, I jobInformation, Map<String, String> data);
 
-    Set<T> getLogs(String jobId);
+    List<T> getLogs(String jobId, long before, int size);
 }
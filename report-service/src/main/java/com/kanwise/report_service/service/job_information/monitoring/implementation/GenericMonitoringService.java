@@ -0,0 +1,121 @@
+package com.kanwise.report_service.service.job_information.monitoring.implementation;
+
+import com.kanwise.report_service.configuration.job_log.JobLogConfigurationProperties;
+import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.monitoring.common.JobLog;
+import com.kanwise.report_service.model.monitoring.common.LogStatus;
+import com.kanwise.report_service.model.report.JobGroup;
+import com.kanwise.report_service.repository.monitoring.common.JobLogRepository;
+import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.job_information.monitoring.common.MonitoringService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import javax.annotation.PreDestroy;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static java.time.LocalDateTime.now;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Slf4j
+public abstract class GenericMonitoringService<T extends JobLog, I extends JobInformation> implements MonitoringService<T, I> {
+
+    private static final String PENDING_METRIC = "kanwise.job.log.pending";
+    private static final String WRITE_FAILURES_METRIC = "kanwise.job.log.write.failures";
+    private static final String PURGED_METRIC = "kanwise.job.log.purged";
+    private static final String GROUP_TAG = "group";
+
+    private final JobGroup jobGroup;
+    private final JobLogRepository<T> jobLogRepository;
+    private final JobInformationService<I> jobInformationService;
+    private final JobLogConfigurationProperties jobLogConfigurationProperties;
+    private final Clock clock;
+    private final MeterRegistry meterRegistry;
+    private final BlockingQueue<T> pendingLogs = new LinkedBlockingQueue<>();
+    private final ScheduledThreadPoolExecutor writer;
+
+    protected GenericMonitoringService(JobGroup jobGroup, JobLogRepository<T> jobLogRepository, JobInformationService<I> jobInformationService, JobLogConfigurationProperties jobLogConfigurationProperties, Clock clock, MeterRegistry meterRegistry) {
+        this.jobGroup = jobGroup;
+        this.jobLogRepository = jobLogRepository;
+        this.jobInformationService = jobInformationService;
+        this.jobLogConfigurationProperties = jobLogConfigurationProperties;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.writer = new ScheduledThreadPoolExecutor(1, new CustomizableThreadFactory("job-log-%s-".formatted(jobGroup.name().toLowerCase())));
+        long flushInterval = jobLogConfigurationProperties.flushInterval().toMillis();
+        long purgeInterval = jobLogConfigurationProperties.purgeInterval().toMillis();
+        writer.scheduleWithFixedDelay(this::flush, flushInterval, flushInterval, MILLISECONDS);
+        writer.scheduleWithFixedDelay(this::purge, purgeInterval, purgeInterval, MILLISECONDS);
+        meterRegistry.gaugeCollectionSize(PENDING_METRIC, Tags.of(GROUP_TAG, jobGroup.name()), pendingLogs);
+    }
+
+    protected abstract T createLog(LogStatus status, String message, LocalDateTime timestamp, I jobInformation);
+
+    @Override
+    public void log(LogStatus status, String message, I jobInformation) {
+        enqueue(createLog(status, message, now(clock), jobInformation));
+    }
+
+    @Override
+    public void log(LogStatus status, String message, I jobInformation, Map<String, String> data) {
+        T log = createLog(status, message, now(clock), jobInformation);
+        log.setData(data);
+        enqueue(log);
+    }
+
+    @Override
+    public List<T> getLogs(String jobId, long before, int size) {
+        jobInformationService.getJobInformation(jobId);
+        List<Long> ids = jobLogRepository.findIdsByJobInformationIdBefore(jobId, before, PageRequest.of(0, size));
+        return ids.isEmpty() ? List.of() : jobLogRepository.findDistinctByIdInOrderByIdDesc(ids);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+        flush();
+    }
+
+    private void enqueue(T log) {
+        pendingLogs.add(log);
+        if (pendingLogs.size() >= jobLogConfigurationProperties.batchSize() && !writer.isShutdown()) {
+            writer.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        List<T> batch = new ArrayList<>(jobLogConfigurationProperties.batchSize());
+        while (pendingLogs.drainTo(batch, jobLogConfigurationProperties.batchSize()) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<T> batch) {
+        try {
+            jobLogRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} {} job logs", batch.size(), jobGroup, e);
+            meterRegistry.counter(WRITE_FAILURES_METRIC, GROUP_TAG, jobGroup.name()).increment(batch.size());
+        }
+    }
+
+    private void purge() {
+        try {
+            long purged = jobLogRepository.purgeByTimestampBefore(now(clock).minus(jobLogConfigurationProperties.retention()));
+            meterRegistry.counter(PURGED_METRIC, GROUP_TAG, jobGroup.name()).increment(purged);
+        } catch (RuntimeException e) {
+            log.error("Failed to purge {} job logs", jobGroup, e);
+        }
+    }
+}
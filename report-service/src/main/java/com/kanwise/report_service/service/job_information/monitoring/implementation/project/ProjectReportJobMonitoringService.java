@@ -1,59 +1,34 @@
 package com.kanwise.report_service.service.job_information.monitoring.implementation.project;
 
+import com.kanwise.report_service.configuration.job_log.JobLogConfigurationProperties;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.model.monitoring.common.LogStatus;
 import com.kanwise.report_service.model.monitoring.project.ProjectReportJobLog;
 import com.kanwise.report_service.repository.monitoring.project.ProjectReportJobLogRepository;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
-import com.kanwise.report_service.service.job_information.monitoring.common.MonitoringService;
-import lombok.RequiredArgsConstructor;
+import com.kanwise.report_service.service.job_information.monitoring.implementation.GenericMonitoringService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Clock;
-import java.util.Map;
-import java.util.Set;
+import java.time.LocalDateTime;
 
-import static java.time.LocalDateTime.now;
+import static com.kanwise.report_service.model.report.JobGroup.PROJECT_REPORT;
 
 @Service
-@RequiredArgsConstructor
-public class ProjectReportJobMonitoringService implements MonitoringService<ProjectReportJobLog, ProjectReportJobInformation> {
+public class ProjectReportJobMonitoringService extends GenericMonitoringService<ProjectReportJobLog, ProjectReportJobInformation> {
 
-    private final ProjectReportJobLogRepository projectReportJobLogRepository;
-
-    private final JobInformationService<ProjectReportJobInformation> projectReportJobInformationService;
-
-    private final Clock clock;
-
-
-    @Transactional
-    @Override
-    public ProjectReportJobLog log(LogStatus status, String message, ProjectReportJobInformation jobInformation) {
-        ProjectReportJobLog log = generateLog(status, message);
-        jobInformation.addLog(log);
-        return projectReportJobLogRepository.saveAndFlush(log);
+    public ProjectReportJobMonitoringService(ProjectReportJobLogRepository projectReportJobLogRepository, JobInformationService<ProjectReportJobInformation> projectReportJobInformationService, JobLogConfigurationProperties jobLogConfigurationProperties, Clock clock, MeterRegistry meterRegistry) {
+        super(PROJECT_REPORT, projectReportJobLogRepository, projectReportJobInformationService, jobLogConfigurationProperties, clock, meterRegistry);
     }
 
-    @Transactional
     @Override
-    public ProjectReportJobLog log(LogStatus status, String message, ProjectReportJobInformation jobInformation, Map<String, String> data) {
-        ProjectReportJobLog log = generateLog(status, message);
-        log.setData(data);
-        jobInformation.addLog(log);
-        return projectReportJobLogRepository.saveAndFlush(log);
-    }
-
-    @Override
-    public Set<ProjectReportJobLog> getLogs(String jobId) {
-        return projectReportJobInformationService.getJobInformation(jobId).getLogs();
-    }
-
-    private ProjectReportJobLog generateLog(LogStatus status, String message) {
+    protected ProjectReportJobLog createLog(LogStatus status, String message, LocalDateTime timestamp, ProjectReportJobInformation jobInformation) {
         return ProjectReportJobLog.builder()
+                .jobInformation(jobInformation)
                 .status(status)
                 .message(message)
-                .timestamp(now(clock))
+                .timestamp(timestamp)
                 .build();
     }
 }
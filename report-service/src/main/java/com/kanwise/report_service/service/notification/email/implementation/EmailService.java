@@ -2,6 +2,8 @@ package com.kanwise.report_service.service.notification.email.implementation;
 
 
 import com.kanwise.report_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.report_service.model.kafka.TopicType;
+import com.kanwise.report_service.model.notification.email.EmailMessageType;
 import com.kanwise.report_service.model.notification.email.EmailRequest;
 import com.kanwise.report_service.service.notification.email.common.IEmailService;
 import lombok.RequiredArgsConstructor;
@@ -9,18 +11,40 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static com.kanwise.report_service.model.notification.email.EmailMessageType.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.notification.email.EmailMessageType.PROJECT_REPORT;
+import static java.util.UUID.randomUUID;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class EmailService implements IEmailService {
 
+    private static final Set<EmailMessageType> BULK_TYPES = EnumSet.of(PERSONAL_REPORT, PROJECT_REPORT);
+
     private final KafkaTemplate<String, EmailRequest> kafkaEmailTemplate;
+    private final KafkaTemplate<String, EmailRequest> kafkaBulkEmailTemplate;
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
 
     @Override
     public void sendEmail(EmailRequest messageRequest) {
-        kafkaEmailTemplate.send(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL), messageRequest);
+        if (messageRequest.getMessageId() == null) {
+            messageRequest.setMessageId(randomUUID().toString());
+        }
+        TopicType topicType = getTopicType(messageRequest.getType());
+        getKafkaTemplate(topicType).send(kafkaConfigurationProperties.getTopicName(topicType), messageRequest.getMessageId(), messageRequest);
+    }
+
+    private KafkaTemplate<String, EmailRequest> getKafkaTemplate(TopicType topicType) {
+        return topicType == NOTIFICATION_EMAIL_BULK ? kafkaBulkEmailTemplate : kafkaEmailTemplate;
+    }
+
+    private TopicType getTopicType(EmailMessageType emailMessageType) {
+        return BULK_TYPES.contains(emailMessageType) ? NOTIFICATION_EMAIL_BULK : NOTIFICATION_EMAIL;
     }
 }
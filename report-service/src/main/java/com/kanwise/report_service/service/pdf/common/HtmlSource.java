@@ -0,0 +1,10 @@
+package com.kanwise.report_service.service.pdf.common;
+
+import java.io.IOException;
+import java.io.Writer;
+
+@FunctionalInterface
+public interface HtmlSource {
+
+    void writeTo(Writer writer) throws IOException;
+}
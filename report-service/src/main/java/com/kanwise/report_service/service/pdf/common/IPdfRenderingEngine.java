@@ -0,0 +1,9 @@
+package com.kanwise.report_service.service.pdf.common;
+
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+
+public interface IPdfRenderingEngine {
+
+    CompletableFuture<Void> render(HtmlSource htmlSource, OutputStream outputStream);
+}
@@ -2,9 +2,10 @@ package com.kanwise.report_service.service.pdf.common;
 
 import com.kanwise.report_service.model.report.ReportType;
 
+import java.io.OutputStream;
 import java.util.Map;
 
 public interface IPdfService {
 
-    void generatePdf(ReportType reportType, Map<String, Object> data, String fileName);
+    void generatePdf(ReportType reportType, Map<String, Object> data, OutputStream outputStream);
 }
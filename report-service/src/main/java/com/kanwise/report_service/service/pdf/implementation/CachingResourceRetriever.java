@@ -0,0 +1,56 @@
+package com.kanwise.report_service.service.pdf.implementation;
+
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Collections.synchronizedMap;
+
+public class CachingResourceRetriever implements IResourceRetriever {
+
+    private final IResourceRetriever resourceRetriever;
+    private final Map<String, byte[]> resources;
+
+    public CachingResourceRetriever(IResourceRetriever resourceRetriever, int maximumSize) {
+        this.resourceRetriever = resourceRetriever;
+        this.resources = createResourceCache(maximumSize);
+    }
+
+    @Override
+    public InputStream getInputStreamByUrl(URL url) throws IOException {
+        byte[] resource = getByteArrayByUrl(url);
+        return resource == null ? null : new ByteArrayInputStream(resource);
+    }
+
+    @Override
+    public byte[] getByteArrayByUrl(URL url) throws IOException {
+        String key = url.toExternalForm();
+        byte[] cached = resources.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] resource = resourceRetriever.getByteArrayByUrl(url);
+        if (resource != null) {
+            resources.putIfAbsent(key, resource);
+        }
+        return resource;
+    }
+
+    public int size() {
+        return resources.size();
+    }
+
+    private Map<String, byte[]> createResourceCache(int maximumSize) {
+        return synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > maximumSize;
+            }
+        });
+    }
+}
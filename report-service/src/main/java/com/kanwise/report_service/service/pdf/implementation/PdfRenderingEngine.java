@@ -0,0 +1,158 @@
+package com.kanwise.report_service.service.pdf.implementation;
+
+import com.itextpdf.html2pdf.ConverterProperties;
+import com.itextpdf.html2pdf.HtmlConverter;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.font.FontProvider;
+import com.itextpdf.layout.font.FontSet;
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+import com.kanwise.report_service.configuration.pdf.PdfRenderingConfigurationProperties;
+import com.kanwise.report_service.service.pdf.common.HtmlSource;
+import com.kanwise.report_service.service.pdf.common.IPdfRenderingEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static com.itextpdf.io.font.constants.StandardFontFamilies.TIMES;
+import static com.itextpdf.kernel.geom.PageSize.A4;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Slf4j
+@Service
+public class PdfRenderingEngine implements IPdfRenderingEngine {
+
+    private static final String RENDER_TIME_METRIC = "kanwise.pdf.render.time";
+    private static final String QUEUE_WAIT_METRIC = "kanwise.pdf.render.queue.wait";
+    private static final String QUEUE_SIZE_METRIC = "kanwise.pdf.render.queue.size";
+    private static final String REJECTED_METRIC = "kanwise.pdf.render.rejected";
+    private static final int INITIAL_HTML_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_RETAINED_HTML_BUFFER_SIZE = 4 * 1024 * 1024;
+
+    private final FontSet pdfFontSet;
+    private final IResourceRetriever pdfResourceRetriever;
+    private final ThreadPoolExecutor executor;
+    private final ThreadLocal<ConverterProperties> converterProperties = ThreadLocal.withInitial(this::createConverterProperties);
+    private final ThreadLocal<HtmlBuffer> htmlBuffers = ThreadLocal.withInitial(HtmlBuffer::new);
+    private final Timer renderTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PdfRenderingEngine(PdfRenderingConfigurationProperties pdfRenderingConfigurationProperties, FontSet pdfFontSet, IResourceRetriever pdfResourceRetriever, MeterRegistry meterRegistry) {
+        this.pdfFontSet = pdfFontSet;
+        this.pdfResourceRetriever = pdfResourceRetriever;
+        this.renderTimer = Timer.builder(RENDER_TIME_METRIC).publishPercentileHistogram().register(meterRegistry);
+        this.queueWaitTimer = Timer.builder(QUEUE_WAIT_METRIC).publishPercentileHistogram().register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter(REJECTED_METRIC);
+        this.executor = new ThreadPoolExecutor(
+                pdfRenderingConfigurationProperties.workers(),
+                pdfRenderingConfigurationProperties.workers(),
+                0L, MILLISECONDS,
+                new ArrayBlockingQueue<>(pdfRenderingConfigurationProperties.queueCapacity()),
+                new CustomizableThreadFactory("pdf-render-"),
+                waitForQueueCapacity(pdfRenderingConfigurationProperties.queueTimeout())
+        );
+        meterRegistry.gauge(QUEUE_SIZE_METRIC, executor.getQueue(), BlockingQueue::size);
+    }
+
+    @Override
+    public CompletableFuture<Void> render(HtmlSource htmlSource, OutputStream outputStream) {
+        long submittedAt = System.nanoTime();
+        return runAsync(() -> {
+            queueWaitTimer.record(System.nanoTime() - submittedAt, NANOSECONDS);
+            renderTimer.record(() -> convert(htmlSource, outputStream));
+        }, executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void convert(HtmlSource htmlSource, OutputStream outputStream) {
+        HtmlBuffer htmlBuffer = htmlBuffers.get();
+        try {
+            Writer writer = new OutputStreamWriter(htmlBuffer, UTF_8);
+            htmlSource.writeTo(writer);
+            writer.flush();
+            PdfWriter pdfWriter = new PdfWriter(outputStream);
+            pdfWriter.setCloseStream(false);
+            try (PdfDocument pdfDocument = new PdfDocument(pdfWriter)) {
+                pdfDocument.setDefaultPageSize(A4.rotate());
+                HtmlConverter.convertToPdf(htmlBuffer.toInputStream(), pdfDocument, converterProperties.get());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            releaseHtmlBuffer(htmlBuffer);
+        }
+    }
+
+    private void releaseHtmlBuffer(HtmlBuffer htmlBuffer) {
+        if (htmlBuffer.capacity() > MAX_RETAINED_HTML_BUFFER_SIZE) {
+            htmlBuffers.remove();
+        } else {
+            htmlBuffer.reset();
+        }
+    }
+
+    private ConverterProperties createConverterProperties() {
+        ConverterProperties properties = new ConverterProperties();
+        properties.setFontProvider(new FontProvider(pdfFontSet, TIMES));
+        properties.setResourceRetriever(pdfResourceRetriever);
+        properties.setCharset(UTF_8.name());
+        return properties;
+    }
+
+    private RejectedExecutionHandler waitForQueueCapacity(Duration queueTimeout) {
+        return (task, threadPoolExecutor) -> {
+            try {
+                if (threadPoolExecutor.isShutdown() || !threadPoolExecutor.getQueue().offer(task, queueTimeout.toMillis(), MILLISECONDS)) {
+                    rejectedCounter.increment();
+                    throw new RejectedExecutionException("PDF_RENDERING_QUEUE_FULL");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("PDF_RENDERING_INTERRUPTED", e);
+            }
+        };
+    }
+
+    private static final class HtmlBuffer extends ByteArrayOutputStream {
+
+        private HtmlBuffer() {
+            super(INITIAL_HTML_BUFFER_SIZE);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
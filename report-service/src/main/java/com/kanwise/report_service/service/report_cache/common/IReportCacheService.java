@@ -0,0 +1,10 @@
+package com.kanwise.report_service.service.report_cache.common;
+
+import com.kanwise.report_service.model.report_cache.CachedReport;
+import com.kanwise.report_service.model.report_cache.ReportCacheKey;
+import com.kanwise.report_service.service.spaces.common.ContentWriter;
+
+public interface IReportCacheService {
+
+    CachedReport getOrUpload(ReportCacheKey key, ContentWriter contentWriter);
+}
@@ -0,0 +1,151 @@
+package com.kanwise.report_service.service.report_cache.implementation;
+
+import com.amazonaws.SdkClientException;
+import com.kanwise.report_service.configuration.report_cache.ReportCacheConfigurationProperties;
+import com.kanwise.report_service.configuration.spaces.SpacesNamesConfigurationProperties;
+import com.kanwise.report_service.model.file.FileUploadStatus;
+import com.kanwise.report_service.model.report_cache.CachedReport;
+import com.kanwise.report_service.model.report_cache.ReportCacheKey;
+import com.kanwise.report_service.service.report_cache.common.IReportCacheService;
+import com.kanwise.report_service.service.spaces.common.ContentWriter;
+import com.kanwise.report_service.service.spaces.common.ISpacesService;
+import com.kanwise.report_service.service.template.common.IHtmlTemplateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.kanwise.report_service.model.file.FileUploadStatus.SUCCESS;
+import static com.kanwise.report_service.util.DigestUtils.sha256Hex;
+import static java.lang.Math.max;
+import static java.lang.Math.toIntExact;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+
+@Slf4j
+@Service
+public class ReportCacheService implements IReportCacheService {
+
+    private static final String SHARED_REPORTS_PREFIX = "reports/shared/";
+    private static final String OBJECT_KEY_PATTERN = SHARED_REPORTS_PREFIX + "%s/%s.pdf";
+    private static final String CACHE_KEY_PATTERN = "%s|%s|%s|%s|%s";
+    private static final String RETENTION_RULE_ID = "shared-reports-retention";
+    private static final String HITS_METRIC = "kanwise.report.cache.hits";
+    private static final String MISSES_METRIC = "kanwise.report.cache.misses";
+    private static final String TYPE_TAG = "type";
+
+    private final ISpacesService spacesService;
+    private final IHtmlTemplateService htmlTemplateService;
+    private final ReportCacheConfigurationProperties reportCacheConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final String spaceName;
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReportCacheService(ISpacesService spacesService, IHtmlTemplateService htmlTemplateService, ReportCacheConfigurationProperties reportCacheConfigurationProperties, SpacesNamesConfigurationProperties spacesNamesConfigurationProperties, MeterRegistry meterRegistry) {
+        this(spacesService, htmlTemplateService, reportCacheConfigurationProperties, spacesNamesConfigurationProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    ReportCacheService(ISpacesService spacesService, IHtmlTemplateService htmlTemplateService, ReportCacheConfigurationProperties reportCacheConfigurationProperties, SpacesNamesConfigurationProperties spacesNamesConfigurationProperties, MeterRegistry meterRegistry, Clock clock) {
+        this.spacesService = spacesService;
+        this.htmlTemplateService = htmlTemplateService;
+        this.reportCacheConfigurationProperties = reportCacheConfigurationProperties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.spaceName = spacesNamesConfigurationProperties.reports();
+    }
+
+    @PostConstruct
+    public void init() {
+        CompletableFuture.runAsync(this::applyRetentionPolicy);
+    }
+
+    @Override
+    public CachedReport getOrUpload(ReportCacheKey key, ContentWriter contentWriter) {
+        String objectKey = constructObjectKey(key);
+        Instant now = clock.instant();
+        AtomicBoolean miss = new AtomicBoolean();
+        evictIfFull(now);
+        CacheEntry entry = entries.compute(objectKey, (ignored, current) -> {
+            if (current != null && current.isReusable(now)) {
+                return current;
+            }
+            miss.set(true);
+            return new CacheEntry(findOrUpload(objectKey, contentWriter, now), now.plus(reportCacheConfigurationProperties.ttl()));
+        });
+        meterRegistry.counter(miss.get() ? MISSES_METRIC : HITS_METRIC, TYPE_TAG, key.reportType().name()).increment();
+        return new CachedReport(spacesService.getUrl(spaceName, objectKey).toString(), entry.uploadStatus());
+    }
+
+    private CompletableFuture<FileUploadStatus> findOrUpload(String objectKey, ContentWriter contentWriter, Instant now) {
+        return supplyAsync(() -> isStoredWithinTtl(objectKey, now))
+                .thenCompose(stored -> stored ? completedFuture(SUCCESS) : spacesService.uploadFile(contentWriter, objectKey, APPLICATION_PDF_VALUE, spaceName));
+    }
+
+    private boolean isStoredWithinTtl(String objectKey, Instant now) {
+        try {
+            return spacesService.getLastModified(spaceName, objectKey)
+                    .map(lastModified -> lastModified.plus(reportCacheConfigurationProperties.ttl()).isAfter(now))
+                    .orElse(false);
+        } catch (SdkClientException e) {
+            log.warn("Failed to check shared report {}, rendering it again", objectKey, e);
+            return false;
+        }
+    }
+
+    private void evictIfFull(Instant now) {
+        if (entries.size() < reportCacheConfigurationProperties.maximumSize()) {
+            return;
+        }
+        entries.values().removeIf(entry -> entry.isExpired(now));
+        if (entries.size() >= reportCacheConfigurationProperties.maximumSize()) {
+            entries.values().removeIf(entry -> entry.uploadStatus().isDone());
+        }
+    }
+
+    private String constructObjectKey(ReportCacheKey key) {
+        String digest = sha256Hex(CACHE_KEY_PATTERN.formatted(
+                key.reportType(),
+                key.subject(),
+                key.reportPeriod().startDate(),
+                key.reportPeriod().endDate(),
+                htmlTemplateService.getTemplateVersion(key.reportType())));
+        return OBJECT_KEY_PATTERN.formatted(key.reportType().name().toLowerCase(), digest);
+    }
+
+    private void applyRetentionPolicy() {
+        int expirationInDays = toIntExact(max(1, reportCacheConfigurationProperties.retention().toDays()));
+        try {
+            spacesService.applyExpirationRule(spaceName, RETENTION_RULE_ID, SHARED_REPORTS_PREFIX, expirationInDays);
+            log.info("Applied {} day retention to shared reports in space {}", expirationInDays, spaceName);
+        } catch (SdkClientException e) {
+            log.error("Failed to apply retention to shared reports in space {}", spaceName, e);
+        }
+    }
+
+    private record CacheEntry(CompletableFuture<FileUploadStatus> uploadStatus, Instant expiresAt) {
+
+        private boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+
+        private boolean isReusable(Instant now) {
+            return !isExpired(now) && !hasFailed();
+        }
+
+        private boolean hasFailed() {
+            return uploadStatus.isCompletedExceptionally()
+                    || uploadStatus.isDone() && !uploadStatus.join().isSuccessful();
+        }
+    }
+}
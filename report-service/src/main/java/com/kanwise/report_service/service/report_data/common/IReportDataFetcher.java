@@ -0,0 +1,11 @@
+package com.kanwise.report_service.service.report_data.common;
+
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IReportDataFetcher {
+
+    <T> CompletableFuture<T> fetch(ReportDataSource source, Supplier<T> call);
+}
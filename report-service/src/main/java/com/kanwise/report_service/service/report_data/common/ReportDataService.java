@@ -1,10 +1,14 @@
 package com.kanwise.report_service.service.report_data.common;
 
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
 import com.kanwise.report_service.model.job_information.common.JobInformation;
 
+import java.util.List;
 import java.util.Map;
 
 public interface ReportDataService<T extends JobInformation> {
 
     Map<String, Object> getReportData(T jobInformation);
+
+    Map<String, Map<String, Object>> getReportData(ReportPeriod reportPeriod, List<T> jobInformation);
 }
@@ -1,20 +1,33 @@
 package com.kanwise.report_service.service.report_data.implementation;
 
 import com.kanwise.clients.report_service.report.client.ReportDataClient;
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataDto;
 import com.kanwise.clients.report_service.report.model.personal.PersonalReportDataRequest;
 import com.kanwise.clients.user_service.user.client.UserClient;
+import com.kanwise.clients.user_service.user.model.UserDataBatchDto;
+import com.kanwise.clients.user_service.user.model.UserDataBatchRequest;
 import com.kanwise.clients.user_service.user.model.UserDataDto;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
+import com.kanwise.report_service.service.report_data.common.IReportDataFetcher;
 import com.kanwise.report_service.service.report_data.common.ReportDataService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static com.kanwise.report_service.model.report_data.ReportDataSource.KANWISE_SERVICE;
+import static com.kanwise.report_service.model.report_data.ReportDataSource.USER_SERVICE;
+import static com.kanwise.report_service.util.FutureUtils.join;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
 
 @RequiredArgsConstructor
 @Service
@@ -22,13 +35,22 @@ public class PersonalReportDataService implements ReportDataService<PersonalRepo
 
     private final UserClient userClient;
     private final ReportDataClient reportDataClient;
+    private final IReportDataFetcher reportDataFetcher;
 
 
     @Override
     public Map<String, Object> getReportData(PersonalReportJobInformation jobInformation) {
-        PersonalReportDataDto personalReportData = getPersonalReportData(jobInformation);
-        UserDataDto userData = getUserData(jobInformation);
-        return constructData(personalReportData.data(), userData.data());
+        CompletableFuture<PersonalReportDataDto> personalReportData = reportDataFetcher.fetch(KANWISE_SERVICE, () -> getPersonalReportData(jobInformation));
+        CompletableFuture<UserDataDto> userData = reportDataFetcher.fetch(USER_SERVICE, () -> getUserData(jobInformation));
+        return join(personalReportData.thenCombine(userData, (reportData, user) -> constructData(reportData.data(), user.data())));
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> getReportData(ReportPeriod reportPeriod, List<PersonalReportJobInformation> jobInformation) {
+        Set<String> usernames = jobInformation.stream().map(PersonalReportJobInformation::getUsername).collect(toSet());
+        CompletableFuture<PersonalReportDataBatchDto> personalReportData = reportDataFetcher.fetch(KANWISE_SERVICE, () -> getPersonalReportData(reportPeriod, usernames));
+        CompletableFuture<UserDataBatchDto> userData = reportDataFetcher.fetch(USER_SERVICE, () -> getUserData(usernames));
+        return join(personalReportData.thenCombine(userData, (reportData, users) -> constructData(jobInformation, reportData, users)));
     }
 
     private UserDataDto getUserData(PersonalReportJobInformation jobInformation) {
@@ -47,6 +69,34 @@ public class PersonalReportDataService implements ReportDataService<PersonalRepo
         return requireNonNull(personalReportData.getBody());
     }
 
+    private UserDataBatchDto getUserData(Set<String> usernames) {
+        ResponseEntity<UserDataBatchDto> userData = userClient.getUserDataBatch(new UserDataBatchRequest(usernames));
+        return requireNonNull(userData.getBody());
+    }
+
+    private PersonalReportDataBatchDto getPersonalReportData(ReportPeriod reportPeriod, Set<String> usernames) {
+        PersonalReportDataBatchRequest request = PersonalReportDataBatchRequest.builder()
+                .usernames(usernames)
+                .startDate(reportPeriod.startDate())
+                .endDate(reportPeriod.endDate())
+                .build();
+
+        ResponseEntity<PersonalReportDataBatchDto> personalReportData = reportDataClient.getPersonalReportDataBatch(request);
+        return requireNonNull(personalReportData.getBody());
+    }
+
+    private Map<String, Map<String, Object>> constructData(List<PersonalReportJobInformation> jobInformation, PersonalReportDataBatchDto reportData, UserDataBatchDto users) {
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (PersonalReportJobInformation item : jobInformation) {
+            PersonalReportDataDto personalReportData = reportData.data().get(item.getUsername());
+            UserDataDto userData = users.data().get(item.getUsername());
+            if (personalReportData != null && userData != null) {
+                result.put(item.getId(), constructData(personalReportData.data(), userData.data()));
+            }
+        }
+        return result;
+    }
+
     @SafeVarargs
     private Map<String, Object> constructData(Map<String, Object>... data) {
         Map<String, Object> result = new HashMap<>();
@@ -1,20 +1,33 @@
 package com.kanwise.report_service.service.report_data.implementation;
 
 import com.kanwise.clients.report_service.report.client.ReportDataClient;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchDto;
+import com.kanwise.clients.report_service.report.model.project.ProjectReportDataBatchRequest;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataDto;
 import com.kanwise.clients.report_service.report.model.project.ProjectReportDataRequest;
 import com.kanwise.clients.user_service.user.client.UserClient;
+import com.kanwise.clients.user_service.user.model.UserDataBatchDto;
+import com.kanwise.clients.user_service.user.model.UserDataBatchRequest;
 import com.kanwise.clients.user_service.user.model.UserDataDto;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
+import com.kanwise.report_service.service.report_data.common.IReportDataFetcher;
 import com.kanwise.report_service.service.report_data.common.ReportDataService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
+import static com.kanwise.report_service.model.report_data.ReportDataSource.KANWISE_SERVICE;
+import static com.kanwise.report_service.model.report_data.ReportDataSource.USER_SERVICE;
+import static com.kanwise.report_service.util.FutureUtils.join;
 import static java.util.Objects.requireNonNull;
+import static java.util.stream.Collectors.toSet;
 
 @RequiredArgsConstructor
 @Service
@@ -23,13 +36,23 @@ public class ProjectReportDataService implements ReportDataService<ProjectReport
     private final UserClient userClient;
 
     private final ReportDataClient reportDataClient;
+    private final IReportDataFetcher reportDataFetcher;
 
 
     @Override
     public Map<String, Object> getReportData(ProjectReportJobInformation jobInformation) {
-        ProjectReportDataDto projectReportData = getProjectReportData(jobInformation);
-        UserDataDto userData = getUserData(jobInformation);
-        return constructData(projectReportData.data(), userData.data());
+        CompletableFuture<ProjectReportDataDto> projectReportData = reportDataFetcher.fetch(KANWISE_SERVICE, () -> getProjectReportData(jobInformation));
+        CompletableFuture<UserDataDto> userData = reportDataFetcher.fetch(USER_SERVICE, () -> getUserData(jobInformation));
+        return join(projectReportData.thenCombine(userData, (reportData, user) -> constructData(reportData.data(), user.data())));
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> getReportData(ReportPeriod reportPeriod, List<ProjectReportJobInformation> jobInformation) {
+        Set<Long> projectIds = jobInformation.stream().map(ProjectReportJobInformation::getProjectId).collect(toSet());
+        Set<String> usernames = jobInformation.stream().map(ProjectReportJobInformation::getUsername).collect(toSet());
+        CompletableFuture<ProjectReportDataBatchDto> projectReportData = reportDataFetcher.fetch(KANWISE_SERVICE, () -> getProjectReportData(reportPeriod, projectIds));
+        CompletableFuture<UserDataBatchDto> userData = reportDataFetcher.fetch(USER_SERVICE, () -> getUserData(usernames));
+        return join(projectReportData.thenCombine(userData, (reportData, users) -> constructData(jobInformation, reportData, users)));
     }
 
     private UserDataDto getUserData(ProjectReportJobInformation jobInformation) {
@@ -48,6 +71,34 @@ public class ProjectReportDataService implements ReportDataService<ProjectReport
         return requireNonNull(projectReportData.getBody());
     }
 
+    private UserDataBatchDto getUserData(Set<String> usernames) {
+        ResponseEntity<UserDataBatchDto> userData = userClient.getUserDataBatch(new UserDataBatchRequest(usernames));
+        return requireNonNull(userData.getBody());
+    }
+
+    private ProjectReportDataBatchDto getProjectReportData(ReportPeriod reportPeriod, Set<Long> projectIds) {
+        ProjectReportDataBatchRequest request = ProjectReportDataBatchRequest.builder()
+                .projectIds(projectIds)
+                .startDate(reportPeriod.startDate())
+                .endDate(reportPeriod.endDate())
+                .build();
+
+        ResponseEntity<ProjectReportDataBatchDto> projectReportData = reportDataClient.getProjectReportDataBatch(request);
+        return requireNonNull(projectReportData.getBody());
+    }
+
+    private Map<String, Map<String, Object>> constructData(List<ProjectReportJobInformation> jobInformation, ProjectReportDataBatchDto reportData, UserDataBatchDto users) {
+        Map<String, Map<String, Object>> result = new HashMap<>();
+        for (ProjectReportJobInformation item : jobInformation) {
+            ProjectReportDataDto projectReportData = reportData.data().get(item.getProjectId());
+            UserDataDto userData = users.data().get(item.getUsername());
+            if (projectReportData != null && userData != null) {
+                result.put(item.getId(), constructData(projectReportData.data(), userData.data()));
+            }
+        }
+        return result;
+    }
+
     @SafeVarargs
     private Map<String, Object> constructData(Map<String, Object>... data) {
         Map<String, Object> result = new HashMap<>();
@@ -0,0 +1,112 @@
+package com.kanwise.report_service.service.report_data.implementation;
+
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties;
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties.SourceProperties;
+import com.kanwise.report_service.error.report_data.ReportDataFetchException;
+import com.kanwise.report_service.model.report_data.ReportDataSource;
+import com.kanwise.report_service.service.report_data.common.IReportDataFetcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+@Service
+public class ReportDataFetcher implements IReportDataFetcher {
+
+    private static final String LATENCY_METRIC = "kanwise.report.data.latency";
+    private static final String TIMEOUTS_METRIC = "kanwise.report.data.timeouts";
+    private static final String REJECTED_METRIC = "kanwise.report.data.rejected";
+    private static final String SOURCE_TAG = "source";
+    private static final String OUTCOME_TAG = "outcome";
+
+    private final ReportDataConfigurationProperties reportDataConfigurationProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<ReportDataSource, ThreadPoolExecutor> bulkheads = new EnumMap<>(ReportDataSource.class);
+
+    public ReportDataFetcher(ReportDataConfigurationProperties reportDataConfigurationProperties, MeterRegistry meterRegistry) {
+        this.reportDataConfigurationProperties = reportDataConfigurationProperties;
+        this.meterRegistry = meterRegistry;
+        for (ReportDataSource source : ReportDataSource.values()) {
+            bulkheads.put(source, createBulkhead(source, reportDataConfigurationProperties.getSourceProperties(source)));
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> fetch(ReportDataSource source, Supplier<T> call) {
+        SourceProperties sourceProperties = reportDataConfigurationProperties.getSourceProperties(source);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            Future<?> task = bulkheads.get(source).submit(() -> complete(future, () -> timed(source, call)));
+            return future
+                    .orTimeout(sourceProperties.timeout().toMillis(), MILLISECONDS)
+                    .whenComplete((result, throwable) -> task.cancel(true))
+                    .handle((result, throwable) -> {
+                        if (throwable != null) {
+                            throw handleFailure(source, throwable);
+                        }
+                        return result;
+                    });
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter(REJECTED_METRIC, SOURCE_TAG, source.getServiceName()).increment();
+            return failedFuture(new ReportDataFetchException(source, e));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bulkheads.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private <T> void complete(CompletableFuture<T> future, Supplier<T> call) {
+        try {
+            future.complete(call.get());
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private <T> T timed(ReportDataSource source, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(LATENCY_METRIC, SOURCE_TAG, source.getServiceName(), OUTCOME_TAG, outcome));
+        }
+    }
+
+    private ReportDataFetchException handleFailure(ReportDataSource source, Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof TimeoutException) {
+            meterRegistry.counter(TIMEOUTS_METRIC, SOURCE_TAG, source.getServiceName()).increment();
+        }
+        return new ReportDataFetchException(source, cause);
+    }
+
+    private ThreadPoolExecutor createBulkhead(ReportDataSource source, SourceProperties sourceProperties) {
+        return new ThreadPoolExecutor(
+                sourceProperties.maxConcurrentCalls(),
+                sourceProperties.maxConcurrentCalls(),
+                0L, MILLISECONDS,
+                new ArrayBlockingQueue<>(sourceProperties.queueCapacity()),
+                new CustomizableThreadFactory("report-data-%s-".formatted(source.getServiceName()))
+        );
+    }
+}
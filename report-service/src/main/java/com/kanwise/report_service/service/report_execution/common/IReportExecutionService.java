@@ -0,0 +1,11 @@
+package com.kanwise.report_service.service.report_execution.common;
+
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IReportExecutionService {
+
+    <R> CompletableFuture<R> submit(ExecutionLane lane, Supplier<CompletableFuture<R>> task);
+}
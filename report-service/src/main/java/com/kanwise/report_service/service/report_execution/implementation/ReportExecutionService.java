@@ -0,0 +1,160 @@
+package com.kanwise.report_service.service.report_execution.implementation;
+
+import com.kanwise.report_service.configuration.report_execution.ReportExecutionConfigurationProperties;
+import com.kanwise.report_service.configuration.report_execution.ReportExecutionConfigurationProperties.LaneProperties;
+import com.kanwise.report_service.error.report_execution.ReportExecutionRejectedException;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import com.kanwise.report_service.service.report_execution.common.IReportExecutionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Service
+public class ReportExecutionService implements IReportExecutionService {
+
+    private static final String QUEUE_DEPTH_METRIC = "kanwise.report.execution.queue.depth";
+    private static final String ACTIVE_METRIC = "kanwise.report.execution.active";
+    private static final String WAIT_METRIC = "kanwise.report.execution.wait";
+    private static final String REJECTED_METRIC = "kanwise.report.execution.rejected";
+    private static final String LANE_TAG = "lane";
+
+    private final MeterRegistry meterRegistry;
+    private final int workers;
+    private final Map<ExecutionLane, LaneState> lanes = new EnumMap<>(ExecutionLane.class);
+    private final ThreadPoolExecutor executor;
+    private int active;
+
+    public ReportExecutionService(ReportExecutionConfigurationProperties reportExecutionConfigurationProperties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.workers = reportExecutionConfigurationProperties.workers();
+        reportExecutionConfigurationProperties.lanes().forEach((lane, laneProperties) -> {
+            LaneState laneState = new LaneState(lane, laneProperties);
+            lanes.put(lane, laneState);
+            meterRegistry.gauge(QUEUE_DEPTH_METRIC, Tags.of(LANE_TAG, lane.name()), laneState, this::getQueueDepth);
+            meterRegistry.gauge(ACTIVE_METRIC, Tags.of(LANE_TAG, lane.name()), laneState, this::getActive);
+        });
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, MILLISECONDS, new LinkedBlockingQueue<>(), new CustomizableThreadFactory("report-execution-"));
+    }
+
+    @Override
+    public <R> CompletableFuture<R> submit(ExecutionLane lane, Supplier<CompletableFuture<R>> task) {
+        LaneState laneState = lanes.get(lane);
+        CompletableFuture<R> result = new CompletableFuture<>();
+        synchronized (this) {
+            if (laneState == null || laneState.queue.size() >= laneState.properties.queueCapacity()) {
+                meterRegistry.counter(REJECTED_METRIC, LANE_TAG, lane.name()).increment();
+                return failedFuture(new ReportExecutionRejectedException(lane));
+            }
+            laneState.queue.addLast(new QueuedTask<>(task, result, System.nanoTime()));
+        }
+        dispatch();
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void dispatch() {
+        List<Runnable> ready = new ArrayList<>();
+        synchronized (this) {
+            LaneState laneState;
+            while (active < workers && (laneState = selectLane()) != null) {
+                LaneState selected = laneState;
+                QueuedTask<?> queuedTask = selected.queue.pollFirst();
+                selected.active++;
+                active++;
+                ready.add(() -> run(selected, queuedTask));
+            }
+        }
+        ready.forEach(executor::execute);
+    }
+
+    private LaneState selectLane() {
+        LaneState selected = null;
+        int totalWeight = 0;
+        for (LaneState laneState : lanes.values()) {
+            if (laneState.queue.isEmpty() || laneState.active >= laneState.properties.maxConcurrency()) {
+                continue;
+            }
+            laneState.currentWeight += laneState.properties.weight();
+            totalWeight += laneState.properties.weight();
+            if (selected == null || laneState.currentWeight > selected.currentWeight) {
+                selected = laneState;
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    private <R> void run(LaneState laneState, QueuedTask<R> queuedTask) {
+        meterRegistry.timer(WAIT_METRIC, LANE_TAG, laneState.lane.name()).record(System.nanoTime() - queuedTask.enqueuedAt(), NANOSECONDS);
+        CompletableFuture<R> execution;
+        try {
+            execution = queuedTask.task().get();
+        } catch (RuntimeException e) {
+            execution = failedFuture(e);
+        }
+        execution.whenComplete((result, throwable) -> {
+            release(laneState);
+            if (throwable != null) {
+                queuedTask.result().completeExceptionally(throwable);
+            } else {
+                queuedTask.result().complete(result);
+            }
+        });
+    }
+
+    private void release(LaneState laneState) {
+        synchronized (this) {
+            laneState.active--;
+            active--;
+        }
+        dispatch();
+    }
+
+    private synchronized double getQueueDepth(LaneState laneState) {
+        return laneState.queue.size();
+    }
+
+    private synchronized double getActive(LaneState laneState) {
+        return laneState.active;
+    }
+
+    private static final class LaneState {
+
+        private final ExecutionLane lane;
+        private final LaneProperties properties;
+        private final Deque<QueuedTask<?>> queue = new ArrayDeque<>();
+        private int active;
+        private int currentWeight;
+
+        private LaneState(ExecutionLane lane, LaneProperties properties) {
+            this.lane = lane;
+            this.properties = properties;
+        }
+    }
+
+    private record QueuedTask<R>(Supplier<CompletableFuture<R>> task, CompletableFuture<R> result, long enqueuedAt) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.kanwise.report_service.service.scheduler.common;
+
+import com.kanwise.report_service.model.report.JobGroup;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public interface IJobConcurrencyLimiter {
+
+    boolean hasCapacity(JobGroup jobGroup);
+
+    <R> CompletableFuture<R> execute(JobGroup jobGroup, Supplier<CompletableFuture<R>> execution);
+}
@@ -1,9 +1,14 @@
 package com.kanwise.report_service.service.scheduler.common;
 
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import org.quartz.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Optional;
 
 
 public interface JobSchedulerService<T extends JobInformation> {
@@ -13,9 +18,14 @@ public interface JobSchedulerService<T extends JobInformation> {
 
     T resumeJob(T jobInformation, String group);
 
+    T triggerJob(T jobInformation, String group, ExecutionLane lane);
+
     List<T> getAllRunningJobsInGroup(String group);
 
+    Page<T> getRunningJobsInGroup(String group, Optional<JobStatus> status, Pageable pageable);
+
     T getRunningJob(String name, String group);
 
     void deleteJob(String name, String group);
+
 }
@@ -1,12 +1,16 @@
 package com.kanwise.report_service.service.scheduler.implementation;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.error.job.common.JobAlreadyExistsException;
 import com.kanwise.report_service.error.job.common.JobNotFoundException;
 import com.kanwise.report_service.error.job.common.JobPausingException;
 import com.kanwise.report_service.error.job.common.JobResumingException;
+import com.kanwise.report_service.error.job.common.JobTriggeringException;
 import com.kanwise.report_service.error.job_trigger_listener.JobTriggerListenerRegistrationException;
 import com.kanwise.report_service.listener.common.GenericJobTriggerListener;
 import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.common.JobStatus;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
 import com.kanwise.report_service.service.job.common.JobUtil;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
 import com.kanwise.report_service.service.scheduler.common.JobSchedulerService;
@@ -20,36 +24,47 @@ import org.quartz.SchedulerException;
 import org.quartz.Trigger;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static com.kanwise.report_service.constant.job.JobConstant.ID;
 import static com.kanwise.report_service.model.report.JobGroup.findByJobInformationClass;
-import static java.util.Collections.emptyList;
+import static java.lang.Math.min;
+import static java.util.Collections.emptySet;
+import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toSet;
 import static org.quartz.JobKey.jobKey;
 import static org.quartz.impl.matchers.GroupMatcher.groupEquals;
-import static org.quartz.impl.matchers.GroupMatcher.groupStartsWith;
 import static org.springframework.core.GenericTypeResolver.resolveTypeArgument;
 import static org.springframework.core.ResolvableType.forClassWithGenerics;
 
 @Slf4j
 public abstract class GenericJobSchedulerService<T extends JobInformation> implements JobSchedulerService<T>, JobUtil<T> {
 
+    private static final int LOOKUP_CHUNK_SIZE = 500;
+
     private final Scheduler scheduler;
     private final ApplicationContext applicationContext;
     private final Class<T> genericType;
     private final JobInformationService<T> jobInformationService;
+    private final JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties;
 
     @SuppressWarnings("unchecked")
-    protected GenericJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<T> jobInformationService) {
+    protected GenericJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<T> jobInformationService, JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties) {
         this.scheduler = scheduler;
         this.applicationContext = applicationContext;
         this.jobInformationService = jobInformationService;
+        this.jobSchedulingConfigurationProperties = jobSchedulingConfigurationProperties;
         this.genericType = (Class<T>) resolveTypeArgument(getClass(), GenericJobSchedulerService.class);
     }
 
@@ -77,7 +92,7 @@ public abstract class GenericJobSchedulerService<T extends JobInformation> imple
     public T schedule(Class<? extends Job> jobClass, T jobInformation, String group) {
         try {
             JobDetail jobDetail = buildJobDetail(jobClass, jobInformation, group);
-            Trigger trigger = buildTrigger(jobInformation);
+            Trigger trigger = buildTrigger(jobInformation, group, jobSchedulingConfigurationProperties.jitterWindow());
             scheduler.scheduleJob(jobDetail, trigger);
         } catch (ObjectAlreadyExistsException e) {
             throw new JobAlreadyExistsException(jobInformation.getId());
@@ -89,15 +104,28 @@ public abstract class GenericJobSchedulerService<T extends JobInformation> imple
 
     @Override
     public List<T> getAllRunningJobsInGroup(String group) {
-        try {
-            return scheduler.getJobKeys(groupStartsWith(group)).stream()
-                    .map(this::getJobInformation)
-                    .filter(Objects::nonNull)
-                    .toList();
-        } catch (SchedulerException e) {
-            log.error(e.getMessage(), e);
-            return emptyList();
+        List<String> ids = List.copyOf(getRunningJobIds(group));
+        List<T> jobs = new ArrayList<>(ids.size());
+        for (int fromIndex = 0; fromIndex < ids.size(); fromIndex += LOOKUP_CHUNK_SIZE) {
+            jobs.addAll(jobInformationService.getJobInformation(ids.subList(fromIndex, min(fromIndex + LOOKUP_CHUNK_SIZE, ids.size()))));
         }
+        return jobs;
+    }
+
+    @Override
+    public Page<T> getRunningJobsInGroup(String group, Optional<JobStatus> status, Pageable pageable) {
+        Set<String> runningJobIds = getRunningJobIds(group);
+        List<String> ids = status.map(jobInformationService::getJobInformationIds)
+                .map(statusIds -> statusIds.stream().filter(runningJobIds::contains))
+                .orElseGet(runningJobIds::stream)
+                .sorted()
+                .toList();
+        int fromIndex = (int) min(pageable.getOffset(), ids.size());
+        int toIndex = min(fromIndex + pageable.getPageSize(), ids.size());
+        List<T> content = jobInformationService.getJobInformation(ids.subList(fromIndex, toIndex)).stream()
+                .sorted(comparing(JobInformation::getId))
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
     }
 
     @Override
@@ -142,6 +170,17 @@ public abstract class GenericJobSchedulerService<T extends JobInformation> imple
         return jobInformation;
     }
 
+    @Override
+    public T triggerJob(T jobInformation, String group, ExecutionLane lane) {
+        try {
+            scheduler.scheduleJob(buildOnDemandTrigger(jobInformation.getId(), group, lane));
+        } catch (SchedulerException e) {
+            log.error("Failed to trigger job {}", jobInformation.getId(), e);
+            throw new JobTriggeringException(jobInformation.getId());
+        }
+        return jobInformation;
+    }
+
     @SuppressWarnings("unchecked")
     private void retrieveAndRegisterTriggerListener() {
         getGenericBeanProvider(GenericJobTriggerListener.class, genericType)
@@ -192,7 +231,6 @@ public abstract class GenericJobSchedulerService<T extends JobInformation> imple
         return applicationContext.getBeanProvider(forClassWithGenerics(beanClass, genericClass));
     }
 
-    @SuppressWarnings("unchecked")
     private T getJobInformation(JobKey jobKey) {
         try {
             JobDetail jobDetail = scheduler.getJobDetail(jobKey);
@@ -204,6 +242,17 @@ public abstract class GenericJobSchedulerService<T extends JobInformation> imple
         }
     }
 
+    private Set<String> getRunningJobIds(String group) {
+        try {
+            return scheduler.getJobKeys(groupEquals(group)).stream()
+                    .map(JobKey::getName)
+                    .collect(toSet());
+        } catch (SchedulerException e) {
+            log.error(e.getMessage(), e);
+            return emptySet();
+        }
+    }
+
     private void handleListenerRegistrationException(String groupName, SchedulerException e) {
         log.error("Failed to register listener for group {}", groupName, e);
         throw new JobTriggerListenerRegistrationException(groupName);
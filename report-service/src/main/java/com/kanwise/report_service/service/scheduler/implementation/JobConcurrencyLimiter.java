@@ -0,0 +1,96 @@
+package com.kanwise.report_service.service.scheduler.implementation;
+
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
+import com.kanwise.report_service.model.report.JobGroup;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import static java.util.concurrent.CompletableFuture.failedFuture;
+
+@Service
+public class JobConcurrencyLimiter implements IJobConcurrencyLimiter {
+
+    private static final String RUNNING_METRIC = "kanwise.job.executions.running";
+    private static final String QUEUED_METRIC = "kanwise.job.executions.queued";
+    private static final String GROUP_TAG = "group";
+
+    private final Map<JobGroup, Semaphore> permits = new EnumMap<>(JobGroup.class);
+    private final Map<JobGroup, Queue<Runnable>> queuedExecutions = new EnumMap<>(JobGroup.class);
+
+    public JobConcurrencyLimiter(JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties, MeterRegistry meterRegistry) {
+        for (JobGroup jobGroup : JobGroup.values()) {
+            int maxConcurrentExecutions = jobSchedulingConfigurationProperties.getMaxConcurrentExecutions(jobGroup);
+            Semaphore semaphore = new Semaphore(maxConcurrentExecutions);
+            Queue<Runnable> queued = new ArrayDeque<>();
+            permits.put(jobGroup, semaphore);
+            queuedExecutions.put(jobGroup, queued);
+            Tags tags = Tags.of(GROUP_TAG, jobGroup.name());
+            meterRegistry.gauge(RUNNING_METRIC, tags, semaphore, permit -> maxConcurrentExecutions - permit.availablePermits());
+            meterRegistry.gauge(QUEUED_METRIC, tags, queued, queue -> {
+                synchronized (queue) {
+                    return queue.size();
+                }
+            });
+        }
+    }
+
+    @Override
+    public boolean hasCapacity(JobGroup jobGroup) {
+        return permits.get(jobGroup).availablePermits() > 0;
+    }
+
+    @Override
+    public <R> CompletableFuture<R> execute(JobGroup jobGroup, Supplier<CompletableFuture<R>> execution) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Runnable start = () -> start(jobGroup, execution, result);
+        Queue<Runnable> queued = queuedExecutions.get(jobGroup);
+        synchronized (queued) {
+            if (!permits.get(jobGroup).tryAcquire()) {
+                queued.add(start);
+                return result;
+            }
+        }
+        start.run();
+        return result;
+    }
+
+    private <R> void start(JobGroup jobGroup, Supplier<CompletableFuture<R>> execution, CompletableFuture<R> result) {
+        CompletableFuture<R> future;
+        try {
+            future = execution.get();
+        } catch (RuntimeException e) {
+            future = failedFuture(e);
+        }
+        future.whenComplete((value, throwable) -> {
+            release(jobGroup);
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
+    }
+
+    private void release(JobGroup jobGroup) {
+        Runnable next;
+        Queue<Runnable> queued = queuedExecutions.get(jobGroup);
+        synchronized (queued) {
+            next = queued.poll();
+            if (next == null) {
+                permits.get(jobGroup).release();
+                return;
+            }
+        }
+        next.run();
+    }
+}
@@ -1,5 +1,6 @@
 package com.kanwise.report_service.service.scheduler.implementation.personal;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
 import com.kanwise.report_service.service.scheduler.implementation.GenericJobSchedulerService;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class PersonalReportJobSchedulerService extends GenericJobSchedulerService<PersonalReportJobInformation> {
 
-    public PersonalReportJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<PersonalReportJobInformation> personalReportJobInformationService) {
-        super(scheduler, applicationContext, personalReportJobInformationService);
+    public PersonalReportJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<PersonalReportJobInformation> personalReportJobInformationService, JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties) {
+        super(scheduler, applicationContext, personalReportJobInformationService, jobSchedulingConfigurationProperties);
     }
 }
@@ -1,5 +1,6 @@
 package com.kanwise.report_service.service.scheduler.implementation.project;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.model.job_information.project.ProjectReportJobInformation;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
 import com.kanwise.report_service.service.scheduler.implementation.GenericJobSchedulerService;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Service;
 @Service
 public class ProjectReportJobSchedulerService extends GenericJobSchedulerService<ProjectReportJobInformation> {
 
-    public ProjectReportJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<ProjectReportJobInformation> projectReportJobInformationService) {
-        super(scheduler, applicationContext, projectReportJobInformationService);
+    public ProjectReportJobSchedulerService(Scheduler scheduler, ApplicationContext applicationContext, JobInformationService<ProjectReportJobInformation> projectReportJobInformationService, JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties) {
+        super(scheduler, applicationContext, projectReportJobInformationService, jobSchedulingConfigurationProperties);
     }
 }
@@ -0,0 +1,10 @@
+package com.kanwise.report_service.service.spaces.common;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+@FunctionalInterface
+public interface ContentWriter {
+
+    void writeTo(OutputStream outputStream) throws IOException;
+}
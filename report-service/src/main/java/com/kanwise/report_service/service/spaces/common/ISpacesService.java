@@ -2,14 +2,21 @@ package com.kanwise.report_service.service.spaces.common;
 
 
 import com.kanwise.report_service.model.file.FileUploadStatus;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URL;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface ISpacesService {
 
-    CompletableFuture<FileUploadStatus> uploadFile(MultipartFile file, String path, String spaceName);
+    CompletableFuture<FileUploadStatus> uploadFile(ContentWriter contentWriter, String key, String contentType, String spaceName);
 
     URL checkIfDirectoryExists(String spaceName, String directoryName, boolean createIfNotExists);
+
+    URL getUrl(String spaceName, String key);
+
+    Optional<Instant> getLastModified(String spaceName, String key);
+
+    void applyExpirationRule(String spaceName, String ruleId, String prefix, int expirationInDays);
 }
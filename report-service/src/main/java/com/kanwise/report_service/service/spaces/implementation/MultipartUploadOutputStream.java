@@ -0,0 +1,144 @@
+package com.kanwise.report_service.service.spaces.implementation;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead;
+
+public class MultipartUploadOutputStream extends OutputStream {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 space;
+    private final String spaceName;
+    private final String key;
+    private final String contentType;
+    private final int partSize;
+    private final PartBuffer buffer;
+    private final List<PartETag> partETags = new ArrayList<>();
+    private String uploadId;
+    private boolean closed;
+
+    public MultipartUploadOutputStream(AmazonS3 space, String spaceName, String key, String contentType, int partSize) {
+        this.space = space;
+        this.spaceName = spaceName;
+        this.key = key;
+        this.contentType = contentType;
+        this.partSize = partSize;
+        this.buffer = new PartBuffer(Math.min(INITIAL_BUFFER_SIZE, partSize));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        buffer.write(b);
+        if (buffer.size() >= partSize) {
+            uploadPart();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            int chunk = Math.min(length, partSize - buffer.size());
+            buffer.write(bytes, offset, chunk);
+            offset += chunk;
+            length -= chunk;
+            if (buffer.size() >= partSize) {
+                uploadPart();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (uploadId == null) {
+            putObject();
+            return;
+        }
+        if (buffer.size() > 0) {
+            uploadPart();
+        }
+        space.completeMultipartUpload(new CompleteMultipartUploadRequest(spaceName, key, uploadId, partETags));
+    }
+
+    public void abort() {
+        closed = true;
+        buffer.reset();
+        if (uploadId != null) {
+            space.abortMultipartUpload(new AbortMultipartUploadRequest(spaceName, key, uploadId));
+        }
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = initiateMultipartUpload();
+        }
+        UploadPartRequest request = new UploadPartRequest()
+                .withBucketName(spaceName)
+                .withKey(key)
+                .withUploadId(uploadId)
+                .withPartNumber(partETags.size() + 1)
+                .withInputStream(buffer.toInputStream())
+                .withPartSize(buffer.size());
+        partETags.add(space.uploadPart(request).getPartETag());
+        buffer.reset();
+    }
+
+    private String initiateMultipartUpload() {
+        InitiateMultipartUploadRequest request = new InitiateMultipartUploadRequest(spaceName, key, getObjectMetadata())
+                .withCannedACL(PublicRead);
+        return space.initiateMultipartUpload(request).getUploadId();
+    }
+
+    private void putObject() {
+        ObjectMetadata objectMetadata = getObjectMetadata();
+        objectMetadata.setContentLength(buffer.size());
+        PutObjectRequest request = new PutObjectRequest(spaceName, key, buffer.toInputStream(), objectMetadata)
+                .withCannedAcl(PublicRead);
+        space.putObject(request);
+        buffer.reset();
+    }
+
+    private ObjectMetadata getObjectMetadata() {
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(contentType);
+        return objectMetadata;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("STREAM_CLOSED");
+        }
+    }
+
+    private static final class PartBuffer extends ByteArrayOutputStream {
+
+        private PartBuffer(int size) {
+            super(size);
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -2,25 +2,34 @@ package com.kanwise.report_service.service.spaces.implementation;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
-import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.BucketLifecycleConfiguration;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.lifecycle.LifecycleFilter;
+import com.amazonaws.services.s3.model.lifecycle.LifecyclePrefixPredicate;
+import com.kanwise.report_service.configuration.spaces.SpacesUploadConfigurationProperties;
 import com.kanwise.report_service.model.file.FileUploadStatus;
+import com.kanwise.report_service.service.spaces.common.ContentWriter;
 import com.kanwise.report_service.service.spaces.common.ISpacesService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.net.URL;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
-import static com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead;
 import static com.cronutils.utils.StringUtils.EMPTY;
 import static com.kanwise.report_service.model.file.FileUploadStatus.FAILED;
 import static com.kanwise.report_service.model.file.FileUploadStatus.SUCCESS;
+import static com.amazonaws.services.s3.model.BucketLifecycleConfiguration.ENABLED;
+import static java.lang.Math.toIntExact;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
 
 
 @Slf4j
@@ -29,31 +38,23 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 public class SpacesService implements ISpacesService {
 
     private final AmazonS3 space;
+    private final SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
 
     @Async
-    public CompletableFuture<FileUploadStatus> uploadFile(MultipartFile file, String path, String spaceName) {
+    @Override
+    public CompletableFuture<FileUploadStatus> uploadFile(ContentWriter contentWriter, String key, String contentType, String spaceName) {
+        MultipartUploadOutputStream outputStream = new MultipartUploadOutputStream(space, spaceName, key, contentType, getPartSize());
         try {
-            PutObjectRequest request = new PutObjectRequest(
-                    spaceName,
-                    path + file.getOriginalFilename(),
-                    file.getInputStream(),
-                    getFileMetadata(file)
-            ).withCannedAcl(PublicRead);
-            space.putObject(request);
+            contentWriter.writeTo(outputStream);
+            outputStream.close();
             return completedFuture(SUCCESS);
-        } catch (IOException | AmazonS3Exception e) {
+        } catch (IOException | RuntimeException e) {
             log.error("Failed to upload file to space", e);
+            abortUpload(outputStream);
             return completedFuture(FAILED);
         }
     }
 
-    private ObjectMetadata getFileMetadata(MultipartFile file) {
-        ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentType(file.getContentType());
-        objectMetadata.setContentLength(file.getSize());
-        return objectMetadata;
-    }
-
     @Override
     public URL checkIfDirectoryExists(String spaceName, String directoryName, boolean createIfNotExists) {
         boolean objectExist = space.doesObjectExist(spaceName, directoryName);
@@ -65,4 +66,50 @@ public class SpacesService implements ISpacesService {
 
         return space.getUrl(spaceName, directoryName);
     }
+
+    @Override
+    public URL getUrl(String spaceName, String key) {
+        return space.getUrl(spaceName, key);
+    }
+
+    @Override
+    public Optional<Instant> getLastModified(String spaceName, String key) {
+        try {
+            return Optional.of(space.getObjectMetadata(spaceName, key).getLastModified().toInstant());
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void applyExpirationRule(String spaceName, String ruleId, String prefix, int expirationInDays) {
+        BucketLifecycleConfiguration configuration = space.getBucketLifecycleConfiguration(spaceName);
+        List<BucketLifecycleConfiguration.Rule> rules = new ArrayList<>();
+        if (configuration != null) {
+            configuration.getRules().stream()
+                    .filter(rule -> !ruleId.equals(rule.getId()))
+                    .forEach(rules::add);
+        }
+        rules.add(new BucketLifecycleConfiguration.Rule()
+                .withId(ruleId)
+                .withFilter(new LifecycleFilter(new LifecyclePrefixPredicate(prefix)))
+                .withExpirationInDays(expirationInDays)
+                .withStatus(ENABLED));
+        space.setBucketLifecycleConfiguration(spaceName, new BucketLifecycleConfiguration(rules));
+    }
+
+    private void abortUpload(MultipartUploadOutputStream outputStream) {
+        try {
+            outputStream.abort();
+        } catch (RuntimeException e) {
+            log.error("Failed to abort upload to space", e);
+        }
+    }
+
+    private int getPartSize() {
+        return toIntExact(spacesUploadConfigurationProperties.partSize().toBytes());
+    }
 }
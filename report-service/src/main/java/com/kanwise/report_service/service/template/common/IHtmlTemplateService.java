@@ -3,8 +3,11 @@ package com.kanwise.report_service.service.template.common;
 
 import com.kanwise.report_service.model.report.ReportType;
 
+import java.io.Writer;
 import java.util.Map;
 
 public interface IHtmlTemplateService {
-    String generateHtml(Map<String, Object> data, ReportType reportType);
+    void generateHtml(Map<String, Object> data, ReportType reportType, Writer writer);
+
+    String getTemplateVersion(ReportType reportType);
 }
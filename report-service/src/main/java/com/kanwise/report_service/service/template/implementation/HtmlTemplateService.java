@@ -4,24 +4,82 @@ import com.kanwise.report_service.configuration.pdf.ReportTemplateConfigurationP
 import com.kanwise.report_service.model.report.ReportType;
 import com.kanwise.report_service.service.template.common.IHtmlTemplateService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.security.MessageDigest;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
 
+import static com.kanwise.report_service.service.template.implementation.ReportTemplateSampleData.getSampleData;
+import static com.kanwise.report_service.util.DigestUtils.hex;
+import static com.kanwise.report_service.util.DigestUtils.sha256;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class HtmlTemplateService implements IHtmlTemplateService {
 
+    private static final String REPORT_FRAGMENTS_VARIABLE = "reportFragments";
+    private static final String STYLES_TEMPLATE = "fragments/report-styles";
+    private static final String STYLES_FRAGMENT = "styles";
+    private static final String TEMPLATE_LOCATION_PATTERN = "templates-report-pdf/%s";
+    private static final String TEMPLATE_SUFFIX = ".html";
+
     private final ReportTemplateConfigurationProperties reportTemplateConfigurationProperties;
     private final TemplateEngine templateEngine;
+    private final Map<ReportType, String> templateVersions = new EnumMap<>(ReportType.class);
+    private Map<String, String> reportFragments;
+
+    @PostConstruct
+    public void preloadTemplates() {
+        if (reportTemplateConfigurationProperties.fragmentCache()) {
+            reportFragments = Map.of(STYLES_FRAGMENT, templateEngine.process(STYLES_TEMPLATE, Set.of(STYLES_FRAGMENT), new Context()));
+        }
+        reportTemplateConfigurationProperties.names().keySet()
+                .forEach(reportType -> generateHtml(getSampleData(reportType), reportType, Writer.nullWriter()));
+        reportTemplateConfigurationProperties.names()
+                .forEach((reportType, templateName) -> templateVersions.put(reportType, computeTemplateVersion(templateName)));
+        log.info("Preloaded report templates {}", reportTemplateConfigurationProperties.names().values());
+    }
 
     @Override
-    public String generateHtml(Map<String, Object> data, ReportType reportType) {
+    public void generateHtml(Map<String, Object> data, ReportType reportType, Writer writer) {
         String templateName = reportTemplateConfigurationProperties.getTemplateName(reportType);
         Context context = new Context();
         context.setVariables(data);
-        return templateEngine.process(templateName, context);
+        if (reportFragments != null) {
+            context.setVariable(REPORT_FRAGMENTS_VARIABLE, reportFragments);
+        }
+        templateEngine.process(templateName, context, writer);
+    }
+
+    @Override
+    public String getTemplateVersion(ReportType reportType) {
+        return templateVersions.get(reportType);
+    }
+
+    private String computeTemplateVersion(String templateName) {
+        MessageDigest digest = sha256();
+        digest.update(readTemplate(templateName));
+        digest.update(readTemplate(STYLES_TEMPLATE + TEMPLATE_SUFFIX));
+        return hex(digest);
+    }
+
+    private byte[] readTemplate(String templateName) {
+        try (InputStream inputStream = new ClassPathResource(TEMPLATE_LOCATION_PATTERN.formatted(templateName)).getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,58 @@
+package com.kanwise.report_service.service.template.implementation;
+
+import com.kanwise.report_service.model.report.ReportType;
+import lombok.experimental.UtilityClass;
+
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+@UtilityClass
+class ReportTemplateSampleData {
+
+    private static final List<Integer> SAMPLE_START_DATE = List.of(2022, 1, 1, 0, 0);
+    private static final List<Integer> SAMPLE_END_DATE = List.of(2022, 1, 31, 23, 59);
+
+    static Map<String, Object> getSampleData(ReportType reportType) {
+        return switch (reportType) {
+            case PERSONAL -> Map.ofEntries(
+                    entry("reportId", "preload"),
+                    entry("firstName", "John"),
+                    entry("lastName", "Doe"),
+                    entry("email", "john.doe@kanwise.com"),
+                    entry("phone", "+48123456789"),
+                    entry("startDate", SAMPLE_START_DATE),
+                    entry("endDate", SAMPLE_END_DATE),
+                    entry("tasks", List.of(Map.of(
+                            "title", "Prepare release",
+                            "projectTitle", "Kanwise",
+                            "estimatedTime", 3600L,
+                            "actualTime", 5400L,
+                            "performance", "66%"))),
+                    entry("totalEstimatedTime", 3600L),
+                    entry("totalActualTime", 5400L),
+                    entry("totalPerformance", "66%")
+            );
+            case PROJECT -> Map.ofEntries(
+                    entry("reportId", "preload"),
+                    entry("projectTitle", "Kanwise"),
+                    entry("projectStatus", "ACTIVE"),
+                    entry("membersCount", 1),
+                    entry("todoCount", 0),
+                    entry("inprogressCount", 0),
+                    entry("doneCount", 1),
+                    entry("startDate", "01/01/2022 00:00"),
+                    entry("endDate", "31/01/2022 23:59"),
+                    entry("tasks", List.of(Map.of(
+                            "title", "Prepare release",
+                            "estimatedTime", 3600L,
+                            "actualTime", 5400L,
+                            "performance", "66%"))),
+                    entry("totalEstimatedTime", 3600L),
+                    entry("totalActualTime", 5400L),
+                    entry("totalPerformance", "66%")
+            );
+        };
+    }
+}
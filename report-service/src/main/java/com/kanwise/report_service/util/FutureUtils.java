@@ -0,0 +1,21 @@
+package com.kanwise.report_service.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@UtilityClass
+public class FutureUtils {
+
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
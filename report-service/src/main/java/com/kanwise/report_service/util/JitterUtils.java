@@ -0,0 +1,43 @@
+package com.kanwise.report_service.util;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.Duration;
+
+import static java.lang.Long.parseLong;
+import static java.lang.Math.floorMod;
+
+@UtilityClass
+public class JitterUtils {
+
+    private static final String CRON_FIELD_SEPARATOR = " ";
+    private static final int SECONDS_FIELD = 0;
+    private static final int MINUTES_FIELD = 1;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final long MILLIS_PER_SECOND = 1000;
+
+    public static long jitterMillis(String key, Duration window) {
+        long windowMillis = window.toMillis();
+        return windowMillis <= 0 ? 0 : floorMod(key.hashCode(), windowMillis);
+    }
+
+    public static String applyJitter(String cron, long jitterMillis) {
+        String[] fields = cron.trim().split("\\s+");
+        if (jitterMillis < MILLIS_PER_SECOND || fields.length <= MINUTES_FIELD || !isNumber(fields[SECONDS_FIELD]) || !isNumber(fields[MINUTES_FIELD])) {
+            return cron;
+        }
+        long offset = parseLong(fields[MINUTES_FIELD]) * SECONDS_PER_MINUTE + parseLong(fields[SECONDS_FIELD]);
+        if (offset >= SECONDS_PER_HOUR) {
+            return cron;
+        }
+        long shifted = offset + (jitterMillis / MILLIS_PER_SECOND) % (SECONDS_PER_HOUR - offset);
+        fields[SECONDS_FIELD] = String.valueOf(shifted % SECONDS_PER_MINUTE);
+        fields[MINUTES_FIELD] = String.valueOf(shifted / SECONDS_PER_MINUTE);
+        return String.join(CRON_FIELD_SEPARATOR, fields);
+    }
+
+    private static boolean isNumber(String field) {
+        return !field.isEmpty() && field.chars().allMatch(Character::isDigit);
+    }
+}
@@ -0,0 +1,208 @@
+package com.kanwise.report_service.benchmark;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.styledxmlparser.resolver.resource.DefaultResourceRetriever;
+import com.kanwise.report_service.configuration.pdf.PdfRenderingConfigurationProperties;
+import com.kanwise.report_service.configuration.pdf.ReportTemplateConfigurationProperties;
+import com.kanwise.report_service.configuration.spaces.SpacesUploadConfigurationProperties;
+import com.kanwise.report_service.configuration.templating.ThymeleafConfiguration;
+import com.kanwise.report_service.model.file.FileUploadStatus;
+import com.kanwise.report_service.service.pdf.implementation.CachingResourceRetriever;
+import com.kanwise.report_service.service.pdf.implementation.PdfRenderingEngine;
+import com.kanwise.report_service.service.pdf.implementation.PdfService;
+import com.kanwise.report_service.service.spaces.implementation.SpacesService;
+import com.kanwise.report_service.service.template.implementation.HtmlTemplateService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.unit.DataSize;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.report_service.model.report.ReportType.PROJECT;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.springframework.http.MediaType.APPLICATION_PDF_VALUE;
+
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@State(Scope.Benchmark)
+public class ReportUploadBenchmark {
+
+    private static final String SPACE_NAME = "kanwise";
+    private static final String KEY = "reports/benchmark/project/benchmark-project-report.pdf";
+
+    @Param({"500", "5000"})
+    private int taskCount;
+
+    private PdfRenderingEngine pdfRenderingEngine;
+    private PdfService pdfService;
+    private SpacesService spacesService;
+    private DrainingSpace space;
+    private Map<String, Object> data;
+    private Path directory;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReportUploadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(new ThymeleafConfiguration().classLoaderTemplateResolver());
+        HtmlTemplateService htmlTemplateService = new HtmlTemplateService(
+                new ReportTemplateConfigurationProperties(Map.of(PROJECT, "project-report.html"), true),
+                templateEngine
+        );
+        htmlTemplateService.preloadTemplates();
+        pdfRenderingEngine = new PdfRenderingEngine(
+                new PdfRenderingConfigurationProperties(1, 1, Duration.ofSeconds(30), 64),
+                new DefaultFontProvider(true, true, false).getFontSet(),
+                new CachingResourceRetriever(new DefaultResourceRetriever(), 64),
+                new SimpleMeterRegistry()
+        );
+        pdfService = new PdfService(htmlTemplateService, pdfRenderingEngine);
+        space = new DrainingSpace();
+        spacesService = new SpacesService(space, new SpacesUploadConfigurationProperties(DataSize.ofMegabytes(5)));
+        data = constructProjectReportData(taskCount);
+        directory = Files.createTempDirectory("report-upload-benchmark");
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pdfRenderingEngine.shutdown();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public FileUploadStatus streamingUpload() {
+        return spacesService.uploadFile(outputStream -> pdfService.generatePdf(PROJECT, data, outputStream), KEY, APPLICATION_PDF_VALUE, SPACE_NAME).join();
+    }
+
+    @Benchmark
+    public long temporaryFileUpload() throws IOException {
+        Path file = directory.resolve("benchmark-project-report.pdf");
+        try (OutputStream outputStream = Files.newOutputStream(file)) {
+            pdfService.generatePdf(PROJECT, data, outputStream);
+        }
+        byte[] content = Files.readAllBytes(file);
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType(APPLICATION_PDF_VALUE);
+        objectMetadata.setContentLength(content.length);
+        space.putObject(new PutObjectRequest(SPACE_NAME, KEY, new ByteArrayInputStream(content), objectMetadata));
+        Files.delete(file);
+        return content.length;
+    }
+
+    private Map<String, Object> constructProjectReportData(int taskCount) {
+        List<Map<String, Object>> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            tasks.add(Map.of(
+                    "title", "Task " + i,
+                    "estimatedTime", 3600L + i,
+                    "actualTime", 5400L + i,
+                    "performance", "66%"
+            ));
+        }
+        Map<String, Object> result = new HashMap<>();
+        result.put("projectTitle", "Kanwise");
+        result.put("membersCount", 12);
+        result.put("projectStatus", "ACTIVE");
+        result.put("todoCount", taskCount / 3);
+        result.put("inprogressCount", taskCount / 3);
+        result.put("doneCount", taskCount - 2 * (taskCount / 3));
+        result.put("startDate", "01/01/2022 00:00");
+        result.put("endDate", "31/12/2022 00:00");
+        result.put("reportId", "benchmark");
+        result.put("tasks", tasks);
+        result.put("totalEstimatedTime", 3600L * taskCount);
+        result.put("totalActualTime", 5400L * taskCount);
+        result.put("totalPerformance", "66%");
+        return result;
+    }
+
+    private static final class DrainingSpace extends AbstractAmazonS3 {
+
+        @Override
+        public PutObjectResult putObject(PutObjectRequest request) {
+            drain(request.getInputStream());
+            return new PutObjectResult();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+            result.setUploadId("benchmark");
+            return result;
+        }
+
+        @Override
+        public UploadPartResult uploadPart(UploadPartRequest request) {
+            drain(request.getInputStream());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("benchmark-" + request.getPartNumber());
+            return result;
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            return new CompleteMultipartUploadResult();
+        }
+
+        @Override
+        public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        }
+
+        private void drain(InputStream inputStream) {
+            try {
+                inputStream.transferTo(OutputStream.nullOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.kanwise.report_service.configuration.job_batch;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = JobBatchConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class JobBatchConfigurationPropertiesTest {
+
+    @Autowired
+    private JobBatchConfigurationProperties jobBatchConfigurationProperties;
+
+    @Test
+    void shouldPopulateJobBatchConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(Duration.ofMillis(100), jobBatchConfigurationProperties.window());
+        assertEquals(10, jobBatchConfigurationProperties.maxBatchSize());
+        assertEquals(1, jobBatchConfigurationProperties.dispatchers());
+    }
+}
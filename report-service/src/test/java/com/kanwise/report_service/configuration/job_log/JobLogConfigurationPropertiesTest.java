@@ -0,0 +1,47 @@
+package com.kanwise.report_service.configuration.job_log;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+
+import static java.time.Duration.ofDays;
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = JobLogConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class JobLogConfigurationPropertiesTest {
+
+    @Autowired
+    private JobLogConfigurationProperties jobLogConfigurationProperties;
+
+    @Test
+    void shouldPopulateJobLogConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(10, jobLogConfigurationProperties.batchSize());
+        assertEquals(ofMillis(100), jobLogConfigurationProperties.flushInterval());
+        assertEquals(ofDays(3650), jobLogConfigurationProperties.retention());
+        assertEquals(ofHours(1), jobLogConfigurationProperties.purgeInterval());
+        assertEquals(50, jobLogConfigurationProperties.defaultPageSize());
+        assertEquals(200, jobLogConfigurationProperties.maxPageSize());
+    }
+
+    @Test
+    void shouldClampRequestedPageSize() {
+        // Given
+        // When
+        // Then
+        assertEquals(50, jobLogConfigurationProperties.getPageSize(Optional.empty()));
+        assertEquals(20, jobLogConfigurationProperties.getPageSize(Optional.of(20)));
+        assertEquals(200, jobLogConfigurationProperties.getPageSize(Optional.of(1000)));
+        assertEquals(1, jobLogConfigurationProperties.getPageSize(Optional.of(0)));
+    }
+}
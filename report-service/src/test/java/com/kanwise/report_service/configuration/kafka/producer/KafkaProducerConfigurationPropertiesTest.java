@@ -0,0 +1,54 @@
+package com.kanwise.report_service.configuration.kafka.producer;
+
+import com.kanwise.report_service.configuration.kafka.producer.KafkaProducerConfigurationProperties.TopicProducerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.apache.kafka.common.record.CompressionType.LZ4;
+import static org.apache.kafka.common.record.CompressionType.ZSTD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = KafkaProducerConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class KafkaProducerConfigurationPropertiesTest {
+
+    @Autowired
+    private KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
+    @Test
+    void shouldPopulateKafkaProducerConfigurationProperties() {
+        // Given
+        // When
+        TopicProducerProperties email = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_EMAIL);
+        TopicProducerProperties bulkEmail = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_EMAIL_BULK);
+        // Then
+        assertEquals(Duration.ofMillis(5), email.linger());
+        assertEquals(DataSize.ofKilobytes(32), email.batchSize());
+        assertEquals(LZ4, email.compressionType());
+        assertEquals(Duration.ofMillis(10), bulkEmail.linger());
+        assertEquals(DataSize.ofKilobytes(64), bulkEmail.batchSize());
+        assertEquals(ZSTD, bulkEmail.compressionType());
+    }
+
+    @Test
+    void shouldResolveProducerOverrides() {
+        // Given
+        // When
+        Map<String, Object> overrides = kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL_BULK);
+        // Then
+        assertEquals(Map.of(LINGER_MS_CONFIG, 10L, BATCH_SIZE_CONFIG, 65536, COMPRESSION_TYPE_CONFIG, "zstd"), overrides);
+    }
+}
@@ -0,0 +1,31 @@
+package com.kanwise.report_service.configuration.pdf;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = PdfRenderingConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class PdfRenderingConfigurationPropertiesTest {
+
+    @Autowired
+    private PdfRenderingConfigurationProperties pdfRenderingConfigurationProperties;
+
+    @Test
+    void shouldPopulatePdfRenderingConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(1, pdfRenderingConfigurationProperties.workers());
+        assertEquals(4, pdfRenderingConfigurationProperties.queueCapacity());
+        assertEquals(Duration.ofSeconds(1), pdfRenderingConfigurationProperties.queueTimeout());
+        assertEquals(8, pdfRenderingConfigurationProperties.resourceCacheSize());
+    }
+}
@@ -0,0 +1,58 @@
+package com.kanwise.report_service.configuration.report_cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.time.Duration;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = ReportCacheConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class ReportCacheConfigurationPropertiesTest {
+
+    @Autowired
+    private ReportCacheConfigurationProperties reportCacheConfigurationProperties;
+
+    @Test
+    void shouldPopulateReportCacheConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(Duration.ofMinutes(1), reportCacheConfigurationProperties.ttl());
+        assertEquals(Duration.ofDays(1), reportCacheConfigurationProperties.retention());
+        assertEquals(16, reportCacheConfigurationProperties.maximumSize());
+    }
+
+    @Test
+    void shouldRejectRetentionShorterThanTtl() {
+        // Given
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ReportCacheConfigurationProperties properties = new ReportCacheConfigurationProperties(Duration.ofHours(2), Duration.ofHours(1), 16);
+        // When
+        Set<ConstraintViolation<ReportCacheConfigurationProperties>> violations = validator.validate(properties);
+        // Then
+        assertEquals(1, violations.size());
+        assertEquals("RETENTION_NOT_SHORTER_THAN_TTL", violations.iterator().next().getMessage());
+    }
+
+    @Test
+    void shouldAcceptRetentionEqualToTtl() {
+        // Given
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        ReportCacheConfigurationProperties properties = new ReportCacheConfigurationProperties(Duration.ofHours(1), Duration.ofHours(1), 16);
+        // When
+        Set<ConstraintViolation<ReportCacheConfigurationProperties>> violations = validator.validate(properties);
+        // Then
+        assertTrue(violations.isEmpty());
+    }
+}
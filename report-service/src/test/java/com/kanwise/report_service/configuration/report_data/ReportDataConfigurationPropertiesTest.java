@@ -0,0 +1,38 @@
+package com.kanwise.report_service.configuration.report_data;
+
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties.SourceProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static com.kanwise.report_service.model.report_data.ReportDataSource.KANWISE_SERVICE;
+import static com.kanwise.report_service.model.report_data.ReportDataSource.USER_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = ReportDataConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class ReportDataConfigurationPropertiesTest {
+
+    @Autowired
+    private ReportDataConfigurationProperties reportDataConfigurationProperties;
+
+    @Test
+    void shouldPopulateReportDataConfigurationProperties() {
+        // Given
+        // When
+        SourceProperties kanwiseService = reportDataConfigurationProperties.getSourceProperties(KANWISE_SERVICE);
+        SourceProperties userService = reportDataConfigurationProperties.getSourceProperties(USER_SERVICE);
+        // Then
+        assertEquals(Duration.ofSeconds(2), kanwiseService.timeout());
+        assertEquals(2, kanwiseService.maxConcurrentCalls());
+        assertEquals(4, kanwiseService.queueCapacity());
+        assertEquals(Duration.ofSeconds(1), userService.timeout());
+        assertEquals(2, userService.maxConcurrentCalls());
+        assertEquals(4, userService.queueCapacity());
+    }
+}
@@ -0,0 +1,37 @@
+package com.kanwise.report_service.configuration.report_data;
+
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties.SourceProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.FeignClientProperties;
+import org.springframework.cloud.openfeign.FeignClientProperties.FeignClientConfiguration;
+
+import java.util.Map;
+
+import static com.kanwise.report_service.model.report_data.ReportDataSource.KANWISE_SERVICE;
+import static com.kanwise.report_service.model.report_data.ReportDataSource.USER_SERVICE;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReportDataFeignTimeoutPostProcessorTest {
+
+    private final ReportDataFeignTimeoutPostProcessor reportDataFeignTimeoutPostProcessor = new ReportDataFeignTimeoutPostProcessor(new ReportDataConfigurationProperties(Map.of(
+            KANWISE_SERVICE, new SourceProperties(ofSeconds(2), 1, 1),
+            USER_SERVICE, new SourceProperties(ofMillis(100), 1, 1)
+    )));
+
+    @Test
+    void shouldDeriveFeignReadTimeoutFromSourceTimeout() {
+        // Given
+        FeignClientProperties feignClientProperties = new FeignClientProperties();
+        FeignClientConfiguration userService = new FeignClientConfiguration();
+        userService.setConnectTimeout(2000);
+        feignClientProperties.getConfig().put("user-service", userService);
+        // When
+        reportDataFeignTimeoutPostProcessor.postProcessAfterInitialization(feignClientProperties, "feignClientProperties");
+        // Then
+        assertEquals(2000, feignClientProperties.getConfig().get("kanwise-service").getReadTimeout());
+        assertEquals(100, feignClientProperties.getConfig().get("user-service").getReadTimeout());
+        assertEquals(2000, feignClientProperties.getConfig().get("user-service").getConnectTimeout());
+    }
+}
@@ -0,0 +1,33 @@
+package com.kanwise.report_service.configuration.report_execution;
+
+import com.kanwise.report_service.configuration.report_execution.ReportExecutionConfigurationProperties.LaneProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.BACKFILL;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.SCHEDULED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = ReportExecutionConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class ReportExecutionConfigurationPropertiesTest {
+
+    @Autowired
+    private ReportExecutionConfigurationProperties reportExecutionConfigurationProperties;
+
+    @Test
+    void shouldPopulateReportExecutionConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(2, reportExecutionConfigurationProperties.workers());
+        assertEquals(new LaneProperties(1, 4, 3), reportExecutionConfigurationProperties.getLaneProperties(INTERACTIVE));
+        assertEquals(new LaneProperties(1, 8, 2), reportExecutionConfigurationProperties.getLaneProperties(SCHEDULED));
+        assertEquals(new LaneProperties(1, 8, 1), reportExecutionConfigurationProperties.getLaneProperties(BACKFILL));
+    }
+}
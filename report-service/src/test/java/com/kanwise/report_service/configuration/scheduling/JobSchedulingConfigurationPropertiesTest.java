@@ -0,0 +1,33 @@
+package com.kanwise.report_service.configuration.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.report.JobGroup.PROJECT_REPORT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = JobSchedulingConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class JobSchedulingConfigurationPropertiesTest {
+
+    @Autowired
+    private JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties;
+
+    @Test
+    void shouldPopulateJobSchedulingConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(Duration.ofSeconds(1), jobSchedulingConfigurationProperties.jitterWindow());
+        assertEquals(Duration.ofSeconds(1), jobSchedulingConfigurationProperties.deferralDelay());
+        assertEquals(2, jobSchedulingConfigurationProperties.getMaxConcurrentExecutions(PERSONAL_REPORT));
+        assertEquals(2, jobSchedulingConfigurationProperties.getMaxConcurrentExecutions(PROJECT_REPORT));
+    }
+}
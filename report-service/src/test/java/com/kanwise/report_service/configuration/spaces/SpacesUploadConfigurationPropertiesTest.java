@@ -0,0 +1,27 @@
+package com.kanwise.report_service.configuration.spaces;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = SpacesUploadConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class SpacesUploadConfigurationPropertiesTest {
+
+    @Autowired
+    private SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
+
+    @Test
+    void shouldPopulateSpacesUploadConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(DataSize.ofMegabytes(5), spacesUploadConfigurationProperties.partSize());
+    }
+}
@@ -10,6 +10,8 @@ import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = ThymeleafConfiguration.class)
 @ActiveProfiles("test")
@@ -37,6 +39,8 @@ class ThymeleafConfigurationTest {
         assertEquals(".html", classLoaderTemplateResolver.getSuffix());
         assertEquals("UTF-8", classLoaderTemplateResolver.getCharacterEncoding());
         assertEquals(1, classLoaderTemplateResolver.getOrder());
+        assertTrue(classLoaderTemplateResolver.isCacheable());
+        assertNull(classLoaderTemplateResolver.getCacheTTLMs());
         assertEquals(classLoaderTemplateResolver, classLoaderTemplateResolverBean);
     }
 
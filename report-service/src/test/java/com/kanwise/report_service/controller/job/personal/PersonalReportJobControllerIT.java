@@ -117,12 +117,12 @@ class PersonalReportJobControllerIT {
     @BeforeEach
     void setUp() throws LiquibaseException {
         databaseCleaner.setUp();
-        kafkaAdminClient.createTopics(singletonList(name("notification-email").build()));
+        kafkaAdminClient.createTopics(singletonList(name("notification-email-bulk").build()));
     }
 
     @AfterEach
     void tearDown() {
-        kafkaAdminClient.deleteTopics(singletonList("notification-email"));
+        kafkaAdminClient.deleteTopics(singletonList("notification-email-bulk"));
         kafkaAdminClient.close();
     }
 
@@ -568,7 +568,7 @@ class PersonalReportJobControllerIT {
                     .andExpect(jsonPath("$._links.personal-reports.templated").value(true))
                     .andExpect(jsonPath("$._links.project-reports.href").value("http://localhost/subscriber/frneek/reports/project{?status}"))
                     .andExpect(jsonPath("$._links.project-reports.templated").value(true))
-                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs".formatted(id)))
+                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs{?before,size}".formatted(id)))
                     .andDo(print());
         }
     }
@@ -645,7 +645,7 @@ class PersonalReportJobControllerIT {
                     .andExpect(jsonPath("$[*].endDate").value(hasItems("2022-12-30T23:00:00", "2023-04-28T22:00:00")))
                     .andExpect(jsonPath("$[*].status").value(hasItems("STOPPED", "STOPPED")))
                     .andExpect(jsonPath("$[*].links[*].rel").value(hasItems("subscriber", "job-logs", "personal-reports", "project-reports")))
-                    .andExpect(jsonPath("$[*].links[*].href").value(hasItems("http://localhost/subscriber/frneek", "http://localhost/job/report/personal/8d5d705e-6270-481b-b7bd-457fb3c49164/logs", "http://localhost/subscriber/frneek/reports/personal{?status}", "http://localhost/subscriber/frneek/reports/project{?status}")))
+                    .andExpect(jsonPath("$[*].links[*].href").value(hasItems("http://localhost/subscriber/frneek", "http://localhost/job/report/personal/8d5d705e-6270-481b-b7bd-457fb3c49164/logs{?before,size}", "http://localhost/subscriber/frneek/reports/personal{?status}", "http://localhost/subscriber/frneek/reports/project{?status}")))
                     .andDo(print());
         }
     }
@@ -903,7 +903,7 @@ class PersonalReportJobControllerIT {
                     .andExpect(jsonPath("$._links.personal-reports.templated").value(true))
                     .andExpect(jsonPath("$._links.project-reports.href").value("http://localhost/subscriber/frneek/reports/project{?status}"))
                     .andExpect(jsonPath("$._links.project-reports.templated").value(true))
-                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs".formatted(id)))
+                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs{?before,size}".formatted(id)))
                     .andDo(print());
 
             JobKey jobKey = jobKey(id, PERSONAL_REPORT.name());
@@ -924,7 +924,7 @@ class PersonalReportJobControllerIT {
                     .andExpect(jsonPath("$._links.personal-reports.templated").value(true))
                     .andExpect(jsonPath("$._links.project-reports.href").value("http://localhost/subscriber/frneek/reports/project{?status}"))
                     .andExpect(jsonPath("$._links.project-reports.templated").value(true))
-                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs".formatted(id)))
+                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs{?before,size}".formatted(id)))
                     .andDo(print());
 
             CronTriggerImpl restartedTrigger = (CronTriggerImpl) scheduler.getTriggersOfJob(jobKey).get(0);
@@ -985,6 +985,27 @@ class PersonalReportJobControllerIT {
         }
     }
 
+    @Nested
+    class ShouldNotTriggerPersonalReportJob {
+
+        @Test
+        void shouldNotTriggerPersonalReportJobIfJobDoesNotExist() throws Exception {
+            // Given
+            String nonExistingJobId = "8d5d705e-6270-481b-b7bd-457fb3c49165";
+            // When
+            // Then
+            mockMvc.perform(post("/job/report/personal/{id}/trigger", nonExistingJobId)
+                            .header(USERNAME, "frneek")
+                            .header(ROLE, "ADMIN"))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.timestamp").exists())
+                    .andExpect(jsonPath("$.httpStatusCode").value(NOT_FOUND.value()))
+                    .andExpect(jsonPath("$.httpStatus").value("NOT_FOUND"))
+                    .andExpect(jsonPath("$.message").value("JOB_WITH_ID_%s_NOT_FOUND".formatted(nonExistingJobId)))
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class ShouldDeletePersonalReportJob {
 
@@ -1007,7 +1028,7 @@ class PersonalReportJobControllerIT {
                     .andExpect(jsonPath("$._links.personal-reports.templated").value(true))
                     .andExpect(jsonPath("$._links.project-reports.href").value("http://localhost/subscriber/frneek/reports/project{?status}"))
                     .andExpect(jsonPath("$._links.project-reports.templated").value(true))
-                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs".formatted(id)))
+                    .andExpect(jsonPath("$._links.job-logs.href").value("http://localhost/job/report/personal/%s/logs{?before,size}".formatted(id)))
                     .andDo(print());
 
             assertEquals(2, scheduler.getJobKeys(groupStartsWith(PERSONAL_REPORT.name())).size());
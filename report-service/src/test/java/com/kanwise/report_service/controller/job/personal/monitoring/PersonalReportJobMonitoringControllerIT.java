@@ -18,13 +18,16 @@ import static com.kanwise.report_service.model.http.HttpHeader.ROLE;
 import static com.kanwise.report_service.model.http.HttpHeader.USERNAME;
 import static com.kanwise.report_service.model.monitoring.common.LogStatus.CREATED;
 import static com.kanwise.report_service.model.monitoring.common.LogStatus.SUCCESS;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.http.HttpHeaders.LINK;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -77,6 +80,39 @@ class PersonalReportJobMonitoringControllerIT {
                             "https://fra1.digitaloceanspaces.com/kanwise/reports/frneek/personal/frneek-personal-report-2022-12-29T11:24:00.210977.pdf", "https://fra1.digitaloceanspaces.com/kanwise/reports/frneek/personal/frneek-personal-report-2022-12-29T11:26:00.095098.pdf")))
                     .andDo(print());
         }
+        @Test
+        void shouldGetPersonalReportJobLogsPageWithNextLink() throws Exception {
+            // Given
+            String id = "8d5d705e-6270-481b-b7bd-457fb3c49164";
+            // When
+            // Then
+            mockMvc.perform(get("/job/report/personal/{id}/logs", id)
+                            .param("size", "2")
+                            .header(USERNAME, "frneek")
+                            .header(ROLE, "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[*].id").value(contains(9, 8)))
+                    .andExpect(header().string(LINK, "<http://localhost/job/report/personal/%s/logs?before=8&size=2>;rel=\"next\"".formatted(id)))
+                    .andDo(print());
+        }
+
+        @Test
+        void shouldGetPersonalReportJobLogsBeforeGivenLogWithoutNextLink() throws Exception {
+            // Given
+            String id = "8d5d705e-6270-481b-b7bd-457fb3c49164";
+            // When
+            // Then
+            mockMvc.perform(get("/job/report/personal/{id}/logs", id)
+                            .param("before", "5")
+                            .header(USERNAME, "frneek")
+                            .header(ROLE, "ADMIN"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)))
+                    .andExpect(jsonPath("$[*].id").value(contains(4, 1)))
+                    .andExpect(header().doesNotExist(LINK))
+                    .andDo(print());
+        }
     }
 
     @Nested
@@ -15,7 +15,7 @@ import liquibase.exception.LiquibaseException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.hibernate.AssertionFailure;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -42,25 +42,26 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.io.IOException;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.kanwise.report_service.constant.job.JobConstant.ID;
+import static com.kanwise.report_service.controller.kafka.KafkaTestingUtils.emailRequestDeserializer;
 import static com.kanwise.report_service.controller.kafka.KafkaTestingUtils.getKafkaConsumerProperties;
 import static com.kanwise.report_service.model.monitoring.common.LogStatus.ERROR;
 import static com.kanwise.report_service.model.monitoring.common.LogStatus.SUCCESS;
 import static java.time.Duration.ofMillis;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toMap;
 import static org.apache.kafka.clients.admin.AdminClient.create;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.when;
@@ -116,13 +117,16 @@ class PersonalReportJobIT {
 
     @BeforeEach
     void setUp() {
-        when(personalReportDataService.getReportData(any())).thenReturn(getTestData());
-        kafkaAdminClient.createTopics(singletonList(name("notification-email").build()));
+        when(personalReportDataService.getReportData(any(), anyList())).thenAnswer(invocation -> {
+            List<PersonalReportJobInformation> jobInformation = invocation.getArgument(1);
+            return jobInformation.stream().collect(toMap(PersonalReportJobInformation::getId, item -> getTestData()));
+        });
+        kafkaAdminClient.createTopics(singletonList(name("notification-email-bulk").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(singletonList("notification-email"));
+        kafkaAdminClient.deleteTopics(singletonList("notification-email-bulk"));
         kafkaAdminClient.close();
         databaseCleaner.setUp();
         reset(personalReportDataService);
@@ -169,15 +173,15 @@ class PersonalReportJobIT {
             JobDetail jobDetail = mock(JobDetail.class);
 
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
-            String topicName = "notification-email";
+            String topicName = "notification-email-bulk";
             // When
             when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
             when(jobDetail.getJobDataMap()).thenReturn(new JobDataMap(Map.of(ID, id)));
 
-            Set<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id);
+            List<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 100);
             assertEquals(5, logs.size());
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
 
                 personalReportJob.execute(jobExecutionContext);
@@ -199,9 +203,8 @@ class PersonalReportJobIT {
                 String reportKey = reportUrl.substring(reportUrl.indexOf("/reports/") + 1);
                 await().until(() -> amazonS3.doesObjectExist("kanwise", reportKey));
 
-                Set<PersonalReportJobLog> logsAfterExecution = personalReportJobMonitoringService.getLogs(id);
-                assertEquals(6, logsAfterExecution.size());
-                PersonalReportJobLog log = logsAfterExecution.stream().max(Comparator.comparing(PersonalReportJobLog::getTimestamp)).get();
+                await().atMost(5, SECONDS).until(() -> personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 100).size() == 6);
+                PersonalReportJobLog log = personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 1).get(0);
                 assertEquals(SUCCESS, log.getStatus());
             }
         }
@@ -219,19 +222,19 @@ class PersonalReportJobIT {
             JobDetail jobDetail = mock(JobDetail.class);
 
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
-            String topicName = "notification-email";
+            String topicName = "notification-email-bulk";
 
             // When
             when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
             when(jobDetail.getJobDataMap()).thenReturn(new JobDataMap(Map.of(ID, id)));
-            when(personalReportDataService.getReportData(any())).thenThrow(new RuntimeException("Something went wrong"));
+            when(personalReportDataService.getReportData(any(), anyList())).thenThrow(new RuntimeException("Something went wrong"));
 
-            Set<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id);
+            List<PersonalReportJobLog> logs = personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 100);
 
             assertEquals(5, logs.size());
 
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
 
                 personalReportJob.execute(jobExecutionContext);
@@ -255,9 +258,8 @@ class PersonalReportJobIT {
                     });
                 }
 
-                Set<PersonalReportJobLog> logsAfterExecution = personalReportJobMonitoringService.getLogs(id);
-                assertEquals(6, logsAfterExecution.size());
-                PersonalReportJobLog log = logsAfterExecution.stream().max(Comparator.comparing(PersonalReportJobLog::getTimestamp)).orElseThrow(() -> new AssertionFailure("No log found"));
+                await().atMost(5, SECONDS).until(() -> personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 100).size() == 6);
+                PersonalReportJobLog log = personalReportJobMonitoringService.getLogs(id, Long.MAX_VALUE, 1).get(0);
                 assertEquals(ERROR, log.getStatus());
             }
         }
@@ -1,36 +1,61 @@
 package com.kanwise.report_service.listener.common;
 
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
 import com.kanwise.report_service.model.job_information.common.JobInformation;
 import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
 import org.quartz.Trigger;
+import org.quartz.TriggerKey;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
+import static com.kanwise.report_service.constant.job.JobConstant.CATCH_UP;
 import static com.kanwise.report_service.constant.job.JobConstant.ID;
+import static com.kanwise.report_service.constant.job.JobConstant.LANE;
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
 import static java.util.stream.Stream.of;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
+import static org.quartz.JobKey.jobKey;
 import static org.quartz.Trigger.CompletedExecutionInstruction.DELETE_TRIGGER;
+import static org.quartz.TriggerKey.triggerKey;
 
 @SuppressWarnings("unchecked")
 @ExtendWith(MockitoExtension.class)
 class GenericJobTriggerListenerTest {
 
+    private static final TriggerKey DEFERRED_TRIGGER_KEY = triggerKey("id-deferred", PERSONAL_REPORT.name());
+
+    private final IJobConcurrencyLimiter jobConcurrencyLimiter = mock(IJobConcurrencyLimiter.class);
+    private final JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties = new JobSchedulingConfigurationProperties(Duration.ZERO, Duration.ofSeconds(30), Map.of(PERSONAL_REPORT, 1));
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private static Stream<Arguments> shouldNotDecreaseFireCountArguments() {
         return of(
@@ -45,7 +70,7 @@ class GenericJobTriggerListenerTest {
         // Given
         JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
         JobInformation jobInformation = mock(JobInformation.class);
-        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(jobInformationService) {
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
         };
         Trigger trigger = mock(Trigger.class);
         JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
@@ -70,7 +95,7 @@ class GenericJobTriggerListenerTest {
         // Given
         JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
         JobInformation jobInformation = mock(JobInformation.class, withSettings().lenient());
-        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(jobInformationService) {
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
         };
         Trigger trigger = mock(Trigger.class);
         JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
@@ -91,41 +116,141 @@ class GenericJobTriggerListenerTest {
 
 
     @Test
-    void shouldThrowNotImplementedExceptionForVetoingJobExecution() {
+    void shouldNotDecreaseFireCountForCatchUpTrigger() {
+        // Given
+        JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
+        };
+        Trigger trigger = mock(Trigger.class);
+        JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
+        // When
+        when(trigger.getJobDataMap()).thenReturn(new JobDataMap(Map.of(CATCH_UP, true)));
+
+        genericJobTriggerListener.triggerFired(trigger, jobExecutionContext);
+        // Then
+        verify(jobInformationService, never()).getJobInformation(any());
+        verify(jobInformationService, never()).updateJobInformation(any());
+    }
+
+    @Test
+    void shouldNotVetoJobExecutionWhenCapacityIsAvailable() {
         // Given
         JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
-        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(jobInformationService) {
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
         };
         Trigger trigger = mock(Trigger.class);
         JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
         // When
+        when(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT)).thenReturn(true);
+        // Then
+        assertFalse(genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        verify(jobExecutionContext, never()).getScheduler();
+    }
+
+    @Test
+    void shouldDeferJobExecutionThroughPersistentTriggerWhenConcurrencyLimitIsReached() throws SchedulerException {
+        // Given
+        JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
+        };
+        Trigger trigger = mock(Trigger.class);
+        JobExecutionContext jobExecutionContext = mockJobExecutionContext();
+        Scheduler scheduler = jobExecutionContext.getScheduler();
+        ArgumentCaptor<Trigger> captor = ArgumentCaptor.forClass(Trigger.class);
+        // When
+        when(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT)).thenReturn(false);
+        when(scheduler.checkExists(DEFERRED_TRIGGER_KEY)).thenReturn(false);
         // Then
-        assertThrows(UnsupportedOperationException.class, () -> genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        assertTrue(genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        verify(scheduler).scheduleJob(captor.capture());
+        assertEquals(DEFERRED_TRIGGER_KEY, captor.getValue().getKey());
+        assertEquals(jobKey("id", PERSONAL_REPORT.name()), captor.getValue().getJobKey());
+        assertTrue(captor.getValue().getJobDataMap().getBoolean(CATCH_UP));
+        assertEquals(1.0, meterRegistry.get("kanwise.job.executions.deferred").tag("group", PERSONAL_REPORT.name()).counter().count());
     }
 
     @Test
-    void shouldThrowNotImplementedExceptionForTriggerMisfired() {
+    void shouldCoalesceDeferredFiresOfTheSameJob() throws SchedulerException {
         // Given
         JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
-        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(jobInformationService) {
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
         };
         Trigger trigger = mock(Trigger.class);
+        JobExecutionContext jobExecutionContext = mockJobExecutionContext();
+        Scheduler scheduler = jobExecutionContext.getScheduler();
         // When
+        when(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT)).thenReturn(false);
+        when(scheduler.checkExists(DEFERRED_TRIGGER_KEY)).thenReturn(true);
         // Then
-        assertThrows(UnsupportedOperationException.class, () -> genericJobTriggerListener.triggerMisfired(trigger));
+        assertTrue(genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        verify(scheduler, never()).scheduleJob(any(Trigger.class));
     }
 
     @Test
-    void shouldThrowNotImplementedExceptionForTriggerComplete() {
+    void shouldRescheduleDeferredTriggerWhenLimitIsStillReached() throws SchedulerException {
         // Given
         JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
-        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(jobInformationService) {
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
+        };
+        Trigger trigger = mock(Trigger.class);
+        JobExecutionContext jobExecutionContext = mockJobExecutionContext();
+        Scheduler scheduler = jobExecutionContext.getScheduler();
+        // When
+        when(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT)).thenReturn(false);
+        when(trigger.getKey()).thenReturn(DEFERRED_TRIGGER_KEY);
+        // Then
+        assertTrue(genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        verify(scheduler).rescheduleJob(eq(DEFERRED_TRIGGER_KEY), any(Trigger.class));
+        verify(scheduler, never()).scheduleJob(any(Trigger.class));
+    }
+
+    @Test
+    void shouldNotVetoInteractiveJobExecution() {
+        // Given
+        JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
         };
         Trigger trigger = mock(Trigger.class);
         JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
         // When
+        when(trigger.getJobDataMap()).thenReturn(new JobDataMap(Map.of(LANE, INTERACTIVE.name())));
+        // Then
+        assertFalse(genericJobTriggerListener.vetoJobExecution(trigger, jobExecutionContext));
+        verify(jobConcurrencyLimiter, never()).hasCapacity(any());
+    }
+
+    @Test
+    void shouldCountMisfiredTriggers() {
+        // Given
+        JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
+        };
+        Trigger trigger = mock(Trigger.class);
+        // When
+        genericJobTriggerListener.triggerMisfired(trigger);
         // Then
-        assertThrows(UnsupportedOperationException.class, () -> genericJobTriggerListener.triggerComplete(trigger, jobExecutionContext, DELETE_TRIGGER));
+        assertEquals(1.0, meterRegistry.get("kanwise.job.misfires").tag("group", PERSONAL_REPORT.name()).counter().count());
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldNotThrowOnTriggerComplete() {
+        // Given
+        JobInformationService<JobInformation> jobInformationService = mock(JobInformationService.class);
+        GenericJobTriggerListener<JobInformation> genericJobTriggerListener = new GenericJobTriggerListener<>(PERSONAL_REPORT, jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, meterRegistry) {
+        };
+        Trigger trigger = mock(Trigger.class);
+        JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
+        // When
+        // Then
+        assertDoesNotThrow(() -> genericJobTriggerListener.triggerComplete(trigger, jobExecutionContext, DELETE_TRIGGER));
+    }
+
+    private JobExecutionContext mockJobExecutionContext() {
+        JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
+        JobDetail jobDetail = mock(JobDetail.class);
+        when(jobExecutionContext.getJobDetail()).thenReturn(jobDetail);
+        when(jobExecutionContext.getScheduler()).thenReturn(mock(Scheduler.class));
+        when(jobDetail.getJobDataMap()).thenReturn(new JobDataMap(Map.of(ID, "id")));
+        return jobExecutionContext;
+    }
+}
@@ -0,0 +1,50 @@
+package com.kanwise.report_service.repository.monitoring.personal;
+
+import com.kanwise.report_service.controller.DatabaseCleaner;
+import liquibase.exception.LiquibaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class PersonalReportJobLogRepositoryIT {
+
+    private final PersonalReportJobLogRepository personalReportJobLogRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseCleaner databaseCleaner;
+
+    @Autowired
+    PersonalReportJobLogRepositoryIT(PersonalReportJobLogRepository personalReportJobLogRepository, JdbcTemplate jdbcTemplate, DatabaseCleaner databaseCleaner) {
+        this.personalReportJobLogRepository = personalReportJobLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.databaseCleaner = databaseCleaner;
+    }
+
+    @BeforeEach
+    void setUp() throws LiquibaseException {
+        databaseCleaner.setUp();
+    }
+
+    @Test
+    void shouldPurgeExpiredLogsWithData() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2022, 12, 29, 11, 25);
+        // When
+        int purged = personalReportJobLogRepository.purgeByTimestampBefore(cutoff);
+        // Then
+        assertEquals(4, purged);
+        assertEquals(5, personalReportJobLogRepository.count());
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from personal_report_job_log_data", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("select count(*) from personal_report_job_log_data where personal_report_job_log_id in (3, 4)", Integer.class));
+    }
+}
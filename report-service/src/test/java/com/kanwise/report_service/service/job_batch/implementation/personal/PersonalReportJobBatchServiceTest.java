@@ -0,0 +1,231 @@
+package com.kanwise.report_service.service.job_batch.implementation.personal;
+
+import com.kanwise.report_service.configuration.job_batch.JobBatchConfigurationProperties;
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
+import com.kanwise.report_service.error.report_data.ReportDataNotFoundException;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.job_execution_details.personal.PersonalReportJobExecutionDetails;
+import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import com.kanwise.report_service.service.job_executor.common.JobExecutorService;
+import com.kanwise.report_service.service.report_data.common.ReportDataService;
+import com.kanwise.report_service.service.report_execution.common.IReportExecutionService;
+import com.kanwise.report_service.service.scheduler.implementation.JobConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.SCHEDULED;
+import static java.time.Duration.ZERO;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PersonalReportJobBatchServiceTest {
+
+    private static final LocalDateTime START_DATE = LocalDateTime.of(2022, 1, 1, 0, 0);
+    private static final LocalDateTime END_DATE = LocalDateTime.of(2022, 1, 31, 0, 0);
+
+    @SuppressWarnings("unchecked")
+    private final ReportDataService<PersonalReportJobInformation> reportDataService = mock(ReportDataService.class);
+    @SuppressWarnings("unchecked")
+    private final JobExecutorService<PersonalReportJobExecutionDetails, PersonalReportJobInformation> jobExecutorService = mock(JobExecutorService.class);
+    private final IReportExecutionService reportExecutionService = mock(IReportExecutionService.class);
+    private MeterRegistry meterRegistry;
+    private JobConcurrencyLimiter jobConcurrencyLimiter;
+    private PersonalReportJobBatchService personalReportJobBatchService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jobConcurrencyLimiter = new JobConcurrencyLimiter(new JobSchedulingConfigurationProperties(ZERO, ZERO, Map.of(PERSONAL_REPORT, 1)), meterRegistry);
+        personalReportJobBatchService = new PersonalReportJobBatchService(reportDataService, jobExecutorService, reportExecutionService, jobConcurrencyLimiter, new JobBatchConfigurationProperties(ofMillis(50), 3, 1), meterRegistry);
+        when(reportExecutionService.submit(any(ExecutionLane.class), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(jobExecutorService.execute(any(PersonalReportJobInformation.class), anyMap())).thenAnswer(invocation -> completedFuture(
+                PersonalReportJobExecutionDetails.builder().jobInformation(invocation.getArgument(0)).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        personalReportJobBatchService.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldFetchReportDataOnceForJobsSharingReportPeriod() {
+        // Given
+        PersonalReportJobInformation first = jobInformation("first", START_DATE);
+        PersonalReportJobInformation second = jobInformation("second", START_DATE);
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of(
+                "first", Map.of("email", "first@kanwise.com"),
+                "second", Map.of("email", "second@kanwise.com")));
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(first, SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(second, SCHEDULED);
+        // Then
+        assertSame(first, firstResult.join().getJobInformation());
+        assertSame(second, secondResult.join().getJobInformation());
+        ArgumentCaptor<List<PersonalReportJobInformation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportDataService).getReportData(eq(new ReportPeriod(START_DATE, END_DATE)), captor.capture());
+        assertEquals(List.of(first, second), captor.getValue());
+        verify(jobExecutorService).execute(first, Map.of("email", "first@kanwise.com"));
+        verify(jobExecutorService).execute(second, Map.of("email", "second@kanwise.com"));
+        assertEquals(1, meterRegistry.summary("kanwise.job.batch.size", "group", "PERSONAL_REPORT").count());
+    }
+
+    @Test
+    void shouldSeparateBatchesByReportPeriod() {
+        // Given
+        PersonalReportJobInformation first = jobInformation("first", START_DATE);
+        PersonalReportJobInformation second = jobInformation("second", START_DATE.plusDays(1));
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of(
+                "first", Map.of("email", "first@kanwise.com"),
+                "second", Map.of("email", "second@kanwise.com")));
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(first, SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(second, SCHEDULED);
+        // Then
+        firstResult.join();
+        secondResult.join();
+        verify(reportDataService, times(2)).getReportData(any(ReportPeriod.class), anyList());
+    }
+
+    @Test
+    void shouldDispatchInteractiveJobsWithoutBatching() {
+        // Given
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of("first", Map.of(), "second", Map.of()));
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(jobInformation("first", START_DATE), SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(jobInformation("second", START_DATE), INTERACTIVE);
+        // Then
+        secondResult.join();
+        firstResult.join();
+        verify(reportDataService, times(2)).getReportData(any(ReportPeriod.class), anyList());
+        verify(reportExecutionService).submit(eq(INTERACTIVE), any());
+        verify(reportExecutionService).submit(eq(SCHEDULED), any());
+    }
+
+    @Test
+    void shouldDispatchBatchWhenMaxBatchSizeIsReached() {
+        // Given
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of(
+                "first", Map.of(), "second", Map.of(), "third", Map.of(), "fourth", Map.of()));
+        // When
+        personalReportJobBatchService.submit(jobInformation("first", START_DATE), SCHEDULED);
+        personalReportJobBatchService.submit(jobInformation("second", START_DATE), SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> thirdResult = personalReportJobBatchService.submit(jobInformation("third", START_DATE), SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> fourthResult = personalReportJobBatchService.submit(jobInformation("fourth", START_DATE), SCHEDULED);
+        // Then
+        thirdResult.join();
+        fourthResult.join();
+        verify(reportDataService, times(2)).getReportData(any(ReportPeriod.class), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotFlushNewerBatchOnStaleWindowOfDispatchedBatch() throws InterruptedException {
+        // Given
+        personalReportJobBatchService.shutdown();
+        personalReportJobBatchService = new PersonalReportJobBatchService(reportDataService, jobExecutorService, reportExecutionService, jobConcurrencyLimiter, new JobBatchConfigurationProperties(ofMillis(400), 3, 1), meterRegistry);
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of(
+                "first", Map.of(), "second", Map.of(), "third", Map.of(), "fourth", Map.of(), "fifth", Map.of()));
+        personalReportJobBatchService.submit(jobInformation("first", START_DATE), SCHEDULED);
+        personalReportJobBatchService.submit(jobInformation("second", START_DATE), SCHEDULED);
+        personalReportJobBatchService.submit(jobInformation("third", START_DATE), SCHEDULED).join();
+        Thread.sleep(200);
+        PersonalReportJobInformation fourth = jobInformation("fourth", START_DATE);
+        PersonalReportJobInformation fifth = jobInformation("fifth", START_DATE);
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> fourthResult = personalReportJobBatchService.submit(fourth, SCHEDULED);
+        Thread.sleep(300);
+        CompletableFuture<PersonalReportJobExecutionDetails> fifthResult = personalReportJobBatchService.submit(fifth, SCHEDULED);
+        // Then
+        fourthResult.join();
+        fifthResult.join();
+        ArgumentCaptor<List<PersonalReportJobInformation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportDataService, times(2)).getReportData(any(ReportPeriod.class), captor.capture());
+        assertEquals(List.of(fourth, fifth), captor.getAllValues().get(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldBatchJobsBeyondConcurrencyLimitAndRunTheirExecutionsOneAtATime() {
+        // Given
+        CompletableFuture<PersonalReportJobExecutionDetails> firstExecution = new CompletableFuture<>();
+        PersonalReportJobInformation first = jobInformation("first", START_DATE);
+        PersonalReportJobInformation second = jobInformation("second", START_DATE);
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of("first", Map.of(), "second", Map.of()));
+        when(jobExecutorService.execute(eq(first), anyMap())).thenReturn(firstExecution);
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(first, SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(second, SCHEDULED);
+        // Then
+        ArgumentCaptor<List<PersonalReportJobInformation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reportDataService, timeout(1000)).getReportData(any(ReportPeriod.class), captor.capture());
+        assertEquals(List.of(first, second), captor.getValue());
+        verify(jobExecutorService, timeout(1000)).execute(eq(first), anyMap());
+        verify(jobExecutorService, never()).execute(eq(second), anyMap());
+        firstExecution.complete(PersonalReportJobExecutionDetails.builder().jobInformation(first).build());
+        assertSame(first, firstResult.join().getJobInformation());
+        assertSame(second, secondResult.join().getJobInformation());
+    }
+
+    @Test
+    void shouldFailOnlyJobsWithoutReportData() {
+        // Given
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenReturn(Map.of("first", Map.of()));
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(jobInformation("first", START_DATE), SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(jobInformation("second", START_DATE), SCHEDULED);
+        // Then
+        firstResult.join();
+        CompletionException exception = assertThrows(CompletionException.class, secondResult::join);
+        assertInstanceOf(ReportDataNotFoundException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldFailWholeBatchWhenReportDataFetchFails() {
+        // Given
+        when(reportDataService.getReportData(any(ReportPeriod.class), anyList())).thenThrow(new RuntimeException("Something went wrong"));
+        // When
+        CompletableFuture<PersonalReportJobExecutionDetails> firstResult = personalReportJobBatchService.submit(jobInformation("first", START_DATE), SCHEDULED);
+        CompletableFuture<PersonalReportJobExecutionDetails> secondResult = personalReportJobBatchService.submit(jobInformation("second", START_DATE), SCHEDULED);
+        // Then
+        assertThrows(CompletionException.class, firstResult::join);
+        assertThrows(CompletionException.class, secondResult::join);
+    }
+
+    private PersonalReportJobInformation jobInformation(String id, LocalDateTime startDate) {
+        return PersonalReportJobInformation.builder()
+                .id(id)
+                .username(id)
+                .startDate(startDate)
+                .endDate(END_DATE)
+                .build();
+    }
+}
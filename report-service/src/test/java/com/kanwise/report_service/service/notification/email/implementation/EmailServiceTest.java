@@ -0,0 +1,45 @@
+package com.kanwise.report_service.service.notification.email.implementation;
+
+import com.kanwise.report_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.report_service.model.notification.email.EmailMessageType;
+import com.kanwise.report_service.model.notification.email.EmailRequest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.report_service.model.kafka.TopicType.NOTIFICATION_EMAIL_BULK;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class EmailServiceTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, EmailRequest> kafkaEmailTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, EmailRequest> kafkaBulkEmailTemplate = mock(KafkaTemplate.class);
+    private final KafkaConfigurationProperties kafkaConfigurationProperties = new KafkaConfigurationProperties("localhost:29092", Map.of(
+            NOTIFICATION_EMAIL, "notification-email",
+            NOTIFICATION_EMAIL_BULK, "notification-email-bulk"));
+    private final EmailService emailService = new EmailService(kafkaEmailTemplate, kafkaBulkEmailTemplate, kafkaConfigurationProperties);
+
+    @ParameterizedTest
+    @EnumSource(EmailMessageType.class)
+    void shouldRouteReportEmailsToBulkTopic(EmailMessageType emailMessageType) {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder()
+                .to("jolettatiger.kanwise@gmail.com")
+                .type(emailMessageType)
+                .build();
+        // When
+        emailService.sendEmail(emailRequest);
+        // Then
+        assertNotNull(emailRequest.getMessageId());
+        verify(kafkaBulkEmailTemplate).send("notification-email-bulk", emailRequest.getMessageId(), emailRequest);
+        verifyNoInteractions(kafkaEmailTemplate);
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanwise.report_service.service.pdf.implementation;
+
+import com.itextpdf.styledxmlparser.resolver.resource.IResourceRetriever;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingResourceRetrieverTest {
+
+    private final IResourceRetriever resourceRetriever = mock(IResourceRetriever.class);
+
+    @Test
+    void shouldRetrieveResourceOnce() throws IOException {
+        // Given
+        URL url = new URL("https://stackpath.bootstrapcdn.com/bootstrap/4.3.1/css/bootstrap.min.css");
+        byte[] stylesheet = "body { margin: 0; }".getBytes();
+        CachingResourceRetriever cachingResourceRetriever = new CachingResourceRetriever(resourceRetriever, 8);
+        // When
+        when(resourceRetriever.getByteArrayByUrl(url)).thenReturn(stylesheet);
+        byte[] first = cachingResourceRetriever.getByteArrayByUrl(url);
+        byte[] second = cachingResourceRetriever.getInputStreamByUrl(url).readAllBytes();
+        // Then
+        assertArrayEquals(stylesheet, first);
+        assertArrayEquals(stylesheet, second);
+        assertEquals(1, cachingResourceRetriever.size());
+        verify(resourceRetriever, times(1)).getByteArrayByUrl(url);
+    }
+
+    @Test
+    void shouldNotCacheMissingResource() throws IOException {
+        // Given
+        URL url = new URL("https://unpkg.com/missing.css");
+        CachingResourceRetriever cachingResourceRetriever = new CachingResourceRetriever(resourceRetriever, 8);
+        // When
+        when(resourceRetriever.getByteArrayByUrl(url)).thenReturn(null);
+        cachingResourceRetriever.getByteArrayByUrl(url);
+        // Then
+        assertNull(cachingResourceRetriever.getInputStreamByUrl(url));
+        assertEquals(0, cachingResourceRetriever.size());
+        verify(resourceRetriever, times(2)).getByteArrayByUrl(url);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedResourceBeyondMaximumSize() throws IOException {
+        // Given
+        URL first = new URL("https://unpkg.com/first.css");
+        URL second = new URL("https://unpkg.com/second.css");
+        CachingResourceRetriever cachingResourceRetriever = new CachingResourceRetriever(resourceRetriever, 1);
+        // When
+        when(resourceRetriever.getByteArrayByUrl(first)).thenReturn(new byte[]{1});
+        when(resourceRetriever.getByteArrayByUrl(second)).thenReturn(new byte[]{2});
+        cachingResourceRetriever.getByteArrayByUrl(first);
+        cachingResourceRetriever.getByteArrayByUrl(second);
+        cachingResourceRetriever.getByteArrayByUrl(second);
+        cachingResourceRetriever.getByteArrayByUrl(first);
+        // Then
+        assertEquals(1, cachingResourceRetriever.size());
+        verify(resourceRetriever, times(1)).getByteArrayByUrl(second);
+        verify(resourceRetriever, times(2)).getByteArrayByUrl(first);
+    }
+
+    @Test
+    void shouldNotExceedMaximumSizeUnderConcurrentRetrieval() throws Exception {
+        // Given
+        CachingResourceRetriever cachingResourceRetriever = new CachingResourceRetriever(resourceRetriever, 4);
+        when(resourceRetriever.getByteArrayByUrl(any(URL.class))).thenReturn(new byte[]{1});
+        ExecutorService executor = newFixedThreadPool(8);
+        // When
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                URL url = new URL("https://unpkg.com/resource-%s.css".formatted(i));
+                futures.add(executor.submit(() -> cachingResourceRetriever.getByteArrayByUrl(url)));
+            }
+            for (Future<byte[]> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Then
+        assertEquals(4, cachingResourceRetriever.size());
+    }
+}
@@ -0,0 +1,92 @@
+package com.kanwise.report_service.service.pdf.implementation;
+
+import com.itextpdf.html2pdf.resolver.font.DefaultFontProvider;
+import com.itextpdf.styledxmlparser.resolver.resource.DefaultResourceRetriever;
+import com.kanwise.report_service.configuration.pdf.PdfRenderingConfigurationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static java.time.Duration.ofMillis;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PdfRenderingEngineTest {
+
+    private static final String HTML = "<html><body><h1>Project Report</h1></body></html>";
+
+    private MeterRegistry meterRegistry;
+    private PdfRenderingEngine pdfRenderingEngine;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pdfRenderingEngine = new PdfRenderingEngine(
+                new PdfRenderingConfigurationProperties(1, 1, ofMillis(50), 8),
+                new DefaultFontProvider(true, true, false).getFontSet(),
+                new CachingResourceRetriever(new DefaultResourceRetriever(), 8),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        pdfRenderingEngine.shutdown();
+    }
+
+    @Test
+    void shouldRenderPdf() {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        // When
+        pdfRenderingEngine.render(writer -> writer.write(HTML), outputStream).join();
+        // Then
+        assertTrue(outputStream.toString().startsWith("%PDF"));
+        assertEquals(1, meterRegistry.timer("kanwise.pdf.render.time").count());
+        assertEquals(1, meterRegistry.timer("kanwise.pdf.render.queue.wait").count());
+    }
+
+    @Test
+    void shouldRejectRenderWhenQueueIsFull() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        OutputStream blockingOutputStream = new OutputStream() {
+            @Override
+            public void write(int b) {
+                awaitLatch(latch);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                awaitLatch(latch);
+            }
+        };
+        // When
+        CompletableFuture<Void> running = pdfRenderingEngine.render(writer -> writer.write(HTML), blockingOutputStream);
+        CompletableFuture<Void> queued = pdfRenderingEngine.render(writer -> writer.write(HTML), new ByteArrayOutputStream());
+        // Then
+        assertThrows(RejectedExecutionException.class, () -> pdfRenderingEngine.render(writer -> writer.write(HTML), new ByteArrayOutputStream()));
+        assertEquals(1, meterRegistry.counter("kanwise.pdf.render.rejected").count());
+        latch.countDown();
+        running.join();
+        queued.join();
+        assertEquals(2, meterRegistry.timer("kanwise.pdf.render.time").count());
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.kanwise.report_service.service.report_cache.implementation;
+
+import com.kanwise.report_service.configuration.report_cache.ReportCacheConfigurationProperties;
+import com.kanwise.report_service.configuration.spaces.SpacesNamesConfigurationProperties;
+import com.kanwise.report_service.model.file.FileUploadStatus;
+import com.kanwise.report_service.model.job_batch.ReportPeriod;
+import com.kanwise.report_service.model.report_cache.CachedReport;
+import com.kanwise.report_service.model.report_cache.ReportCacheKey;
+import com.kanwise.report_service.service.spaces.common.ContentWriter;
+import com.kanwise.report_service.service.spaces.common.ISpacesService;
+import com.kanwise.report_service.service.template.common.IHtmlTemplateService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kanwise.report_service.model.file.FileUploadStatus.FAILED;
+import static com.kanwise.report_service.model.file.FileUploadStatus.SUCCESS;
+import static com.kanwise.report_service.model.report.ReportType.PROJECT;
+import static java.time.Duration.ofDays;
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofMinutes;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportCacheServiceTest {
+
+    private static final Instant NOW = Instant.parse("2022-06-01T08:00:00Z");
+    private static final ReportPeriod REPORT_PERIOD = new ReportPeriod(LocalDateTime.of(2022, 5, 1, 0, 0), LocalDateTime.of(2022, 5, 31, 0, 0));
+    private static final ContentWriter CONTENT_WRITER = outputStream -> outputStream.write(1);
+
+    private final ISpacesService spacesService = mock(ISpacesService.class);
+    private final IHtmlTemplateService htmlTemplateService = mock(IHtmlTemplateService.class);
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws MalformedURLException {
+        meterRegistry = new SimpleMeterRegistry();
+        when(htmlTemplateService.getTemplateVersion(PROJECT)).thenReturn("v1");
+        when(spacesService.getLastModified(eq("kanwise"), anyString())).thenReturn(Optional.empty());
+        when(spacesService.getUrl(eq("kanwise"), anyString())).thenAnswer(invocation -> new URL("https://kanwise.space/" + invocation.getArgument(1)));
+    }
+
+    @Test
+    void shouldUploadSharedReportOnceForSameProjectAndPeriod() {
+        // Given
+        CompletableFuture<FileUploadStatus> upload = new CompletableFuture<>();
+        when(spacesService.uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"))).thenReturn(upload);
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        CachedReport first = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER);
+        CachedReport second = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER);
+        upload.complete(SUCCESS);
+        // Then
+        assertEquals(first.reportUrl(), second.reportUrl());
+        assertTrue(first.reportUrl().startsWith("https://kanwise.space/reports/shared/project/"));
+        assertEquals(SUCCESS, second.uploadStatus().join());
+        verify(spacesService, times(1)).uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"));
+        assertEquals(1, meterRegistry.counter("kanwise.report.cache.hits", "type", "PROJECT").count());
+        assertEquals(1, meterRegistry.counter("kanwise.report.cache.misses", "type", "PROJECT").count());
+    }
+
+    @Test
+    void shouldRenderSeparateReportsForDifferentTemplateVersions() {
+        // Given
+        when(spacesService.uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"))).thenReturn(completedFuture(SUCCESS));
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        CachedReport first = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER);
+        when(htmlTemplateService.getTemplateVersion(PROJECT)).thenReturn("v2");
+        CachedReport second = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER);
+        // Then
+        first.uploadStatus().join();
+        second.uploadStatus().join();
+        assertNotEquals(first.reportUrl(), second.reportUrl());
+        verify(spacesService, times(2)).uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"));
+    }
+
+    @Test
+    void shouldRenderAgainAfterFailedUpload() {
+        // Given
+        when(spacesService.uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise")))
+                .thenReturn(completedFuture(FAILED))
+                .thenReturn(completedFuture(SUCCESS));
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        FileUploadStatus first = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER).uploadStatus().join();
+        FileUploadStatus second = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER).uploadStatus().join();
+        // Then
+        assertEquals(FAILED, first);
+        assertEquals(SUCCESS, second);
+        verify(spacesService, times(2)).uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"));
+    }
+
+    @Test
+    void shouldReuseStoredReportWithinTtl() {
+        // Given
+        when(spacesService.getLastModified(eq("kanwise"), anyString())).thenReturn(Optional.of(NOW.minus(ofMinutes(30))));
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        FileUploadStatus uploadStatus = reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER).uploadStatus().join();
+        // Then
+        assertEquals(SUCCESS, uploadStatus);
+        verify(spacesService, never()).uploadFile(any(ContentWriter.class), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void shouldRenderAgainWhenStoredReportIsOlderThanTtl() {
+        // Given
+        when(spacesService.getLastModified(eq("kanwise"), anyString())).thenReturn(Optional.of(NOW.minus(ofHours(2))));
+        when(spacesService.uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"))).thenReturn(completedFuture(SUCCESS));
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        reportCacheService.getOrUpload(new ReportCacheKey(PROJECT, "1", REPORT_PERIOD), CONTENT_WRITER).uploadStatus().join();
+        // Then
+        verify(spacesService).uploadFile(any(ContentWriter.class), anyString(), anyString(), eq("kanwise"));
+    }
+
+    @Test
+    void shouldApplyRetentionRuleToSharedReports() {
+        // Given
+        ReportCacheService reportCacheService = createReportCacheService(Clock.fixed(NOW, ZoneOffset.UTC));
+        // When
+        reportCacheService.init();
+        // Then
+        verify(spacesService, timeout(1000)).applyExpirationRule("kanwise", "shared-reports-retention", "reports/shared/", 7);
+    }
+
+    private ReportCacheService createReportCacheService(Clock clock) {
+        return new ReportCacheService(
+                spacesService,
+                htmlTemplateService,
+                new ReportCacheConfigurationProperties(ofHours(1), ofDays(7), 16),
+                new SpacesNamesConfigurationProperties("kanwise"),
+                meterRegistry,
+                clock
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package com.kanwise.report_service.service.report_data.implementation;
+
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties;
+import com.kanwise.report_service.configuration.report_data.ReportDataConfigurationProperties.SourceProperties;
+import com.kanwise.report_service.error.report_data.ReportDataFetchException;
+import com.kanwise.report_service.error.report_data.ReportDataSourceNotConfiguredException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static com.kanwise.report_service.model.report_data.ReportDataSource.KANWISE_SERVICE;
+import static com.kanwise.report_service.model.report_data.ReportDataSource.USER_SERVICE;
+import static com.kanwise.report_service.util.FutureUtils.join;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportDataFetcherTest {
+
+    private MeterRegistry meterRegistry;
+    private ReportDataFetcher reportDataFetcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reportDataFetcher = new ReportDataFetcher(new ReportDataConfigurationProperties(Map.of(
+                KANWISE_SERVICE, new SourceProperties(ofSeconds(2), 1, 1),
+                USER_SERVICE, new SourceProperties(ofMillis(100), 1, 1)
+        )), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reportDataFetcher.shutdown();
+    }
+
+    @Test
+    void shouldFetchSourcesConcurrently() {
+        // Given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        // When
+        CompletableFuture<String> reportData = reportDataFetcher.fetch(KANWISE_SERVICE, () -> awaitOther(bothStarted, "report"));
+        CompletableFuture<String> userData = reportDataFetcher.fetch(USER_SERVICE, () -> awaitOther(bothStarted, "user"));
+        // Then
+        assertEquals("report-user", reportData.thenCombine(userData, (report, user) -> report + "-" + user).join());
+        assertEquals(1, meterRegistry.timer("kanwise.report.data.latency", "source", "kanwise-service", "outcome", "success").count());
+        assertEquals(1, meterRegistry.timer("kanwise.report.data.latency", "source", "user-service", "outcome", "success").count());
+    }
+
+    @Test
+    void shouldFailWhenSourceTimesOut() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        // When
+        CompletableFuture<String> userData = reportDataFetcher.fetch(USER_SERVICE, () -> awaitLatch(latch, "user"));
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, userData::join);
+        assertInstanceOf(ReportDataFetchException.class, exception.getCause());
+        assertInstanceOf(TimeoutException.class, exception.getCause().getCause());
+        assertEquals(1, meterRegistry.counter("kanwise.report.data.timeouts", "source", "user-service").count());
+        latch.countDown();
+    }
+
+    @Test
+    void shouldInterruptSourceCallWhenItTimesOut() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        // When
+        CompletableFuture<String> userData = reportDataFetcher.fetch(USER_SERVICE, () -> awaitInterrupt(interrupted));
+        // Then
+        assertThrows(CompletionException.class, userData::join);
+        assertTrue(interrupted.await(1, SECONDS));
+        assertEquals("user", reportDataFetcher.fetch(USER_SERVICE, () -> "user").join());
+    }
+
+    @Test
+    void shouldRejectCallsBeyondBulkheadCapacity() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        // When
+        CompletableFuture<String> running = reportDataFetcher.fetch(KANWISE_SERVICE, () -> awaitLatch(latch, "running"));
+        CompletableFuture<String> queued = reportDataFetcher.fetch(KANWISE_SERVICE, () -> "queued");
+        CompletableFuture<String> rejected = reportDataFetcher.fetch(KANWISE_SERVICE, () -> "rejected");
+        // Then
+        assertTrue(rejected.isCompletedExceptionally());
+        assertEquals(1, meterRegistry.counter("kanwise.report.data.rejected", "source", "kanwise-service").count());
+        latch.countDown();
+        assertEquals("running", running.join());
+        assertEquals("queued", queued.join());
+    }
+
+    @Test
+    void shouldFailFastWhenSourceIsNotConfigured() {
+        // Given
+        ReportDataConfigurationProperties reportDataConfigurationProperties = new ReportDataConfigurationProperties(Map.of(
+                KANWISE_SERVICE, new SourceProperties(ofSeconds(2), 1, 1)
+        ));
+        // When
+        ReportDataSourceNotConfiguredException exception = assertThrows(ReportDataSourceNotConfiguredException.class,
+                () -> new ReportDataFetcher(reportDataConfigurationProperties, meterRegistry));
+        // Then
+        assertEquals("REPORT_DATA_SOURCE_USER_SERVICE_NOT_CONFIGURED", exception.getMessage());
+    }
+
+    @Test
+    void shouldUnwrapReportDataFetchExceptionWhenJoined() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(1);
+        // When
+        CompletableFuture<String> userData = reportDataFetcher.fetch(USER_SERVICE, () -> awaitLatch(latch, "user"));
+        // Then
+        assertThrows(ReportDataFetchException.class, () -> join(userData));
+        latch.countDown();
+    }
+
+    private String awaitOther(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        return awaitLatch(bothStarted, result);
+    }
+
+    private String awaitInterrupt(CountDownLatch interrupted) {
+        try {
+            new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+            Thread.currentThread().interrupt();
+        }
+        return "interrupted";
+    }
+
+    private String awaitLatch(CountDownLatch latch, String result) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
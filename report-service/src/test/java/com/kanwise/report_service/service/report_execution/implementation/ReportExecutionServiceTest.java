@@ -0,0 +1,119 @@
+package com.kanwise.report_service.service.report_execution.implementation;
+
+import com.kanwise.report_service.configuration.report_execution.ReportExecutionConfigurationProperties;
+import com.kanwise.report_service.configuration.report_execution.ReportExecutionConfigurationProperties.LaneProperties;
+import com.kanwise.report_service.error.report_execution.ReportExecutionRejectedException;
+import com.kanwise.report_service.model.report_execution.ExecutionLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.BACKFILL;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.INTERACTIVE;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.SCHEDULED;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportExecutionServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ReportExecutionService reportExecutionService;
+
+    @AfterEach
+    void tearDown() {
+        reportExecutionService.shutdown();
+    }
+
+    @Test
+    void shouldRejectExecutionWhenLaneQueueIsFull() {
+        // Given
+        reportExecutionService = createReportExecutionService(1, Map.of(SCHEDULED, new LaneProperties(1, 1, 1)));
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        reportExecutionService.submit(SCHEDULED, () -> blocker);
+        reportExecutionService.submit(SCHEDULED, () -> completedFuture("queued"));
+        // When
+        CompletableFuture<String> rejected = reportExecutionService.submit(SCHEDULED, () -> completedFuture("rejected"));
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(ReportExecutionRejectedException.class, exception.getCause());
+        assertEquals(1.0, meterRegistry.get("kanwise.report.execution.rejected").tag("lane", SCHEDULED.name()).counter().count());
+        blocker.complete("blocker");
+    }
+
+    @Test
+    void shouldRejectExecutionForUnconfiguredLane() {
+        // Given
+        reportExecutionService = createReportExecutionService(1, Map.of(SCHEDULED, new LaneProperties(1, 1, 1)));
+        // When
+        CompletableFuture<String> rejected = reportExecutionService.submit(BACKFILL, () -> completedFuture("rejected"));
+        // Then
+        CompletionException exception = assertThrows(CompletionException.class, rejected::join);
+        assertInstanceOf(ReportExecutionRejectedException.class, exception.getCause());
+    }
+
+    @Test
+    void shouldNotExceedLaneConcurrency() {
+        // Given
+        reportExecutionService = createReportExecutionService(2, Map.of(SCHEDULED, new LaneProperties(1, 4, 1)));
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        reportExecutionService.submit(SCHEDULED, () -> blocker);
+        // When
+        CompletableFuture<String> second = reportExecutionService.submit(SCHEDULED, () -> {
+            started.set(true);
+            return completedFuture("second");
+        });
+        // Then
+        assertFalse(started.get());
+        blocker.complete("blocker");
+        assertEquals("second", second.join());
+        assertTrue(started.get());
+    }
+
+    @Test
+    void shouldDequeueLanesProportionallyToTheirWeights() {
+        // Given
+        reportExecutionService = createReportExecutionService(1, Map.of(
+                INTERACTIVE, new LaneProperties(1, 8, 3),
+                SCHEDULED, new LaneProperties(1, 8, 1)
+        ));
+        CompletableFuture<String> blocker = new CompletableFuture<>();
+        reportExecutionService.submit(SCHEDULED, () -> blocker);
+        List<ExecutionLane> executionOrder = Collections.synchronizedList(new ArrayList<>());
+        List<CompletableFuture<ExecutionLane>> executions = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            executions.add(reportExecutionService.submit(SCHEDULED, () -> record(executionOrder, SCHEDULED)));
+            executions.add(reportExecutionService.submit(INTERACTIVE, () -> record(executionOrder, INTERACTIVE)));
+        }
+        // When
+        blocker.complete("blocker");
+        allOf(executions.toArray(CompletableFuture[]::new)).join();
+        // Then
+        assertEquals(List.of(INTERACTIVE, INTERACTIVE, SCHEDULED, INTERACTIVE), executionOrder.subList(0, 4));
+        assertEquals(4, meterRegistry.get("kanwise.report.execution.wait").tag("lane", INTERACTIVE.name()).timer().count());
+        assertEquals(0.0, meterRegistry.get("kanwise.report.execution.queue.depth").tag("lane", SCHEDULED.name()).gauge().value());
+    }
+
+    private CompletableFuture<ExecutionLane> record(List<ExecutionLane> executionOrder, ExecutionLane lane) {
+        executionOrder.add(lane);
+        return completedFuture(lane);
+    }
+
+    private ReportExecutionService createReportExecutionService(int workers, Map<ExecutionLane, LaneProperties> lanes) {
+        return new ReportExecutionService(new ReportExecutionConfigurationProperties(workers, lanes), meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.kanwise.report_service.service.scheduler.implementation;
+
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.report.JobGroup.PROJECT_REPORT;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobConcurrencyLimiterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobConcurrencyLimiter jobConcurrencyLimiter = new JobConcurrencyLimiter(
+            new JobSchedulingConfigurationProperties(Duration.ZERO, Duration.ZERO, Map.of(PERSONAL_REPORT, 1)),
+            meterRegistry
+    );
+
+    @Test
+    void shouldQueueExecutionWhenLimitIsReached() {
+        // Given
+        CompletableFuture<String> firstExecution = new CompletableFuture<>();
+        jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> firstExecution);
+        // When
+        CompletableFuture<String> second = jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> completedFuture("second"));
+        // Then
+        assertFalse(second.isDone());
+        assertFalse(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT));
+        assertEquals(1.0, meterRegistry.get("kanwise.job.executions.running").tag("group", PERSONAL_REPORT.name()).gauge().value());
+        assertEquals(1.0, meterRegistry.get("kanwise.job.executions.queued").tag("group", PERSONAL_REPORT.name()).gauge().value());
+    }
+
+    @Test
+    void shouldStartQueuedExecutionWhenRunningExecutionCompletes() {
+        // Given
+        CompletableFuture<String> firstExecution = new CompletableFuture<>();
+        CompletableFuture<String> first = jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> firstExecution);
+        CompletableFuture<String> second = jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> completedFuture("second"));
+        // When
+        firstExecution.complete("first");
+        // Then
+        assertEquals("first", first.join());
+        assertEquals("second", second.join());
+        assertTrue(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT));
+        assertEquals(0.0, meterRegistry.get("kanwise.job.executions.running").tag("group", PERSONAL_REPORT.name()).gauge().value());
+    }
+
+    @Test
+    void shouldReleasePermitWhenExecutionFails() {
+        // Given
+        CompletableFuture<String> failed = jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> {
+            throw new IllegalStateException("Something went wrong");
+        });
+        // When
+        CompletableFuture<String> next = jobConcurrencyLimiter.execute(PERSONAL_REPORT, () -> completedFuture("next"));
+        // Then
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals("next", next.join());
+        assertTrue(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT));
+    }
+
+    @Test
+    void shouldNotLimitGroupWithoutConfiguredCap() {
+        // Given
+        jobConcurrencyLimiter.execute(PROJECT_REPORT, CompletableFuture::new);
+        // When
+        CompletableFuture<String> second = jobConcurrencyLimiter.execute(PROJECT_REPORT, () -> completedFuture("second"));
+        // Then
+        assertEquals("second", second.join());
+        assertTrue(jobConcurrencyLimiter.hasCapacity(PROJECT_REPORT));
+    }
+}
@@ -0,0 +1,103 @@
+package com.kanwise.report_service.service.scheduler.implementation.personal;
+
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
+import com.kanwise.report_service.model.job_information.common.JobInformation;
+import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
+import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobKey;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Page;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.kanwise.report_service.model.job_information.common.JobStatus.RUNNING;
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.quartz.JobKey.jobKey;
+import static org.springframework.data.domain.PageRequest.of;
+
+class PersonalReportJobSchedulerServiceTest {
+
+    private final Scheduler scheduler = mock(Scheduler.class);
+    @SuppressWarnings("unchecked")
+    private final JobInformationService<PersonalReportJobInformation> jobInformationService = mock(JobInformationService.class);
+    private final PersonalReportJobSchedulerService schedulerService = new PersonalReportJobSchedulerService(
+            scheduler,
+            mock(ApplicationContext.class),
+            jobInformationService,
+            new JobSchedulingConfigurationProperties(Duration.ZERO, Duration.ZERO, Map.of())
+    );
+
+    @BeforeEach
+    void setUp() throws SchedulerException {
+        Set<JobKey> jobKeys = Set.of(jobKey("c", PERSONAL_REPORT.name()), jobKey("a", PERSONAL_REPORT.name()), jobKey("d", PERSONAL_REPORT.name()), jobKey("b", PERSONAL_REPORT.name()));
+        when(scheduler.getJobKeys(any())).thenReturn(jobKeys);
+        when(jobInformationService.getJobInformation(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> PersonalReportJobInformation.builder().id(id).build()).toList();
+        });
+    }
+
+    @Test
+    void shouldLoadAllRunningJobsWithSingleLookup() throws SchedulerException {
+        // Given
+        // When
+        List<PersonalReportJobInformation> jobs = schedulerService.getAllRunningJobsInGroup(PERSONAL_REPORT.name());
+        // Then
+        assertEquals(Set.of("a", "b", "c", "d"), jobs.stream().map(JobInformation::getId).collect(toSet()));
+        verify(scheduler, never()).getJobDetail(any());
+        verify(jobInformationService, never()).getJobInformation(any(String.class));
+    }
+
+    @Test
+    void shouldLoadAllRunningJobsInChunks() throws SchedulerException {
+        // Given
+        Set<JobKey> jobKeys = IntStream.range(0, 1001).mapToObj(id -> jobKey(String.valueOf(id), PERSONAL_REPORT.name())).collect(toSet());
+        when(scheduler.getJobKeys(any())).thenReturn(jobKeys);
+        // When
+        List<PersonalReportJobInformation> jobs = schedulerService.getAllRunningJobsInGroup(PERSONAL_REPORT.name());
+        // Then
+        assertEquals(1001, jobs.size());
+        verify(jobInformationService, times(3)).getJobInformation(anyCollection());
+    }
+
+    @Test
+    void shouldPageRunningJobsOrderedById() {
+        // Given
+        // When
+        Page<PersonalReportJobInformation> page = schedulerService.getRunningJobsInGroup(PERSONAL_REPORT.name(), Optional.empty(), of(1, 3));
+        // Then
+        assertEquals(List.of("d"), page.getContent().stream().map(JobInformation::getId).toList());
+        assertEquals(4, page.getTotalElements());
+        verify(jobInformationService).getJobInformation(List.of("d"));
+    }
+
+    @Test
+    void shouldFilterRunningJobsByStatus() {
+        // Given
+        when(jobInformationService.getJobInformationIds(RUNNING)).thenReturn(List.of("b", "x", "d"));
+        // When
+        Page<PersonalReportJobInformation> page = schedulerService.getRunningJobsInGroup(PERSONAL_REPORT.name(), Optional.of(RUNNING), of(0, 10));
+        // Then
+        assertEquals(List.of("b", "d"), page.getContent().stream().map(JobInformation::getId).toList());
+        assertEquals(2, page.getTotalElements());
+    }
+}
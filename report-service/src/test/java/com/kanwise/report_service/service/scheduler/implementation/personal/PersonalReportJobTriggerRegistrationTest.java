@@ -0,0 +1,103 @@
+package com.kanwise.report_service.service.scheduler.implementation.personal;
+
+import com.kanwise.report_service.configuration.scheduling.JobSchedulingConfigurationProperties;
+import com.kanwise.report_service.listener.personal.PersonalReportJobTriggerListener;
+import com.kanwise.report_service.model.job_information.personal.PersonalReportJobInformation;
+import com.kanwise.report_service.service.job_information.common.JobInformationService;
+import com.kanwise.report_service.service.scheduler.common.IJobConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.StdSchedulerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.ResolvableType;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+import static com.kanwise.report_service.constant.job.JobConstant.ID;
+import static com.kanwise.report_service.model.report.JobGroup.PERSONAL_REPORT;
+import static com.kanwise.report_service.model.report_execution.ExecutionLane.SCHEDULED;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.quartz.JobBuilder.newJob;
+import static org.quartz.TriggerKey.triggerKey;
+
+class PersonalReportJobTriggerRegistrationTest {
+
+    private static final CountDownLatch EXECUTIONS = new CountDownLatch(1);
+
+    private final IJobConcurrencyLimiter jobConcurrencyLimiter = mock(IJobConcurrencyLimiter.class);
+    @SuppressWarnings("unchecked")
+    private final JobInformationService<PersonalReportJobInformation> jobInformationService = mock(JobInformationService.class);
+    private final JobSchedulingConfigurationProperties jobSchedulingConfigurationProperties = new JobSchedulingConfigurationProperties(Duration.ZERO, Duration.ofMinutes(1), Map.of(PERSONAL_REPORT, 1));
+    private Scheduler scheduler;
+    private PersonalReportJobSchedulerService schedulerService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws SchedulerException, InterruptedException {
+        Properties properties = new Properties();
+        properties.setProperty("org.quartz.scheduler.instanceName", "personal-report-trigger-registration-test");
+        properties.setProperty("org.quartz.threadPool.threadCount", "1");
+        properties.setProperty("org.quartz.jobStore.class", "org.quartz.simpl.RAMJobStore");
+        scheduler = new StdSchedulerFactory(properties).getScheduler();
+        PersonalReportJobTriggerListener listener = new PersonalReportJobTriggerListener(jobInformationService, jobConcurrencyLimiter, jobSchedulingConfigurationProperties, new SimpleMeterRegistry());
+        ApplicationContext applicationContext = mock(ApplicationContext.class);
+        ObjectProvider<Object> listenerProvider = mock(ObjectProvider.class);
+        when(applicationContext.getBeanProvider(any(ResolvableType.class))).thenReturn(listenerProvider);
+        when(listenerProvider.stream()).thenReturn(Stream.of(listener));
+        schedulerService = new PersonalReportJobSchedulerService(scheduler, applicationContext, jobInformationService, jobSchedulingConfigurationProperties);
+        schedulerService.init();
+        awaitListenerRegistration(listener.getName());
+        scheduler.addJob(newJob(RecordingJob.class).withIdentity("id", PERSONAL_REPORT.name()).usingJobData(ID, "id").storeDurably().build(), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        schedulerService.preDestroy();
+    }
+
+    @Test
+    void shouldApplyConcurrencyLimitToOnDemandTriggers() throws InterruptedException, SchedulerException {
+        // Given
+        when(jobConcurrencyLimiter.hasCapacity(PERSONAL_REPORT)).thenReturn(false);
+        // When
+        schedulerService.triggerJob(PersonalReportJobInformation.builder().id("id").build(), PERSONAL_REPORT.name(), SCHEDULED);
+        // Then
+        verify(jobConcurrencyLimiter, timeout(5000)).hasCapacity(PERSONAL_REPORT);
+        assertFalse(EXECUTIONS.await(1, SECONDS));
+        assertTrue(scheduler.checkExists(triggerKey("id-deferred", PERSONAL_REPORT.name())));
+    }
+
+    private void awaitListenerRegistration(String listenerName) throws SchedulerException, InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (scheduler.getListenerManager().getTriggerListener(listenerName) == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(scheduler.getListenerManager().getTriggerListener(listenerName) != null);
+    }
+
+    public static class RecordingJob implements Job {
+
+        @Override
+        public void execute(JobExecutionContext jobExecutionContext) {
+            EXECUTIONS.countDown();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.kanwise.report_service.service.spaces.implementation;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultipartUploadOutputStreamTest {
+
+    private static final int PART_SIZE = 8;
+    private static final String UPLOAD_ID = "upload-id";
+
+    private final AmazonS3 space = mock(AmazonS3.class);
+
+    @Test
+    void shouldPutObjectWhenContentFitsInSinglePart() throws IOException {
+        // Given
+        MultipartUploadOutputStream outputStream = new MultipartUploadOutputStream(space, "space", "key", "application/pdf", PART_SIZE);
+        // When
+        outputStream.write(new byte[]{1, 2, 3});
+        outputStream.close();
+        // Then
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(space).putObject(captor.capture());
+        assertEquals(3, captor.getValue().getMetadata().getContentLength());
+        assertEquals("application/pdf", captor.getValue().getMetadata().getContentType());
+        verify(space, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void shouldUploadPartsWhenContentExceedsPartSize() throws IOException {
+        // Given
+        mockMultipartUpload();
+        MultipartUploadOutputStream outputStream = new MultipartUploadOutputStream(space, "space", "key", "application/pdf", PART_SIZE);
+        // When
+        outputStream.write(new byte[20]);
+        outputStream.close();
+        // Then
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(space, times(3)).uploadPart(partCaptor.capture());
+        assertEquals(List.of(8L, 8L, 4L), partCaptor.getAllValues().stream().map(UploadPartRequest::getPartSize).toList());
+        assertEquals(List.of(1, 2, 3), partCaptor.getAllValues().stream().map(UploadPartRequest::getPartNumber).toList());
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(space).completeMultipartUpload(completeCaptor.capture());
+        assertEquals(3, completeCaptor.getValue().getPartETags().size());
+        verify(space, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void shouldAbortMultipartUpload() throws IOException {
+        // Given
+        mockMultipartUpload();
+        MultipartUploadOutputStream outputStream = new MultipartUploadOutputStream(space, "space", "key", "application/pdf", PART_SIZE);
+        // When
+        outputStream.write(new byte[10]);
+        outputStream.abort();
+        // Then
+        verify(space).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(space, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThrows(IOException.class, () -> outputStream.write(1));
+    }
+
+    private void mockMultipartUpload() {
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId(UPLOAD_ID);
+        when(space.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(space.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+}
@@ -2,22 +2,34 @@ package com.kanwise.report_service.service.spaces.implementation;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.BucketLifecycleConfiguration;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.kanwise.report_service.configuration.spaces.SpacesUploadConfigurationProperties;
+import com.kanwise.report_service.model.file.FileUploadStatus;
 import com.kanwise.report_service.service.spaces.common.ISpacesService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
-import org.springframework.mock.web.MockMultipartFile;
 
+import java.io.IOException;
+import java.util.List;
+
+import static com.amazonaws.services.s3.model.BucketLifecycleConfiguration.ENABLED;
 import static com.kanwise.report_service.model.file.FileUploadStatus.FAILED;
+import static com.kanwise.report_service.model.file.FileUploadStatus.SUCCESS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.util.unit.DataSize.ofMegabytes;
 
 @ExtendWith(OutputCaptureExtension.class)
 @SpringBootTest(classes = {SpacesService.class})
@@ -28,20 +40,75 @@ class SpacesServiceTest {
     @MockBean
     private AmazonS3 space;
 
+    @MockBean
+    private SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
+
     @Autowired
     public SpacesServiceTest(SpacesService spacesService) {
         this.spacesService = spacesService;
     }
 
+    @Test
+    void shouldUploadFile() {
+        // Given
+        when(spacesUploadConfigurationProperties.partSize()).thenReturn(ofMegabytes(5));
+        // When
+        FileUploadStatus fileUploadStatus = spacesService.uploadFile(outputStream -> outputStream.write("Spring Framework".getBytes()), "test/test.txt", "text/plain", "test").join();
+        // Then
+        assertEquals(SUCCESS, fileUploadStatus);
+        verify(space).putObject(any(PutObjectRequest.class));
+    }
+
     @Test
     void shouldHandleUploadFailure(CapturedOutput output) {
         // Given
         String expectedMessage = "Failed to upload file to space";
-        MockMultipartFile file = new MockMultipartFile("file", "test.txt", "text/plain", "Spring Framework".getBytes());
+        when(spacesUploadConfigurationProperties.partSize()).thenReturn(ofMegabytes(5));
         // When
         when(space.putObject(any(PutObjectRequest.class))).thenThrow(AmazonS3Exception.class);
         // Then
-        spacesService.uploadFile(file, "test", "test").thenAccept(fileUploadStatus -> assertEquals(FAILED, fileUploadStatus));
+        spacesService.uploadFile(outputStream -> outputStream.write("Spring Framework".getBytes()), "test/test.txt", "text/plain", "test").thenAccept(fileUploadStatus -> assertEquals(FAILED, fileUploadStatus));
         assertTrue(output.toString().contains(expectedMessage));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotUploadFileWhenContentWriterFails(CapturedOutput output) {
+        // Given
+        String expectedMessage = "Failed to upload file to space";
+        when(spacesUploadConfigurationProperties.partSize()).thenReturn(ofMegabytes(5));
+        // When
+        FileUploadStatus fileUploadStatus = spacesService.uploadFile(outputStream -> {
+            throw new IOException("Rendering failed");
+        }, "test/test.txt", "text/plain", "test").join();
+        // Then
+        assertEquals(FAILED, fileUploadStatus);
+        assertTrue(output.toString().contains(expectedMessage));
+        verify(space, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void shouldReturnEmptyLastModifiedWhenObjectDoesNotExist() {
+        // Given
+        AmazonS3Exception exception = new AmazonS3Exception("Not Found");
+        exception.setStatusCode(404);
+        // When
+        when(space.getObjectMetadata("test", "test/test.txt")).thenThrow(exception);
+        // Then
+        assertTrue(spacesService.getLastModified("test", "test/test.txt").isEmpty());
+    }
+
+    @Test
+    void shouldApplyExpirationRuleAlongsideExistingRules() {
+        // Given
+        BucketLifecycleConfiguration existing = new BucketLifecycleConfiguration(List.of(
+                new BucketLifecycleConfiguration.Rule().withId("other").withExpirationInDays(90).withStatus(ENABLED)));
+        when(space.getBucketLifecycleConfiguration("test")).thenReturn(existing);
+        // When
+        spacesService.applyExpirationRule("test", "shared-reports-retention", "reports/shared/", 30);
+        // Then
+        ArgumentCaptor<BucketLifecycleConfiguration> captor = ArgumentCaptor.forClass(BucketLifecycleConfiguration.class);
+        verify(space).setBucketLifecycleConfiguration(eq("test"), captor.capture());
+        assertEquals(List.of("other", "shared-reports-retention"), captor.getValue().getRules().stream().map(BucketLifecycleConfiguration.Rule::getId).toList());
+        assertEquals(30, captor.getValue().getRules().get(1).getExpirationInDays());
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanwise.report_service.service.template.implementation;
+
+import com.kanwise.report_service.configuration.pdf.ReportTemplateConfigurationProperties;
+import com.kanwise.report_service.configuration.templating.ThymeleafConfiguration;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.report_service.model.report.ReportType.PERSONAL;
+import static com.kanwise.report_service.model.report.ReportType.PROJECT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlTemplateServiceTest {
+
+    private static final Map<String, Object> PROJECT_REPORT_DATA = Map.of(
+            "projectTitle", "Kanwise",
+            "tasks", List.of(Map.of("title", "Prepare release", "estimatedTime", 3600L, "actualTime", 5400L, "performance", "66%")),
+            "totalEstimatedTime", 3600L,
+            "totalActualTime", 5400L
+    );
+
+    @Test
+    void shouldRenderReportWithCachedFragments() {
+        // Given
+        HtmlTemplateService htmlTemplateService = createHtmlTemplateService(true);
+        StringWriter writer = new StringWriter();
+        // When
+        htmlTemplateService.preloadTemplates();
+        htmlTemplateService.generateHtml(PROJECT_REPORT_DATA, PROJECT, writer);
+        // Then
+        String html = writer.toString();
+        assertTrue(html.contains("Kanwise"));
+        assertTrue(html.contains("Prepare release"));
+        assertTrue(html.contains("bootstrap.min.css"));
+        assertFalse(html.contains("th:"));
+    }
+
+    @Test
+    void shouldRenderSameReportWithoutFragmentCache() {
+        // Given
+        HtmlTemplateService cachingHtmlTemplateService = createHtmlTemplateService(true);
+        HtmlTemplateService htmlTemplateService = createHtmlTemplateService(false);
+        StringWriter cachingWriter = new StringWriter();
+        StringWriter writer = new StringWriter();
+        // When
+        cachingHtmlTemplateService.preloadTemplates();
+        htmlTemplateService.preloadTemplates();
+        cachingHtmlTemplateService.generateHtml(PROJECT_REPORT_DATA, PROJECT, cachingWriter);
+        htmlTemplateService.generateHtml(PROJECT_REPORT_DATA, PROJECT, writer);
+        // Then
+        assertEquals(normalize(writer.toString()), normalize(cachingWriter.toString()));
+    }
+
+    @Test
+    void shouldExposeStableTemplateVersionPerReportType() {
+        // Given
+        HtmlTemplateService firstHtmlTemplateService = createHtmlTemplateService(true);
+        HtmlTemplateService secondHtmlTemplateService = createHtmlTemplateService(false);
+        // When
+        firstHtmlTemplateService.preloadTemplates();
+        secondHtmlTemplateService.preloadTemplates();
+        // Then
+        assertEquals(64, firstHtmlTemplateService.getTemplateVersion(PROJECT).length());
+        assertEquals(firstHtmlTemplateService.getTemplateVersion(PROJECT), secondHtmlTemplateService.getTemplateVersion(PROJECT));
+        assertNotEquals(firstHtmlTemplateService.getTemplateVersion(PROJECT), firstHtmlTemplateService.getTemplateVersion(PERSONAL));
+    }
+
+    @Test
+    void shouldFailToRenderPersonalReportWithoutReportPeriod() {
+        // Given
+        HtmlTemplateService htmlTemplateService = createHtmlTemplateService(true);
+        htmlTemplateService.preloadTemplates();
+        // When
+        // Then
+        assertThrows(TemplateProcessingException.class, () -> htmlTemplateService.generateHtml(Map.of("firstName", "John"), PERSONAL, new StringWriter()));
+    }
+
+    private HtmlTemplateService createHtmlTemplateService(boolean fragmentCache) {
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(new ThymeleafConfiguration().classLoaderTemplateResolver());
+        ReportTemplateConfigurationProperties reportTemplateConfigurationProperties = new ReportTemplateConfigurationProperties(
+                Map.of(PERSONAL, "personal-report.html", PROJECT, "project-report.html"),
+                fragmentCache
+        );
+        return new HtmlTemplateService(reportTemplateConfigurationProperties, templateEngine);
+    }
+
+    private String normalize(String html) {
+        return html.replaceAll("\\s+", " ");
+    }
+}
@@ -7,10 +7,12 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @ConfigurationPropertiesScan
 @EnableConfigurationProperties
 @EnableAsync
+@EnableScheduling
 @EnableEurekaClient
 @EnableFeignClients(basePackages = "com.kanwise.clients")
 @SpringBootApplication
@@ -6,6 +6,7 @@ import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.security.SecureRandom;
 import java.time.Clock;
 import java.util.Set;
 
@@ -29,6 +30,11 @@ public class ApplicationConfiguration {
         return systemDefaultZone();
     }
 
+    @Bean
+    public SecureRandom secureRandom() {
+        return new SecureRandom();
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
@@ -1,27 +1,35 @@
 package com.kanwise.user_service.configuration.cache;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.kanwise.user_service.configuration.security.brute_force_attack.BruteForceAttackConfigurationProperties;
+import com.kanwise.user_service.service.authentication.login.counter.SlidingWindowCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Clock;
+
 @RequiredArgsConstructor
 @Configuration
 public class CacheConfiguration {
 
     private final BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties;
+    private final Clock clock;
+
+    @Bean
+    public SlidingWindowCounter usernameLoginAttemptCounter() {
+        return createLoginAttemptCounter();
+    }
 
     @Bean
-    public LoadingCache<String, Integer> loginAttemptCache() {
-        return CacheBuilder.newBuilder().expireAfterWrite(bruteForceAttackConfigurationProperties.expireAfterWriteUnit(), bruteForceAttackConfigurationProperties.expireAfterWriteTimeUnit())
-                .maximumSize(100).build(new CacheLoader<>() {
-                    @SuppressWarnings("NullableProblems")
-                    public Integer load(String key) {
-                        return 0;
-                    }
-                });
+    public SlidingWindowCounter clientAddressLoginAttemptCounter() {
+        return createLoginAttemptCounter();
+    }
+
+    private SlidingWindowCounter createLoginAttemptCounter() {
+        return new SlidingWindowCounter(
+                bruteForceAttackConfigurationProperties.capacity(),
+                bruteForceAttackConfigurationProperties.window(),
+                bruteForceAttackConfigurationProperties.windowBuckets(),
+                clock);
     }
 }
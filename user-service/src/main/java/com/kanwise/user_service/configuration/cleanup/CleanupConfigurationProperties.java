@@ -0,0 +1,18 @@
+package com.kanwise.user_service.configuration.cleanup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+@Validated
+@ConfigurationProperties("kanwise.cleanup")
+public record CleanupConfigurationProperties(
+        boolean enabled,
+        @NotNull(message = "CLEANUP_INTERVAL_NOT_NULL") Duration interval,
+        @NotNull(message = "CLEANUP_RETENTION_NOT_NULL") Duration retention,
+        @Min(1) int batchSize
+) {
+}
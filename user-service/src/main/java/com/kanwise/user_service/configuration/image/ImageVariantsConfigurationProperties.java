@@ -0,0 +1,14 @@
+package com.kanwise.user_service.configuration.image;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+
+@Validated
+@ConfigurationProperties("kanwise.image.variants")
+public record ImageVariantsConfigurationProperties(
+        @Min(value = 16, message = "AVATAR_SIZE_MIN_16") int avatarSize,
+        @Min(value = 16, message = "THUMBNAIL_SIZE_MIN_16") int thumbnailSize) {
+}
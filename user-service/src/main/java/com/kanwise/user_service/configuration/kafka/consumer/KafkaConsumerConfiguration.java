@@ -0,0 +1,50 @@
+package com.kanwise.user_service.configuration.kafka.consumer;
+
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.user_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.user_service.configuration.kafka.serialization.OtpSmsNotifierResponseSchema;
+import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
+import static org.apache.kafka.clients.consumer.ConsumerConfig.MAX_POLL_RECORDS_CONFIG;
+
+@RequiredArgsConstructor
+@Configuration
+public class KafkaConsumerConfiguration {
+
+    private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final OtpSmsStatusConsumerConfigurationProperties otpSmsStatusConsumerConfigurationProperties;
+
+    public Map<String, Object> consumerConfiguration() {
+        return Map.of(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
+    }
+
+    @Bean
+    public ConsumerFactory<String, OtpSmsNotifierResponse> consumerSmsStatusFactory() {
+        Map<String, Object> consumerConfiguration = new HashMap<>(consumerConfiguration());
+        consumerConfiguration.put(MAX_POLL_RECORDS_CONFIG, otpSmsStatusConsumerConfigurationProperties.maxPollRecords());
+        return new DefaultKafkaConsumerFactory<>(consumerConfiguration, new StringDeserializer(), new ErrorHandlingDeserializer<>(new BinaryDeserializer<>(new OtpSmsNotifierResponseSchema(), OtpSmsNotifierResponse.class)));
+    }
+
+    @Bean
+    public KafkaListenerContainerFactory<ConcurrentMessageListenerContainer<String, OtpSmsNotifierResponse>> smsStatusFactory(ConsumerFactory<String, OtpSmsNotifierResponse> consumerSmsStatusFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, OtpSmsNotifierResponse> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerSmsStatusFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(otpSmsStatusConsumerConfigurationProperties.listenerConcurrency());
+        return factory;
+    }
+}
@@ -0,0 +1,14 @@
+package com.kanwise.user_service.configuration.kafka.consumer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+
+@Validated
+@ConfigurationProperties("kanwise.otp-sms-status")
+public record OtpSmsStatusConsumerConfigurationProperties(
+        @Min(value = 1, message = "LISTENER_CONCURRENCY_MIN_1") int listenerConcurrency,
+        @Min(value = 1, message = "MAX_POLL_RECORDS_MIN_1") int maxPollRecords
+) {
+}
@@ -1,6 +1,9 @@
 package com.kanwise.user_service.configuration.kafka.producer;
 
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
 import com.kanwise.user_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.user_service.configuration.kafka.serialization.EmailRequestSchema;
+import com.kanwise.user_service.configuration.kafka.serialization.OtpSmsRequestSchema;
 import com.kanwise.user_service.model.notification.email.EmailRequest;
 import com.kanwise.user_service.model.notification.sms.OtpSmsRequest;
 import lombok.RequiredArgsConstructor;
@@ -10,46 +13,50 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
-import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
-import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
 
 @RequiredArgsConstructor
 @Configuration
 public class KafkaProducerConfiguration {
 
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
+    private final KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
 
     public Map<String, Object> producerConfiguration() {
         Map<String, Object> props = new HashMap<>();
         props.put(BOOTSTRAP_SERVERS_CONFIG, kafkaConfigurationProperties.bootstrapServers());
-        props.put(KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         return props;
     }
 
     @Bean
     public ProducerFactory<String, EmailRequest> producerEmailFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfiguration());
+        return new DefaultKafkaProducerFactory<>(producerConfiguration(), new StringSerializer(), new BinarySerializer<>(new EmailRequestSchema()));
     }
 
     @Bean
     public KafkaTemplate<String, EmailRequest> kafkaEmailTemplate(ProducerFactory<String, EmailRequest> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+        return new KafkaTemplate<>(producerFactory, kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL));
+    }
+
+    @Bean
+    public KafkaTemplate<String, EmailRequest> kafkaPriorityEmailTemplate(ProducerFactory<String, EmailRequest> producerFactory) {
+        return new KafkaTemplate<>(producerFactory, kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL_PRIORITY));
     }
 
     @Bean
     public ProducerFactory<String, OtpSmsRequest> producerSmsFactory() {
-        return new DefaultKafkaProducerFactory<>(producerConfiguration());
+        return new DefaultKafkaProducerFactory<>(producerConfiguration(), new StringSerializer(), new BinarySerializer<>(new OtpSmsRequestSchema()));
     }
 
     @Bean
     public KafkaTemplate<String, OtpSmsRequest> kafkaSmsTemplate(ProducerFactory<String, OtpSmsRequest> producerFactory) {
-        return new KafkaTemplate<>(producerFactory);
+        return new KafkaTemplate<>(producerFactory, kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_SMS));
     }
 }
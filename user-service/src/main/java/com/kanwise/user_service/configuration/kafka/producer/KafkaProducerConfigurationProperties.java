@@ -0,0 +1,43 @@
+package com.kanwise.user_service.configuration.kafka.producer;
+
+import com.kanwise.user_service.model.kafka.TopicType;
+import org.apache.kafka.common.record.CompressionType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Map;
+
+import static java.lang.Math.toIntExact;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+
+@Validated
+@ConfigurationProperties(prefix = "kanwise.kafka.producer")
+public record KafkaProducerConfigurationProperties(
+        @NotEmpty(message = "TOPICS_NOT_EMPTY") Map<TopicType, @Valid TopicProducerProperties> topics
+) {
+    public Map<String, Object> getProducerOverrides(TopicType topicType) {
+        TopicProducerProperties topicProducerProperties = topics.get(topicType);
+        return topicProducerProperties == null ? Map.of() : topicProducerProperties.toProducerConfiguration();
+    }
+
+    public record TopicProducerProperties(
+            @NotNull(message = "LINGER_NOT_NULL") Duration linger,
+            @NotNull(message = "BATCH_SIZE_NOT_NULL") DataSize batchSize,
+            @NotNull(message = "COMPRESSION_TYPE_NOT_NULL") CompressionType compressionType
+    ) {
+        public Map<String, Object> toProducerConfiguration() {
+            return Map.of(
+                    LINGER_MS_CONFIG, linger.toMillis(),
+                    BATCH_SIZE_CONFIG, toIntExact(batchSize.toBytes()),
+                    COMPRESSION_TYPE_CONFIG, compressionType.name
+            );
+        }
+    }
+}
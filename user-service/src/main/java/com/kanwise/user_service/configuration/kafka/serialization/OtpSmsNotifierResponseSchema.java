@@ -0,0 +1,22 @@
+package com.kanwise.user_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.schema.GenericOtpSmsResponseSchema;
+import com.kanwise.clients.kafka.serialization.schema.OtpSmsResponseFields;
+import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
+
+public class OtpSmsNotifierResponseSchema extends GenericOtpSmsResponseSchema<OtpSmsNotifierResponse> {
+
+    @Override
+    protected OtpSmsResponseFields toFields(OtpSmsNotifierResponse value) {
+        return new OtpSmsResponseFields(value.getStatus(), value.getMessage(), value.getOtpId());
+    }
+
+    @Override
+    protected OtpSmsNotifierResponse fromFields(OtpSmsResponseFields fields) {
+        return OtpSmsNotifierResponse.builder()
+                .status(fields.status())
+                .message(fields.message())
+                .otpId(fields.otpId())
+                .build();
+    }
+}
@@ -8,7 +8,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
 
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
 
 @RequiredArgsConstructor
 @Configuration
@@ -27,4 +29,16 @@ public class KafkaTopicConfiguration {
         return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS))
                 .build();
     }
+
+    @Bean
+    public NewTopic notificationSmsStatusTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS))
+                .build();
+    }
+
+    @Bean
+    public NewTopic notificationEmailPriorityTopic() {
+        return TopicBuilder.name(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL_PRIORITY))
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.kanwise.user_service.configuration.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+
+
+@Validated
+@ConfigurationProperties("kanwise.user.search")
+public record UserSearchConfigurationProperties(
+        @NotNull(message = "CACHE_EXPIRATION_NOT_NULL") Duration cacheExpiration,
+        @Min(value = 1, message = "CACHE_SIZE_MIN_1") long cacheSize) {
+}
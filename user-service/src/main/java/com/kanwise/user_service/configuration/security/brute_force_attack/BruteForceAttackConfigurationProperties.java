@@ -5,14 +5,21 @@ import org.springframework.validation.annotation.Validated;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Validated
 @ConfigurationProperties("kanwise.brute-force-attack")
 public record BruteForceAttackConfigurationProperties(
         @Min(1) int maximumNumberOfAttempts,
+        @Min(1) int maximumNumberOfAttemptsPerClientAddress,
         @Min(1) int attemptIncrement,
         @Min(1) int expireAfterWriteUnit,
-        @NotNull TimeUnit expireAfterWriteTimeUnit
+        @NotNull TimeUnit expireAfterWriteTimeUnit,
+        @Min(1) int windowBuckets,
+        @Min(8) int capacity
 ) {
+    public Duration window() {
+        return Duration.of(expireAfterWriteUnit, expireAfterWriteTimeUnit.toChronoUnit());
+    }
 }
@@ -1,5 +1,6 @@
 package com.kanwise.user_service.configuration.security.otp;
 
+import com.kanwise.user_service.model.otp.OtpStoreType;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -11,5 +12,6 @@ import java.time.Duration;
 @ConfigurationProperties("kanwise.otp")
 public record OtpConfigurationProperties(
         @NotNull(message = "OTP_EXPIRATION_NOT_NULL") Duration expiration,
-        @NotNull(message = "OTP_LENGTH_NOT_NULL") @Min(value = 4) Integer length) {
+        @NotNull(message = "OTP_LENGTH_NOT_NULL") @Min(value = 4) Integer length,
+        @NotNull(message = "OTP_STORE_NOT_NULL") OtpStoreType store) {
 }
@@ -5,15 +5,20 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 @RequiredArgsConstructor
 @Configuration
 public class SpacesInitializer {
 
     private final SpacesConfigurationProperties spacesConfigurationProperties;
+    private final SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
 
     @Bean
     public AmazonS3 space() {
@@ -24,6 +29,16 @@ public class SpacesInitializer {
                 .build();
     }
 
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 space) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(space)
+                .withMultipartUploadThreshold(spacesUploadConfigurationProperties.multipartThreshold().toBytes())
+                .withMinimumUploadPartSize(spacesUploadConfigurationProperties.partSize().toBytes())
+                .withExecutorFactory(() -> newFixedThreadPool(spacesUploadConfigurationProperties.threads()))
+                .build();
+    }
+
     private AwsClientBuilder.EndpointConfiguration getEndpointConfiguration() {
         return new AwsClientBuilder.EndpointConfiguration(
                 spacesConfigurationProperties.serviceEndpoint(),
@@ -0,0 +1,18 @@
+package com.kanwise.user_service.configuration.spaces;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+
+@Validated
+@ConfigurationProperties("kanwise.digitalocean.spaces.upload")
+public record SpacesUploadConfigurationProperties(
+        @NotNull(message = "MULTIPART_THRESHOLD_NOT_NULL") DataSize multipartThreshold,
+        @NotNull(message = "PART_SIZE_NOT_NULL") DataSize partSize,
+        @Min(value = 1, message = "THREADS_MIN_1") int threads,
+        @Min(value = 1, message = "DIRECTORY_CACHE_SIZE_MIN_1") long directoryCacheSize) {
+}
@@ -9,4 +9,5 @@ public class SecurityConstant {
     public static final String BEARER_PREFIX = "Bearer ";
     public static final String ACCESS_DENIED_MESSAGE = "YOU_ARE_NOT_AUTHORIZED_TO_ACCESS_THIS_RESOURCE";
     public static final String TOKEN_CANNOT_BE_VERIFIED = "TOKEN_CANNOT_BE_VERIFIED";
+    public static final String TOO_MANY_LOGIN_ATTEMPTS = "TOO_MANY_LOGIN_ATTEMPTS";
 }
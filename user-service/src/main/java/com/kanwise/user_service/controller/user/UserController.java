@@ -6,7 +6,11 @@ import com.kanwise.user_service.model.user.command.CreateUserCommand;
 import com.kanwise.user_service.model.user.command.CreateUserPageCommand;
 import com.kanwise.user_service.model.user.command.EditUserCommand;
 import com.kanwise.user_service.model.user.command.EditUserPartiallyCommand;
+import com.kanwise.user_service.model.user.command.SearchUsersCommand;
 import com.kanwise.user_service.model.user.dto.UserDto;
+import com.kanwise.user_service.model.user.dto.UserSearchResultDto;
+import com.kanwise.user_service.model.user.search.UserSearchResult;
+import com.kanwise.user_service.service.user.IUserSearchService;
 import com.kanwise.user_service.service.user.IUserService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
@@ -43,6 +47,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class UserController extends ExceptionHandling {
 
     private final IUserService userService;
+    private final IUserSearchService userSearchService;
     private final ModelMapper modelMapper;
 
     @ApiOperation(value = "Get single users",
@@ -87,6 +92,20 @@ public class UserController extends ExceptionHandling {
         return new ResponseEntity<>(users.stream().map(user -> modelMapper.map(user, UserDto.class)).toList(), OK);
     }
 
+    @ApiOperation(value = "Search users",
+            notes = "Search users by username, first name, last name or email",
+            response = UserSearchResultDto.class,
+            responseContainer = "List",
+            responseReference = "ResponseEntity<List<UserSearchResultDto>>",
+            httpMethod = "GET",
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAuthority('USER_READ')")
+    @GetMapping("/search")
+    public ResponseEntity<List<UserSearchResultDto>> searchUsers(@Valid SearchUsersCommand command) {
+        List<UserSearchResult> users = userSearchService.searchUsers(command.getQuery(), command.getLimit());
+        return new ResponseEntity<>(users.stream().map(UserSearchResultDto::new).toList(), OK);
+    }
+
     @ApiOperation(value = "Create user",
             notes = "Create user",
             response = UserDto.class,
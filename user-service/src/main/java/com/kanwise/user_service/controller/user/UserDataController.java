@@ -1,5 +1,7 @@
 package com.kanwise.user_service.controller.user;
 
+import com.kanwise.clients.user_service.user.model.UserDataBatchDto;
+import com.kanwise.clients.user_service.user.model.UserDataBatchRequest;
 import com.kanwise.clients.user_service.user.model.UserDataDto;
 import com.kanwise.user_service.error.handling.ExceptionHandling;
 import com.kanwise.user_service.model.user.User;
@@ -11,9 +13,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+
+import static java.util.stream.Collectors.toMap;
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
@@ -37,4 +44,18 @@ public class UserDataController extends ExceptionHandling {
         User user = userService.findByUsername(username);
         return new ResponseEntity<>(modelMapper.map(user, UserDataDto.class), OK);
     }
+
+    @ApiOperation(value = "Get user data in batch",
+            notes = "Get user data as key-value pairs for many users, keyed by username",
+            response = UserDataBatchDto.class,
+            responseReference = "ResponseEntity<UserDataBatchDto>",
+            httpMethod = "POST",
+            produces = APPLICATION_JSON_VALUE)
+    @PreAuthorize("permitAll()")
+    @PostMapping("/data/batch")
+    public ResponseEntity<UserDataBatchDto> findUserDataByUsernames(@RequestBody UserDataBatchRequest request) {
+        return new ResponseEntity<>(new UserDataBatchDto(userService.findUsersByUsernames(new ArrayList<>(request.usernames()))
+                .stream()
+                .collect(toMap(User::getUsername, user -> modelMapper.map(user, UserDataDto.class)))), OK);
+    }
 }
@@ -4,6 +4,8 @@ import com.kanwise.user_service.service.authentication.login.ILoginAttemptServic
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -14,9 +16,13 @@ public class AuthenticationFailureListener {
 
     @EventListener
     public void onAuthenticationFailure(AbstractAuthenticationFailureEvent event) {
-        Object principal = event.getAuthentication().getPrincipal();
-        if (principal instanceof String username) {
-            loginAttemptService.addUserToLoginAttemptCache(username);
+        Authentication authentication = event.getAuthentication();
+        if (authentication.getPrincipal() instanceof String username) {
+            loginAttemptService.addUserToLoginAttemptCache(username, getClientAddress(authentication));
         }
     }
+
+    private String getClientAddress(Authentication authentication) {
+        return authentication.getDetails() instanceof WebAuthenticationDetails details ? details.getRemoteAddress() : null;
+    }
 }
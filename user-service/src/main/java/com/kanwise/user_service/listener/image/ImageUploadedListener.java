@@ -0,0 +1,21 @@
+package com.kanwise.user_service.listener.image;
+
+import com.kanwise.user_service.model.image.event.ImageUploadedEvent;
+import com.kanwise.user_service.service.image.variant.IImageVariantService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ImageUploadedListener {
+
+    private final IImageVariantService imageVariantService;
+
+    @Async
+    @TransactionalEventListener
+    public void onImageUploaded(ImageUploadedEvent event) {
+        imageVariantService.generateVariants(event.imageId());
+    }
+}
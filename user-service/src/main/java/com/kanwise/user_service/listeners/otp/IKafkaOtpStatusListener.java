@@ -0,0 +1,9 @@
+package com.kanwise.user_service.listeners.otp;
+
+import com.kanwise.user_service.model.otp.OtpNotifierResponse;
+
+import java.util.List;
+
+public interface IKafkaOtpStatusListener<T extends OtpNotifierResponse> {
+    void listener(List<T> otpNotifierResponses);
+}
@@ -0,0 +1,26 @@
+package com.kanwise.user_service.listeners.otp.implementation;
+
+import com.kanwise.user_service.listeners.otp.IKafkaOtpStatusListener;
+import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
+import com.kanwise.user_service.service.authentication.otp.notifier_response.IOtpNotifierResponseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+@RequiredArgsConstructor
+@Component
+public class KafkaOtpSmsStatusListener implements IKafkaOtpStatusListener<OtpSmsNotifierResponse> {
+
+    private final IOtpNotifierResponseService<OtpSmsNotifierResponse> otpSmsNotifierResponseService;
+
+    @Override
+    @KafkaListener(topics = "notification-sms-status", groupId = "otp_sms_status", containerFactory = "smsStatusFactory")
+    public void listener(List<OtpSmsNotifierResponse> otpNotifierResponses) {
+        otpSmsNotifierResponseService.processOtpResponses(otpNotifierResponses.stream()
+                .filter(Objects::nonNull)
+                .toList());
+    }
+}
@@ -33,6 +33,8 @@ public class RegisterResponseToRegisterResponseDtoConverter implements Converter
                 .lastLoginDate(user.getLastLoginDate())
                 .phoneNumber(user.getPhoneNumber())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileImageAvatarUrl(user.getProfileImageAvatarUrl())
+                .profileImageThumbnailUrl(user.getProfileImageThumbnailUrl())
                 .twoFactorEnabled(user.isTwoFactorEnabled())
                 .build();
     }
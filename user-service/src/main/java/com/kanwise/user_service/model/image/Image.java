@@ -43,6 +43,8 @@ public class Image {
     private ImageRole imageRole;
     @Enumerated(STRING)
     private FileUploadStatus uploadStatus;
+    private String avatarUrl;
+    private String thumbnailUrl;
 
     @Builder
     public Image(User user, LocalDateTime uploadedAt, String imageUrl, String imageName, FileUploadStatus uploadStatus, ImageRole imageRole) {
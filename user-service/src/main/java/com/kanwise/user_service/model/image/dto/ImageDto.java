@@ -16,6 +16,8 @@ public class ImageDto extends RepresentationModel<ImageDto> {
     LocalDateTime uploadedAt;
     String imageUrl;
     String imageName;
+    String avatarUrl;
+    String thumbnailUrl;
     ImageRole imageRole;
 
     public ImageDto(Image image) {
@@ -24,6 +26,8 @@ public class ImageDto extends RepresentationModel<ImageDto> {
         this.uploadedAt = image.getUploadedAt();
         this.imageUrl = image.getImageUrl();
         this.imageName = image.getImageName();
+        this.avatarUrl = image.getAvatarUrl();
+        this.thumbnailUrl = image.getThumbnailUrl();
         this.imageRole = image.getImageRole();
     }
 }
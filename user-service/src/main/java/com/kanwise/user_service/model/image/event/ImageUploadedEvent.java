@@ -0,0 +1,4 @@
+package com.kanwise.user_service.model.image.event;
+
+public record ImageUploadedEvent(long imageId) {
+}
@@ -2,5 +2,7 @@ package com.kanwise.user_service.model.kafka;
 
 public enum TopicType {
     NOTIFICATION_EMAIL,
-    NOTIFICATION_SMS
+    NOTIFICATION_SMS,
+    NOTIFICATION_SMS_STATUS,
+    NOTIFICATION_EMAIL_PRIORITY
 }
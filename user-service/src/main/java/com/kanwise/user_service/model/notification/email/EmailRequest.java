@@ -19,4 +19,5 @@ public class EmailRequest {
     private EmailMessageType type;
     private Map<String, Object> data;
     private boolean isHtml;
+    private String messageId;
 }
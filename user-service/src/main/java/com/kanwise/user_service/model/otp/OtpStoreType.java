@@ -0,0 +1,6 @@
+package com.kanwise.user_service.model.otp;
+
+public enum OtpStoreType {
+    IN_MEMORY,
+    DATABASE
+}
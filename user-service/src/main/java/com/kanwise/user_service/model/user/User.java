@@ -26,11 +26,13 @@ import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.kanwise.user_service.model.image.ImageRole.PROFILE_IMAGE;
 import static com.kanwise.user_service.model.image.ImageRole.UNSIGNED_IMAGE;
 import static java.lang.Boolean.TRUE;
+import static java.util.Optional.ofNullable;
 import static javax.persistence.CascadeType.MERGE;
 import static javax.persistence.EnumType.STRING;
 import static javax.persistence.FetchType.EAGER;
@@ -99,14 +101,29 @@ public class User {
     }
 
     public String getProfileImageUrl() {
-        return this.images.stream()
-                .filter(image -> image.getImageRole() == PROFILE_IMAGE)
-                .sorted(Comparator.comparing(Image::getUploadedAt).reversed())
+        return findProfileImage()
                 .map(Image::getImageUrl)
-                .findFirst()
                 .orElse(null);
     }
 
+    public String getProfileImageAvatarUrl() {
+        return findProfileImage()
+                .map(image -> ofNullable(image.getAvatarUrl()).orElse(image.getImageUrl()))
+                .orElse(null);
+    }
+
+    public String getProfileImageThumbnailUrl() {
+        return findProfileImage()
+                .map(image -> ofNullable(image.getThumbnailUrl()).orElse(image.getImageUrl()))
+                .orElse(null);
+    }
+
+    private Optional<Image> findProfileImage() {
+        return this.images.stream()
+                .filter(image -> image.getImageRole() == PROFILE_IMAGE)
+                .max(Comparator.comparing(Image::getUploadedAt));
+    }
+
     public void setProfileImage(Image image) {
         this.images.stream()
                 .filter(i -> i.getImageRole().equals(PROFILE_IMAGE))
@@ -0,0 +1,20 @@
+package com.kanwise.user_service.model.user.command;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+
+@Getter
+@Setter
+public class SearchUsersCommand {
+    @NotBlank(message = "QUERY_NOT_BLANK")
+    @Size(min = 2, max = 64, message = "QUERY_LENGTH_INVALID")
+    private String query;
+    @Min(value = 1, message = "LIMIT_NOT_LESS_THAN_ONE")
+    @Max(value = 25, message = "LIMIT_NOT_GREATER_THAN_TWENTY_FIVE")
+    private int limit = 10;
+}
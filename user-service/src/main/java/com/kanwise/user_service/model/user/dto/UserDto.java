@@ -37,5 +37,7 @@ public class UserDto {
     private String email;
     private String phoneNumber;
     private String profileImageUrl;
+    private String profileImageAvatarUrl;
+    private String profileImageThumbnailUrl;
     private UserRole userRole;
 }
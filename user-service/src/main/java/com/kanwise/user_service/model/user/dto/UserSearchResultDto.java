@@ -0,0 +1,23 @@
+package com.kanwise.user_service.model.user.dto;
+
+import com.kanwise.user_service.model.user.search.UserSearchResult;
+import lombok.Value;
+
+@Value
+public class UserSearchResultDto {
+    long id;
+    String username;
+    String firstName;
+    String lastName;
+    String email;
+    String profileImageThumbnailUrl;
+
+    public UserSearchResultDto(UserSearchResult userSearchResult) {
+        this.id = userSearchResult.getId();
+        this.username = userSearchResult.getUsername();
+        this.firstName = userSearchResult.getFirstName();
+        this.lastName = userSearchResult.getLastName();
+        this.email = userSearchResult.getEmail();
+        this.profileImageThumbnailUrl = userSearchResult.getProfileImageThumbnailUrl();
+    }
+}
@@ -21,6 +21,8 @@ public class UserToUserDtoConverter implements Converter<User, UserDto> {
                 .lastLoginDate(user.getLastLoginDate())
                 .phoneNumber(user.getPhoneNumber())
                 .profileImageUrl(user.getProfileImageUrl())
+                .profileImageAvatarUrl(user.getProfileImageAvatarUrl())
+                .profileImageThumbnailUrl(user.getProfileImageThumbnailUrl())
                 .twoFactorEnabled(user.isTwoFactorEnabled())
                 .notificationSubscriptions(user.getNotificationSubscriptions())
                 .twoFactorSubscriptions(user.getTwoFactorSubscriptions())
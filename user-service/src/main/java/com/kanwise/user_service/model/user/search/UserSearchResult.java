@@ -0,0 +1,15 @@
+package com.kanwise.user_service.model.user.search;
+
+public interface UserSearchResult {
+    long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getProfileImageThumbnailUrl();
+}
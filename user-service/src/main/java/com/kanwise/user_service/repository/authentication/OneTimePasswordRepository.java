@@ -1,10 +1,25 @@
 package com.kanwise.user_service.repository.authentication;
 
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
 import com.kanwise.user_service.model.otp.OneTimePassword;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 @Repository
 public interface OneTimePasswordRepository extends JpaRepository<OneTimePassword, Long> {
-}
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM one_time_password WHERE id IN (SELECT id FROM one_time_password WHERE expires_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteExpired(LocalDateTime threshold, int limit);
 
+    @Transactional
+    @Modifying
+    @Query("UPDATE OneTimePassword o SET o.status = ?2 WHERE o.id IN ?1")
+    int updateStatuses(Collection<Long> ids, OtpStatus status);
+}
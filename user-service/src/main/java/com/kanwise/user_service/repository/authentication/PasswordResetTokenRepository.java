@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -17,4 +18,9 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     void updateConfirmedAt(LocalDateTime confirmedAt, String token);
 
     Optional<PasswordResetToken> findByToken(String token);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM password_reset_token WHERE id IN (SELECT id FROM password_reset_token WHERE expires_at < ?1 LIMIT ?2)", nativeQuery = true)
+    int deleteExpired(LocalDateTime threshold, int limit);
 }
@@ -3,8 +3,16 @@ package com.kanwise.user_service.repository.image;
 
 import com.kanwise.user_service.model.image.Image;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface ImageRepository extends JpaRepository<Image, Long> {
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Image i SET i.avatarUrl = ?2, i.thumbnailUrl = ?3 WHERE i.id = ?1")
+    void updateVariantUrls(long id, String avatarUrl, String thumbnailUrl);
 }
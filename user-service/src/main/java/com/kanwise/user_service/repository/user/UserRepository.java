@@ -1,11 +1,13 @@
 package com.kanwise.user_service.repository.user;
 
 import com.kanwise.user_service.model.user.User;
+import com.kanwise.user_service.model.user.search.UserSearchResult;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -36,4 +38,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByLastNameContaining(String lastName, Pageable pageable);
 
     boolean existsByPhoneNumber(String phoneNumber);
+
+    @Query(value = """
+            SELECT u.id AS id, u.username AS username, u.first_name AS "firstName", u.last_name AS "lastName", u.email AS email,
+                   (SELECT COALESCE(i.thumbnail_url, i.image_url) FROM profile_image i
+                    WHERE i.user_id = u.id AND i.image_role = 'PROFILE_IMAGE'
+                    ORDER BY i.uploaded_at DESC LIMIT 1) AS "profileImageThumbnailUrl"
+            FROM "user" u
+            WHERE u.active
+              AND (lower(u.username) LIKE :prefix OR lower(u.first_name) LIKE :prefix
+                OR lower(u.last_name) LIKE :prefix OR lower(u.email) LIKE :prefix
+                OR :query <% lower(u.username) OR :query <% lower(u.first_name)
+                OR :query <% lower(u.last_name) OR :query <% lower(u.email))
+            ORDER BY (lower(u.username) LIKE :prefix) DESC,
+                     GREATEST(word_similarity(:query, lower(u.username)), word_similarity(:query, lower(u.first_name)),
+                              word_similarity(:query, lower(u.last_name)), word_similarity(:query, lower(u.email))) DESC,
+                     u.username
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UserSearchResult> searchUsers(@Param("query") String query, @Param("prefix") String prefix, @Param("limit") int limit);
 }
@@ -3,7 +3,9 @@ package com.kanwise.user_service.service.authentication.login;
 public interface ILoginAttemptService {
     void evictUserFromLoginAttemptCache(String username);
 
-    void addUserToLoginAttemptCache(String username);
+    void addUserToLoginAttemptCache(String username, String clientAddress);
 
     boolean hasExceedsMaxAttempts(String username);
+
+    boolean hasClientAddressExceedsMaxAttempts(String clientAddress);
 }
@@ -0,0 +1,185 @@
+package com.kanwise.user_service.service.authentication.login.counter;
+
+import com.google.common.hash.HashFunction;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.google.common.hash.Hashing.murmur3_128;
+import static java.lang.Integer.highestOneBit;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+public class SlidingWindowCounter {
+
+    private static final int WAYS = 8;
+    private static final int LOCK_STRIPES = 256;
+    private static final long EMPTY = 0L;
+    private static final HashFunction HASH_FUNCTION = murmur3_128();
+
+    private final Clock clock;
+    private final long origin;
+    private final long bucketWidthMillis;
+    private final int buckets;
+    private final int groupMask;
+    private final long[] keys;
+    private final int[] lastBuckets;
+    private final short[] counts;
+    private final Object[] locks;
+    private final LongAdder evictions = new LongAdder();
+
+    public SlidingWindowCounter(int capacity, Duration window, int buckets, Clock clock) {
+        if (buckets < 1 || window.toMillis() < buckets) {
+            throw new IllegalArgumentException("Window must be split into at least one bucket of one millisecond");
+        }
+        int groups = max(1, highestOneBit(max(capacity, WAYS) / WAYS));
+        this.clock = clock;
+        this.origin = clock.millis();
+        this.bucketWidthMillis = window.toMillis() / buckets;
+        this.buckets = buckets;
+        this.groupMask = groups - 1;
+        this.keys = new long[groups * WAYS];
+        this.lastBuckets = new int[groups * WAYS];
+        this.counts = new short[groups * WAYS * buckets];
+        this.locks = new Object[min(LOCK_STRIPES, groups)];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    public int increment(String key, int delta) {
+        long hash = hash(key);
+        int group = group(hash);
+        int currentBucket = currentBucket();
+        synchronized (lock(group)) {
+            int slot = findOrClaimSlot(group, hash, currentBucket);
+            advance(slot, currentBucket);
+            int index = slot * buckets + floorMod(currentBucket, buckets);
+            counts[index] = (short) min(Short.MAX_VALUE, counts[index] + delta);
+            return sum(slot, currentBucket);
+        }
+    }
+
+    public int count(String key) {
+        long hash = hash(key);
+        int group = group(hash);
+        int currentBucket = currentBucket();
+        synchronized (lock(group)) {
+            int slot = findSlot(group, hash);
+            return slot < 0 ? 0 : sum(slot, currentBucket);
+        }
+    }
+
+    public void reset(String key) {
+        long hash = hash(key);
+        int group = group(hash);
+        synchronized (lock(group)) {
+            int slot = findSlot(group, hash);
+            if (slot >= 0) {
+                release(slot);
+            }
+        }
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private int findSlot(int group, long hash) {
+        int first = group * WAYS;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (keys[slot] == hash) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int findOrClaimSlot(int group, long hash, int currentBucket) {
+        int existing = findSlot(group, hash);
+        if (existing >= 0) {
+            return existing;
+        }
+        int first = group * WAYS;
+        int victim = first;
+        for (int slot = first; slot < first + WAYS; slot++) {
+            if (keys[slot] == EMPTY || isExpired(slot, currentBucket)) {
+                victim = slot;
+                break;
+            }
+            if (lastBuckets[slot] < lastBuckets[victim]) {
+                victim = slot;
+            }
+        }
+        if (keys[victim] != EMPTY && !isExpired(victim, currentBucket)) {
+            evictions.increment();
+        }
+        release(victim);
+        keys[victim] = hash;
+        lastBuckets[victim] = currentBucket;
+        return victim;
+    }
+
+    private void advance(int slot, int currentBucket) {
+        int lastBucket = lastBuckets[slot];
+        if (currentBucket <= lastBucket) {
+            return;
+        }
+        if (currentBucket - lastBucket >= buckets) {
+            clearCounts(slot);
+        } else {
+            for (int bucket = lastBucket + 1; bucket <= currentBucket; bucket++) {
+                counts[slot * buckets + floorMod(bucket, buckets)] = 0;
+            }
+        }
+        lastBuckets[slot] = currentBucket;
+    }
+
+    private int sum(int slot, int currentBucket) {
+        int lastBucket = lastBuckets[slot];
+        int total = 0;
+        for (int bucket = max(lastBucket, currentBucket) - buckets + 1; bucket <= lastBucket; bucket++) {
+            total += counts[slot * buckets + floorMod(bucket, buckets)];
+        }
+        return total;
+    }
+
+    private boolean isExpired(int slot, int currentBucket) {
+        return currentBucket - lastBuckets[slot] >= buckets;
+    }
+
+    private void release(int slot) {
+        keys[slot] = EMPTY;
+        lastBuckets[slot] = 0;
+        clearCounts(slot);
+    }
+
+    private void clearCounts(int slot) {
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            counts[slot * buckets + bucket] = 0;
+        }
+    }
+
+    private int currentBucket() {
+        return (int) ((clock.millis() - origin) / bucketWidthMillis);
+    }
+
+    private Object lock(int group) {
+        return locks[group & (locks.length - 1)];
+    }
+
+    private int group(long hash) {
+        return (int) (hash ^ (hash >>> 32)) & groupMask;
+    }
+
+    private static long hash(String key) {
+        long hash = HASH_FUNCTION.hashUnencodedChars(key).asLong();
+        return hash == EMPTY ? 1L : hash;
+    }
+}
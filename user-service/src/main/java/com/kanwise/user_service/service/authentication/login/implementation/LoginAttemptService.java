@@ -1,43 +1,79 @@
 package com.kanwise.user_service.service.authentication.login.implementation;
 
-import com.google.common.cache.LoadingCache;
 import com.kanwise.user_service.configuration.security.brute_force_attack.BruteForceAttackConfigurationProperties;
 import com.kanwise.user_service.service.authentication.login.ILoginAttemptService;
-import lombok.RequiredArgsConstructor;
+import com.kanwise.user_service.service.authentication.login.counter.SlidingWindowCounter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 @Slf4j
-@RequiredArgsConstructor
 @Service
 public class LoginAttemptService implements ILoginAttemptService {
 
+    private static final String FAILED_ATTEMPTS_METRIC = "kanwise.login.attempts.failed";
+    private static final String BLOCKED_ATTEMPTS_METRIC = "kanwise.login.attempts.blocked";
+    private static final String EVICTIONS_METRIC = "kanwise.login.attempts.evictions";
+    private static final String KEY_TAG = "key";
+
     private final BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties;
-    private final LoadingCache<String, Integer> loginAttemptCache;
+    private final SlidingWindowCounter usernameLoginAttemptCounter;
+    private final SlidingWindowCounter clientAddressLoginAttemptCounter;
+    private final MeterRegistry meterRegistry;
+
+    public LoginAttemptService(BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties,
+                               @Qualifier("usernameLoginAttemptCounter") SlidingWindowCounter usernameLoginAttemptCounter,
+                               @Qualifier("clientAddressLoginAttemptCounter") SlidingWindowCounter clientAddressLoginAttemptCounter,
+                               MeterRegistry meterRegistry) {
+        this.bruteForceAttackConfigurationProperties = bruteForceAttackConfigurationProperties;
+        this.usernameLoginAttemptCounter = usernameLoginAttemptCounter;
+        this.clientAddressLoginAttemptCounter = clientAddressLoginAttemptCounter;
+        this.meterRegistry = meterRegistry;
+        FunctionCounter.builder(EVICTIONS_METRIC, usernameLoginAttemptCounter, SlidingWindowCounter::evictions)
+                .tags(Tags.of(KEY_TAG, "username"))
+                .register(meterRegistry);
+        FunctionCounter.builder(EVICTIONS_METRIC, clientAddressLoginAttemptCounter, SlidingWindowCounter::evictions)
+                .tags(Tags.of(KEY_TAG, "client_address"))
+                .register(meterRegistry);
+    }
 
     @Override
     public void evictUserFromLoginAttemptCache(String username) {
-        loginAttemptCache.invalidate(username);
+        usernameLoginAttemptCounter.reset(username);
     }
 
     @Override
-    public void addUserToLoginAttemptCache(String username) {
-        int attempts = 0;
-        try {
-            attempts = bruteForceAttackConfigurationProperties.attemptIncrement() + loginAttemptCache.get(username);
-        } catch (Exception e) {
-            log.error("Username not found in cache", e);
+    public void addUserToLoginAttemptCache(String username, String clientAddress) {
+        int increment = bruteForceAttackConfigurationProperties.attemptIncrement();
+        usernameLoginAttemptCounter.increment(username, increment);
+        meterRegistry.counter(FAILED_ATTEMPTS_METRIC).increment();
+        if (clientAddress != null) {
+            clientAddressLoginAttemptCounter.increment(clientAddress, increment);
         }
-        loginAttemptCache.put(username, attempts);
     }
 
     @Override
     public boolean hasExceedsMaxAttempts(String username) {
-        try {
-            return loginAttemptCache.get(username) >= bruteForceAttackConfigurationProperties.maximumNumberOfAttempts();
-        } catch (Exception e) {
-            log.error("Username not found in cache", e);
+        boolean exceeded = usernameLoginAttemptCounter.count(username) >= bruteForceAttackConfigurationProperties.maximumNumberOfAttempts();
+        if (exceeded) {
+            meterRegistry.counter(BLOCKED_ATTEMPTS_METRIC, KEY_TAG, "username").increment();
+        }
+        return exceeded;
+    }
+
+    @Override
+    public boolean hasClientAddressExceedsMaxAttempts(String clientAddress) {
+        if (clientAddress == null) {
+            return false;
+        }
+        boolean exceeded = clientAddressLoginAttemptCounter.count(clientAddress) >= bruteForceAttackConfigurationProperties.maximumNumberOfAttemptsPerClientAddress();
+        if (exceeded) {
+            log.warn("Blocking login attempt from client address {}", clientAddress);
+            meterRegistry.counter(BLOCKED_ATTEMPTS_METRIC, KEY_TAG, "client_address").increment();
         }
-        return false;
+        return exceeded;
     }
 }
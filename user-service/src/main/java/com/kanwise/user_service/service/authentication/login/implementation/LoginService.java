@@ -11,14 +11,18 @@ import com.kanwise.user_service.service.user.IUserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.LockedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.servlet.http.HttpServletRequest;
 import java.time.Clock;
 import java.time.LocalDateTime;
 
 import static com.kanwise.user_service.constant.SecurityConstant.BEARER_PREFIX;
+import static com.kanwise.user_service.constant.SecurityConstant.TOO_MANY_LOGIN_ATTEMPTS;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
 @RequiredArgsConstructor
@@ -29,11 +33,13 @@ public class LoginService implements ILoginService {
     private final JwtTokenProvider jwtTokenProvider;
     private final ILoginAttemptService loginAttemptService;
     private final IUserService userService;
+    private final HttpServletRequest request;
     private final Clock clock;
 
     @Transactional
     @Override
     public LoginResponse login(LoginRequest loginRequest) {
+        validateClientAddress();
         User user = userService.findByUsername(loginRequest.username());
         processLoginAttempt(user);
         authenticate(loginRequest.username(), loginRequest.password());
@@ -48,8 +54,16 @@ public class LoginService implements ILoginService {
         user.setLastLoginDate(LocalDateTime.now(clock));
     }
 
+    private void validateClientAddress() {
+        if (loginAttemptService.hasClientAddressExceedsMaxAttempts(request.getRemoteAddr())) {
+            throw new LockedException(TOO_MANY_LOGIN_ATTEMPTS);
+        }
+    }
+
     private void authenticate(String username, String password) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
+        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(username, password);
+        authenticationToken.setDetails(new WebAuthenticationDetails(request));
+        authenticationManager.authenticate(authenticationToken);
     }
 
     private HttpHeaders getJwtHeader(User user) {
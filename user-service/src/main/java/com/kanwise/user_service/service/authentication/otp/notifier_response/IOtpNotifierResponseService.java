@@ -2,6 +2,10 @@ package com.kanwise.user_service.service.authentication.otp.notifier_response;
 
 import com.kanwise.user_service.model.otp.OtpNotifierResponse;
 
+import java.util.List;
+
 public interface IOtpNotifierResponseService<T extends OtpNotifierResponse> {
     void processOtpResponse(T otpNotifierResponse);
+
+    void processOtpResponses(List<T> otpNotifierResponses);
 }
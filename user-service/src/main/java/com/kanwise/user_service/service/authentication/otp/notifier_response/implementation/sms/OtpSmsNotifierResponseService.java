@@ -1,11 +1,18 @@
 package com.kanwise.user_service.service.authentication.otp.notifier_response.implementation.sms;
 
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
 import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
 import com.kanwise.user_service.service.authentication.otp.notifier_response.IOtpNotifierResponseService;
 import com.kanwise.user_service.service.otp.IOtpService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class OtpSmsNotifierResponseService implements IOtpNotifierResponseService<OtpSmsNotifierResponse> {
@@ -15,4 +22,14 @@ public class OtpSmsNotifierResponseService implements IOtpNotifierResponseServic
     public void processOtpResponse(OtpSmsNotifierResponse otpNotifierResponse) {
         otpService.updateOneTimePasswordStatus(otpNotifierResponse.getStatus(), otpNotifierResponse.getOtpId());
     }
+
+    @Override
+    public void processOtpResponses(List<OtpSmsNotifierResponse> otpNotifierResponses) {
+        Map<Long, OtpStatus> statuses = new LinkedHashMap<>();
+        otpNotifierResponses.forEach(otpNotifierResponse -> statuses.put(otpNotifierResponse.getOtpId(), otpNotifierResponse.getStatus()));
+        int updated = otpService.updateOneTimePasswordStatuses(statuses);
+        if (updated < statuses.size()) {
+            log.warn("Skipped {} sms statuses for unknown one time passwords", statuses.size() - updated);
+        }
+    }
 }
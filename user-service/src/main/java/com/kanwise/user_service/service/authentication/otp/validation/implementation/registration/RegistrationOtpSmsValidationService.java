@@ -9,6 +9,7 @@ import com.kanwise.user_service.service.notification.email.IEmailNotificationSer
 import com.kanwise.user_service.service.otp.IOtpService;
 import com.kanwise.user_service.service.otp.IOtpValidator;
 import com.kanwise.user_service.service.password.generator.IPasswordGeneratorService;
+import com.kanwise.user_service.service.user.IUserService;
 import com.netflix.discovery.shared.Pair;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ public class RegistrationOtpSmsValidationService implements IOtpValidationServic
     private final IOtpValidator otpValidator;
     private final IEmailNotificationService<EmailRequest> emailNotificationService;
     private final IPasswordGeneratorService passwordGeneratorService;
+    private final IUserService userService;
 
     @Transactional
     @Override
@@ -37,7 +39,7 @@ public class RegistrationOtpSmsValidationService implements IOtpValidationServic
 
         Pair<String, String> passwordAndEncryptedPassword = passwordGeneratorService.generatePasswordAndEncryptedPassword();
 
-        User user = oneTimePassword.getUser();
+        User user = userService.findUserById(oneTimePassword.getUser().getId());
         user.setPassword(passwordAndEncryptedPassword.second());
         user.setEnabled(true);
 
@@ -62,7 +62,7 @@ public class RegisterService implements IRegisterService {
 
     private OneTimePassword getOneTimePasswordForUser(User user) {
         OneTimePassword oneTimePassword = otpService.generateOneTimePassword();
-        user.addOneTimePassword(oneTimePassword);
+        oneTimePassword.setUser(user);
         return otpService.saveOneTimePassword(oneTimePassword);
     }
 
@@ -0,0 +1,5 @@
+package com.kanwise.user_service.service.cleanup;
+
+public interface IExpiredCredentialsCleanupService {
+    void purgeExpiredCredentials();
+}
@@ -0,0 +1,50 @@
+package com.kanwise.user_service.service.cleanup.implementation;
+
+import com.kanwise.user_service.configuration.cleanup.CleanupConfigurationProperties;
+import com.kanwise.user_service.repository.authentication.PasswordResetTokenRepository;
+import com.kanwise.user_service.service.cleanup.IExpiredCredentialsCleanupService;
+import com.kanwise.user_service.service.otp.store.IOtpStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static java.time.LocalDateTime.now;
+
+@Slf4j
+@ConditionalOnProperty(prefix = "kanwise.cleanup", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Service
+public class ExpiredCredentialsCleanupService implements IExpiredCredentialsCleanupService {
+
+    private final IOtpStore otpStore;
+    private final PasswordResetTokenRepository passwordResetTokenRepository;
+    private final CleanupConfigurationProperties cleanupConfigurationProperties;
+    private final Clock clock;
+
+    @Scheduled(fixedDelayString = "${kanwise.cleanup.interval}", initialDelayString = "${kanwise.cleanup.interval}")
+    @Override
+    public void purgeExpiredCredentials() {
+        LocalDateTime threshold = now(clock).minus(cleanupConfigurationProperties.retention());
+        int batchSize = cleanupConfigurationProperties.batchSize();
+        int purgedOneTimePasswords = otpStore.purgeExpired(threshold, batchSize);
+        int purgedPasswordResetTokens = purgeExpiredPasswordResetTokens(threshold, batchSize);
+        if (purgedOneTimePasswords > 0 || purgedPasswordResetTokens > 0) {
+            log.info("Purged {} one-time passwords and {} password reset tokens expired before {}", purgedOneTimePasswords, purgedPasswordResetTokens, threshold);
+        }
+    }
+
+    private int purgeExpiredPasswordResetTokens(LocalDateTime threshold, int batchSize) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = passwordResetTokenRepository.deleteExpired(threshold, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+}
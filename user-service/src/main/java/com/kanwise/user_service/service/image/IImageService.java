@@ -4,4 +4,6 @@ import com.kanwise.user_service.model.image.Image;
 
 public interface IImageService {
     Image saveImage(Image image);
+
+    Image saveUploadedImage(Image image);
 }
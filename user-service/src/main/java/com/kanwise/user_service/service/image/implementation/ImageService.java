@@ -1,21 +1,36 @@
 package com.kanwise.user_service.service.image.implementation;
 
 import com.kanwise.user_service.model.image.Image;
+import com.kanwise.user_service.model.image.event.ImageUploadedEvent;
 import com.kanwise.user_service.repository.image.ImageRepository;
 import com.kanwise.user_service.service.image.IImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.kanwise.user_service.model.file.FileUploadStatus.SUCCESS;
+
 @Service
 @RequiredArgsConstructor
 public class ImageService implements IImageService {
 
     private final ImageRepository imageRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public Image saveImage(Image image) {
         return imageRepository.save(image);
     }
+
+    @Transactional
+    @Override
+    public Image saveUploadedImage(Image image) {
+        Image savedImage = imageRepository.save(image);
+        if (savedImage.getUploadStatus() == SUCCESS) {
+            eventPublisher.publishEvent(new ImageUploadedEvent(savedImage.getId()));
+        }
+        return savedImage;
+    }
 }
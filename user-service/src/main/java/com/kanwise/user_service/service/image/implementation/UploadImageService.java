@@ -3,6 +3,7 @@ package com.kanwise.user_service.service.image.implementation;
 import com.kanwise.user_service.configuration.spaces.SpacesNamesConfigurationProperties;
 import com.kanwise.user_service.error.custom.user.ImageNotFoundException;
 import com.kanwise.user_service.model.image.EditImageCommand;
+import com.kanwise.user_service.model.file.FileUploadStatus;
 import com.kanwise.user_service.model.image.Image;
 import com.kanwise.user_service.model.image.request.ImageUploadRequest;
 import com.kanwise.user_service.model.user.User;
@@ -12,20 +13,23 @@ import com.kanwise.user_service.service.image.IUploadImageService;
 import com.kanwise.user_service.service.spaces.ISpacesService;
 import com.kanwise.user_service.service.user.IUserService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.time.Clock;
 
-import static com.kanwise.user_service.model.file.FileUploadStatus.IN_PROGRESS;
+import static com.kanwise.user_service.model.file.FileUploadStatus.FAILED;
 import static com.kanwise.user_service.model.image.ImageRole.PROFILE_IMAGE;
 import static com.kanwise.user_service.model.image.ImageRole.valueOf;
 import static java.time.LocalDateTime.now;
 import static java.util.Optional.ofNullable;
 
-@Transactional
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class UploadImageService implements IUploadImageService {
@@ -48,26 +52,32 @@ public class UploadImageService implements IUploadImageService {
 
         User userById = userService.findUserById(userId);
 
+        String directory = "images/%s/".formatted(userById.getUsername());
 
-        URL url = spacesService.checkIfDirectoryExists(spaceName, "images/%s/".formatted(userById.getUsername()), true);
+        URL url = spacesService.checkIfDirectoryExists(spaceName, directory, true);
 
+        FileUploadStatus uploadStatus = uploadFile(file, directory + file.getOriginalFilename(), spaceName);
 
-        Image image = imageService.saveImage(Image.builder()
+        return imageService.saveUploadedImage(Image.builder()
                 .user(userById)
                 .imageName(file.getOriginalFilename())
                 .imageUrl(url.toString() + file.getOriginalFilename())
                 .uploadedAt(now(clock))
-                .uploadStatus(IN_PROGRESS)
+                .uploadStatus(uploadStatus)
                 .imageRole(PROFILE_IMAGE)
                 .build());
+    }
 
-        spacesService.uploadFile(file, "images/%s/".formatted(userById.getUsername()), spaceName).thenAccept(fileUploadStatus -> {
-            image.setUploadStatus(fileUploadStatus);
-            imageService.saveImage(image);
-        });
-        return image;
+    private FileUploadStatus uploadFile(MultipartFile file, String key, String spaceName) {
+        try (InputStream inputStream = file.getInputStream()) {
+            return spacesService.uploadFile(inputStream, file.getSize(), file.getContentType(), key, spaceName);
+        } catch (IOException e) {
+            log.error("Failed to read image {} for upload", key, e);
+            return FAILED;
+        }
     }
 
+    @Transactional
     @Override
     public Image editImagePartially(long id, EditImageCommand command) {
         return imageRepository.findById(id).map(image -> {
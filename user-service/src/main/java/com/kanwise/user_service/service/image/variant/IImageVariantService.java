@@ -0,0 +1,5 @@
+package com.kanwise.user_service.service.image.variant;
+
+public interface IImageVariantService {
+    void generateVariants(long imageId);
+}
@@ -0,0 +1,113 @@
+package com.kanwise.user_service.service.image.variant.implementation;
+
+import com.amazonaws.AmazonClientException;
+import com.kanwise.user_service.configuration.image.ImageVariantsConfigurationProperties;
+import com.kanwise.user_service.configuration.spaces.SpacesNamesConfigurationProperties;
+import com.kanwise.user_service.model.image.Image;
+import com.kanwise.user_service.repository.image.ImageRepository;
+import com.kanwise.user_service.service.image.variant.IImageVariantService;
+import com.kanwise.user_service.service.spaces.ISpacesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import javax.imageio.ImageIO;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.kanwise.user_service.model.file.FileUploadStatus.SUCCESS;
+import static java.awt.RenderingHints.KEY_INTERPOLATION;
+import static java.awt.RenderingHints.KEY_RENDERING;
+import static java.awt.RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+import static java.awt.RenderingHints.VALUE_RENDER_QUALITY;
+import static java.awt.image.BufferedImage.TYPE_INT_ARGB;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ImageVariantService implements IImageVariantService {
+
+    private static final String VARIANT_FORMAT = "png";
+    private static final String VARIANT_CONTENT_TYPE = "image/png";
+
+    private final ImageRepository imageRepository;
+    private final ISpacesService spacesService;
+    private final SpacesNamesConfigurationProperties spacesNamesConfigurationProperties;
+    private final ImageVariantsConfigurationProperties imageVariantsConfigurationProperties;
+
+    @Override
+    public void generateVariants(long imageId) {
+        imageRepository.findById(imageId).ifPresent(this::generateVariants);
+    }
+
+    private void generateVariants(Image image) {
+        String spaceName = spacesNamesConfigurationProperties.profileImages();
+        String directory = "images/%s/".formatted(image.getUser().getUsername());
+
+        BufferedImage original;
+        try (InputStream inputStream = spacesService.downloadFile(directory + image.getImageName(), spaceName)) {
+            original = ImageIO.read(inputStream);
+        } catch (IOException | AmazonClientException e) {
+            log.warn("Could not read image {} for variant generation", image.getId(), e);
+            return;
+        }
+
+        if (original == null) {
+            log.warn("Image {} has no readable image format", image.getId());
+            return;
+        }
+
+        String variantName = getBaseName(image.getImageName()) + "." + VARIANT_FORMAT;
+        String avatarUrl = uploadVariant(original, imageVariantsConfigurationProperties.avatarSize(), directory + "avatar/" + variantName, spaceName);
+        String thumbnailUrl = uploadVariant(original, imageVariantsConfigurationProperties.thumbnailSize(), directory + "thumbnail/" + variantName, spaceName);
+        imageRepository.updateVariantUrls(image.getId(), avatarUrl, thumbnailUrl);
+    }
+
+    private String uploadVariant(BufferedImage original, int size, String key, String spaceName) {
+        byte[] variant;
+        try {
+            variant = encode(resize(original, size));
+        } catch (IOException e) {
+            log.warn("Could not encode variant {}", key, e);
+            return null;
+        }
+
+        if (spacesService.uploadFile(new ByteArrayInputStream(variant), variant.length, VARIANT_CONTENT_TYPE, key, spaceName) != SUCCESS) {
+            return null;
+        }
+        return spacesService.getFileUrl(key, spaceName).toString();
+    }
+
+    private byte[] encode(BufferedImage variant) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(variant, VARIANT_FORMAT, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private String getBaseName(String imageName) {
+        int extensionIndex = imageName.lastIndexOf('.');
+        return extensionIndex > 0 ? imageName.substring(0, extensionIndex) : imageName;
+    }
+
+    private BufferedImage resize(BufferedImage original, int size) {
+        int side = Math.min(original.getWidth(), original.getHeight());
+        int x = (original.getWidth() - side) / 2;
+        int y = (original.getHeight() - side) / 2;
+        int targetSize = Math.min(size, side);
+
+        BufferedImage variant = new BufferedImage(targetSize, targetSize, TYPE_INT_ARGB);
+        Graphics2D graphics = variant.createGraphics();
+        try {
+            graphics.setRenderingHint(KEY_INTERPOLATION, VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(KEY_RENDERING, VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, targetSize, targetSize, x, y, x + side, y + side, null);
+        } finally {
+            graphics.dispose();
+        }
+        return variant;
+    }
+}
@@ -1,23 +1,49 @@
 package com.kanwise.user_service.service.notification.email.implementation;
 
 import com.kanwise.user_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.user_service.model.kafka.TopicType;
+import com.kanwise.user_service.model.notification.email.EmailMessageType;
 import com.kanwise.user_service.model.notification.email.EmailRequest;
 import com.kanwise.user_service.service.notification.email.IEmailNotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.ACCOUNT_BLOCKED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.ACCOUNT_CREATED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.PASSWORD_CHANGED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.PASSWORD_RESET;
+import static java.util.UUID.randomUUID;
 
 @RequiredArgsConstructor
 @Service
 public class EmailNotificationService implements IEmailNotificationService<EmailRequest> {
 
+    private static final Set<EmailMessageType> PRIORITY_TYPES = EnumSet.of(ACCOUNT_CREATED, ACCOUNT_BLOCKED, PASSWORD_RESET, PASSWORD_CHANGED);
+
     private final KafkaTemplate<String, EmailRequest> kafkaEmailTemplate;
+    private final KafkaTemplate<String, EmailRequest> kafkaPriorityEmailTemplate;
     private final KafkaConfigurationProperties kafkaConfigurationProperties;
 
     @Override
     public void sendEmail(EmailRequest request) {
-        kafkaEmailTemplate.send(kafkaConfigurationProperties.getTopicName(NOTIFICATION_EMAIL), request);
+        if (request.getMessageId() == null) {
+            request.setMessageId(randomUUID().toString());
+        }
+        TopicType topicType = getTopicType(request.getType());
+        getKafkaTemplate(topicType).send(kafkaConfigurationProperties.getTopicName(topicType), request.getMessageId(), request);
+    }
+
+    private KafkaTemplate<String, EmailRequest> getKafkaTemplate(TopicType topicType) {
+        return topicType == NOTIFICATION_EMAIL_PRIORITY ? kafkaPriorityEmailTemplate : kafkaEmailTemplate;
+    }
+
+    private TopicType getTopicType(EmailMessageType emailMessageType) {
+        return PRIORITY_TYPES.contains(emailMessageType) ? NOTIFICATION_EMAIL_PRIORITY : NOTIFICATION_EMAIL;
     }
 }
@@ -8,6 +8,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static java.util.UUID.randomUUID;
 
 @RequiredArgsConstructor
 @Service
@@ -18,6 +19,9 @@ public class OtpSmsNotificationService implements ISmsNotificationService<OtpSms
 
     @Override
     public void sendSms(OtpSmsRequest request) {
-        kafkaSmsTemplate.send(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS), request);
+        if (request.getMessageId() == null) {
+            request.setMessageId(randomUUID().toString());
+        }
+        kafkaSmsTemplate.send(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS), request.getMessageId(), request);
     }
 }
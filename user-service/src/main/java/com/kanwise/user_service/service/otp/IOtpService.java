@@ -3,6 +3,8 @@ package com.kanwise.user_service.service.otp;
 import com.kanwise.clients.user_service.authentication.model.OtpStatus;
 import com.kanwise.user_service.model.otp.OneTimePassword;
 
+import java.util.Map;
+
 public interface IOtpService {
 
     OneTimePassword getOneTimePasswordById(long id);
@@ -13,6 +15,8 @@ public interface IOtpService {
 
     void updateOneTimePasswordStatus(OtpStatus status, long id);
 
+    int updateOneTimePasswordStatuses(Map<Long, OtpStatus> statuses);
+
     void confirmOtp(OneTimePassword oneTimePassword);
 
     boolean existsById(long id);
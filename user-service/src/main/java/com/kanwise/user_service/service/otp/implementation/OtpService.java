@@ -4,14 +4,15 @@ import com.kanwise.clients.user_service.authentication.model.OtpStatus;
 import com.kanwise.user_service.configuration.security.otp.OtpConfigurationProperties;
 import com.kanwise.user_service.error.custom.security.otp.OtpNotFoundException;
 import com.kanwise.user_service.model.otp.OneTimePassword;
-import com.kanwise.user_service.repository.authentication.OneTimePasswordRepository;
 import com.kanwise.user_service.service.otp.IOtpService;
+import com.kanwise.user_service.service.otp.store.IOtpStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.Clock;
+import java.util.Map;
 
 import static com.kanwise.clients.user_service.authentication.model.OtpStatus.CONFIRMED;
 import static java.time.LocalDateTime.now;
@@ -20,37 +21,40 @@ import static java.time.LocalDateTime.now;
 @Service
 public class OtpService implements IOtpService {
 
-    private final OneTimePasswordRepository oneTimePasswordRepository;
+    private final IOtpStore otpStore;
     private final OtpConfigurationProperties otpConfigurationProperties;
+    private final SecureRandom secureRandom;
     private final Clock clock;
 
     @Transactional(readOnly = true)
     public OneTimePassword getOneTimePasswordById(long id) {
-        return oneTimePasswordRepository.findById(id).orElseThrow(() -> new OtpNotFoundException(id));
+        return otpStore.findById(id).orElseThrow(() -> new OtpNotFoundException(id));
     }
 
     @Transactional
     public OneTimePassword saveOneTimePassword(OneTimePassword oneTimePassword) {
-        return oneTimePasswordRepository.save(oneTimePassword);
+        return otpStore.save(oneTimePassword);
     }
 
     @Transactional
     @Override
     public void confirmOtp(OneTimePassword oneTimePassword) {
         oneTimePassword.setStatus(CONFIRMED);
-        oneTimePassword.setConfirmedAt(now());
+        oneTimePassword.setConfirmedAt(now(clock));
     }
 
     @Transactional(readOnly = true)
     @Override
     public boolean existsById(long id) {
-        return oneTimePasswordRepository.existsById(id);
+        return otpStore.existsById(id);
     }
 
     private String generateOneTimePasswordCode() {
-        return new SecureRandom().ints(otpConfigurationProperties.length(), 0, 10)
-                .mapToObj(String::valueOf)
-                .reduce("", String::concat);
+        char[] code = new char[otpConfigurationProperties.length()];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = (char) ('0' + secureRandom.nextInt(10));
+        }
+        return new String(code);
     }
 
     public OneTimePassword generateOneTimePassword() {
@@ -64,9 +68,14 @@ public class OtpService implements IOtpService {
 
     @Transactional
     public void updateOneTimePasswordStatus(OtpStatus status, long id) {
-        oneTimePasswordRepository.findById(id).ifPresentOrElse(otp -> otp.setStatus(status), () -> {
+        if (!otpStore.updateStatus(id, status)) {
             throw new OtpNotFoundException(id);
-        });
+        }
     }
-}
 
+    @Transactional
+    @Override
+    public int updateOneTimePasswordStatuses(Map<Long, OtpStatus> statuses) {
+        return statuses.isEmpty() ? 0 : otpStore.updateStatuses(statuses);
+    }
+}
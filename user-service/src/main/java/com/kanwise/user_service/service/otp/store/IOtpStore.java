@@ -0,0 +1,23 @@
+package com.kanwise.user_service.service.otp.store;
+
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+import com.kanwise.user_service.model.otp.OneTimePassword;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+public interface IOtpStore {
+
+    OneTimePassword save(OneTimePassword oneTimePassword);
+
+    Optional<OneTimePassword> findById(long id);
+
+    boolean existsById(long id);
+
+    boolean updateStatus(long id, OtpStatus status);
+
+    int updateStatuses(Map<Long, OtpStatus> statuses);
+
+    int purgeExpired(LocalDateTime threshold, int batchSize);
+}
@@ -0,0 +1,77 @@
+package com.kanwise.user_service.service.otp.store.implementation;
+
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+import com.kanwise.user_service.model.otp.OneTimePassword;
+import com.kanwise.user_service.repository.authentication.OneTimePasswordRepository;
+import com.kanwise.user_service.service.otp.store.IOtpStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+@ConditionalOnProperty(prefix = "kanwise.otp", name = "store", havingValue = "database", matchIfMissing = true)
+@RequiredArgsConstructor
+@Service
+public class DatabaseOtpStore implements IOtpStore {
+
+    private final OneTimePasswordRepository oneTimePasswordRepository;
+
+    @Transactional
+    @Override
+    public OneTimePassword save(OneTimePassword oneTimePassword) {
+        return oneTimePasswordRepository.save(oneTimePassword);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<OneTimePassword> findById(long id) {
+        return oneTimePasswordRepository.findById(id);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public boolean existsById(long id) {
+        return oneTimePasswordRepository.existsById(id);
+    }
+
+    @Transactional
+    @Override
+    public boolean updateStatus(long id, OtpStatus status) {
+        return oneTimePasswordRepository.findById(id)
+                .map(oneTimePassword -> {
+                    oneTimePassword.setStatus(status);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Transactional
+    @Override
+    public int updateStatuses(Map<Long, OtpStatus> statuses) {
+        Map<OtpStatus, List<Long>> idsByStatus = statuses.entrySet().stream()
+                .collect(groupingBy(Map.Entry::getValue, mapping(Map.Entry::getKey, toList())));
+        return idsByStatus.entrySet().stream()
+                .mapToInt(ids -> oneTimePasswordRepository.updateStatuses(ids.getValue(), ids.getKey()))
+                .sum();
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime threshold, int batchSize) {
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = oneTimePasswordRepository.deleteExpired(threshold, batchSize);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+}
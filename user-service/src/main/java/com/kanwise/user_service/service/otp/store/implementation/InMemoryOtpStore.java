@@ -0,0 +1,93 @@
+package com.kanwise.user_service.service.otp.store.implementation;
+
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+import com.kanwise.user_service.model.otp.OneTimePassword;
+import com.kanwise.user_service.service.otp.store.IOtpStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.time.Duration.ofSeconds;
+import static java.util.Optional.ofNullable;
+
+@ConditionalOnProperty(prefix = "kanwise.otp", name = "store", havingValue = "in-memory")
+@Service
+public class InMemoryOtpStore implements IOtpStore {
+
+    private static final Duration TICK = ofSeconds(1);
+    private static final int WHEEL_SIZE = 4096;
+
+    private final Map<Long, OneTimePassword> oneTimePasswords = new ConcurrentHashMap<>();
+    private final AtomicLong sequence;
+    private final TimeWheel<Long> expirations;
+    private final Clock clock;
+
+    public InMemoryOtpStore(Clock clock) {
+        this.clock = clock;
+        this.sequence = new AtomicLong(clock.millis());
+        this.expirations = new TimeWheel<>(TICK, WHEEL_SIZE, clock.millis());
+    }
+
+    @Override
+    public OneTimePassword save(OneTimePassword oneTimePassword) {
+        if (oneTimePassword.getId() == null) {
+            oneTimePassword.setId(sequence.incrementAndGet());
+        }
+        if (oneTimePasswords.put(oneTimePassword.getId(), oneTimePassword) == null) {
+            expirations.schedule(oneTimePassword.getId(), toEpochMilli(oneTimePassword.getExpiresAt()));
+        }
+        return oneTimePassword;
+    }
+
+    @Override
+    public Optional<OneTimePassword> findById(long id) {
+        return ofNullable(oneTimePasswords.get(id));
+    }
+
+    @Override
+    public boolean existsById(long id) {
+        return oneTimePasswords.containsKey(id);
+    }
+
+    @Override
+    public boolean updateStatus(long id, OtpStatus status) {
+        return oneTimePasswords.computeIfPresent(id, (key, oneTimePassword) -> {
+            oneTimePassword.setStatus(status);
+            return oneTimePassword;
+        }) != null;
+    }
+
+    @Override
+    public int updateStatuses(Map<Long, OtpStatus> statuses) {
+        int updated = 0;
+        for (Map.Entry<Long, OtpStatus> status : statuses.entrySet()) {
+            if (updateStatus(status.getKey(), status.getValue())) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public int purgeExpired(LocalDateTime threshold, int batchSize) {
+        long thresholdMillis = toEpochMilli(threshold);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = expirations.advance(thresholdMillis, batchSize, oneTimePasswords::remove);
+            purged += deleted;
+        } while (deleted == batchSize);
+        return purged;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
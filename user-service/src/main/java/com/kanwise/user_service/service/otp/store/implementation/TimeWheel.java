@@ -0,0 +1,75 @@
+package com.kanwise.user_service.service.otp.store.implementation;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+public class TimeWheel<T> {
+
+    private final long tickMillis;
+    private final List<Deque<Timeout<T>>> slots;
+    private long lastTick;
+
+    public TimeWheel(Duration tick, int size, long startMillis) {
+        if (tick.toMillis() < 1 || size < 1) {
+            throw new IllegalArgumentException("Time wheel requires a positive tick and size");
+        }
+        this.tickMillis = tick.toMillis();
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayDeque<>());
+        }
+        this.lastTick = floorDiv(startMillis, tickMillis);
+    }
+
+    public synchronized void schedule(T value, long deadlineMillis) {
+        long tick = max(floorDiv(deadlineMillis + tickMillis - 1, tickMillis), lastTick + 1);
+        slots.get(floorMod(tick, slots.size())).add(new Timeout<>(value, deadlineMillis));
+    }
+
+    public int advance(long nowMillis, Consumer<T> onExpired) {
+        return advance(nowMillis, Integer.MAX_VALUE, onExpired);
+    }
+
+    public synchronized int advance(long nowMillis, int limit, Consumer<T> onExpired) {
+        long currentTick = floorDiv(nowMillis, tickMillis);
+        if (currentTick <= lastTick) {
+            return 0;
+        }
+        long ticks = min(currentTick - lastTick, slots.size());
+        int expired = 0;
+        for (long tick = currentTick - ticks + 1; tick <= currentTick; tick++) {
+            Iterator<Timeout<T>> iterator = slots.get(floorMod(tick, slots.size())).iterator();
+            while (iterator.hasNext()) {
+                if (expired == limit) {
+                    lastTick = tick - 1;
+                    return expired;
+                }
+                Timeout<T> timeout = iterator.next();
+                if (timeout.deadlineMillis() <= nowMillis) {
+                    iterator.remove();
+                    onExpired.accept(timeout.value());
+                    expired++;
+                }
+            }
+        }
+        lastTick = currentTick;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return slots.stream().mapToInt(Deque::size).sum();
+    }
+
+    private record Timeout<T>(T value, long deadlineMillis) {
+    }
+}
@@ -1,58 +1,96 @@
 package com.kanwise.user_service.service.spaces.implementation;
 
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.kanwise.user_service.configuration.spaces.SpacesUploadConfigurationProperties;
 import com.kanwise.user_service.model.file.FileUploadStatus;
 import com.kanwise.user_service.service.spaces.ISpacesService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
-import java.util.concurrent.CompletableFuture;
 
 import static com.amazonaws.services.s3.model.CannedAccessControlList.PublicRead;
 import static com.kanwise.user_service.model.file.FileUploadStatus.FAILED;
 import static com.kanwise.user_service.model.file.FileUploadStatus.SUCCESS;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class SpacesService implements ISpacesService {
 
     private final AmazonS3 space;
+    private final TransferManager transferManager;
+    private final Cache<String, URL> knownDirectories;
 
-    public CompletableFuture<FileUploadStatus> uploadFile(MultipartFile file, String path, String spaceName) {
+    public SpacesService(AmazonS3 space, TransferManager transferManager, SpacesUploadConfigurationProperties spacesUploadConfigurationProperties) {
+        this.space = space;
+        this.transferManager = transferManager;
+        this.knownDirectories = CacheBuilder.newBuilder()
+                .maximumSize(spacesUploadConfigurationProperties.directoryCacheSize())
+                .build();
+    }
+
+    @Override
+    public FileUploadStatus uploadFile(InputStream inputStream, long contentLength, String contentType, String key, String spaceName) {
         try {
-            space.putObject(new PutObjectRequest(
+            transferManager.upload(new PutObjectRequest(
                     spaceName,
-                    path + file.getOriginalFilename(),
-                    file.getInputStream(),
-                    getFileMetadata(file)
-            ).withCannedAcl(PublicRead));
-        } catch (IOException | AmazonS3Exception e) {
-            return CompletableFuture.completedFuture(FAILED);
+                    key,
+                    inputStream,
+                    getFileMetadata(contentType, contentLength)
+            ).withCannedAcl(PublicRead)).waitForUploadResult();
+        } catch (AmazonClientException e) {
+            log.error("Upload of {} to space {} failed", key, spaceName, e);
+            return FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return FAILED;
         }
-        return CompletableFuture.completedFuture(SUCCESS);
+        return SUCCESS;
     }
 
-    private ObjectMetadata getFileMetadata(MultipartFile file) {
+    private ObjectMetadata getFileMetadata(String contentType, long contentLength) {
         ObjectMetadata objectMetadata = new ObjectMetadata();
-        objectMetadata.setContentType(file.getContentType());
-        objectMetadata.setContentLength(file.getSize());
+        objectMetadata.setContentType(contentType);
+        objectMetadata.setContentLength(contentLength);
         return objectMetadata;
     }
 
+    @Override
+    public InputStream downloadFile(String key, String spaceName) {
+        return space.getObject(spaceName, key).getObjectContent();
+    }
+
+    @Override
+    public URL getFileUrl(String key, String spaceName) {
+        return space.getUrl(spaceName, key);
+    }
+
     @Override
     public URL checkIfDirectoryExists(String spaceName, String directoryName, boolean createIfNotExists) {
+        String directoryKey = spaceName + "/" + directoryName;
+        URL knownDirectory = knownDirectories.getIfPresent(directoryKey);
+        if (knownDirectory != null) {
+            return knownDirectory;
+        }
+
         boolean objectExist = space.doesObjectExist(spaceName, directoryName);
 
         if (!objectExist && createIfNotExists) {
             space.putObject(spaceName, directoryName, "");
+            objectExist = true;
         }
 
-        return space.getUrl(spaceName, directoryName);
+        URL url = space.getUrl(spaceName, directoryName);
+        if (objectExist) {
+            knownDirectories.put(directoryKey, url);
+        }
+        return url;
     }
 }
@@ -0,0 +1,9 @@
+package com.kanwise.user_service.service.user;
+
+import com.kanwise.user_service.model.user.search.UserSearchResult;
+
+import java.util.List;
+
+public interface IUserSearchService {
+    List<UserSearchResult> searchUsers(String query, int limit);
+}
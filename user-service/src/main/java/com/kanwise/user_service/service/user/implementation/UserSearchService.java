@@ -0,0 +1,43 @@
+package com.kanwise.user_service.service.user.implementation;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.kanwise.user_service.configuration.search.UserSearchConfigurationProperties;
+import com.kanwise.user_service.model.user.search.UserSearchResult;
+import com.kanwise.user_service.repository.user.UserRepository;
+import com.kanwise.user_service.service.user.IUserSearchService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static java.util.Locale.ROOT;
+
+@Service
+public class UserSearchService implements IUserSearchService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, List<UserSearchResult>> hotQueries;
+
+    public UserSearchService(UserRepository userRepository, UserSearchConfigurationProperties userSearchConfigurationProperties) {
+        this.userRepository = userRepository;
+        this.hotQueries = CacheBuilder.newBuilder()
+                .expireAfterWrite(userSearchConfigurationProperties.cacheExpiration())
+                .maximumSize(userSearchConfigurationProperties.cacheSize())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<UserSearchResult> searchUsers(String query, int limit) {
+        String normalizedQuery = query.strip().toLowerCase(ROOT);
+        return hotQueries.asMap().computeIfAbsent(limit + ":" + normalizedQuery,
+                key -> List.copyOf(userRepository.searchUsers(normalizedQuery, escapeLikePattern(normalizedQuery) + "%", limit)));
+    }
+
+    private String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -1,42 +1,36 @@
 package com.kanwise.user_service.validation.logic.common;
 
 import com.kanwise.user_service.validation.annotation.common.ClassFields;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.lang.reflect.Field;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.Set;
 
 import static java.util.Arrays.asList;
-import static java.util.Arrays.stream;
 
 @Service
 @RequiredArgsConstructor
 @Scope("prototype")
 public class ClassFieldsValidator implements ConstraintValidator<ClassFields, String> {
 
-    private Pattern fieldsPattern;
+    private final ValidationMetadataCache validationMetadataCache;
 
-    private static String getStringPattern(String[] excludedFields, Class<?> fieldsSource) {
-        return stream(fieldsSource.getDeclaredFields())
-                .map(Field::getName)
-                .filter(fieldName -> !asList(excludedFields).contains(fieldName))
-                .collect(Collectors.joining("|"));
-    }
+    private Set<String> fieldNames;
 
     @Override
     public void initialize(ClassFields constraintAnnotation) {
-        String[] excludedFields = constraintAnnotation.excludedFieldsNames();
-        Class<?> fieldsSource = constraintAnnotation.fieldsSource();
-        this.fieldsPattern = Pattern.compile(getStringPattern(excludedFields, fieldsSource));
+        Set<String> sourceFieldNames = new HashSet<>(validationMetadataCache.getFieldNames(constraintAnnotation.fieldsSource()));
+        asList(constraintAnnotation.excludedFieldsNames()).forEach(sourceFieldNames::remove);
+        this.fieldNames = sourceFieldNames;
     }
 
     @Override
     public boolean isValid(String sortByValue, ConstraintValidatorContext constraintValidatorContext) {
-        return fieldsPattern.matcher(sortByValue).matches();
+        return sortByValue != null && fieldNames.contains(sortByValue);
     }
 }
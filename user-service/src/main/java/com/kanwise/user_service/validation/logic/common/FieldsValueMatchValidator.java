@@ -2,17 +2,24 @@ package com.kanwise.user_service.validation.logic.common;
 
 
 import com.kanwise.user_service.validation.annotation.common.FieldsValueMatch;
-import org.springframework.beans.BeanWrapperImpl;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import java.lang.reflect.InvocationTargetException;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
 @Scope("prototype")
 public class FieldsValueMatchValidator implements ConstraintValidator<FieldsValueMatch, Object> {
 
+    private final ValidationMetadataCache validationMetadataCache;
+
     private String field;
     private String fieldMatch;
     private String message;
@@ -25,10 +32,15 @@ public class FieldsValueMatchValidator implements ConstraintValidator<FieldsValu
     }
 
     public boolean isValid(Object value, ConstraintValidatorContext context) {
-        Object fieldValue = new BeanWrapperImpl(value)
-                .getPropertyValue(field);
-        Object fieldMatchValue = new BeanWrapperImpl(value)
-                .getPropertyValue(fieldMatch);
+        Object fieldValue;
+        Object fieldMatchValue;
+        try {
+            fieldValue = validationMetadataCache.getProperty(value, field);
+            fieldMatchValue = validationMetadataCache.getProperty(value, fieldMatch);
+        } catch (NoSuchMethodException | InvocationTargetException e) {
+            log.error("FIELDS_ARE_NOT_READABLE_ON_CLASS_{}_EXCEPTION_{}", value.getClass().getName(), e);
+            return false;
+        }
 
         if (fieldValue != null) {
             boolean valid = fieldValue.equals(fieldMatchValue);
@@ -43,4 +55,4 @@ public class FieldsValueMatchValidator implements ConstraintValidator<FieldsValu
             return fieldMatchValue == null;
         }
     }
-}
\ No newline at end of file
+}
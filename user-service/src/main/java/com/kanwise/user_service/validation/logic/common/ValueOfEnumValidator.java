@@ -2,27 +2,29 @@ package com.kanwise.user_service.validation.logic.common;
 
 
 import com.kanwise.user_service.validation.annotation.common.ValueOfEnum;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.List;
-import java.util.stream.Stream;
+import java.util.Set;
 
 import static java.util.Optional.ofNullable;
 
 @Service
+@RequiredArgsConstructor
 @Scope("prototype")
 public class ValueOfEnumValidator implements ConstraintValidator<ValueOfEnum, String> {
 
-    private List<String> acceptedValues;
+    private final ValidationMetadataCache validationMetadataCache;
+
+    private Set<String> acceptedValues;
 
     @Override
     public void initialize(ValueOfEnum annotation) {
-        acceptedValues = Stream.of(annotation.enumClass().getEnumConstants())
-                .map(Enum::name)
-                .toList();
+        acceptedValues = validationMetadataCache.getEnumNames(annotation.enumClass());
     }
 
     @Override
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import java.util.regex.Pattern;
 
 import static java.util.Optional.ofNullable;
 import static java.util.regex.Pattern.compile;
@@ -14,17 +15,17 @@ import static java.util.regex.Pattern.compile;
 @Scope("prototype")
 public class PhoneNumberPatternValidator implements ConstraintValidator<PhoneNumberPattern, String> {
 
-    private String pattern;
+    private Pattern pattern;
 
     @Override
     public void initialize(PhoneNumberPattern constraintAnnotation) {
-        this.pattern = constraintAnnotation.pattern();
+        this.pattern = compile(constraintAnnotation.pattern());
     }
 
     @Override
     public boolean isValid(String phoneNumber, ConstraintValidatorContext constraintValidatorContext) {
         return ofNullable(phoneNumber)
-                .map(p -> compile(pattern).matcher(p).matches())
+                .map(p -> pattern.matcher(p).matches())
                 .orElse(true);
     }
 }
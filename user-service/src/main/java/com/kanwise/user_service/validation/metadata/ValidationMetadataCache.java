@@ -0,0 +1,101 @@
+package com.kanwise.user_service.validation.metadata;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.stereotype.Component;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+@Component
+public class ValidationMetadataCache {
+
+    private final ClassValue<Map<String, MethodHandle>> accessors = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return resolveAccessors(type);
+        }
+    };
+
+    private final ClassValue<Set<String>> fieldNames = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return stream(type.getDeclaredFields())
+                    .filter(field -> !field.isSynthetic())
+                    .map(Field::getName)
+                    .collect(toUnmodifiableSet());
+        }
+    };
+
+    private final ClassValue<Set<String>> enumNames = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            return Stream.of(type.getEnumConstants())
+                    .map(constant -> ((Enum<?>) constant).name())
+                    .collect(toUnmodifiableSet());
+        }
+    };
+
+    private static Map<String, MethodHandle> resolveAccessors(Class<?> type) {
+        Map<String, MethodHandle> resolvedAccessors = new HashMap<>();
+        if (type.isRecord()) {
+            for (RecordComponent recordComponent : type.getRecordComponents()) {
+                resolvedAccessors.put(recordComponent.getName(), unreflect(recordComponent.getAccessor()));
+            }
+        } else {
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(type)) {
+                Method readMethod = propertyDescriptor.getReadMethod();
+                if (readMethod != null && readMethod.getDeclaringClass() != Object.class) {
+                    resolvedAccessors.put(propertyDescriptor.getName(), unreflect(readMethod));
+                }
+            }
+        }
+        return unmodifiableMap(resolvedAccessors);
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            method.trySetAccessible();
+            return MethodHandles.lookup()
+                    .unreflect(method)
+                    .asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("ACCESSOR_%s_NOT_ACCESSIBLE".formatted(method), e);
+        }
+    }
+
+    public Object getProperty(Object target, String propertyName) throws NoSuchMethodException, InvocationTargetException {
+        MethodHandle accessor = accessors.get(target.getClass()).get(propertyName);
+        if (accessor == null) {
+            throw new NoSuchMethodException("FIELD_%s_IS_NOT_PRESENT_ON_CLASS_%s".formatted(propertyName, target.getClass().getName()));
+        }
+        try {
+            return (Object) accessor.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    public Set<String> getFieldNames(Class<?> type) {
+        return fieldNames.get(type);
+    }
+
+    public Set<String> getEnumNames(Class<? extends Enum<?>> enumType) {
+        return enumNames.get(enumType);
+    }
+}
@@ -0,0 +1,6 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS user_username_trgm_idx ON public."user" USING gin (lower(username) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS user_first_name_trgm_idx ON public."user" USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS user_last_name_trgm_idx ON public."user" USING gin (lower(last_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS user_email_trgm_idx ON public."user" USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS profile_image_user_id_idx ON public.profile_image (user_id, uploaded_at DESC);
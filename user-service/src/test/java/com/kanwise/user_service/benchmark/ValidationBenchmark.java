@@ -0,0 +1,135 @@
+package com.kanwise.user_service.benchmark;
+
+import com.kanwise.user_service.model.authentication.request.RegisterRequest;
+import com.kanwise.user_service.model.user.command.EditUserCommand;
+import com.kanwise.user_service.validation.annotation.common.Conditional;
+import com.kanwise.user_service.validation.logic.common.ConditionalValidator;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Map;
+import java.util.Set;
+
+import static com.kanwise.user_service.model.authentication.two_factor_authentication.TwoFactorAction.LOGIN;
+import static com.kanwise.user_service.model.notification.subscribtions.UserNotificationType.USER_UPDATED;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.openjdk.jmh.annotations.Mode.AverageTime;
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@BenchmarkMode(AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private ConditionalValidator conditionalValidator;
+    private Validator validator;
+    private RegisterRequest registerRequest;
+    private EditUserCommand editUserCommand;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup
+    public void setUp() {
+        ValidationMetadataCache validationMetadataCache = new ValidationMetadataCache();
+        conditionalValidator = new ConditionalValidator(validationMetadataCache);
+        conditionalValidator.initialize(RegisterRequest.class.getAnnotation(Conditional.class));
+        validator = Validation.byDefaultProvider()
+                .configure()
+                .constraintValidatorFactory(new MetadataCacheConstraintValidatorFactory(validationMetadataCache))
+                .buildValidatorFactory()
+                .getValidator();
+        registerRequest = RegisterRequest.builder()
+                .firstName("Jan")
+                .lastName("Kowalski")
+                .username("jkowalski")
+                .email("jan.kowalski@kanwise.com")
+                .phoneNumber("+48 123 456 789")
+                .twoFactorEnabled(true)
+                .build();
+        editUserCommand = EditUserCommand.builder()
+                .firstName("Jan")
+                .lastName("Kowalski")
+                .username("jkowalski")
+                .email("jan.kowalski@kanwise.com")
+                .phoneNumber("+48 123 456 789")
+                .twoFactorEnabled(true)
+                .notificationSubscriptions(Map.of(USER_UPDATED, true))
+                .twoFactorSubscriptions(Map.of(LOGIN, true))
+                .build();
+    }
+
+    @Benchmark
+    public boolean registerConditional() {
+        return conditionalValidator.isValid(registerRequest, null);
+    }
+
+    @Benchmark
+    public boolean registerConditionalReflective() throws ReflectiveOperationException {
+        if (readRecordComponent(registerRequest, "twoFactorEnabled").toString().equals("true")) {
+            return !isEmpty(readRecordComponent(registerRequest, "phoneNumber"));
+        }
+        return true;
+    }
+
+    private Object readRecordComponent(Record record, String name) throws ReflectiveOperationException {
+        RecordComponent[] recordComponents = record.getClass().getRecordComponents();
+        String[] fieldNames = stream(recordComponents)
+                .map(RecordComponent::getName)
+                .toArray(String[]::new);
+        return recordComponents[asList(fieldNames).indexOf(name)].getAccessor().invoke(record);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<EditUserCommand>> editUser() {
+        return validator.validate(editUserCommand);
+    }
+
+    private record MetadataCacheConstraintValidatorFactory(ValidationMetadataCache validationMetadataCache) implements ConstraintValidatorFactory {
+
+        @Override
+        public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+            try {
+                for (Constructor<?> constructor : key.getConstructors()) {
+                    if (constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0] == ValidationMetadataCache.class) {
+                        return key.cast(constructor.newInstance(validationMetadataCache));
+                    }
+                }
+                return key.getConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void releaseInstance(ConstraintValidator<?, ?> instance) {
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.kanwise.user_service.configuration.cache;
 
-import com.google.common.cache.LoadingCache;
 import com.kanwise.user_service.configuration.security.brute_force_attack.BruteForceAttackConfigurationProperties;
+import com.kanwise.user_service.service.authentication.login.counter.SlidingWindowCounter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,38 +9,44 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.ActiveProfiles;
 
-import static java.util.concurrent.TimeUnit.MINUTES;
+import java.time.Clock;
+
+import static java.time.Duration.ofMinutes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = CacheConfiguration.class)
 @ActiveProfiles("test")
 class CacheConfigurationTest {
 
-    private final CacheConfiguration cacheConfiguration;
     private final ApplicationContext applicationContext;
 
     @MockBean
     private BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties;
+    @MockBean
+    private Clock clock;
 
     @Autowired
-    public CacheConfigurationTest(CacheConfiguration cacheConfiguration, ApplicationContext applicationContext) {
-        this.cacheConfiguration = cacheConfiguration;
+    public CacheConfigurationTest(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
     }
 
     @Test
-    void shouldPopulateCache() {
+    void shouldPopulateLoginAttemptCounters() {
         // Given
-        when(bruteForceAttackConfigurationProperties.expireAfterWriteUnit()).thenReturn(15);
-        when(bruteForceAttackConfigurationProperties.expireAfterWriteTimeUnit()).thenReturn(MINUTES);
+        when(bruteForceAttackConfigurationProperties.capacity()).thenReturn(1024);
+        when(bruteForceAttackConfigurationProperties.window()).thenReturn(ofMinutes(15));
+        when(bruteForceAttackConfigurationProperties.windowBuckets()).thenReturn(15);
         // When
-        LoadingCache<String, Integer> loginAttemptCache = cacheConfiguration.loginAttemptCache();
-        Object loginAttemptCacheBean = applicationContext.getBean("loginAttemptCache");
+        SlidingWindowCounter usernameLoginAttemptCounter = applicationContext.getBean("usernameLoginAttemptCounter", SlidingWindowCounter.class);
+        SlidingWindowCounter clientAddressLoginAttemptCounter = applicationContext.getBean("clientAddressLoginAttemptCounter", SlidingWindowCounter.class);
         // Then
-        assertNotNull(loginAttemptCache);
-        assertNotNull(loginAttemptCache);
-        assertEquals(loginAttemptCache, loginAttemptCacheBean);
+        assertNotNull(usernameLoginAttemptCounter);
+        assertNotNull(clientAddressLoginAttemptCounter);
+        assertNotSame(usernameLoginAttemptCounter, clientAddressLoginAttemptCounter);
+        assertEquals(1024, usernameLoginAttemptCounter.capacity());
+        assertEquals(1024, clientAddressLoginAttemptCounter.capacity());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package com.kanwise.user_service.configuration.cleanup;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static java.time.Duration.ofHours;
+import static java.time.Duration.ofMinutes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest(classes = CleanupConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class CleanupConfigurationPropertiesTest {
+
+    @Autowired
+    private CleanupConfigurationProperties cleanupConfigurationProperties;
+
+    @Test
+    void shouldPopulateCleanupConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertFalse(cleanupConfigurationProperties.enabled());
+        assertEquals(ofMinutes(1), cleanupConfigurationProperties.interval());
+        assertEquals(ofHours(1), cleanupConfigurationProperties.retention());
+        assertEquals(500, cleanupConfigurationProperties.batchSize());
+    }
+}
@@ -0,0 +1,27 @@
+package com.kanwise.user_service.configuration.image;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = ImageVariantsConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class ImageVariantsConfigurationPropertiesTest {
+
+    @Autowired
+    private ImageVariantsConfigurationProperties imageVariantsConfigurationProperties;
+
+    @Test
+    void shouldPopulateImageVariantsConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(256, imageVariantsConfigurationProperties.avatarSize());
+        assertEquals(64, imageVariantsConfigurationProperties.thumbnailSize());
+    }
+}
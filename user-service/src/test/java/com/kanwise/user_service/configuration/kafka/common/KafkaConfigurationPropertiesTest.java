@@ -25,5 +25,7 @@ class KafkaConfigurationPropertiesTest {
         assertEquals("localhost:29092", kafkaConfigurationProperties.bootstrapServers());
         assertEquals("notification-email", kafkaConfigurationProperties.topicNames().get(TopicType.NOTIFICATION_EMAIL));
         assertEquals("notification-sms", kafkaConfigurationProperties.getTopicName(TopicType.NOTIFICATION_SMS));
+        assertEquals("notification-sms-status", kafkaConfigurationProperties.getTopicName(TopicType.NOTIFICATION_SMS_STATUS));
+        assertEquals("notification-email-priority", kafkaConfigurationProperties.getTopicName(TopicType.NOTIFICATION_EMAIL_PRIORITY));
     }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.kanwise.user_service.configuration.kafka.consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = OtpSmsStatusConsumerConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class OtpSmsStatusConsumerConfigurationPropertiesTest {
+
+    @Autowired
+    private OtpSmsStatusConsumerConfigurationProperties otpSmsStatusConsumerConfigurationProperties;
+
+    @Test
+    void shouldPopulateOtpSmsStatusConsumerConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(1, otpSmsStatusConsumerConfigurationProperties.listenerConcurrency());
+        assertEquals(50, otpSmsStatusConsumerConfigurationProperties.maxPollRecords());
+    }
+}
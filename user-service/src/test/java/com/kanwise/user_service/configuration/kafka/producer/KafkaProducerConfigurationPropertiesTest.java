@@ -0,0 +1,62 @@
+package com.kanwise.user_service.configuration.kafka.producer;
+
+import com.kanwise.user_service.configuration.kafka.producer.KafkaProducerConfigurationProperties.TopicProducerProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
+import static org.apache.kafka.clients.producer.ProducerConfig.BATCH_SIZE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
+import static org.apache.kafka.common.record.CompressionType.LZ4;
+import static org.apache.kafka.common.record.CompressionType.NONE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(classes = KafkaProducerConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class KafkaProducerConfigurationPropertiesTest {
+
+    @Autowired
+    private KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
+    @Test
+    void shouldPopulateKafkaProducerConfigurationProperties() {
+        // Given
+        // When
+        TopicProducerProperties email = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_EMAIL);
+        TopicProducerProperties priorityEmail = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_EMAIL_PRIORITY);
+        TopicProducerProperties sms = kafkaProducerConfigurationProperties.topics().get(NOTIFICATION_SMS);
+        // Then
+        assertEquals(Duration.ofMillis(5), email.linger());
+        assertEquals(DataSize.ofKilobytes(32), email.batchSize());
+        assertEquals(LZ4, email.compressionType());
+        assertEquals(Duration.ZERO, priorityEmail.linger());
+        assertEquals(DataSize.ofKilobytes(16), priorityEmail.batchSize());
+        assertEquals(LZ4, priorityEmail.compressionType());
+        assertEquals(Duration.ZERO, sms.linger());
+        assertEquals(DataSize.ofKilobytes(16), sms.batchSize());
+        assertEquals(NONE, sms.compressionType());
+    }
+
+    @Test
+    void shouldResolveProducerOverrides() {
+        // Given
+        // When
+        Map<String, Object> overrides = kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL);
+        // Then
+        assertEquals(Map.of(LINGER_MS_CONFIG, 5L, BATCH_SIZE_CONFIG, 32768, COMPRESSION_TYPE_CONFIG, "lz4"), overrides);
+        assertTrue(kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_SMS_STATUS).isEmpty());
+    }
+}
@@ -3,7 +3,6 @@ package com.kanwise.user_service.configuration.kafka.producer;
 import com.kanwise.user_service.configuration.kafka.common.KafkaConfigurationProperties;
 import com.kanwise.user_service.model.notification.email.EmailRequest;
 import com.kanwise.user_service.model.notification.sms.OtpSmsRequest;
-import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -13,14 +12,15 @@ import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Map;
+import java.util.Set;
 
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
 import static org.apache.kafka.clients.producer.ProducerConfig.BOOTSTRAP_SERVERS_CONFIG;
-import static org.apache.kafka.clients.producer.ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG;
-import static org.apache.kafka.clients.producer.ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.COMPRESSION_TYPE_CONFIG;
+import static org.apache.kafka.clients.producer.ProducerConfig.LINGER_MS_CONFIG;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
@@ -38,6 +38,9 @@ class KafkaProducerConfigurationTest {
     @MockBean
     private KafkaConfigurationProperties kafkaConfigurationProperties;
 
+    @MockBean
+    private KafkaProducerConfigurationProperties kafkaProducerConfigurationProperties;
+
     @Autowired
     public KafkaProducerConfigurationTest(ApplicationContext applicationContext, KafkaProducerConfiguration kafkaProducerConfiguration) {
         this.applicationContext = applicationContext;
@@ -77,19 +80,32 @@ class KafkaProducerConfigurationTest {
     }
 
     @Test
-    void shouldPopulateKafkaEmailTemplate() {
+    void shouldPopulateKafkaEmailTemplates() {
         // Given
         when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
         // When
         KafkaTemplate<String, EmailRequest> kafkaEmailTemplate = kafkaProducerConfiguration.kafkaEmailTemplate(kafkaProducerConfiguration.producerEmailFactory());
         String[] beanNames = applicationContext.getBeanNamesForType(forType(new ParameterizedTypeReference<KafkaTemplate<String, EmailRequest>>() {
         }));
-        Object kafkaEmailTemplateBean = applicationContext.getBean(beanNames[0]);
         // Then
         assertNotNull(kafkaEmailTemplate);
-        assertEquals(1, beanNames.length);
-        assertNotNull(kafkaEmailTemplateBean);
-        assertEquals(KafkaTemplate.class, kafkaEmailTemplateBean.getClass());
+        assertEquals(Set.of("kafkaEmailTemplate", "kafkaPriorityEmailTemplate"), Set.of(beanNames));
+        assertEquals(KafkaTemplate.class, applicationContext.getBean(beanNames[0]).getClass());
+        assertEquals(KafkaTemplate.class, applicationContext.getBean(beanNames[1]).getClass());
+    }
+
+    @Test
+    void shouldApplyTopicProducerOverrides() {
+        // Given
+        when(kafkaConfigurationProperties.bootstrapServers()).thenReturn("localhost:29092");
+        when(kafkaProducerConfigurationProperties.getProducerOverrides(NOTIFICATION_EMAIL_PRIORITY)).thenReturn(Map.of(LINGER_MS_CONFIG, 0L, COMPRESSION_TYPE_CONFIG, "lz4"));
+        // When
+        KafkaTemplate<String, EmailRequest> kafkaPriorityEmailTemplate = kafkaProducerConfiguration.kafkaPriorityEmailTemplate(kafkaProducerConfiguration.producerEmailFactory());
+        // Then
+        Map<String, Object> configurationProperties = kafkaPriorityEmailTemplate.getProducerFactory().getConfigurationProperties();
+        assertEquals(0L, configurationProperties.get(LINGER_MS_CONFIG));
+        assertEquals("lz4", configurationProperties.get(COMPRESSION_TYPE_CONFIG));
+        assertEquals("localhost:29092", configurationProperties.get(BOOTSTRAP_SERVERS_CONFIG));
     }
 
     @Test
@@ -115,9 +131,7 @@ class KafkaProducerConfigurationTest {
         // When
         Map<String, Object> stringObjectMap = kafkaProducerConfiguration.producerConfiguration();
         // Then
-        assertEquals(3, stringObjectMap.size());
+        assertEquals(1, stringObjectMap.size());
         assertEquals("localhost:29092", stringObjectMap.get(BOOTSTRAP_SERVERS_CONFIG));
-        assertEquals(StringSerializer.class, stringObjectMap.get(KEY_SERIALIZER_CLASS_CONFIG));
-        assertEquals(JsonSerializer.class, stringObjectMap.get(VALUE_SERIALIZER_CLASS_CONFIG));
     }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.kanwise.user_service.configuration.kafka.serialization;
+
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.clients.kafka.serialization.BinarySerializer;
+import com.kanwise.clients.kafka.serialization.schema.OtpSmsResponseSchema;
+import com.kanwise.clients.user_service.authentication.model.OtpSmsResponse;
+import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OtpSmsNotifierResponseSchemaTest {
+
+    private static final String TOPIC = "notification-sms-status";
+
+    private final BinaryDeserializer<OtpSmsNotifierResponse> deserializer = new BinaryDeserializer<>(new OtpSmsNotifierResponseSchema(), OtpSmsNotifierResponse.class);
+
+    @Test
+    void shouldReadResponseWrittenByNotificationService() {
+        // Given
+        OtpSmsResponse otpSmsResponse = OtpSmsResponse.builder()
+                .otpId(1L)
+                .status(DELIVERED)
+                .message("SMS_DELIVERED_SUCCESSFULLY")
+                .build();
+        // When
+        OtpSmsNotifierResponse result = deserializer.deserialize(TOPIC, new BinarySerializer<>(new OtpSmsResponseSchema()).serialize(TOPIC, otpSmsResponse));
+        // Then
+        assertEquals(1L, result.getOtpId());
+        assertEquals(DELIVERED, result.getStatus());
+        assertEquals("SMS_DELIVERED_SUCCESSFULLY", result.getMessage());
+    }
+
+    @Test
+    void shouldReadLegacyJsonResponse() {
+        // Given
+        OtpSmsResponse otpSmsResponse = OtpSmsResponse.builder()
+                .otpId(2L)
+                .status(FAILED)
+                .message("An error occurred")
+                .build();
+        byte[] json;
+        try (JsonSerializer<OtpSmsResponse> jsonSerializer = new JsonSerializer<>()) {
+            json = jsonSerializer.serialize(TOPIC, otpSmsResponse);
+        }
+        // When
+        OtpSmsNotifierResponse result = deserializer.deserialize(TOPIC, json);
+        // Then
+        assertEquals(2L, result.getOtpId());
+        assertEquals(FAILED, result.getStatus());
+        assertEquals("An error occurred", result.getMessage());
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
 import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_SMS_STATUS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.when;
@@ -61,4 +62,33 @@ class KafkaTopicConfigurationTest {
         assertEquals(topicName, notificationSmsTopic.name());
         assertEquals(notificationSmsTopicBean, notificationSmsTopic);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPopulateNotificationSmsStatusTopic() {
+        // Given
+        String topicName = "notification-sms-status";
+        when(kafkaConfigurationProperties.getTopicName(NOTIFICATION_SMS_STATUS)).thenReturn(topicName);
+        // When
+        NewTopic notificationSmsStatusTopic = kafkaTopicConfiguration.notificationSmsStatusTopic();
+        Object notificationSmsStatusTopicBean = applicationContext.getBean("notificationSmsStatusTopic");
+        // Then
+        assertNotNull(notificationSmsStatusTopicBean);
+        assertNotNull(notificationSmsStatusTopic);
+        assertEquals(topicName, notificationSmsStatusTopic.name());
+        assertEquals(notificationSmsStatusTopicBean, notificationSmsStatusTopic);
+    }
+
+    @Test
+    void shouldPopulateNotificationEmailPriorityTopic() {
+        // Given
+        String topicName = "notification-email-priority";
+        // When
+        NewTopic notificationEmailPriorityTopic = kafkaTopicConfiguration.notificationEmailPriorityTopic();
+        Object notificationEmailPriorityTopicBean = applicationContext.getBean("notificationEmailPriorityTopic");
+        // Then
+        assertNotNull(notificationEmailPriorityTopicBean);
+        assertNotNull(notificationEmailPriorityTopic);
+        assertEquals(topicName, notificationEmailPriorityTopic.name());
+        assertEquals(notificationEmailPriorityTopicBean, notificationEmailPriorityTopic);
+    }
+}
@@ -0,0 +1,28 @@
+package com.kanwise.user_service.configuration.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(classes = UserSearchConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class UserSearchConfigurationPropertiesTest {
+
+    @Autowired
+    private UserSearchConfigurationProperties userSearchConfigurationProperties;
+
+    @Test
+    void shouldPopulateUserSearchConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(ofSeconds(30), userSearchConfigurationProperties.cacheExpiration());
+        assertEquals(100, userSearchConfigurationProperties.cacheSize());
+    }
+}
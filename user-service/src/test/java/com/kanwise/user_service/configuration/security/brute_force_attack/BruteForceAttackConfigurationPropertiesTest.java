@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import static java.time.Duration.ofMinutes;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -23,8 +24,12 @@ class BruteForceAttackConfigurationPropertiesTest {
         // When
         // Then
         assertEquals(5, bruteForceAttackConfigurationProperties.maximumNumberOfAttempts());
+        assertEquals(50, bruteForceAttackConfigurationProperties.maximumNumberOfAttemptsPerClientAddress());
         assertEquals(1, bruteForceAttackConfigurationProperties.attemptIncrement());
         assertEquals(15, bruteForceAttackConfigurationProperties.expireAfterWriteUnit());
         assertEquals(MINUTES, bruteForceAttackConfigurationProperties.expireAfterWriteTimeUnit());
+        assertEquals(15, bruteForceAttackConfigurationProperties.windowBuckets());
+        assertEquals(1024, bruteForceAttackConfigurationProperties.capacity());
+        assertEquals(ofMinutes(15), bruteForceAttackConfigurationProperties.window());
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
+import static com.kanwise.user_service.model.otp.OtpStoreType.DATABASE;
 import static java.time.Duration.ofMinutes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -24,5 +25,6 @@ class OtpConfigurationPropertiesTest {
         // Then
         assertEquals(6, otpConfigurationProperties.length());
         assertEquals(ofMinutes(5), otpConfigurationProperties.expiration());
+        assertEquals(DATABASE, otpConfigurationProperties.store());
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.kanwise.user_service.configuration.spaces;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -9,8 +10,11 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.ActiveProfiles;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.springframework.util.unit.DataSize.ofMegabytes;
 
 @SpringBootTest(classes = SpacesInitializer.class)
 @ActiveProfiles("test")
@@ -20,6 +24,8 @@ class SpacesInitializerTest {
     private final ApplicationContext applicationContext;
     @MockBean
     private SpacesConfigurationProperties spacesConfigurationProperties;
+    @MockBean
+    private SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
 
     @Autowired
     SpacesInitializerTest(SpacesInitializer spacesInitializer, ApplicationContext applicationContext) {
@@ -42,4 +48,20 @@ class SpacesInitializerTest {
         assertNotNull(spaceBean);
         assertEquals(space, spaceBean);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldPopulateTransferManager() {
+        // Given
+        AmazonS3 space = mock(AmazonS3.class);
+        when(spacesUploadConfigurationProperties.multipartThreshold()).thenReturn(ofMegabytes(8));
+        when(spacesUploadConfigurationProperties.partSize()).thenReturn(ofMegabytes(5));
+        when(spacesUploadConfigurationProperties.threads()).thenReturn(2);
+        // When
+        TransferManager transferManager = spacesInitializer.transferManager(space);
+        // Then
+        assertSame(space, transferManager.getAmazonS3Client());
+        assertEquals(ofMegabytes(8).toBytes(), transferManager.getConfiguration().getMultipartUploadThreshold());
+        assertEquals(ofMegabytes(5).toBytes(), transferManager.getConfiguration().getMinimumUploadPartSize());
+        transferManager.shutdownNow(false);
+    }
+}
@@ -0,0 +1,30 @@
+package com.kanwise.user_service.configuration.spaces;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.util.unit.DataSize.ofMegabytes;
+
+@SpringBootTest(classes = SpacesUploadConfigurationPropertiesTest.class)
+@ConfigurationPropertiesScan
+@ActiveProfiles("test")
+class SpacesUploadConfigurationPropertiesTest {
+
+    @Autowired
+    private SpacesUploadConfigurationProperties spacesUploadConfigurationProperties;
+
+    @Test
+    void shouldPopulateSpacesUploadConfigurationProperties() {
+        // Given
+        // When
+        // Then
+        assertEquals(ofMegabytes(8), spacesUploadConfigurationProperties.multipartThreshold());
+        assertEquals(ofMegabytes(5), spacesUploadConfigurationProperties.partSize());
+        assertEquals(2, spacesUploadConfigurationProperties.threads());
+        assertEquals(100, spacesUploadConfigurationProperties.directoryCacheSize());
+    }
+}
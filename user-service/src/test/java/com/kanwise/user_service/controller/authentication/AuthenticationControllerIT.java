@@ -91,12 +91,12 @@ class AuthenticationControllerIT {
 
     @BeforeEach
     void setUp() {
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -97,13 +97,13 @@ class LoginControllerIT {
 
     @BeforeEach
     void setUp() {
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
         when(memberClient.addMember(any())).thenReturn(ResponseEntity.ok(new MemberDto()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -14,6 +14,7 @@ import liquibase.exception.LiquibaseException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -44,6 +45,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
+import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.emailRequestDeserializer;
 import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.getKafkaConsumerProperties;
 import static java.time.Duration.ofMillis;
 import static java.time.LocalDateTime.now;
@@ -110,12 +112,12 @@ class OtpValidationControllerIT {
     void setUp() {
         when(clock.getZone()).thenReturn(Clock.systemDefaultZone().getZone());
         when(clock.instant()).thenReturn(Clock.systemDefaultZone().instant());
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -256,7 +258,7 @@ class OtpValidationControllerIT {
             // Given
             OtpValidationRequest otpValidationRequest = new OtpValidationRequest(1L, "123456");
             String username = "abeaston1d";
-            String topicName = "notification-email";
+            String topicName = "notification-email-priority";
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
             // When
             mockMvc.perform(post("/auth/login")
@@ -268,7 +270,7 @@ class OtpValidationControllerIT {
                     .andExpect(jsonPath("$.httpStatus").value(FORBIDDEN.getReasonPhrase().toUpperCase()))
                     .andExpect(jsonPath("$.message").value("USER_IS_DISABLED"));
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 mockMvc.perform(post("/auth/registration/otp/sms")
                                 .contentType(APPLICATION_JSON)
@@ -410,7 +412,7 @@ class OtpValidationControllerIT {
             // Given
             OtpValidationRequest otpValidationRequest = new OtpValidationRequest(1L, "123456");
             String username = "abeaston1d";
-            String topicName = "notification-email";
+            String topicName = "notification-email-priority";
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
             // When
             mockMvc.perform(post("/auth/login")
@@ -422,7 +424,7 @@ class OtpValidationControllerIT {
                     .andExpect(jsonPath("$.httpStatus").value(FORBIDDEN.getReasonPhrase().toUpperCase()))
                     .andExpect(jsonPath("$.message").value("USER_IS_DISABLED"));
 
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 mockMvc.perform(post("/auth/registration/otp/sms")
                                 .contentType(APPLICATION_JSON)
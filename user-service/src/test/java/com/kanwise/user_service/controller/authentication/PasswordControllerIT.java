@@ -16,6 +16,7 @@ import liquibase.exception.LiquibaseException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -47,6 +48,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static com.kanwise.user_service.constant.SecurityConstant.ACCESS_DENIED_MESSAGE;
+import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.emailRequestDeserializer;
 import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.getKafkaConsumerProperties;
 import static java.time.Duration.ofMillis;
 import static java.time.LocalDateTime.now;
@@ -113,12 +115,12 @@ class PasswordControllerIT {
     void setUp() {
         when(clock.getZone()).thenReturn(Clock.systemDefaultZone().getZone());
         when(clock.instant()).thenReturn(Clock.systemDefaultZone().instant());
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -132,7 +134,7 @@ class PasswordControllerIT {
         void shouldResetForgottenPassword() throws Exception {
             // Given
             String email = "jolettatiger.kanwise@gmail.com";
-            String topicName = "notification-email";
+            String topicName = "notification-email-priority";
             String oldPassword = "Password123*";
             String newPassword = "*321drowssaP";
             ForgottenPasswordResetRequest forgottenPasswordResetRequest = new ForgottenPasswordResetRequest(email);
@@ -155,7 +157,7 @@ class PasswordControllerIT {
                     .andExpect(header().exists(AUTHORIZATION))
                     .andExpect(header().string(AUTHORIZATION, startsWith("Bearer ")));
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 mockMvc.perform(post("/auth/password/request/forgotten")
                                 .contentType(APPLICATION_JSON)
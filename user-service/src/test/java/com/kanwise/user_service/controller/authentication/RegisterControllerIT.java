@@ -15,6 +15,7 @@ import liquibase.exception.LiquibaseException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +42,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.emailRequestDeserializer;
 import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.getKafkaConsumerProperties;
+import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.otpSmsRequestDeserializer;
 import static java.time.Duration.ofMillis;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -96,12 +99,12 @@ class RegisterControllerIT {
     void setUp() {
         Mockito.when(memberClient.addMember(Mockito.any())).thenReturn(ResponseEntity.ok().body(null));
         Mockito.when(subscriberClient.addSubscriber(Mockito.any())).thenReturn(ResponseEntity.ok().body(null));
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -132,10 +135,10 @@ class RegisterControllerIT {
                     .twoFactorEnabled(false)
                     .build();
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
-            String topicName = "notification-email";
+            String topicName = "notification-email-priority";
             // When
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 mockMvc.perform(post("/auth/register")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -203,7 +206,7 @@ class RegisterControllerIT {
             String topicName = "notification-sms";
             // When
             // Then
-            try (KafkaConsumer<String, OtpSmsRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, OtpSmsRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), otpSmsRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 String responseJson = mockMvc.perform(post("/auth/register")
                                 .contentType(APPLICATION_JSON)
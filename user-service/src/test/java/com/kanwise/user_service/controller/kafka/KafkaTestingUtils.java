@@ -1,9 +1,12 @@
 package com.kanwise.user_service.controller.kafka;
 
+import com.kanwise.clients.kafka.serialization.BinaryDeserializer;
+import com.kanwise.user_service.configuration.kafka.serialization.EmailRequestSchema;
+import com.kanwise.user_service.configuration.kafka.serialization.OtpSmsRequestSchema;
+import com.kanwise.user_service.model.notification.email.EmailRequest;
+import com.kanwise.user_service.model.notification.sms.OtpSmsRequest;
 import lombok.experimental.UtilityClass;
-import org.apache.kafka.common.serialization.StringDeserializer;
-import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -11,11 +14,6 @@ import java.util.Map;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.AUTO_OFFSET_RESET_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.GROUP_ID_CONFIG;
-import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
-import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
-import static org.springframework.kafka.support.serializer.ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS;
-import static org.springframework.kafka.support.serializer.ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS;
-import static org.springframework.kafka.support.serializer.JsonDeserializer.TRUSTED_PACKAGES;
 
 
 @UtilityClass
@@ -24,13 +22,16 @@ public class KafkaTestingUtils {
     public static Map<String, Object> getKafkaConsumerProperties(String bootstrapServers) {
         Map<String, Object> properties = new HashMap<>();
         properties.put(BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        properties.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        properties.put(VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         properties.put(GROUP_ID_CONFIG, "producer");
-        properties.put(KEY_DESERIALIZER_CLASS, ErrorHandlingDeserializer.class);
-        properties.put(VALUE_DESERIALIZER_CLASS, ErrorHandlingDeserializer.class);
         properties.put(AUTO_OFFSET_RESET_CONFIG, "earliest");
-        properties.put(TRUSTED_PACKAGES, "*");
         return properties;
     }
+
+    public static Deserializer<EmailRequest> emailRequestDeserializer() {
+        return new BinaryDeserializer<>(new EmailRequestSchema(), EmailRequest.class);
+    }
+
+    public static Deserializer<OtpSmsRequest> otpSmsRequestDeserializer() {
+        return new BinaryDeserializer<>(new OtpSmsRequestSchema(), OtpSmsRequest.class);
+    }
 }
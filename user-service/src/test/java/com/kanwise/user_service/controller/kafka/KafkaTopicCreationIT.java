@@ -43,7 +43,7 @@ class KafkaTopicCreationIT {
         try (AdminClient client = AdminClient.create(admin.getConfigurationProperties())) {
             Collection<TopicListing> topicList = client.listTopics().listings().get();
             assertNotNull(topicList);
-            assertEquals(asList("notification-email", "notification-sms"), topicList.stream().map(TopicListing::name).toList());
+            assertEquals(asList("notification-email", "notification-email-priority", "notification-sms", "notification-sms-status"), topicList.stream().map(TopicListing::name).sorted().toList());
         }
     }
 }
@@ -14,6 +14,7 @@ import liquibase.exception.LiquibaseException;
 import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.emailRequestDeserializer;
 import static com.kanwise.user_service.controller.kafka.KafkaTestingUtils.getKafkaConsumerProperties;
 import static com.kanwise.user_service.model.authentication.two_factor_authentication.TwoFactorAction.CHANGE_PASSWORD;
 import static com.kanwise.user_service.model.authentication.two_factor_authentication.TwoFactorAction.LOGIN;
@@ -113,12 +115,12 @@ class UserControllerIT {
     void setUp() {
         when(memberClient.addMember(any())).thenReturn(new ResponseEntity<>(CREATED));
         when(subscriberClient.addSubscriber(any())).thenReturn(new ResponseEntity<>(CREATED));
-        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email").build()));
+        kafkaAdminClient.createTopics(List.of(name("notification-sms").build(), name("notification-email-priority").build()));
     }
 
     @AfterEach
     void tearDown() throws LiquibaseException {
-        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email"));
+        kafkaAdminClient.deleteTopics(List.of("notification-sms", "notification-email-priority"));
         kafkaAdminClient.close();
         databaseCleaner.cleanUp();
     }
@@ -146,10 +148,10 @@ class UserControllerIT {
                     .email("johndoe.kanwise@gmail.com")
                     .build();
             Map<String, Object> kafkaConsumerProperties = getKafkaConsumerProperties(kafkaContainer.getBootstrapServers());
-            String topicName = "notification-email";
+            String topicName = "notification-email-priority";
             // When
             // Then
-            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties)) {
+            try (KafkaConsumer<String, EmailRequest> consumer = new KafkaConsumer<>(kafkaConsumerProperties, new StringDeserializer(), emailRequestDeserializer())) {
                 consumer.subscribe(singletonList(topicName));
                 mockMvc.perform(post("/user")
                                 .contentType(APPLICATION_JSON)
@@ -1012,6 +1014,113 @@ class UserControllerIT {
         }
     }
 
+    @Nested
+    class ShouldSearchUsers {
+
+        @Test
+        void shouldSearchUsersByLastNamePrefix() throws Exception {
+            // Given
+            String query = "Kemi";
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=" + query)
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$").isArray())
+                    .andExpect(jsonPath("$.length()").value(3))
+                    .andExpect(jsonPath("$[0].id").value(12))
+                    .andExpect(jsonPath("$[0].username").value("gprisleyb"))
+                    .andExpect(jsonPath("$[0].firstName").value("Gavan"))
+                    .andExpect(jsonPath("$[0].lastName").value("Kemish"))
+                    .andExpect(jsonPath("$[0].email").value("gavankemish.kanwise@gmail.com"))
+                    .andExpect(jsonPath("$[1].id").value(10))
+                    .andExpect(jsonPath("$[2].id").value(25))
+                    .andDo(print());
+        }
+
+        @Test
+        void shouldRankUsernamePrefixMatchesFirst() throws Exception {
+            // Given
+            String query = "skem";
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=" + query)
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[0].id").value(10))
+                    .andExpect(jsonPath("$[0].username").value("skemish9"))
+                    .andDo(print());
+        }
+
+        @Test
+        void shouldLimitSearchResults() throws Exception {
+            // Given
+            String query = "kemish";
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=" + query + "&limit=1")
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].id").value(12))
+                    .andDo(print());
+        }
+
+        @Test
+        void shouldNotMatchUsersForUnknownQuery() throws Exception {
+            // Given
+            String query = "zzqx";
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=" + query)
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(0))
+                    .andDo(print());
+        }
+    }
+
+    @Nested
+    class ShouldNotSearchUsers {
+
+        @Test
+        void shouldNotSearchUsersIfNotAuthorized() throws Exception {
+            // Given
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=kemish"))
+                    .andExpect(status().isForbidden())
+                    .andExpect(jsonPath("$.httpStatusCode").value(FORBIDDEN.value()))
+                    .andExpect(jsonPath("$.message").value("FULL_AUTHENTICATION_IS_REQUIRED_TO_ACCESS_THIS_RESOURCE"));
+        }
+
+        @ValueSource(strings = {"k", "x"})
+        @ParameterizedTest
+        void shouldNotSearchUsersWithTooShortQuery(String query) throws Exception {
+            // Given
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=" + query)
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.[?(@.field == 'query' && @.message == 'QUERY_LENGTH_INVALID')]").exists())
+                    .andDo(print());
+        }
+
+        @ValueSource(ints = {0, 26})
+        @ParameterizedTest
+        void shouldNotSearchUsersWithInvalidLimit(int limit) throws Exception {
+            // Given
+            // When
+            // Then
+            mockMvc.perform(get("/user/search?query=kemish&limit=" + limit)
+                            .header(AUTHORIZATION, getAdminAuthorizationHeader()))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.[?(@.field == 'limit')]").exists())
+                    .andDo(print());
+        }
+    }
+
     @Nested
     class ShouldEditUser {
         @Test
@@ -0,0 +1,94 @@
+package com.kanwise.user_service.service.authentication.login.counter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static java.time.Duration.ofMinutes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SlidingWindowCounterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    @Mock
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+    }
+
+    @Test
+    void shouldCountIncrementsWithinWindow() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, ofMinutes(15), 15, clock);
+        // When
+        counter.increment("username", 1);
+        counter.increment("username", 1);
+        int count = counter.increment("username", 1);
+        // Then
+        assertEquals(3, count);
+        assertEquals(3, counter.count("username"));
+        assertEquals(0, counter.count("otherUsername"));
+    }
+
+    @Test
+    void shouldDropIncrementsOlderThanWindow() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, ofMinutes(15), 15, clock);
+        counter.increment("username", 2);
+        when(clock.millis()).thenReturn(10 * MINUTE);
+        counter.increment("username", 3);
+        // When
+        when(clock.millis()).thenReturn(15 * MINUTE);
+        int countAfterFirstBucketExpired = counter.count("username");
+        when(clock.millis()).thenReturn(25 * MINUTE);
+        int countAfterWindowExpired = counter.count("username");
+        // Then
+        assertEquals(3, countAfterFirstBucketExpired);
+        assertEquals(0, countAfterWindowExpired);
+    }
+
+    @Test
+    void shouldResetCounter() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(1024, ofMinutes(15), 15, clock);
+        counter.increment("username", 5);
+        // When
+        counter.reset("username");
+        // Then
+        assertEquals(0, counter.count("username"));
+    }
+
+    @Test
+    void shouldKeepMemoryBoundedWhenCapacityIsExceeded() {
+        // Given
+        SlidingWindowCounter counter = new SlidingWindowCounter(8, ofMinutes(15), 15, clock);
+        // When
+        for (int i = 0; i < 100; i++) {
+            counter.increment("username" + i, 1);
+        }
+        // Then
+        assertEquals(8, counter.capacity());
+        assertTrue(counter.evictions() > 0);
+        assertEquals(1, counter.count("username99"));
+    }
+
+    @Test
+    void shouldRejectWindowShorterThanNumberOfBuckets() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounter(1024, ofMinutes(0), 15, clock));
+    }
+}
@@ -1,55 +1,109 @@
 package com.kanwise.user_service.service.authentication.login.implementation;
 
-import com.google.common.cache.LoadingCache;
 import com.kanwise.user_service.configuration.security.brute_force_attack.BruteForceAttackConfigurationProperties;
+import com.kanwise.user_service.service.authentication.login.counter.SlidingWindowCounter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.boot.test.system.CapturedOutput;
-import org.springframework.boot.test.system.OutputCaptureExtension;
 
-import java.util.concurrent.ExecutionException;
+import java.time.Clock;
 
+import static java.time.Duration.ofMinutes;
+import static java.time.Instant.parse;
+import static java.time.ZoneOffset.UTC;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
-@ExtendWith({OutputCaptureExtension.class, MockitoExtension.class})
 class LoginAttemptServiceTest {
 
+    private static final String USERNAME = "jargrave0";
+    private static final String CLIENT_ADDRESS = "10.0.0.1";
+
     private LoginAttemptService loginAttemptService;
-    @Mock
-    private BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties;
-    @Mock
-    private LoadingCache<String, Integer> loginAttemptCache;
+    private MeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        loginAttemptService = new LoginAttemptService(bruteForceAttackConfigurationProperties, loginAttemptCache);
+        BruteForceAttackConfigurationProperties bruteForceAttackConfigurationProperties = new BruteForceAttackConfigurationProperties(5, 10, 1, 15, MINUTES, 15, 1024);
+        Clock clock = Clock.fixed(parse("2022-11-01T10:00:00Z"), UTC);
+        meterRegistry = new SimpleMeterRegistry();
+        loginAttemptService = new LoginAttemptService(bruteForceAttackConfigurationProperties,
+                new SlidingWindowCounter(1024, ofMinutes(15), 15, clock),
+                new SlidingWindowCounter(1024, ofMinutes(15), 15, clock),
+                meterRegistry);
+    }
+
+    @Test
+    void shouldBlockUsernameAfterMaximumNumberOfAttempts() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.addUserToLoginAttemptCache(USERNAME, CLIENT_ADDRESS);
+        }
+        // When
+        boolean blockedBeforeLimit = loginAttemptService.hasExceedsMaxAttempts(USERNAME);
+        loginAttemptService.addUserToLoginAttemptCache(USERNAME, CLIENT_ADDRESS);
+        boolean blockedAfterLimit = loginAttemptService.hasExceedsMaxAttempts(USERNAME);
+        // Then
+        assertFalse(blockedBeforeLimit);
+        assertTrue(blockedAfterLimit);
+        assertEquals(5, meterRegistry.counter("kanwise.login.attempts.failed").count());
+        assertEquals(1, meterRegistry.counter("kanwise.login.attempts.blocked", "key", "username").count());
+    }
+
+    @Test
+    void shouldNotBlockUsernameAfterEviction() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.addUserToLoginAttemptCache(USERNAME, CLIENT_ADDRESS);
+        }
+        // When
+        loginAttemptService.evictUserFromLoginAttemptCache(USERNAME);
+        // Then
+        assertFalse(loginAttemptService.hasExceedsMaxAttempts(USERNAME));
+    }
+
+    @Test
+    void shouldBlockClientAddressAfterAttemptsAgainstManyUsernames() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            loginAttemptService.addUserToLoginAttemptCache(USERNAME + i, CLIENT_ADDRESS);
+        }
+        // When
+        boolean blocked = loginAttemptService.hasClientAddressExceedsMaxAttempts(CLIENT_ADDRESS);
+        // Then
+        assertTrue(blocked);
+        assertFalse(loginAttemptService.hasExceedsMaxAttempts(USERNAME + 0));
+        assertEquals(1, meterRegistry.counter("kanwise.login.attempts.blocked", "key", "client_address").count());
     }
 
     @Test
-    void shouldLogErrorIfUsernameIsNotFundInCache(CapturedOutput output) throws ExecutionException {
+    void shouldIgnoreUnknownClientAddress() {
         // Given
-        String nonExistingUsername = "nonExistingUsername";
-        String expectedErrorMessage = "Username not found in cache";
-        when(loginAttemptCache.get(nonExistingUsername)).thenThrow(NullPointerException.class);
+        for (int i = 0; i < 10; i++) {
+            loginAttemptService.addUserToLoginAttemptCache(USERNAME, null);
+        }
         // When
-        loginAttemptService.addUserToLoginAttemptCache(nonExistingUsername);
+        boolean blocked = loginAttemptService.hasClientAddressExceedsMaxAttempts(null);
         // Then
-        assertTrue(output.getOut().contains(expectedErrorMessage));
+        assertFalse(blocked);
+        assertTrue(loginAttemptService.hasExceedsMaxAttempts(USERNAME));
     }
 
     @Test
-    void shouldLogErrorIfUsernameIsNotFoundInCacheDuringMaxAttemptsCheck(CapturedOutput output) throws ExecutionException {
+    void shouldExposeEvictionsAsFunctionCounters() {
         // Given
-        String nonExistingUsername = "nonExistingUsername";
-        String expectedErrorMessage = "Username not found in cache";
-        when(loginAttemptCache.get(nonExistingUsername)).thenThrow(NullPointerException.class);
+        String metric = "kanwise.login.attempts.evictions";
         // When
-        loginAttemptService.hasExceedsMaxAttempts(nonExistingUsername);
+        FunctionCounter usernameEvictions = meterRegistry.find(metric).tag("key", "username").functionCounter();
+        FunctionCounter clientAddressEvictions = meterRegistry.find(metric).tag("key", "client_address").functionCounter();
         // Then
-        assertTrue(output.getOut().contains(expectedErrorMessage));
+        assertNotNull(usernameEvictions);
+        assertNotNull(clientAddressEvictions);
+        assertEquals(0, usernameEvictions.count());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.kanwise.user_service.service.authentication.otp.notifier_response.implementation.sms;
+
+import com.kanwise.clients.user_service.authentication.model.OtpStatus;
+import com.kanwise.user_service.model.otp.OtpSmsNotifierResponse;
+import com.kanwise.user_service.service.otp.IOtpService;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class OtpSmsNotifierResponseServiceTest {
+
+    private final IOtpService otpService = mock(IOtpService.class);
+    private final OtpSmsNotifierResponseService otpSmsNotifierResponseService = new OtpSmsNotifierResponseService(otpService);
+
+    @Test
+    void shouldUpdateStatusesOnceForWholeBatchKeepingLatestStatusPerOtp() {
+        // Given
+        List<OtpSmsNotifierResponse> responses = List.of(
+                createResponse(1L, FAILED),
+                createResponse(2L, DELIVERED),
+                createResponse(1L, DELIVERED)
+        );
+        Map<Long, OtpStatus> expectedStatuses = new LinkedHashMap<>();
+        expectedStatuses.put(1L, DELIVERED);
+        expectedStatuses.put(2L, DELIVERED);
+        // When
+        otpSmsNotifierResponseService.processOtpResponses(responses);
+        // Then
+        verify(otpService).updateOneTimePasswordStatuses(expectedStatuses);
+    }
+
+    private OtpSmsNotifierResponse createResponse(long otpId, OtpStatus status) {
+        return OtpSmsNotifierResponse.builder()
+                .otpId(otpId)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.kanwise.user_service.service.image.implementation;
+
+import com.kanwise.user_service.model.file.FileUploadStatus;
+import com.kanwise.user_service.model.image.Image;
+import com.kanwise.user_service.model.image.event.ImageUploadedEvent;
+import com.kanwise.user_service.repository.image.ImageRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static com.kanwise.user_service.model.file.FileUploadStatus.FAILED;
+import static com.kanwise.user_service.model.file.FileUploadStatus.SUCCESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageServiceTest {
+
+    private final ImageRepository imageRepository = mock(ImageRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final ImageService imageService = new ImageService(imageRepository, eventPublisher);
+
+    @Test
+    void shouldPublishImageUploadedEventForSuccessfulUpload() {
+        // Given
+        Image image = createImage(SUCCESS);
+        when(imageRepository.save(image)).thenReturn(image);
+        // When
+        Image savedImage = imageService.saveUploadedImage(image);
+        // Then
+        assertEquals(image, savedImage);
+        verify(eventPublisher).publishEvent(new ImageUploadedEvent(1L));
+    }
+
+    @Test
+    void shouldNotPublishImageUploadedEventForFailedUpload() {
+        // Given
+        Image image = createImage(FAILED);
+        when(imageRepository.save(image)).thenReturn(image);
+        // When
+        imageService.saveUploadedImage(image);
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(ImageUploadedEvent.class));
+    }
+
+    private Image createImage(FileUploadStatus uploadStatus) {
+        Image image = new Image();
+        image.setId(1L);
+        image.setUploadStatus(uploadStatus);
+        return image;
+    }
+}
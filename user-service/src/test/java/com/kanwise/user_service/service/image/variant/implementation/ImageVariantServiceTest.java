@@ -0,0 +1,123 @@
+package com.kanwise.user_service.service.image.variant.implementation;
+
+import com.kanwise.user_service.configuration.image.ImageVariantsConfigurationProperties;
+import com.kanwise.user_service.configuration.spaces.SpacesNamesConfigurationProperties;
+import com.kanwise.user_service.model.image.Image;
+import com.kanwise.user_service.model.user.User;
+import com.kanwise.user_service.repository.image.ImageRepository;
+import com.kanwise.user_service.service.spaces.ISpacesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.kanwise.user_service.model.file.FileUploadStatus.FAILED;
+import static com.kanwise.user_service.model.file.FileUploadStatus.SUCCESS;
+import static java.awt.image.BufferedImage.TYPE_INT_RGB;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    private static final String SPACE_NAME = "kanwise";
+
+    @Mock
+    private ImageRepository imageRepository;
+    @Mock
+    private ISpacesService spacesService;
+    private ImageVariantService imageVariantService;
+
+    @BeforeEach
+    void setUp() {
+        imageVariantService = new ImageVariantService(
+                imageRepository,
+                spacesService,
+                new SpacesNamesConfigurationProperties(SPACE_NAME),
+                new ImageVariantsConfigurationProperties(256, 64));
+    }
+
+    @Test
+    void shouldUploadSquareAvatarAndThumbnailVariants() throws Exception {
+        // Given
+        Map<String, BufferedImage> uploadedVariants = new HashMap<>();
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(createImage()));
+        when(spacesService.downloadFile("images/username/profile.jpg", SPACE_NAME)).thenReturn(createPng(400, 200));
+        when(spacesService.uploadFile(any(InputStream.class), anyLong(), eq("image/png"), anyString(), eq(SPACE_NAME))).thenAnswer(invocation -> {
+            uploadedVariants.put(invocation.getArgument(3), ImageIO.read(invocation.<InputStream>getArgument(0)));
+            return SUCCESS;
+        });
+        when(spacesService.getFileUrl(anyString(), eq(SPACE_NAME))).thenAnswer(invocation -> new URL("https://kanwise.space/" + invocation.getArgument(0)));
+        // When
+        imageVariantService.generateVariants(1L);
+        // Then
+        BufferedImage avatar = uploadedVariants.get("images/username/avatar/profile.png");
+        BufferedImage thumbnail = uploadedVariants.get("images/username/thumbnail/profile.png");
+        assertEquals(200, avatar.getWidth());
+        assertEquals(200, avatar.getHeight());
+        assertEquals(64, thumbnail.getWidth());
+        assertEquals(64, thumbnail.getHeight());
+        verify(imageRepository).updateVariantUrls(1L,
+                "https://kanwise.space/images/username/avatar/profile.png",
+                "https://kanwise.space/images/username/thumbnail/profile.png");
+    }
+
+    @Test
+    void shouldLeaveVariantUrlsEmptyWhenVariantUploadFails() throws Exception {
+        // Given
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(createImage()));
+        when(spacesService.downloadFile("images/username/profile.jpg", SPACE_NAME)).thenReturn(createPng(100, 100));
+        when(spacesService.uploadFile(any(InputStream.class), anyLong(), eq("image/png"), anyString(), eq(SPACE_NAME))).thenReturn(FAILED);
+        // When
+        imageVariantService.generateVariants(1L);
+        // Then
+        verify(imageRepository).updateVariantUrls(eq(1L), isNull(), isNull());
+        verify(spacesService, never()).getFileUrl(anyString(), anyString());
+    }
+
+    @Test
+    void shouldSkipVariantsWhenOriginalIsNotAnImage() {
+        // Given
+        when(imageRepository.findById(1L)).thenReturn(Optional.of(createImage()));
+        when(spacesService.downloadFile("images/username/profile.jpg", SPACE_NAME)).thenReturn(new ByteArrayInputStream(new byte[1024]));
+        // When
+        imageVariantService.generateVariants(1L);
+        // Then
+        verify(spacesService, never()).uploadFile(any(InputStream.class), anyLong(), anyString(), anyString(), anyString());
+        verify(imageRepository, never()).updateVariantUrls(anyLong(), any(), any());
+    }
+
+    private Image createImage() {
+        User user = new User();
+        user.setUsername("username");
+        Image image = new Image();
+        image.setId(1L);
+        image.setUser(user);
+        image.setImageName("profile.jpg");
+        return image;
+    }
+
+    private InputStream createPng(int width, int height) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, TYPE_INT_RGB), "png", outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+}
@@ -0,0 +1,82 @@
+package com.kanwise.user_service.service.notification.email.implementation;
+
+import com.kanwise.user_service.configuration.kafka.common.KafkaConfigurationProperties;
+import com.kanwise.user_service.model.notification.email.EmailMessageType;
+import com.kanwise.user_service.model.notification.email.EmailRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL;
+import static com.kanwise.user_service.model.kafka.TopicType.NOTIFICATION_EMAIL_PRIORITY;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.ACCOUNT_BLOCKED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.ACCOUNT_CREATED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.NEW_TASK_ASSIGNED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.PASSWORD_CHANGED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.PASSWORD_RESET;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.PROJECT_JOIN_REQUEST_ACCEPTED;
+import static com.kanwise.user_service.model.notification.email.EmailMessageType.USER_INFORMATION_CHANGED;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class EmailNotificationServiceTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, EmailRequest> kafkaEmailTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, EmailRequest> kafkaPriorityEmailTemplate = mock(KafkaTemplate.class);
+    private final KafkaConfigurationProperties kafkaConfigurationProperties = new KafkaConfigurationProperties("localhost:29092", Map.of(
+            NOTIFICATION_EMAIL, "notification-email",
+            NOTIFICATION_EMAIL_PRIORITY, "notification-email-priority"));
+    private final EmailNotificationService emailNotificationService = new EmailNotificationService(kafkaEmailTemplate, kafkaPriorityEmailTemplate, kafkaConfigurationProperties);
+
+    static Stream<Arguments> emailMessageTypes() {
+        return Stream.of(
+                arguments(ACCOUNT_CREATED, "notification-email-priority", true),
+                arguments(ACCOUNT_BLOCKED, "notification-email-priority", true),
+                arguments(PASSWORD_RESET, "notification-email-priority", true),
+                arguments(PASSWORD_CHANGED, "notification-email-priority", true),
+                arguments(NEW_TASK_ASSIGNED, "notification-email", false),
+                arguments(PROJECT_JOIN_REQUEST_ACCEPTED, "notification-email", false),
+                arguments(USER_INFORMATION_CHANGED, "notification-email", false)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("emailMessageTypes")
+    void shouldRouteEmailByMessageType(EmailMessageType emailMessageType, String expectedTopic, boolean priority) {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder()
+                .to("jolettatiger.kanwise@gmail.com")
+                .type(emailMessageType)
+                .build();
+        // When
+        emailNotificationService.sendEmail(emailRequest);
+        // Then
+        assertNotNull(emailRequest.getMessageId());
+        verify(priority ? kafkaPriorityEmailTemplate : kafkaEmailTemplate).send(expectedTopic, emailRequest.getMessageId(), emailRequest);
+        verifyNoInteractions(priority ? kafkaEmailTemplate : kafkaPriorityEmailTemplate);
+    }
+
+    @Test
+    void shouldKeepExistingMessageId() {
+        // Given
+        EmailRequest emailRequest = EmailRequest.builder()
+                .to("jolettatiger.kanwise@gmail.com")
+                .type(PASSWORD_RESET)
+                .messageId("message-id")
+                .build();
+        // When
+        emailNotificationService.sendEmail(emailRequest);
+        // Then
+        verify(kafkaPriorityEmailTemplate).send("notification-email-priority", "message-id", emailRequest);
+    }
+}
@@ -0,0 +1,106 @@
+package com.kanwise.user_service.service.otp.store.implementation;
+
+import com.kanwise.user_service.model.otp.OneTimePassword;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.CREATED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.DELIVERED;
+import static com.kanwise.clients.user_service.authentication.model.OtpStatus.FAILED;
+import static java.time.Instant.parse;
+import static java.time.ZoneOffset.UTC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryOtpStoreTest {
+
+    private InMemoryOtpStore inMemoryOtpStore;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(parse("2022-11-01T10:00:00Z"), UTC);
+        now = LocalDateTime.now(clock);
+        inMemoryOtpStore = new InMemoryOtpStore(clock);
+    }
+
+    @Test
+    void shouldAssignIdentifierAndFindSavedOneTimePassword() {
+        // Given
+        OneTimePassword oneTimePassword = createOneTimePassword(now.plusMinutes(5));
+        // When
+        OneTimePassword savedOneTimePassword = inMemoryOtpStore.save(oneTimePassword);
+        // Then
+        assertNotNull(savedOneTimePassword.getId());
+        assertTrue(inMemoryOtpStore.existsById(savedOneTimePassword.getId()));
+        assertEquals(savedOneTimePassword, inMemoryOtpStore.findById(savedOneTimePassword.getId()).orElseThrow());
+    }
+
+    @Test
+    void shouldUpdateStatusOfExistingOneTimePasswordOnly() {
+        // Given
+        OneTimePassword oneTimePassword = inMemoryOtpStore.save(createOneTimePassword(now.plusMinutes(5)));
+        // When
+        boolean updated = inMemoryOtpStore.updateStatus(oneTimePassword.getId(), DELIVERED);
+        boolean updatedMissing = inMemoryOtpStore.updateStatus(oneTimePassword.getId() + 1, DELIVERED);
+        // Then
+        assertTrue(updated);
+        assertFalse(updatedMissing);
+        assertEquals(DELIVERED, oneTimePassword.getStatus());
+    }
+
+    @Test
+    void shouldUpdateStatusesOfExistingOneTimePasswordsInBatch() {
+        // Given
+        OneTimePassword delivered = inMemoryOtpStore.save(createOneTimePassword(now.plusMinutes(5)));
+        OneTimePassword failed = inMemoryOtpStore.save(createOneTimePassword(now.plusMinutes(5)));
+        // When
+        int updated = inMemoryOtpStore.updateStatuses(Map.of(delivered.getId(), DELIVERED, failed.getId(), FAILED, failed.getId() + 1, DELIVERED));
+        // Then
+        assertEquals(2, updated);
+        assertEquals(DELIVERED, delivered.getStatus());
+        assertEquals(FAILED, failed.getStatus());
+    }
+
+    @Test
+    void shouldPurgeOnlyExpiredOneTimePasswords() {
+        // Given
+        OneTimePassword expired = inMemoryOtpStore.save(createOneTimePassword(now.plusSeconds(30)));
+        OneTimePassword valid = inMemoryOtpStore.save(createOneTimePassword(now.plusMinutes(10)));
+        // When
+        int purged = inMemoryOtpStore.purgeExpired(now.plusMinutes(1), 100);
+        // Then
+        assertEquals(1, purged);
+        assertFalse(inMemoryOtpStore.existsById(expired.getId()));
+        assertTrue(inMemoryOtpStore.existsById(valid.getId()));
+    }
+
+    @Test
+    void shouldPurgeExpiredOneTimePasswordsInBatches() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            inMemoryOtpStore.save(createOneTimePassword(now.plusSeconds(30)));
+        }
+        OneTimePassword valid = inMemoryOtpStore.save(createOneTimePassword(now.plusMinutes(10)));
+        // When
+        int purged = inMemoryOtpStore.purgeExpired(now.plusMinutes(1), 2);
+        // Then
+        assertEquals(5, purged);
+        assertTrue(inMemoryOtpStore.existsById(valid.getId()));
+    }
+
+    private OneTimePassword createOneTimePassword(LocalDateTime expiresAt) {
+        return OneTimePassword.builder()
+                .code("123456")
+                .status(CREATED)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.kanwise.user_service.service.otp.store.implementation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeWheelTest {
+
+    @Test
+    void shouldExpireOnlyTimeoutsWhoseDeadlineHasPassed() {
+        // Given
+        TimeWheel<String> timeWheel = new TimeWheel<>(ofSeconds(1), 8, 0);
+        List<String> expired = new ArrayList<>();
+        timeWheel.schedule("first", 1_500);
+        timeWheel.schedule("second", 3_000);
+        // When
+        int expiredAfterTwoSeconds = timeWheel.advance(2_000, expired::add);
+        // Then
+        assertEquals(1, expiredAfterTwoSeconds);
+        assertEquals(List.of("first"), expired);
+        assertEquals(1, timeWheel.size());
+    }
+
+    @Test
+    void shouldExpireTimeoutsScheduledBeyondOneRotation() {
+        // Given
+        TimeWheel<String> timeWheel = new TimeWheel<>(ofSeconds(1), 4, 0);
+        List<String> expired = new ArrayList<>();
+        timeWheel.schedule("late", 10_000);
+        // When
+        int expiredBeforeDeadline = timeWheel.advance(6_000, expired::add);
+        int expiredAtDeadline = timeWheel.advance(10_000, expired::add);
+        // Then
+        assertEquals(0, expiredBeforeDeadline);
+        assertEquals(1, expiredAtDeadline);
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    void shouldExpireTimeoutsScheduledInThePastOnNextAdvance() {
+        // Given
+        TimeWheel<String> timeWheel = new TimeWheel<>(ofSeconds(1), 8, 5_000);
+        List<String> expired = new ArrayList<>();
+        timeWheel.schedule("past", 1_000);
+        // When
+        timeWheel.advance(6_000, expired::add);
+        // Then
+        assertEquals(List.of("past"), expired);
+        assertEquals(0, timeWheel.size());
+    }
+
+    @Test
+    void shouldSweepWholeWheelAfterLongPause() {
+        // Given
+        TimeWheel<Integer> timeWheel = new TimeWheel<>(ofSeconds(1), 8, 0);
+        List<Integer> expired = new ArrayList<>();
+        for (int i = 1; i <= 20; i++) {
+            timeWheel.schedule(i, i * 1_000L);
+        }
+        // When
+        int expiredCount = timeWheel.advance(60_000, expired::add);
+        // Then
+        assertEquals(20, expiredCount);
+        assertEquals(0, timeWheel.size());
+    }
+
+    @Test
+    void shouldResumeSweepAfterReachingLimit() {
+        // Given
+        TimeWheel<Integer> timeWheel = new TimeWheel<>(ofSeconds(1), 8, 0);
+        List<Integer> expired = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            timeWheel.schedule(i, 1_000);
+        }
+        timeWheel.schedule(6, 2_000);
+        // When
+        int firstBatch = timeWheel.advance(3_000, 4, expired::add);
+        int secondBatch = timeWheel.advance(3_000, 4, expired::add);
+        // Then
+        assertEquals(4, firstBatch);
+        assertEquals(2, secondBatch);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), expired);
+        assertEquals(0, timeWheel.size());
+    }
+
+    @Test
+    void shouldRejectInvalidConfiguration() {
+        // Given
+        // When
+        // Then
+        assertThrows(IllegalArgumentException.class, () -> new TimeWheel<>(ofSeconds(0), 8, 0));
+        assertThrows(IllegalArgumentException.class, () -> new TimeWheel<>(ofSeconds(1), 0, 0));
+    }
+}
@@ -1,6 +1,7 @@
 package com.kanwise.user_service.validation.logic.common;
 
 import com.kanwise.user_service.validation.annotation.common.ClassFields;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
 import lombok.Data;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -39,7 +40,7 @@ class ClassFieldsValidatorTest {
 
     @BeforeEach
     void setUp() {
-        validator = new ClassFieldsValidator();
+        validator = new ClassFieldsValidator(new ValidationMetadataCache());
     }
 
     @MethodSource("presentTestClassFieldsNamesArguments")
@@ -0,0 +1,112 @@
+package com.kanwise.user_service.validation.logic.common;
+
+import com.kanwise.user_service.validation.annotation.common.Conditional;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
+import lombok.Builder;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.validation.ConstraintValidatorContext;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalValidatorTest {
+
+    private ConditionalValidator validator;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConstraintValidatorContext constraintValidatorContext;
+
+    @Mock
+    private Conditional constraintAnnotation;
+
+    @BeforeEach
+    void setUp() {
+        validator = new ConditionalValidator(new ValidationMetadataCache());
+        when(constraintAnnotation.selected()).thenReturn("twoFactorEnabled");
+        when(constraintAnnotation.values()).thenReturn(new String[]{"true"});
+        when(constraintAnnotation.required()).thenReturn(new String[]{"phoneNumber"});
+        when(constraintAnnotation.message()).thenReturn("message");
+        validator.initialize(constraintAnnotation);
+    }
+
+    @Test
+    void shouldReturnTrueWhenRequiredRecordComponentIsPresent() {
+        // Given
+        TestRecord testRecord = new TestRecord("+48 123 456 789", true);
+        // When
+        // Then
+        assertTrue(validator.isValid(testRecord, constraintValidatorContext));
+    }
+
+    @Test
+    void shouldReturnFalseWhenRequiredRecordComponentIsMissing() {
+        // Given
+        TestRecord testRecord = new TestRecord("", true);
+        // When
+        boolean valid = validator.isValid(testRecord, constraintValidatorContext);
+        // Then
+        assertFalse(valid);
+        verify(constraintValidatorContext).buildConstraintViolationWithTemplate("message");
+    }
+
+    @Test
+    void shouldReturnTrueWhenSelectedValueDoesNotMatch() {
+        // Given
+        TestRecord testRecord = new TestRecord(null, false);
+        // When
+        // Then
+        assertTrue(validator.isValid(testRecord, constraintValidatorContext));
+    }
+
+    @Test
+    void shouldReturnFalseWhenRequiredBeanPropertyIsMissing() {
+        // Given
+        TestClass testClass = TestClass.builder()
+                .twoFactorEnabled(true)
+                .build();
+        // When
+        // Then
+        assertFalse(validator.isValid(testClass, constraintValidatorContext));
+    }
+
+    @Test
+    void shouldReturnTrueWhenRequiredBeanPropertyIsPresent() {
+        // Given
+        TestClass testClass = TestClass.builder()
+                .twoFactorEnabled(true)
+                .phoneNumber("+48 123 456 789")
+                .build();
+        // When
+        // Then
+        assertTrue(validator.isValid(testClass, constraintValidatorContext));
+    }
+
+    @Test
+    void shouldReturnFalseWhenSelectedPropertyIsNotPresent() {
+        // Given
+        Object objectWithoutProperties = new Object();
+        // When
+        // Then
+        assertFalse(validator.isValid(objectWithoutProperties, constraintValidatorContext));
+    }
+
+    record TestRecord(String phoneNumber, boolean twoFactorEnabled) {
+    }
+
+    @Data
+    @Builder
+    public static class TestClass {
+        private String phoneNumber;
+        private boolean twoFactorEnabled;
+    }
+}
@@ -1,6 +1,7 @@
 package com.kanwise.user_service.validation.logic.common;
 
 import com.kanwise.user_service.validation.annotation.common.FieldsValueMatch;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
 import lombok.Builder;
 import lombok.Data;
 import org.junit.jupiter.api.Assertions;
@@ -27,7 +28,7 @@ class FieldsValueMatchValidatorTest {
 
     @BeforeEach
     void setUp() {
-        fieldsValueMatchValidator = new FieldsValueMatchValidator();
+        fieldsValueMatchValidator = new FieldsValueMatchValidator(new ValidationMetadataCache());
         when(constraintAnnotation.field()).thenReturn("field");
         when(constraintAnnotation.fieldMatch()).thenReturn("fieldMatch");
         when(constraintAnnotation.message()).thenReturn("message");
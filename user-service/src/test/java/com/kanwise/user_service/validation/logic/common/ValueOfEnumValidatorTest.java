@@ -1,6 +1,7 @@
 package com.kanwise.user_service.validation.logic.common;
 
 import com.kanwise.user_service.validation.annotation.common.ValueOfEnum;
+import com.kanwise.user_service.validation.metadata.ValidationMetadataCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -36,7 +37,7 @@ class ValueOfEnumValidatorTest {
 
     @BeforeEach
     void setUp() {
-        validator = new ValueOfEnumValidator();
+        validator = new ValueOfEnumValidator(new ValidationMetadataCache());
     }
 
     @MethodSource("presentValuesOfTestEnum")
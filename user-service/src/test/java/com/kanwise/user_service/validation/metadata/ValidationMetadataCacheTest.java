@@ -0,0 +1,77 @@
+package com.kanwise.user_service.validation.metadata;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidationMetadataCacheTest {
+
+    private final ValidationMetadataCache validationMetadataCache = new ValidationMetadataCache();
+
+    @Test
+    void shouldReadRecordComponents() throws Exception {
+        // Given
+        TestRecord testRecord = new TestRecord("value", 7);
+        // When
+        Object name = validationMetadataCache.getProperty(testRecord, "name");
+        Object count = validationMetadataCache.getProperty(testRecord, "count");
+        // Then
+        assertEquals("value", name);
+        assertEquals(7, count);
+    }
+
+    @Test
+    void shouldReadBeanProperties() throws Exception {
+        // Given
+        TestClass testClass = new TestClass("value", true);
+        // When
+        Object name = validationMetadataCache.getProperty(testClass, "name");
+        Object active = validationMetadataCache.getProperty(testClass, "active");
+        // Then
+        assertEquals("value", name);
+        assertEquals(true, active);
+    }
+
+    @Test
+    void shouldThrowWhenPropertyIsNotPresent() {
+        // Given
+        TestRecord testRecord = new TestRecord("value", 7);
+        // When
+        // Then
+        assertThrows(NoSuchMethodException.class, () -> validationMetadataCache.getProperty(testRecord, "missing"));
+        assertThrows(NoSuchMethodException.class, () -> validationMetadataCache.getProperty(new TestClass("value", true), "class"));
+    }
+
+    @Test
+    void shouldResolveFieldAndEnumNamesOncePerClass() {
+        // Given
+        // When
+        Set<String> fieldNames = validationMetadataCache.getFieldNames(TestClass.class);
+        Set<String> enumNames = validationMetadataCache.getEnumNames(TestEnum.class);
+        // Then
+        assertEquals(Set.of("name", "active"), fieldNames);
+        assertEquals(Set.of("FIRST", "SECOND"), enumNames);
+        assertSame(fieldNames, validationMetadataCache.getFieldNames(TestClass.class));
+        assertSame(enumNames, validationMetadataCache.getEnumNames(TestEnum.class));
+    }
+
+    enum TestEnum {
+        FIRST, SECOND
+    }
+
+    record TestRecord(String name, int count) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TestClass {
+        private String name;
+        private boolean active;
+    }
+}